@@ -0,0 +1,87 @@
+package io.sirix.benchmarks;
+
+import io.sirix.access.Databases;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.io.StorageType;
+import io.sirix.settings.VersioningType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of opening (and closing) read-only transactions on a shared resource
+ * session with an increasing number of reader threads. Without a session-wide lock the throughput
+ * should scale with the number of threads.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BeginNodeReadOnlyTrxBenchmark {
+
+  /**
+   * The storage type, only a single one by default (others can be chosen with
+   * {@code -PjmhStorageTypes}).
+   */
+  @Param({ "MEMORY_MAPPED" })
+  public StorageType storageType;
+
+  private Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    databasePath = BenchmarkDatabase.createDatabaseWithDataset("abc-location-stations.json",
+                                                               VersioningType.SLIDING_SNAPSHOT,
+                                                               storageType);
+    database = Databases.openJsonDatabase(databasePath);
+    session = database.beginResourceSession(BenchmarkDatabase.RESOURCE);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    session.close();
+    database.close();
+    BenchmarkDatabase.removeDatabase(databasePath);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public long oneReader() {
+    return beginAndCloseNodeReadOnlyTrx();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public long fourReaders() {
+    return beginAndCloseNodeReadOnlyTrx();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public long sixteenReaders() {
+    return beginAndCloseNodeReadOnlyTrx();
+  }
+
+  private long beginAndCloseNodeReadOnlyTrx() {
+    try (final var rtx = session.beginNodeReadOnlyTrx()) {
+      return rtx.getDescendantCount();
+    }
+  }
+}
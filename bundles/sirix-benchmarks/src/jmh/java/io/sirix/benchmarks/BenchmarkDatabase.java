@@ -0,0 +1,148 @@
+package io.sirix.benchmarks;
+
+import io.sirix.access.DatabaseConfiguration;
+import io.sirix.access.Databases;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.access.trx.node.HashType;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.cache.BufferManager;
+import io.sirix.io.StorageType;
+import io.sirix.io.bytepipe.ByteHandlerPipeline;
+import io.sirix.io.bytepipe.LZ4Compressor;
+import io.sirix.service.InsertPosition;
+import io.sirix.service.json.shredder.JsonShredder;
+import io.sirix.settings.VersioningType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Creates, populates and removes the JSON databases used by the benchmarks.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class BenchmarkDatabase {
+
+  /**
+   * The name of the benchmark resource.
+   */
+  static final String RESOURCE = "resource";
+
+  /**
+   * System property, which points to the directory with the JSON datasets (set by the build).
+   */
+  private static final String DATASETS_PROPERTY = "sirix.benchmarks.datasets";
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private BenchmarkDatabase() {
+    throw new AssertionError("May not be instantiated!");
+  }
+
+  /**
+   * Resolve a dataset. Either an absolute path to a JSON file (for instance a download of the City of
+   * Chicago dataset), or the name of a JSON file in the test resources of sirix-core.
+   *
+   * @param dataset the dataset
+   * @return the path to the JSON file
+   */
+  static Path resolveDataset(final String dataset) {
+    final Path path = Paths.get(dataset);
+    if (path.isAbsolute()) {
+      return path;
+    }
+    final String datasets = System.getProperty(DATASETS_PROPERTY);
+    if (datasets == null) {
+      return Paths.get("bundles", "sirix-core", "src", "test", "resources", "json").resolve(dataset);
+    }
+    return Paths.get(datasets).resolve(dataset);
+  }
+
+  /**
+   * Create a new, empty database in a temporary directory.
+   *
+   * @return the path of the database
+   */
+  static Path createDatabase() {
+    try {
+      final Path databasePath = Files.createTempDirectory("sirix-benchmark").resolve("database");
+      Databases.createJsonDatabase(new DatabaseConfiguration(databasePath));
+      return databasePath;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Create the benchmark resource.
+   *
+   * @param database       the database
+   * @param versioningType the versioning type
+   * @param storageType    the storage type
+   */
+  static void createResource(final Database<JsonResourceSession> database, final VersioningType versioningType,
+      final StorageType storageType) {
+    database.createResource(ResourceConfiguration.newBuilder(RESOURCE)
+                                                 .versioningApproach(versioningType)
+                                                 .buildPathSummary(true)
+                                                 .storeDiffs(false)
+                                                 .storeChildCount(true)
+                                                 .hashKind(HashType.ROLLING)
+                                                 .useTextCompression(false)
+                                                 .storageType(storageType)
+                                                 .useDeweyIDs(false)
+                                                 .byteHandlerPipeline(new ByteHandlerPipeline(new LZ4Compressor()))
+                                                 .build());
+  }
+
+  /**
+   * Create a database with a single resource, which stores the shredded dataset.
+   *
+   * @param dataset        the dataset (see {@link #resolveDataset(String)})
+   * @param versioningType the versioning type
+   * @param storageType    the storage type
+   * @return the path of the database
+   */
+  static Path createDatabaseWithDataset(final String dataset, final VersioningType versioningType,
+      final StorageType storageType) {
+    final Path databasePath = createDatabase();
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      createResource(database, versioningType, storageType);
+      try (final var session = database.beginResourceSession(RESOURCE); final var wtx = session.beginNodeTrx()) {
+        new JsonShredder.Builder(wtx,
+                                 JsonShredder.createFileReader(resolveDataset(dataset)),
+                                 InsertPosition.AS_FIRST_CHILD).commitAfterwards().build().call();
+      }
+    }
+    return databasePath;
+  }
+
+  /**
+   * Clear all caches of the database, such that subsequent reads have to fetch and reconstruct pages
+   * from the storage.
+   *
+   * @param databasePath the path of the database
+   */
+  static void clearCaches(final Path databasePath) {
+    Databases.getBufferManager(databasePath).values().forEach(BufferManager::clearAllCaches);
+  }
+
+  /**
+   * Remove the database and its temporary parent directory.
+   *
+   * @param databasePath the path of the database
+   */
+  static void removeDatabase(final Path databasePath) {
+    Databases.removeDatabase(databasePath);
+    try {
+      Files.deleteIfExists(databasePath.getParent());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package io.sirix.benchmarks;
+
+import io.sirix.access.Databases;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.io.StorageType;
+import io.sirix.settings.VersioningType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of small transactions: each invocation inserts a number of values into an
+ * array and commits a new revision.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommitBenchmark {
+
+  @Param({ "1", "100", "10000" })
+  public int nodesPerCommit;
+
+  @Param({ "FULL", "INCREMENTAL", "DIFFERENTIAL", "SLIDING_SNAPSHOT" })
+  public VersioningType versioningType;
+
+  /**
+   * The storage type, only a single one by default (others can be chosen with
+   * {@code -PjmhStorageTypes}).
+   */
+  @Param({ "FILE_CHANNEL" })
+  public StorageType storageType;
+
+  private Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  private JsonNodeTrx wtx;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    databasePath = BenchmarkDatabase.createDatabase();
+    database = Databases.openJsonDatabase(databasePath);
+    BenchmarkDatabase.createResource(database, versioningType, storageType);
+    session = database.beginResourceSession(BenchmarkDatabase.RESOURCE);
+    wtx = session.beginNodeTrx();
+    wtx.insertArrayAsFirstChild();
+    wtx.commit();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    wtx.close();
+    session.close();
+    database.close();
+    BenchmarkDatabase.removeDatabase(databasePath);
+  }
+
+  @Benchmark
+  public void insertAndCommit() {
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    wtx.insertNumberValueAsFirstChild(0);
+    for (int i = 1; i < nodesPerCommit; i++) {
+      wtx.insertNumberValueAsRightSibling(i);
+    }
+    wtx.commit();
+  }
+}
@@ -0,0 +1,131 @@
+package io.sirix.benchmarks;
+
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.atomic.Str;
+import io.brackit.query.jdm.Type;
+import io.brackit.query.util.path.Path;
+import io.brackit.query.util.path.PathException;
+import io.brackit.query.util.path.PathParser;
+import io.sirix.access.Databases;
+import io.sirix.access.trx.node.json.JsonIndexController;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.index.IndexDef;
+import io.sirix.index.IndexDefs;
+import io.sirix.index.SearchMode;
+import io.sirix.index.path.json.JsonPCRCollector;
+import io.sirix.io.StorageType;
+import io.sirix.service.InsertPosition;
+import io.sirix.service.json.shredder.JsonShredder;
+import io.sirix.settings.VersioningType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups in the CAS, path and name indexes of the {@code abc-location-stations.json}
+ * dataset.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndexBenchmark {
+
+  private static final String DATASET = "abc-location-stations.json";
+
+  private static final String NAME_PATH = "/features/[]/properties/name";
+
+  /**
+   * The storage type, only a single one by default (others can be chosen with
+   * {@code -PjmhStorageTypes}).
+   */
+  @Param({ "FILE_CHANNEL" })
+  public StorageType storageType;
+
+  private java.nio.file.Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  private JsonNodeReadOnlyTrx rtx;
+
+  private JsonIndexController indexController;
+
+  private IndexDef casIndexDef;
+
+  private IndexDef pathIndexDef;
+
+  private IndexDef nameIndexDef;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    databasePath = BenchmarkDatabase.createDatabase();
+    database = Databases.openJsonDatabase(databasePath);
+    BenchmarkDatabase.createResource(database, VersioningType.SLIDING_SNAPSHOT, storageType);
+    session = database.beginResourceSession(BenchmarkDatabase.RESOURCE);
+
+    final Path<QNm> namePath = Path.parse(NAME_PATH, PathParser.Type.JSON);
+    casIndexDef = IndexDefs.createCASIdxDef(false, Type.STR, Set.of(namePath), 0, IndexDef.DbType.JSON);
+    pathIndexDef = IndexDefs.createPathIdxDef(Set.of(namePath), 1, IndexDef.DbType.JSON);
+    nameIndexDef = IndexDefs.createNameIdxDef(2, IndexDef.DbType.JSON);
+
+    try (final var wtx = session.beginNodeTrx()) {
+      final JsonIndexController wtxIndexController = session.getWtxIndexController(wtx.getRevisionNumber());
+      wtxIndexController.createIndexes(Set.of(casIndexDef, pathIndexDef, nameIndexDef), wtx);
+      new JsonShredder.Builder(wtx,
+                               JsonShredder.createFileReader(BenchmarkDatabase.resolveDataset(DATASET)),
+                               InsertPosition.AS_FIRST_CHILD).commitAfterwards().build().call();
+    }
+
+    rtx = session.beginNodeReadOnlyTrx();
+    indexController = session.getRtxIndexController(rtx.getRevisionNumber());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    rtx.close();
+    session.close();
+    database.close();
+    BenchmarkDatabase.removeDatabase(databasePath);
+  }
+
+  @Benchmark
+  public void casIndexLookup(final Blackhole blackhole) throws PathException {
+    indexController.openCASIndex(rtx.getPageTrx(),
+                                 casIndexDef,
+                                 indexController.createCASFilter(Set.of(NAME_PATH),
+                                                                 new Str("ABC Radio Adelaide"),
+                                                                 SearchMode.EQUAL,
+                                                                 new JsonPCRCollector(rtx)))
+                   .forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void pathIndexScan(final Blackhole blackhole) throws PathException {
+    indexController.openPathIndex(rtx.getPageTrx(),
+                                  pathIndexDef,
+                                  indexController.createPathFilter(Set.of(NAME_PATH), rtx))
+                   .forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void nameIndexLookup(final Blackhole blackhole) {
+    indexController.openNameIndex(rtx.getPageTrx(), nameIndexDef, indexController.createNameFilter(Set.of("name")))
+                   .forEachRemaining(blackhole::consume);
+  }
+}
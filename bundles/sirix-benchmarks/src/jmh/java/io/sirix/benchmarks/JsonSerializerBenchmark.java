@@ -0,0 +1,83 @@
+package io.sirix.benchmarks;
+
+import io.sirix.access.Databases;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.io.StorageType;
+import io.sirix.service.json.serialize.JsonSerializer;
+import io.sirix.settings.VersioningType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of a whole resource to JSON. The output is discarded, such that only
+ * the traversal and the serialization itself are measured.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSerializerBenchmark {
+
+  @Param({ "CVX.json", "linux.json", "reddit-all.json" })
+  public String dataset;
+
+  /**
+   * {@code true} to clear the caches before each invocation to measure reading from the storage.
+   */
+  @Param({ "false", "true" })
+  public boolean cold;
+
+  /**
+   * The storage type, only a single one by default (others can be chosen with
+   * {@code -PjmhStorageTypes}).
+   */
+  @Param({ "FILE_CHANNEL" })
+  public StorageType storageType;
+
+  private Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    databasePath =
+        BenchmarkDatabase.createDatabaseWithDataset(dataset, VersioningType.SLIDING_SNAPSHOT, storageType);
+    database = Databases.openJsonDatabase(databasePath);
+    session = database.beginResourceSession(BenchmarkDatabase.RESOURCE);
+  }
+
+  @Setup(Level.Invocation)
+  public void clearCaches() {
+    if (cold) {
+      BenchmarkDatabase.clearCaches(databasePath);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    session.close();
+    database.close();
+    BenchmarkDatabase.removeDatabase(databasePath);
+  }
+
+  @Benchmark
+  public void serialize() {
+    JsonSerializer.newBuilder(session, Writer.nullWriter()).build().call();
+  }
+}
@@ -0,0 +1,71 @@
+package io.sirix.benchmarks;
+
+import io.sirix.access.Databases;
+import io.sirix.io.StorageType;
+import io.sirix.service.InsertPosition;
+import io.sirix.service.json.shredder.JsonShredder;
+import io.sirix.settings.VersioningType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the import (shredding) of JSON datasets into a new resource, including the commit.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonShredderBenchmark {
+
+  /**
+   * The dataset, either a file in the test resources of sirix-core or an absolute path (for
+   * instance to the City of Chicago dataset, which is not bundled due to its size).
+   */
+  @Param({ "CVX.json", "linux.json", "reddit-all.json" })
+  public String dataset;
+
+  /**
+   * The storage backends, which are available on Linux ({@code IN_MEMORY} isn't persistent).
+   */
+  @Param({ "FILE", "FILE_CHANNEL", "DIRECT_IO", "MEMORY_MAPPED", "IO_URING" })
+  public StorageType storageType;
+
+  private Path databasePath;
+
+  @Setup(Level.Invocation)
+  public void setUp() {
+    databasePath = BenchmarkDatabase.createDatabase();
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      BenchmarkDatabase.createResource(database, VersioningType.SLIDING_SNAPSHOT, storageType);
+    }
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDown() {
+    BenchmarkDatabase.removeDatabase(databasePath);
+  }
+
+  @Benchmark
+  public long shred() {
+    try (final var database = Databases.openJsonDatabase(databasePath);
+         final var session = database.beginResourceSession(BenchmarkDatabase.RESOURCE);
+         final var wtx = session.beginNodeTrx()) {
+      new JsonShredder.Builder(wtx,
+                               JsonShredder.createFileReader(BenchmarkDatabase.resolveDataset(dataset)),
+                               InsertPosition.AS_FIRST_CHILD).commitAfterwards().build().call();
+      return wtx.getMaxNodeKey();
+    }
+  }
+}
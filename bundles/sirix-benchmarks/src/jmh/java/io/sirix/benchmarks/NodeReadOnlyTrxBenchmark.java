@@ -0,0 +1,113 @@
+package io.sirix.benchmarks;
+
+import io.sirix.access.Databases;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.axis.DescendantAxis;
+import io.sirix.io.StorageType;
+import io.sirix.settings.VersioningType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures navigation with a read-only transaction: random and sequential {@code moveTo(long)}
+ * calls as well as a preorder traversal with the {@link DescendantAxis}. The storage type can be
+ * varied to compare the different backends.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NodeReadOnlyTrxBenchmark {
+
+  /**
+   * Number of node keys per invocation of the {@code moveTo} benchmarks.
+   */
+  private static final int NUMBER_OF_KEYS = 10_000;
+
+  @Param({ "CVX.json", "linux.json" })
+  public String dataset;
+
+  /**
+   * The storage backends, which are available on Linux ({@code IN_MEMORY} isn't persistent).
+   */
+  @Param({ "FILE", "FILE_CHANNEL", "DIRECT_IO", "MEMORY_MAPPED", "IO_URING" })
+  public StorageType storageType;
+
+  private Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  private JsonNodeReadOnlyTrx rtx;
+
+  private long[] randomNodeKeys;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    databasePath = BenchmarkDatabase.createDatabaseWithDataset(dataset, VersioningType.SLIDING_SNAPSHOT, storageType);
+    database = Databases.openJsonDatabase(databasePath);
+    session = database.beginResourceSession(BenchmarkDatabase.RESOURCE);
+    rtx = session.beginNodeReadOnlyTrx();
+
+    final var random = new SplittableRandom(42);
+    randomNodeKeys = new long[NUMBER_OF_KEYS];
+    for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+      randomNodeKeys[i] = random.nextLong(rtx.getMaxNodeKey() + 1);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    rtx.close();
+    session.close();
+    database.close();
+    BenchmarkDatabase.removeDatabase(databasePath);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_KEYS)
+  public void moveToRandom(final Blackhole blackhole) {
+    for (final long nodeKey : randomNodeKeys) {
+      blackhole.consume(rtx.moveTo(nodeKey));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_KEYS)
+  public void moveToSequential(final Blackhole blackhole) {
+    final long maxNodeKey = rtx.getMaxNodeKey();
+    for (long nodeKey = 0; nodeKey < NUMBER_OF_KEYS; nodeKey++) {
+      blackhole.consume(rtx.moveTo(nodeKey % (maxNodeKey + 1)));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public long descendantAxis() {
+    rtx.moveToDocumentRoot();
+    long count = 0;
+    for (final var axis = new DescendantAxis(rtx); axis.hasNext(); axis.nextLong()) {
+      count++;
+    }
+    return count;
+  }
+}
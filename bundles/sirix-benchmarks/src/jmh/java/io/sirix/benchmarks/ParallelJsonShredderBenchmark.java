@@ -0,0 +1,119 @@
+package io.sirix.benchmarks;
+
+import com.google.gson.stream.JsonReader;
+import io.sirix.access.Databases;
+import io.sirix.io.StorageType;
+import io.sirix.service.InsertPosition;
+import io.sirix.service.json.shredder.JsonShredder;
+import io.sirix.settings.VersioningType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential {@link JsonReader} with the {@link io.sirix.service.json.shredder.ParallelJsonReader},
+ * once for the tokenization alone and once for the import (shredding) into a new resource. The
+ * parallel reader only tokenizes in parallel, while the nodes are still encoded and inserted by the
+ * single writer, so the difference of both benchmarks is the share of the import, which parallel
+ * tokenization can't speed up.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelJsonShredderBenchmark {
+
+  /**
+   * The dataset, either a file in the test resources of sirix-core or an absolute path (for
+   * instance to the City of Chicago dataset, which is not bundled due to its size).
+   */
+  @Param({ "CVX.json", "linux.json", "reddit-all.json" })
+  public String dataset;
+
+  /**
+   * The number of threads, which tokenize the dataset, or {@code 0} for the sequential reader.
+   */
+  @Param({ "0", "2", "4", "8" })
+  public int parallelism;
+
+  private Path databasePath;
+
+  @Setup(Level.Invocation)
+  public void setUp() {
+    databasePath = BenchmarkDatabase.createDatabase();
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      BenchmarkDatabase.createResource(database, VersioningType.SLIDING_SNAPSHOT, StorageType.FILE_CHANNEL);
+    }
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDown() {
+    BenchmarkDatabase.removeDatabase(databasePath);
+  }
+
+  @Benchmark
+  public long tokenize() throws IOException {
+    try (final var reader = createReader()) {
+      long tokens = 0;
+      int depth = 0;
+      do {
+        switch (reader.peek()) {
+          case BEGIN_ARRAY -> {
+            reader.beginArray();
+            depth++;
+          }
+          case END_ARRAY -> {
+            reader.endArray();
+            depth--;
+          }
+          case BEGIN_OBJECT -> {
+            reader.beginObject();
+            depth++;
+          }
+          case END_OBJECT -> {
+            reader.endObject();
+            depth--;
+          }
+          case NAME -> reader.nextName();
+          case STRING, NUMBER -> reader.nextString();
+          case BOOLEAN -> reader.nextBoolean();
+          case NULL -> reader.nextNull();
+          case END_DOCUMENT -> {
+            return tokens;
+          }
+        }
+        tokens++;
+      } while (depth > 0);
+      return tokens;
+    }
+  }
+
+  @Benchmark
+  public long shred() {
+    try (final var database = Databases.openJsonDatabase(databasePath);
+         final var session = database.beginResourceSession(BenchmarkDatabase.RESOURCE);
+         final var wtx = session.beginNodeTrx()) {
+      new JsonShredder.Builder(wtx, createReader(), InsertPosition.AS_FIRST_CHILD).commitAfterwards().build().call();
+      return wtx.getMaxNodeKey();
+    }
+  }
+
+  private JsonReader createReader() {
+    final Path path = BenchmarkDatabase.resolveDataset(dataset);
+    return parallelism == 0
+        ? JsonShredder.createFileReader(path)
+        : JsonShredder.createParallelFileReader(path, parallelism);
+  }
+}
@@ -0,0 +1,119 @@
+package io.sirix.benchmarks;
+
+import io.sirix.access.Databases;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.axis.DescendantAxis;
+import io.sirix.io.StorageType;
+import io.sirix.settings.VersioningType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the reconstruction of record pages for the different versioning types. A number of
+ * revisions is created, each modifying a part of the values, and the most recent revision is then
+ * traversed with cold caches, such that the record pages have to be reconstructed from their
+ * fragments.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VersioningBenchmark {
+
+  /**
+   * Number of values in the array, which is modified in each revision.
+   */
+  private static final int NUMBER_OF_VALUES = 50_000;
+
+  @Param({ "FULL", "INCREMENTAL", "DIFFERENTIAL", "SLIDING_SNAPSHOT" })
+  public VersioningType versioningType;
+
+  @Param({ "10", "50" })
+  public int revisions;
+
+  /**
+   * The storage backends, which are available on Linux ({@code IN_MEMORY} isn't persistent).
+   */
+  @Param({ "FILE", "FILE_CHANNEL", "DIRECT_IO", "MEMORY_MAPPED", "IO_URING" })
+  public StorageType storageType;
+
+  private Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    databasePath = BenchmarkDatabase.createDatabase();
+    database = Databases.openJsonDatabase(databasePath);
+    BenchmarkDatabase.createResource(database, versioningType, storageType);
+    session = database.beginResourceSession(BenchmarkDatabase.RESOURCE);
+
+    try (final var wtx = session.beginNodeTrx()) {
+      wtx.insertArrayAsFirstChild();
+      wtx.insertNumberValueAsFirstChild(0);
+      for (int i = 1; i < NUMBER_OF_VALUES; i++) {
+        wtx.insertNumberValueAsRightSibling(i);
+      }
+      wtx.commit();
+
+      // Modify every 100th value in each revision, such that most record pages change slightly.
+      for (int revision = 1; revision < revisions; revision++) {
+        final long firstValueKey = 2;
+        for (long nodeKey = firstValueKey + revision % 100; nodeKey < firstValueKey + NUMBER_OF_VALUES; nodeKey += 100) {
+          wtx.moveTo(nodeKey);
+          wtx.setNumberValue(revision);
+        }
+        wtx.commit();
+      }
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void clearCaches() {
+    BenchmarkDatabase.clearCaches(databasePath);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    session.close();
+    database.close();
+    BenchmarkDatabase.removeDatabase(databasePath);
+  }
+
+  @Benchmark
+  public long traverseMostRecentRevision() {
+    try (final var rtx = session.beginNodeReadOnlyTrx()) {
+      long count = 0;
+      for (final var axis = new DescendantAxis(rtx); axis.hasNext(); axis.nextLong()) {
+        count++;
+      }
+      return count;
+    }
+  }
+
+  @Benchmark
+  public long traverseFirstRevision() {
+    try (final var rtx = session.beginNodeReadOnlyTrx(1)) {
+      long count = 0;
+      for (final var axis = new DescendantAxis(rtx); axis.hasNext(); axis.nextLong()) {
+        count++;
+      }
+      return count;
+    }
+  }
+}
@@ -136,6 +136,11 @@ public final class DatabaseConfiguration {
   }
 
   // STATIC STANDARD FIELDS
+  /**
+   * Marks the memory budget as unset, such that the default is used.
+   */
+  private static final long UNSET_MAX_BUFFER_MEMORY = 0;
+
   /**
    * Path to file.
    */
@@ -151,6 +156,18 @@ public final class DatabaseConfiguration {
    */
   private DatabaseType databaseType;
 
+  /**
+   * The memory budget of all caches of the database in bytes, which is shared by all resources
+   * ({@code 0}, if it's unset).
+   */
+  private long maxBufferMemory = UNSET_MAX_BUFFER_MEMORY;
+
+  /**
+   * The off-heap memory budget of the second level record page caches of the database in bytes
+   * ({@code 0}, if off-heap caching is disabled).
+   */
+  private long maxOffHeapBufferMemory;
+
   /**
    * Constructor with the path to be set.
    *
@@ -201,6 +218,62 @@ public final class DatabaseConfiguration {
     return maxResourceID;
   }
 
+  /**
+   * Set the memory budget of all caches of the database, which is shared by all resources.
+   *
+   * @param maxBufferMemory the memory budget in bytes
+   * @return this {@link DatabaseConfiguration} instance
+   */
+  public DatabaseConfiguration setMaxBufferMemory(final long maxBufferMemory) {
+    checkArgument(maxBufferMemory > 0, "The memory budget must be > 0!");
+    this.maxBufferMemory = maxBufferMemory;
+    return this;
+  }
+
+  /**
+   * Get the memory budget of all caches of the database. If it hasn't been set, the default budget
+   * of the running JVM is returned, which isn't persisted.
+   *
+   * @return the memory budget in bytes
+   * @see #getDefaultMaxBufferMemory()
+   */
+  public long getMaxBufferMemory() {
+    return maxBufferMemory == UNSET_MAX_BUFFER_MEMORY ? getDefaultMaxBufferMemory() : maxBufferMemory;
+  }
+
+  /**
+   * Get the default memory budget of all caches of a database.
+   *
+   * @return a third of the maximum heap size of the running JVM in bytes
+   */
+  public static long getDefaultMaxBufferMemory() {
+    return Runtime.getRuntime().maxMemory() / 3;
+  }
+
+  /**
+   * Set the off-heap memory budget of the second level record page caches, which is shared by all
+   * resources. Evicted record pages are stored off-heap, such that their slots don't have to be traced
+   * by the garbage collector.
+   *
+   * @param maxOffHeapBufferMemory the off-heap memory budget in bytes, {@code 0} to disable off-heap
+   *                               caching
+   * @return this {@link DatabaseConfiguration} instance
+   */
+  public DatabaseConfiguration setMaxOffHeapBufferMemory(final long maxOffHeapBufferMemory) {
+    checkArgument(maxOffHeapBufferMemory >= 0, "The off-heap memory budget must be >= 0!");
+    this.maxOffHeapBufferMemory = maxOffHeapBufferMemory;
+    return this;
+  }
+
+  /**
+   * Get the off-heap memory budget of the second level record page caches.
+   *
+   * @return the off-heap memory budget in bytes, {@code 0} if off-heap caching is disabled
+   */
+  public long getMaxOffHeapBufferMemory() {
+    return maxOffHeapBufferMemory;
+  }
+
   /**
    * Getting the database file.
    *
@@ -260,6 +333,8 @@ public final class DatabaseConfiguration {
       jsonWriter.name("file").value(filePath);
       jsonWriter.name("ID").value(config.maxResourceID);
       jsonWriter.name("databaseType").value(config.databaseType.toString());
+      jsonWriter.name("maxBufferMemory").value(config.maxBufferMemory);
+      jsonWriter.name("maxOffHeapBufferMemory").value(config.maxOffHeapBufferMemory);
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -287,10 +362,30 @@ public final class DatabaseConfiguration {
       final String databaseType = jsonReader.nextName();
       assert databaseType.equals("databaseType");
       final String type = jsonReader.nextString();
+      // Optional, as databases created by former versions don't store the memory budget.
+      long maxBufferMemory = UNSET_MAX_BUFFER_MEMORY;
+      if (jsonReader.hasNext()) {
+        final String maxBufferMemoryName = jsonReader.nextName();
+        assert maxBufferMemoryName.equals("maxBufferMemory");
+        maxBufferMemory = jsonReader.nextLong();
+      }
+      long maxOffHeapBufferMemory = 0;
+      if (jsonReader.hasNext()) {
+        final String maxOffHeapBufferMemoryName = jsonReader.nextName();
+        assert maxOffHeapBufferMemoryName.equals("maxOffHeapBufferMemory");
+        maxOffHeapBufferMemory = jsonReader.nextLong();
+      }
       jsonReader.endObject();
       final DatabaseType dbType = DatabaseType.fromString(type)
                                               .orElseThrow(() -> new IllegalStateException("Type can not be unknown."));
-      return new DatabaseConfiguration(dbFile).setMaximumResourceID(ID).setDatabaseType(dbType);
+      final var config = new DatabaseConfiguration(dbFile).setMaximumResourceID(ID)
+                                                          .setDatabaseType(dbType)
+                                                          .setMaxOffHeapBufferMemory(maxOffHeapBufferMemory);
+      // Unset, if the default is used, which is computed for the JVM opening the database.
+      if (maxBufferMemory != UNSET_MAX_BUFFER_MEMORY) {
+        config.setMaxBufferMemory(maxBufferMemory);
+      }
+      return config;
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -4,6 +4,7 @@ import io.sirix.api.*;
 import io.sirix.api.json.JsonResourceSession;
 import io.sirix.api.xml.XmlResourceSession;
 import io.sirix.cache.BufferManager;
+import io.sirix.cache.MemoryBudget;
 import io.sirix.exception.SirixIOException;
 import io.sirix.exception.SirixUsageException;
 import io.sirix.utils.LogWrapper;
@@ -42,6 +43,11 @@ public final class Databases {
    */
   private static final ConcurrentMap<Path, ConcurrentMap<Path, BufferManager>> BUFFER_MANAGERS = new ConcurrentHashMap<>();
 
+  /**
+   * Memory budget of each database, shared by the buffer managers of all resources.
+   */
+  private static final ConcurrentMap<Path, MemoryBudget> MEMORY_BUDGETS = new ConcurrentHashMap<>();
+
   /**
    * DI component that manages the database.
    */
@@ -152,6 +158,7 @@ public final class Databases {
         }
       }
 
+      MEMORY_BUDGETS.remove(dbFile);
       ConcurrentMap<Path, BufferManager> bufferManagers = BUFFER_MANAGERS.remove(dbFile);
       if (bufferManagers != null && !bufferManagers.isEmpty()) {
         // TODO: Why is this necessary? BUG!
@@ -273,4 +280,23 @@ public final class Databases {
   public static ConcurrentMap<Path, BufferManager> getBufferManager(Path databaseFile) {
     return BUFFER_MANAGERS.computeIfAbsent(databaseFile, (unused) -> new ConcurrentHashMap<>());
   }
+
+  /**
+   * Get the memory budget of a database, which is shared by the buffer managers of all resources.
+   *
+   * @param dbConfig the database configuration
+   * @return the memory budget of the database
+   */
+  public static MemoryBudget getMemoryBudget(DatabaseConfiguration dbConfig) {
+    final var memoryBudget = MEMORY_BUDGETS.computeIfAbsent(dbConfig.getDatabaseFile(),
+                                                            (unused) -> new MemoryBudget(dbConfig.getMaxBufferMemory(),
+                                                                                         dbConfig.getMaxOffHeapBufferMemory()));
+    if (memoryBudget.getMaxMemory() != dbConfig.getMaxBufferMemory()) {
+      memoryBudget.setMaxMemory(dbConfig.getMaxBufferMemory());
+    }
+    if (memoryBudget.getMaxOffHeapMemory() != dbConfig.getMaxOffHeapBufferMemory()) {
+      memoryBudget.setMaxOffHeapMemory(dbConfig.getMaxOffHeapBufferMemory());
+    }
+    return memoryBudget;
+  }
 }
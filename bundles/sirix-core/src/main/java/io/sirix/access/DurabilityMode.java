@@ -0,0 +1,28 @@
+package io.sirix.access;
+
+/**
+ * Determines when a commit of a resource is durable, that is when the written pages are forced to
+ * the storage device.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum DurabilityMode {
+  /**
+   * Each commit forces the written pages to the storage device before it returns (the default).
+   */
+  SYNC,
+
+  /**
+   * Commits of several resources share one force of the storage devices, which is issued at the end
+   * of the group commit window. A commit still returns only once it's durable, which delays it by at
+   * most the group commit window.
+   */
+  GROUP_COMMIT,
+
+  /**
+   * A commit returns before it's durable. The pages are forced at the end of the group commit window,
+   * such that at most the commits of one window are lost in case of a crash. The future of an
+   * asynchronous commit is completed as soon as the revision is durable.
+   */
+  ASYNC
+}
@@ -8,6 +8,8 @@ import io.sirix.page.PageReference;
 import io.sirix.page.RevisionRootPage;
 import io.sirix.page.interfaces.Page;
 
+import java.util.Map;
+
 public final class EmptyBufferManager implements BufferManager {
 
   private static final EmptyCache<PageReference, KeyValueLeafPage> RECORD_PAGE_CACHE = new EmptyCache<>();
@@ -62,4 +64,22 @@ public final class EmptyBufferManager implements BufferManager {
   @Override
   public void clearAllCaches() {
   }
+
+  @Override
+  public Map<String, CacheStatistics> getStatistics() {
+    return Map.of();
+  }
+
+  @Override
+  public long getWeightedSize() {
+    return 0;
+  }
+
+  @Override
+  public void resize(long memoryBudget) {
+  }
+
+  @Override
+  public void resizeOffHeap(long offHeapMemoryBudget) {
+  }
 }
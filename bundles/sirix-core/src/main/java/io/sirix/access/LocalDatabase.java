@@ -12,11 +12,13 @@ import io.sirix.access.trx.node.AfterCommitState;
 import io.sirix.api.*;
 import io.sirix.cache.BufferManager;
 import io.sirix.cache.BufferManagerImpl;
+import io.sirix.cache.MemoryBudget;
 import io.sirix.exception.SirixException;
 import io.sirix.exception.SirixIOException;
 import io.sirix.exception.SirixUsageException;
 import io.sirix.io.StorageType;
 import io.sirix.io.bytepipe.Encryptor;
+import io.sirix.io.bytepipe.ZstdCompressor;
 import io.sirix.utils.SirixFiles;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -94,6 +96,11 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
    */
   private final ConcurrentMap<Path, BufferManager> bufferManagers;
 
+  /**
+   * The memory budget shared by the buffer managers of all resources.
+   */
+  private final MemoryBudget memoryBudget;
+
   /**
    * Constructor.
    *
@@ -116,10 +123,14 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
     this.resourceIDsToResourceNames = Maps.synchronizedBiMap(HashBiMap.create());
     this.sessions.putObject(dbConfig.getDatabaseFile(), this);
     this.bufferManagers = Databases.getBufferManager(dbConfig.getDatabaseFile());
+    this.memoryBudget = Databases.getMemoryBudget(dbConfig);
   }
 
   private void addResourceToBufferManagerMapping(Path resourceFile, ResourceConfiguration resourceConfig) {
-    bufferManagers.put(resourceFile, new BufferManagerImpl(10_000, 1_000, 5_000, 50_000, 500, 20));
+    final var bufferManager = new BufferManagerImpl(memoryBudget.getMaxMemory() / (bufferManagers.size() + 1),
+                                                    memoryBudget.getMaxOffHeapMemory() / (bufferManagers.size() + 1));
+    bufferManagers.put(resourceFile, bufferManager);
+    memoryBudget.register(bufferManager);
   }
 
   @Override
@@ -149,6 +160,8 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
     // Add resource to buffer manager mapping.
     if (!bufferManagers.containsKey(resourcePath)) {
       addResourceToBufferManagerMapping(resourcePath, resourceConfig);
+    } else {
+      memoryBudget.rebalance();
     }
 
     return resourceStore.beginResourceSession(resourceConfig, bufferManagers.get(resourcePath), resourcePath);
@@ -282,6 +295,7 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
 
       var bufferManager = bufferManagers.remove(resourceFile);
       if (bufferManager != null) {
+        memoryBudget.deregister(bufferManager);
         try {
           bufferManager.clearAllCaches();
         } catch (Exception e) {
@@ -293,6 +307,8 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
       if (cache != null) {
         cache.synchronous().invalidateAll();
       }
+
+      ZstdCompressor.removeDictionaries(resourceFile);
     }
 
     return this;
@@ -54,6 +54,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -187,6 +188,11 @@ public final class ResourceConfiguration {
    */
   private static final int VERSIONS_TO_RESTORE = 3;
 
+  /**
+   * Standard group commit window.
+   */
+  private static final Duration GROUP_COMMIT_WINDOW = Duration.ofMillis(10);
+
   /**
    * Serializer for records.
    */
@@ -220,6 +226,23 @@ public final class ResourceConfiguration {
    */
   public final int maxNumberOfRevisionsToRestore;
 
+  /**
+   * Number of record pages, which are loaded asynchronously ahead of sequential scans ({@code 0} to
+   * disable read-ahead).
+   */
+  public final int readAheadWindow;
+
+  /**
+   * Determines when commits are durable.
+   */
+  public final DurabilityMode durabilityMode;
+
+  /**
+   * The time span in which commits are collected to be forced to the storage device at once, if
+   * the durability mode isn't {@link DurabilityMode#SYNC}.
+   */
+  public final Duration groupCommitWindow;
+
   /**
    * Byte handler pipeline.
    */
@@ -319,6 +342,9 @@ public final class ResourceConfiguration {
     versioningType = builder.revisionKind;
     hashType = builder.hashType;
     maxNumberOfRevisionsToRestore = builder.maxNumberOfRevisionsToRestore;
+    readAheadWindow = builder.readAheadWindow;
+    durabilityMode = builder.durabilityMode;
+    groupCommitWindow = builder.groupCommitWindow;
     useTextCompression = builder.useTextCompression;
     withPathSummary = builder.pathSummary;
     areDeweyIDsStored = builder.useDeweyIDs;
@@ -448,7 +474,8 @@ public final class ResourceConfiguration {
   private static final String[] JSONNAMES =
       { "binaryEncoding", "revisioning", "revisioningClass", "numbersOfRevisiontoRestore", "byteHandlerClasses",
           "storageKind", "hashKind", "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored",
-          "persistenter", "storeDiffs", "customCommitTimestamps", "storeNodeHistory", "storeChildCount" };
+          "persistenter", "storeDiffs", "customCommitTimestamps", "storeNodeHistory", "storeChildCount",
+          "readAheadWindow", "durabilityMode", "groupCommitWindow" };
 
   /**
    * Serialize the configuration.
@@ -500,6 +527,11 @@ public final class ResourceConfiguration {
       jsonWriter.name(JSONNAMES[15]).value(config.storeNodeHistory);
       // Child count.
       jsonWriter.name(JSONNAMES[16]).value(config.storeChildCount);
+      // Read-ahead window.
+      jsonWriter.name(JSONNAMES[17]).value(config.readAheadWindow);
+      // Durability.
+      jsonWriter.name(JSONNAMES[18]).value(config.durabilityMode.name());
+      jsonWriter.name(JSONNAMES[19]).value(config.groupCommitWindow.toMillis());
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -547,7 +579,7 @@ public final class ResourceConfiguration {
         jsonReader.beginObject();
         @SuppressWarnings("unchecked") final Class<ByteHandler> clazzName =
             (Class<ByteHandler>) Class.forName(jsonReader.nextName());
-        handlerList.add(ByteHandlerKind.getKind(clazzName).deserialize(jsonReader));
+        handlerList.add(ByteHandlerKind.getKind(clazzName).deserialize(jsonReader, file));
         jsonReader.endObject();
       }
       jsonReader.endArray();
@@ -596,6 +628,24 @@ public final class ResourceConfiguration {
       name = jsonReader.nextName();
       assert name.equals(JSONNAMES[16]);
       final boolean storeChildCount = jsonReader.nextBoolean();
+      // Read-ahead window (not stored by older versions).
+      int readAheadWindow = 0;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[17]);
+        readAheadWindow = jsonReader.nextInt();
+      }
+      // Durability (not stored by older versions).
+      DurabilityMode durabilityMode = DurabilityMode.SYNC;
+      Duration groupCommitWindow = GROUP_COMMIT_WINDOW;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[18]);
+        durabilityMode = DurabilityMode.valueOf(jsonReader.nextString());
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[19]);
+        groupCommitWindow = Duration.ofMillis(jsonReader.nextLong());
+      }
 
       jsonReader.endObject();
       jsonReader.close();
@@ -619,7 +669,9 @@ public final class ResourceConfiguration {
              .storeDiffs(storeDiffs)
              .storeChildCount(storeChildCount)
              .customCommitTimestamps(customCommitTimestamps)
-             .storeNodeHistory(storeNodeHistory);
+             .storeNodeHistory(storeNodeHistory)
+             .readAheadWindow(readAheadWindow)
+             .durabilityMode(durabilityMode, groupCommitWindow);
 
       // Deserialized instance.
       final ResourceConfiguration config = new ResourceConfiguration(builder);
@@ -666,6 +718,21 @@ public final class ResourceConfiguration {
      */
     private int maxNumberOfRevisionsToRestore = VERSIONS_TO_RESTORE;
 
+    /**
+     * Number of record pages to read ahead of sequential scans.
+     */
+    private int readAheadWindow;
+
+    /**
+     * Determines when commits are durable.
+     */
+    private DurabilityMode durabilityMode = DurabilityMode.SYNC;
+
+    /**
+     * The time span in which commits are collected to be forced at once.
+     */
+    private Duration groupCommitWindow = GROUP_COMMIT_WINDOW;
+
     /**
      * Record/Node persistenter.
      */
@@ -804,6 +871,46 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Set the number of record pages, which are loaded asynchronously ahead of sequential scans in
+     * read-only transactions.
+     *
+     * @param readAheadWindow number of record pages to read ahead, {@code 0} to disable read-ahead
+     * @return reference to the builder object
+     */
+    public Builder readAheadWindow(final @NonNegative int readAheadWindow) {
+      checkArgument(readAheadWindow >= 0, "readAheadWindow must be >= 0!");
+      this.readAheadWindow = readAheadWindow;
+      return this;
+    }
+
+    /**
+     * Set the durability mode, that is when commits are forced to the storage device, with the
+     * standard group commit window of 10ms.
+     *
+     * @param durabilityMode the durability mode (default: {@link DurabilityMode#SYNC})
+     * @return reference to the builder object
+     */
+    public Builder durabilityMode(final DurabilityMode durabilityMode) {
+      return durabilityMode(durabilityMode, GROUP_COMMIT_WINDOW);
+    }
+
+    /**
+     * Set the durability mode, that is when commits are forced to the storage device.
+     *
+     * @param durabilityMode    the durability mode (default: {@link DurabilityMode#SYNC})
+     * @param groupCommitWindow the time span in which commits are collected to be forced at once,
+     *                          which is also the maximum time span of commits lost in case of a crash
+     *                          in {@link DurabilityMode#ASYNC} mode
+     * @return reference to the builder object
+     */
+    public Builder durabilityMode(final DurabilityMode durabilityMode, final Duration groupCommitWindow) {
+      checkArgument(!groupCommitWindow.isNegative(), "groupCommitWindow must not be negative!");
+      this.durabilityMode = requireNonNull(durabilityMode);
+      this.groupCommitWindow = groupCommitWindow;
+      return this;
+    }
+
     /**
      * Determines if DeweyIDs should be stored or not.
      *
@@ -895,6 +1002,9 @@ public final class ResourceConfiguration {
                         .add("Store node history", storeNodeHistory)
                         .add("Custom commit timestamps", customCommitTimestamps)
                         .add("Max number of revisions to restore", maxNumberOfRevisionsToRestore)
+                        .add("Read-ahead window", readAheadWindow)
+                        .add("Durability mode", durabilityMode)
+                        .add("Group commit window", groupCommitWindow)
                         .add("Use deweyIDs", useDeweyIDs)
                         .add("Byte handler pipeline", byteHandler)
                         .toString();
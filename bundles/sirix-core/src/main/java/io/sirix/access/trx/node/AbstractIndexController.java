@@ -124,6 +124,7 @@ public abstract class AbstractIndexController<R extends NodeReadOnlyTrx & NodeCu
         case CAS ->
             listeners.add(createCASIndexListener(nodeWriteTrx.getPageWtx(), nodeWriteTrx.getPathSummary(), indexDef));
         case NAME -> listeners.add(createNameIndexListener(nodeWriteTrx.getPageWtx(), indexDef));
+        case NUMBER_COLUMN -> listeners.add(createNumberColumnIndexListener(nodeWriteTrx, indexDef));
         default -> {
         }
       }
@@ -146,6 +147,18 @@ public abstract class AbstractIndexController<R extends NodeReadOnlyTrx & NodeCu
     return nameIndex.createListener(pageWriteTrx, indexDef);
   }
 
+  /**
+   * Create a listener, which maintains a number column index.
+   *
+   * @param nodeWriteTrx the node write transaction
+   * @param indexDef     the index definition
+   * @return the listener
+   * @throws UnsupportedOperationException if the document doesn't support number column indexes
+   */
+  protected ChangeListener createNumberColumnIndexListener(final W nodeWriteTrx, final IndexDef indexDef) {
+    throw new UnsupportedOperationException("This document does not support number column indexes.");
+  }
+
   @Override
   public NameFilter createNameFilter(final Set<String> names) {
     final Set<QNm> includes = new HashSet<>(names.size());
@@ -10,6 +10,7 @@ import io.sirix.node.NullNode;
 import io.sirix.node.SirixDeweyID;
 import io.sirix.node.interfaces.DataRecord;
 import io.sirix.node.interfaces.NameNode;
+import io.sirix.node.interfaces.RecordView;
 import io.sirix.node.interfaces.StructNode;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
 import io.sirix.node.json.ArrayNode;
@@ -25,6 +26,7 @@ import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -47,10 +49,25 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   protected PageReadOnlyTrx pageReadOnlyTrx;
 
   /**
-   * The current node.
+   * The current node, {@code null} if the transaction is located on a record view, which has not
+   * been materialized so far.
    */
   private N currentNode;
 
+  /**
+   * The view of the current record, if the transaction is located on a record view, and the spare
+   * view, which the next record is decoded into, such that the current record is still available if
+   * the move fails. Both are {@code null} if views are disabled.
+   */
+  private RecordView currentView;
+
+  private RecordView spareView;
+
+  /**
+   * Determines if the transaction is located on {@link #currentView}.
+   */
+  private boolean isOnView;
+
   /**
    * Resource manager this write transaction is bound to.
    */
@@ -86,8 +103,33 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
     this.isClosed = false;
   }
 
+  /**
+   * Constructor, which enables record views: the fields needed for navigation are decoded directly
+   * from the serialized records and nodes are only deserialized, once they are requested through
+   * {@link #getCurrentNode()}.
+   *
+   * @param trxId               the transaction ID
+   * @param pageReadTransaction the underlying read-only page transaction
+   * @param documentNode        the document root node
+   * @param resourceSession     The resource manager for the current transaction
+   * @param itemList            Read-transaction-exclusive item list.
+   * @param recordViewFactory   creates the record views
+   */
+  protected AbstractNodeReadOnlyTrx(final @NonNegative long trxId, final @NonNull PageReadOnlyTrx pageReadTransaction,
+      final @NonNull N documentNode, final InternalResourceSession<T, W> resourceSession,
+      final ItemList<AtomicValue> itemList, final @NonNull Supplier<? extends RecordView> recordViewFactory) {
+    this(trxId, pageReadTransaction, documentNode, resourceSession, itemList);
+    this.currentView = requireNonNull(recordViewFactory.get());
+    this.spareView = requireNonNull(recordViewFactory.get());
+  }
+
   @Override
   public N getCurrentNode() {
+    if (isOnView) {
+      // Deserialize the node, which is cached in its page from now on.
+      currentNode = pageReadOnlyTrx.getRecord(currentView.getNodeKey(), IndexType.DOCUMENT, -1);
+      isOnView = false;
+    }
     return currentNode;
   }
 
@@ -95,6 +137,27 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   public void setCurrentNode(final @Nullable N currentNode) {
     assertNotClosed();
     this.currentNode = currentNode;
+    isOnView = false;
+  }
+
+  /**
+   * Get the current node or the view of the current record, if it has not been materialized. The
+   * view must only be used until the transaction is moved.
+   *
+   * @return the current node or record view
+   */
+  protected final ImmutableNode getCurrentNodeOrView() {
+    return isOnView ? currentView : currentNode;
+  }
+
+  /**
+   * Retrieve the current node as a structural node or the view of the current record, if it has not
+   * been materialized. The view must only be used until the transaction is moved.
+   *
+   * @return structural node instance or record view of the current node
+   */
+  protected final StructNode getStructuralNodeOrView() {
+    return isOnView ? currentView : getStructuralNode();
   }
 
   @Override
@@ -115,7 +178,7 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public boolean moveToPrevious() {
     assertNotClosed();
-    final StructNode node = getStructuralNode();
+    final StructNode node = getStructuralNodeOrView();
     if (node.hasLeftSibling()) {
       // Left sibling node.
       boolean leftSiblMove = moveTo(node.getLeftSiblingKey());
@@ -132,10 +195,10 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public NodeKind getLeftSiblingKind() {
     assertNotClosed();
-    final N node = currentNode;
+    final N node = getCurrentNode();
     if (node instanceof StructNode && hasLeftSibling()) {
       moveToLeftSibling();
-      final NodeKind leftSiblingKind = currentNode.getKind();
+      final NodeKind leftSiblingKind = getCurrentNodeOrView().getKind();
       setCurrentNode(node);
       return leftSiblingKind;
     }
@@ -145,19 +208,19 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public long getLeftSiblingKey() {
     assertNotClosed();
-    return getStructuralNode().getLeftSiblingKey();
+    return getStructuralNodeOrView().getLeftSiblingKey();
   }
 
   @Override
   public boolean hasLeftSibling() {
     assertNotClosed();
-    return getStructuralNode().hasLeftSibling();
+    return getStructuralNodeOrView().hasLeftSibling();
   }
 
   @Override
   public boolean moveToLeftSibling() {
     assertNotClosed();
-    final StructNode node = getStructuralNode();
+    final StructNode node = getStructuralNodeOrView();
     if (!node.hasLeftSibling()) {
       return false;
     }
@@ -173,13 +236,16 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public String nameForKey(final int key) {
     assertNotClosed();
-    return pageReadOnlyTrx.getName(key, currentNode.getKind());
+    return pageReadOnlyTrx.getName(key, getCurrentNodeOrView().getKind());
   }
 
   @Override
   public long getPathNodeKey() {
     assertNotClosed();
-    final ImmutableNode node = currentNode;
+    final ImmutableNode node = getCurrentNodeOrView();
+    if (node instanceof RecordView view) {
+      return view.getPathNodeKey();
+    }
     if (node instanceof NameNode) {
       return ((NameNode) node).getPathNodeKey();
     }
@@ -222,13 +288,13 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public boolean moveToParent() {
     assertNotClosed();
-    return moveTo(currentNode.getParentKey());
+    return moveTo(getCurrentNodeOrView().getParentKey());
   }
 
   @Override
   public boolean moveToFirstChild() {
     assertNotClosed();
-    final StructNode node = getStructuralNode();
+    final StructNode node = getStructuralNodeOrView();
     if (!node.hasFirstChild()) {
       return false;
     }
@@ -241,6 +307,7 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
 
     // Remember old node and fetch new one.
     final N oldNode = currentNode;
+    final boolean wasOnView = isOnView;
     DataRecord newNode;
     try {
       // Immediately return node from item list if node key negative.
@@ -250,6 +317,8 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
         } else {
           newNode = null;
         }
+      } else if (spareView != null) {
+        newNode = pageReadOnlyTrx.getRecordOrView(nodeKey, IndexType.DOCUMENT, -1, spareView);
       } else {
         newNode = pageReadOnlyTrx.getRecord(nodeKey, IndexType.DOCUMENT, -1);
       }
@@ -259,7 +328,15 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
 
     if (newNode == null) {
       setCurrentNode(oldNode);
+      isOnView = wasOnView;
       return false;
+    } else if (newNode == spareView) {
+      // Swap the views, the current view is reused for the record after the next move.
+      spareView = currentView;
+      currentView = (RecordView) newNode;
+      currentNode = null;
+      isOnView = true;
+      return true;
     } else {
       //noinspection unchecked
       setCurrentNode((N) newNode);
@@ -270,7 +347,7 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public boolean moveToRightSibling() {
     assertNotClosed();
-    final StructNode node = getStructuralNode();
+    final StructNode node = getStructuralNodeOrView();
     if (!node.hasRightSibling()) {
       return false;
     }
@@ -280,19 +357,22 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public long getNodeKey() {
     assertNotClosed();
-    return currentNode.getNodeKey();
+    return getCurrentNodeOrView().getNodeKey();
   }
 
   @Override
   public long getHash() {
     assertNotClosed();
-    return currentNode.getHash();
+    if (isOnView && currentView.isHashStored()) {
+      return currentView.getHash();
+    }
+    return getCurrentNode().getHash();
   }
 
   @Override
   public NodeKind getKind() {
     assertNotClosed();
-    return currentNode.getKind();
+    return getCurrentNodeOrView().getKind();
   }
 
   /**
@@ -336,16 +416,17 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
    * @return structural node instance of current node
    */
   public final StructNode getStructuralNode() {
-    if (currentNode instanceof StructNode node) {
-      return node;
+    final N node = getCurrentNode();
+    if (node instanceof StructNode structNode) {
+      return structNode;
     }
-    return new NullNode(currentNode);
+    return new NullNode(node);
   }
 
   @Override
   public boolean moveToNextFollowing() {
     assertNotClosed();
-    while (!getStructuralNode().hasRightSibling() && currentNode.hasParent()) {
+    while (!getStructuralNodeOrView().hasRightSibling() && getCurrentNodeOrView().hasParent()) {
       moveToParent();
     }
     return moveToRightSibling();
@@ -354,7 +435,7 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public boolean hasNode(final @NonNegative long key) {
     assertNotClosed();
-    final N node = currentNode;
+    final N node = getCurrentNode();
     final boolean retVal = moveTo(key);
     setCurrentNode(node);
     return retVal;
@@ -363,48 +444,48 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public boolean hasParent() {
     assertNotClosed();
-    return currentNode.hasParent();
+    return getCurrentNodeOrView().hasParent();
   }
 
   @Override
   public boolean hasFirstChild() {
     assertNotClosed();
-    return getStructuralNode().hasFirstChild();
+    return getStructuralNodeOrView().hasFirstChild();
   }
 
   @Override
   public boolean hasRightSibling() {
     assertNotClosed();
-    return getStructuralNode().hasRightSibling();
+    return getStructuralNodeOrView().hasRightSibling();
   }
 
   @Override
   public long getRightSiblingKey() {
     assertNotClosed();
-    return getStructuralNode().getRightSiblingKey();
+    return getStructuralNodeOrView().getRightSiblingKey();
   }
 
   @Override
   public long getFirstChildKey() {
     assertNotClosed();
-    return getStructuralNode().getFirstChildKey();
+    return getStructuralNodeOrView().getFirstChildKey();
   }
 
   @Override
   public long getParentKey() {
     assertNotClosed();
-    return currentNode.getParentKey();
+    return getCurrentNodeOrView().getParentKey();
   }
 
   @Override
   public NodeKind getParentKind() {
     assertNotClosed();
-    final N node = currentNode;
+    final N node = getCurrentNode();
     if (node.getParentKey() == Fixed.NULL_NODE_KEY.getStandardProperty()) {
       return NodeKind.UNKNOWN;
     }
     moveToParent();
-    final NodeKind parentKind = currentNode.getKind();
+    final NodeKind parentKind = getCurrentNodeOrView().getKind();
     setCurrentNode(node);
     return parentKind;
   }
@@ -412,7 +493,7 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public boolean moveToNext() {
     assertNotClosed();
-    final StructNode node = getStructuralNode();
+    final StructNode node = getStructuralNodeOrView();
     if (node.hasRightSibling()) {
       // Right sibling node.
       return moveTo(node.getRightSiblingKey());
@@ -424,16 +505,16 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public boolean hasLastChild() {
     assertNotClosed();
-    return getStructuralNode().hasFirstChild(); // If it has a first child, it also has a last child.
+    return getStructuralNodeOrView().hasFirstChild(); // If it has a first child, it also has a last child.
   }
 
   @Override
   public NodeKind getLastChildKind() {
     assertNotClosed();
-    final N node = currentNode;
+    final N node = getCurrentNode();
     if (node instanceof StructNode && hasLastChild()) {
       moveToLastChild();
-      final NodeKind lastChildKind = currentNode.getKind();
+      final NodeKind lastChildKind = getCurrentNodeOrView().getKind();
       setCurrentNode(node);
       return lastChildKind;
     }
@@ -443,10 +524,10 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public NodeKind getFirstChildKind() {
     assertNotClosed();
-    final N node = currentNode;
+    final N node = getCurrentNode();
     if (node instanceof StructNode && hasFirstChild()) {
       moveToFirstChild();
-      final NodeKind firstChildKind = currentNode.getKind();
+      final NodeKind firstChildKind = getCurrentNodeOrView().getKind();
       setCurrentNode(node);
       return firstChildKind;
     }
@@ -456,11 +537,11 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public long getLastChildKey() {
     assertNotClosed();
-    final ImmutableNode node = currentNode;
+    final ImmutableNode node = getCurrentNodeOrView();
     if (node instanceof StructNode && hasLastChild()) {
       final long nodeKey = node.getNodeKey();
       moveToLastChild();
-      final long lastChildNodeKey = currentNode.getNodeKey();
+      final long lastChildNodeKey = getNodeKey();
       moveTo(nodeKey);
       return lastChildNodeKey;
     }
@@ -470,19 +551,19 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public long getChildCount() {
     assertNotClosed();
-    return getStructuralNode().getChildCount();
+    return getStructuralNodeOrView().getChildCount();
   }
 
   @Override
   public boolean hasChildren() {
     assertNotClosed();
-    return getStructuralNode().hasFirstChild();
+    return getStructuralNodeOrView().hasFirstChild();
   }
 
   @Override
   public long getDescendantCount() {
     assertNotClosed();
-    return getStructuralNode().getDescendantCount();
+    return getStructuralNodeOrView().getDescendantCount();
   }
 
   @Override
@@ -494,10 +575,10 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public NodeKind getRightSiblingKind() {
     assertNotClosed();
-    final N node = currentNode;
+    final N node = getCurrentNode();
     if (node instanceof StructNode && hasRightSibling()) {
       moveToRightSibling();
-      final NodeKind rightSiblingKind = currentNode.getKind();
+      final NodeKind rightSiblingKind = getCurrentNodeOrView().getKind();
       setCurrentNode(node);
       return rightSiblingKind;
     }
@@ -519,13 +600,13 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
   @Override
   public SirixDeweyID getDeweyID() {
     assertNotClosed();
-    return currentNode.getDeweyID();
+    return getCurrentNode().getDeweyID();
   }
 
   @Override
   public int getPreviousRevisionNumber() {
     assertNotClosed();
-    return currentNode.getPreviousRevisionNumber();
+    return getCurrentNodeOrView().getPreviousRevisionNumber();
   }
 
   @Override
@@ -547,6 +628,9 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
       // Immediately release all references.
       pageReadOnlyTrx = null;
       currentNode = null;
+      currentView = null;
+      spareView = null;
+      isOnView = false;
 
       // Close state.
       isClosed = true;
@@ -564,12 +648,12 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor & NodeReadOnl
     }
 
     final AbstractNodeReadOnlyTrx<?, ?, ?> that = (AbstractNodeReadOnlyTrx<?, ?, ?>) o;
-    return currentNode.getNodeKey() == that.currentNode.getNodeKey()
+    return getCurrentNodeOrView().getNodeKey() == that.getCurrentNodeOrView().getNodeKey()
         && pageReadOnlyTrx.getRevisionNumber() == that.pageReadOnlyTrx.getRevisionNumber();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(currentNode.getNodeKey(), pageReadOnlyTrx.getRevisionNumber());
+    return Objects.hash(getCurrentNodeOrView().getNodeKey(), pageReadOnlyTrx.getRevisionNumber());
   }
 }
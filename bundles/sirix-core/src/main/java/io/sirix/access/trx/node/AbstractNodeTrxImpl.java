@@ -1,6 +1,7 @@
 package io.sirix.access.trx.node;
 
 import com.google.common.base.MoreObjects;
+import io.sirix.access.DurabilityMode;
 import io.sirix.access.User;
 import io.sirix.access.trx.node.json.InternalJsonNodeReadOnlyTrx;
 import io.sirix.api.*;
@@ -24,6 +25,8 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -270,11 +273,30 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
   @Override
   public W commit(@Nullable final String commitMessage, @Nullable final Instant commitTimestamp) {
+    final CompletableFuture<Integer> commitDurability = commitAsync(commitMessage, commitTimestamp);
+
+    // Asynchronous commits are acknowledged before they are durable.
+    if (resourceSession.getResourceConfig().durabilityMode == DurabilityMode.GROUP_COMMIT) {
+      try {
+        commitDurability.join();
+      } catch (final CompletionException e) {
+        throw new SirixIOException("Commit couldn't be forced to the storage device!", e.getCause());
+      }
+    }
+
+    return self();
+  }
+
+  @Override
+  public CompletableFuture<Integer> commitAsync(@Nullable final String commitMessage,
+      @Nullable final Instant commitTimestamp) {
     nodeReadOnlyTrx.assertNotClosed();
     if (commitTimestamp != null && !resourceSession.getResourceConfig().customCommitTimestamps()) {
       throw new IllegalStateException("Custom commit timestamps are not enabled for the resource.");
     }
 
+    final var commitDurability = new CompletableFuture<Integer>();
+
     runLocked(() -> {
       state = State.COMMITTING;
 
@@ -289,6 +311,14 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
       final var preCommitRevision = getRevisionNumber();
 
       final UberPage uberPage = pageTrx.commit(commitMessage, commitTimestamp);
+      final int committedRevision = uberPage.getRevisionNumber();
+      pageTrx.getCommitDurability().whenComplete((unused, exception) -> {
+        if (exception == null) {
+          commitDurability.complete(committedRevision);
+        } else {
+          commitDurability.completeExceptionally(exception);
+        }
+      });
 
       // Remember successfully committed uber page in resource manager.
       resourceSession.setLastCommittedUberPage(uberPage);
@@ -311,7 +341,7 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
       hook.postCommit(this);
     }
 
-    return self();
+    return commitDurability;
   }
 
   /**
@@ -1,12 +1,14 @@
 package io.sirix.access.trx.node;
 
 import cn.danielw.fop.*;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.sirix.api.*;
 import io.brackit.query.jdm.DocumentException;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import io.sirix.access.DatabaseConfiguration;
+import io.sirix.access.DurabilityMode;
 import io.sirix.access.ResourceConfiguration;
 import io.sirix.access.ResourceStore;
 import io.sirix.access.User;
@@ -15,6 +17,7 @@ import io.sirix.access.trx.page.NodePageReadOnlyTrx;
 import io.sirix.access.trx.page.PageTrxFactory;
 import io.sirix.access.trx.page.PageTrxReadOnlyFactory;
 import io.sirix.access.trx.page.RevisionRootPageReader;
+import io.sirix.access.trx.page.RevisionSnapshot;
 import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.api.xml.XmlNodeTrx;
 import io.sirix.cache.BufferManager;
@@ -26,6 +29,7 @@ import io.sirix.exception.SirixThreadedException;
 import io.sirix.exception.SirixUsageException;
 import io.sirix.index.IndexType;
 import io.sirix.index.path.summary.PathSummaryReader;
+import io.sirix.io.GroupCommitter;
 import io.sirix.io.IOStorage;
 import io.sirix.io.Reader;
 import io.sirix.io.Writer;
@@ -49,7 +53,9 @@ import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
@@ -60,6 +66,16 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractResourceSession.class);
 
+  /**
+   * Maximum number of cached document nodes.
+   */
+  private static final int DOCUMENT_NODES_CACHE_SIZE = 1_024;
+
+  /**
+   * Maximum number of cached revision snapshots.
+   */
+  private static final int REVISION_SNAPSHOTS_CACHE_SIZE = 64;
+
   /**
    * Write lock to assure only one exclusive write transaction exists.
    */
@@ -117,6 +133,32 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
    */
   volatile boolean isClosed;
 
+  /**
+   * Determines if the session is being closed. Transactions are created and registered while
+   * holding the read lock of {@link #closeLock} and check this flag first, whereas {@link #close()}
+   * sets it while holding the write lock. Thus, a transaction is either registered before
+   * {@link #close()} closes the registered transactions or it isn't created at all.
+   */
+  private volatile boolean isClosing;
+
+  /**
+   * Lock to not miss transactions, which are registered concurrently to {@link #close()}. The read
+   * lock is shared, so beginning transactions doesn't block each other.
+   */
+  private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+  /**
+   * The document nodes of the revisions, which have been opened, such that read-only transactions
+   * on the same revision don't have to fetch them again.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<Integer, Node> documentNodes;
+
+  /**
+   * The resolved states of the revisions, to which the read-only page transactions of a revision
+   * attach.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<Integer, RevisionSnapshot> revisionSnapshots;
+
   /**
    * The cache of in-memory pages shared amongst all manager / resource transactions.
    */
@@ -137,6 +179,16 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
    */
   private final PageTrxFactory pageTrxFactory;
 
+  /**
+   * The index of the metadata of the revisions (timestamps, authors and commit messages).
+   */
+  private final RevisionMetadataIndex revisionMetadataIndex;
+
+  /**
+   * The skip entries of the children of large nodes of committed revisions.
+   */
+  private final ChildPositionIndex childPositionIndex;
+
   /**
    * ID Generation exception message for duplicate ID.
    */
@@ -164,6 +216,10 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     this.bufferManager = requireNonNull(bufferManager);
     this.storage = requireNonNull(storage);
     this.pageTrxFactory = pageTrxFactory;
+    revisionMetadataIndex = RevisionMetadataIndex.of(resourceConfig);
+    childPositionIndex = new ChildPositionIndex();
+    documentNodes = Caffeine.newBuilder().maximumSize(DOCUMENT_NODES_CACHE_SIZE).build();
+    revisionSnapshots = Caffeine.newBuilder().maximumSize(REVISION_SNAPSHOTS_CACHE_SIZE).build();
 
     nodeTrxMap = new ConcurrentHashMap<>();
     pageTrxMap = new ConcurrentHashMap<>();
@@ -288,16 +344,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     final var revisionInfos = new ArrayList<CompletableFuture<RevisionInfo>>();
 
     for (int revision = fromRevision; revision > 0 && revision >= toRevision; revision--) {
-      int finalRevision = revision;
-      revisionInfos.add(CompletableFuture.supplyAsync(() -> {
-        try (final NodeReadOnlyTrx rtx = beginNodeReadOnlyTrx(finalRevision)) {
-          final CommitCredentials commitCredentials = rtx.getCommitCredentials();
-          return new RevisionInfo(commitCredentials.getUser(),
-                                  rtx.getRevisionNumber(),
-                                  rtx.getRevisionTimestamp(),
-                                  commitCredentials.getMessage());
-        }
-      }));
+      revisionInfos.add(getRevisionInfo(revision));
     }
 
     return getResult(revisionInfos);
@@ -311,21 +358,34 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
     for (int revision = lastCommittedRevision;
          revision > 0 && revision > lastCommittedRevision - revisions; revision--) {
-      int finalRevision = revision;
-      revisionInfos.add(CompletableFuture.supplyAsync(() -> {
-        try (final NodeReadOnlyTrx rtx = beginNodeReadOnlyTrx(finalRevision)) {
-          final CommitCredentials commitCredentials = rtx.getCommitCredentials();
-          return new RevisionInfo(commitCredentials.getUser(),
-                                  rtx.getRevisionNumber(),
-                                  rtx.getRevisionTimestamp(),
-                                  commitCredentials.getMessage());
-        }
-      }));
+      revisionInfos.add(getRevisionInfo(revision));
     }
 
     return getResult(revisionInfos);
   }
 
+  /**
+   * Get the metadata of a revision from the revision metadata index or, if it isn't indexed, from
+   * the revision root page asynchronously.
+   */
+  private CompletableFuture<RevisionInfo> getRevisionInfo(final int revision) {
+    final RevisionInfo revisionInfo = revisionMetadataIndex.getRevisionInfo(revision);
+
+    if (revisionInfo != null) {
+      return CompletableFuture.completedFuture(revisionInfo);
+    }
+
+    return CompletableFuture.supplyAsync(() -> {
+      try (final NodeReadOnlyTrx rtx = beginNodeReadOnlyTrx(revision)) {
+        final CommitCredentials commitCredentials = rtx.getCommitCredentials();
+        return new RevisionInfo(commitCredentials.getUser(),
+                                rtx.getRevisionNumber(),
+                                rtx.getRevisionTimestamp(),
+                                commitCredentials.getMessage());
+      }
+    });
+  }
+
   private List<RevisionInfo> getResult(final List<CompletableFuture<RevisionInfo>> revisionInfos) {
     return revisionInfos.stream().map(CompletableFuture::join).toList();
   }
@@ -345,22 +405,55 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized R beginNodeReadOnlyTrx(@NonNegative final int revision) {
+  public R beginNodeReadOnlyTrx(@NonNegative final int revision) {
     assertAccess(revision);
 
-    final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision);
+    closeLock.readLock().lock();
+    try {
+      assertNotClosing();
 
-    final Node documentNode = getDocumentNode(pageReadTrx);
+      final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision);
 
-    // Create new reader.
-    final R reader = createNodeReadOnlyTrx(nodeTrxIDCounter.incrementAndGet(), pageReadTrx, documentNode);
+      final Node documentNode = getDocumentNode(revision, pageReadTrx);
 
-    // Remember reader for debugging and safe close.
-    if (nodeTrxMap.put(reader.getId(), reader) != null) {
-      throw new SirixUsageException(ID_GENERATION_EXCEPTION);
+      // Create new reader.
+      final R reader = createNodeReadOnlyTrx(nodeTrxIDCounter.incrementAndGet(), pageReadTrx, documentNode);
+
+      // Remember reader for debugging and safe close.
+      if (nodeTrxMap.put(reader.getId(), reader) != null) {
+        throw new SirixUsageException(ID_GENERATION_EXCEPTION);
+      }
+
+      return reader;
+    } finally {
+      closeLock.readLock().unlock();
     }
+  }
 
-    return reader;
+  /**
+   * Get the document node of a committed revision. The records of committed revisions are
+   * immutable, thus the document node is shared between the read-only transactions.
+   */
+  private Node getDocumentNode(final int revision, final PageReadOnlyTrx pageReadTrx) {
+    final Node cachedDocumentNode = documentNodes.getIfPresent(revision);
+
+    if (cachedDocumentNode != null) {
+      return cachedDocumentNode;
+    }
+
+    final Node documentNode = getDocumentNode(pageReadTrx);
+    documentNodes.put(revision, documentNode);
+    return documentNode;
+  }
+
+  /**
+   * Make sure that no transaction is created once the session is being closed, as it wouldn't be
+   * closed by {@link #close()}. Must be called while holding the read lock of {@link #closeLock}.
+   */
+  private void assertNotClosing() {
+    if (isClosing) {
+      throw new IllegalStateException("Resource manager is already closed!");
+    }
   }
 
   public abstract R createNodeReadOnlyTrx(long nodeTrxId, PageReadOnlyTrx pageReadTrx, Node documentNode);
@@ -425,7 +518,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized W beginNodeTrx(final @NonNegative int maxNodeCount, final @NonNegative int maxTime,
+  public W beginNodeTrx(final @NonNegative int maxNodeCount, final @NonNegative int maxTime,
       final @NonNull TimeUnit timeUnit, final @NonNull AfterCommitState afterCommitState) {
     // Checks.
     assertAccess(getMostRecentRevisionNumber());
@@ -446,30 +539,48 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
     LOGGER.trace("Lock: lock acquired (beginNodeTrx)");
 
-    // Create new page write transaction (shares the same ID with the node write trx).
-    final long nodeTrxId = nodeTrxIDCounter.incrementAndGet();
-    final int lastRev = getMostRecentRevisionNumber();
-    final PageTrx pageWtx = createPageTransaction(nodeTrxId, lastRev, lastRev, Abort.NO, true);
+    closeLock.readLock().lock();
+    try {
+      if (isClosing) {
+        writeLock.release();
+        throw new IllegalStateException("Resource manager is already closed!");
+      }
 
-    final Node documentNode = getDocumentNode(pageWtx);
+      // Create new page write transaction (shares the same ID with the node write trx).
+      final long nodeTrxId = nodeTrxIDCounter.incrementAndGet();
+      final int lastRev = getMostRecentRevisionNumber();
+      final PageTrx pageWtx = createPageTransaction(nodeTrxId, lastRev, lastRev, Abort.NO, true);
 
-    // Create new node write transaction.
-    final var autoCommitDelay = Duration.of(maxTime, timeUnit.toChronoUnit());
-    final W wtx =
-        createNodeReadWriteTrx(nodeTrxId, pageWtx, maxNodeCount, autoCommitDelay, documentNode, afterCommitState);
+      final Node documentNode = getDocumentNode(pageWtx);
 
-    // Remember node transaction for debugging and safe close.
-    //noinspection unchecked
-    if (nodeTrxMap.put(nodeTrxId, (R) wtx) != null || nodePageTrxMap.put(nodeTrxId, pageWtx) != null) {
-      throw new SirixThreadedException(ID_GENERATION_EXCEPTION);
-    }
+      // Create new node write transaction.
+      final var autoCommitDelay = Duration.of(maxTime, timeUnit.toChronoUnit());
+      final W wtx =
+          createNodeReadWriteTrx(nodeTrxId, pageWtx, maxNodeCount, autoCommitDelay, documentNode, afterCommitState);
+
+      // Remember node transaction for debugging and safe close.
+      //noinspection unchecked
+      if (nodeTrxMap.put(nodeTrxId, (R) wtx) != null || nodePageTrxMap.put(nodeTrxId, pageWtx) != null) {
+        throw new SirixThreadedException(ID_GENERATION_EXCEPTION);
+      }
 
-    return wtx;
+      return wtx;
+    } finally {
+      closeLock.readLock().unlock();
+    }
   }
 
   @Override
   public synchronized void close() {
     if (!isClosed) {
+      // Wait for transactions, which are being created, such that they are closed below.
+      closeLock.writeLock().lock();
+      try {
+        isClosing = true;
+      } finally {
+        closeLock.writeLock().unlock();
+      }
+
       // Close all open node transactions.
       for (NodeReadOnlyTrx rtx : nodeTrxMap.values()) {
         if (rtx instanceof XmlNodeTrx xmlNodeTrx) {
@@ -494,7 +605,13 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
       nodePageTrxMap.clear();
       resourceStore.closeResourceSession(resourceConfig.getResource());
 
+      // Pending group commits keep their writers open until they are forced.
+      if (resourceConfig.durabilityMode != DurabilityMode.SYNC) {
+        GroupCommitter.getInstance().forceAll();
+      }
+
       storage.close();
+      revisionMetadataIndex.close();
 
       if (pool.get() != null) {
         try {
@@ -648,7 +765,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized boolean isClosed() {
+  public boolean isClosed() {
     return isClosed;
   }
 
@@ -679,7 +796,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized PathSummaryReader openPathSummary(final @NonNegative int revision) {
+  public PathSummaryReader openPathSummary(final @NonNegative int revision) {
     assertAccess(revision);
 
     PageReadOnlyTrx pageReadOnlyTrx;
@@ -720,25 +837,38 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
   public PageReadOnlyTrx beginPageReadOnlyTrx(final @NonNegative int revision) {
     assertAccess(revision);
 
-    final long currentPageTrxID = pageTrxIDCounter.incrementAndGet();
-    final NodePageReadOnlyTrx pageReadTrx = new NodePageReadOnlyTrx(currentPageTrxID,
-                                                                    this,
-                                                                    lastCommittedUberPage.get(),
-                                                                    revision,
-                                                                    storage.createReader(),
-                                                                    bufferManager,
-                                                                    new RevisionRootPageReader(),
-                                                                    null);
-    // Remember page transaction for debugging and safe close.
-    if (pageTrxMap.put(currentPageTrxID, pageReadTrx) != null) {
-      throw new SirixThreadedException(ID_GENERATION_EXCEPTION);
+    closeLock.readLock().lock();
+    try {
+      assertNotClosing();
+
+      final long currentPageTrxID = pageTrxIDCounter.incrementAndGet();
+      final NodePageReadOnlyTrx pageReadTrx = new NodePageReadOnlyTrx(currentPageTrxID,
+                                                                      this,
+                                                                      lastCommittedUberPage.get(),
+                                                                      revision,
+                                                                      storage.createReader(),
+                                                                      bufferManager,
+                                                                      new RevisionRootPageReader(),
+                                                                      null,
+                                                                      revisionSnapshots.getIfPresent(revision));
+      final RevisionSnapshot revisionSnapshot = pageReadTrx.getRevisionSnapshot();
+      if (revisionSnapshot != null) {
+        revisionSnapshots.asMap().putIfAbsent(revision, revisionSnapshot);
+      }
+
+      // Remember page transaction for debugging and safe close.
+      if (pageTrxMap.put(currentPageTrxID, pageReadTrx) != null) {
+        throw new SirixThreadedException(ID_GENERATION_EXCEPTION);
+      }
+
+      return pageReadTrx;
+    } finally {
+      closeLock.readLock().unlock();
     }
-    
-    return pageReadTrx;
   }
 
   @Override
-  public synchronized PageTrx beginPageTrx(final @NonNegative int revision) {
+  public PageTrx beginPageTrx(final @NonNegative int revision) {
     assertAccess(revision);
 
     // Make sure not to exceed available number of write transactions.
@@ -752,16 +882,26 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
     LOGGER.debug("Lock: lock acquired (beginPageTrx)");
 
-    final long currentPageTrxID = pageTrxIDCounter.incrementAndGet();
-    final int lastRev = getMostRecentRevisionNumber();
-    final PageTrx pageTrx = createPageTransaction(currentPageTrxID, lastRev, lastRev, Abort.NO, false);
+    closeLock.readLock().lock();
+    try {
+      if (isClosing) {
+        writeLock.release();
+        throw new IllegalStateException("Resource manager is already closed!");
+      }
+
+      final long currentPageTrxID = pageTrxIDCounter.incrementAndGet();
+      final int lastRev = getMostRecentRevisionNumber();
+      final PageTrx pageTrx = createPageTransaction(currentPageTrxID, lastRev, lastRev, Abort.NO, false);
 
-    // Remember page transaction for debugging and safe close.
-    if (pageTrxMap.put(currentPageTrxID, pageTrx) != null) {
-      throw new SirixThreadedException(ID_GENERATION_EXCEPTION);
-    }
+      // Remember page transaction for debugging and safe close.
+      if (pageTrxMap.put(currentPageTrxID, pageTrx) != null) {
+        throw new SirixThreadedException(ID_GENERATION_EXCEPTION);
+      }
 
-    return pageTrx;
+      return pageTrx;
+    } finally {
+      closeLock.readLock().unlock();
+    }
   }
 
   @Override
@@ -772,7 +912,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized Optional<W> getNodeTrx() {
+  public Optional<W> getNodeTrx() {
     assertNotClosed();
 
     //noinspection unchecked
@@ -797,18 +937,31 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     else if (revision == getMostRecentRevisionNumber() + 1)
       return beginNodeReadOnlyTrx();
 
-    final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-    final R rtxRevision = beginNodeReadOnlyTrx(revision);
+    return beginNodeReadOnlyTrx(getClosestRevision(timestamp, revision));
+  }
 
-    if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-                                                                                                rtxRevision.getRevisionTimestamp()
-                                                                                                           .toEpochMilli())) {
-      rtxRevision.close();
-      return rtxRevisionMinus1;
-    } else {
-      rtxRevisionMinus1.close();
-      return rtxRevision;
+  /**
+   * Get the revision, whose timestamp is closer to the given timestamp.
+   *
+   * @param timestamp the timestamp
+   * @param revision  the first revision committed after the timestamp
+   * @return either the revision or its predecessor
+   */
+  private int getClosestRevision(final long timestamp, final int revision) {
+    try (final Reader reader = storage.createReader()) {
+      final long timeDiffToPreviousRevision = timeDiff(timestamp, getRevisionTimestamp(reader, revision - 1));
+      final long timeDiffToRevision = timeDiff(timestamp, getRevisionTimestamp(reader, revision));
+
+      return timeDiffToPreviousRevision < timeDiffToRevision ? revision - 1 : revision;
+    }
+  }
+
+  private long getRevisionTimestamp(final Reader reader, final int revision) {
+    final Instant revisionTimestamp = revisionMetadataIndex.getRevisionTimestamp(revision);
+    if (revisionTimestamp == null) {
+      return reader.readRevisionRootPageCommitTimestamp(revision).toEpochMilli();
     }
+    return revisionTimestamp.toEpochMilli();
   }
 
   private int binarySearch(final long timestamp) {
@@ -819,8 +972,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
       while (low <= high) {
         final int mid = (low + high) >>> 1;
 
-        final Instant midVal = reader.readRevisionRootPageCommitTimestamp(mid);
-        final int cmp = midVal.compareTo(Instant.ofEpochMilli(timestamp));
+        final int cmp = Long.compare(getRevisionTimestamp(reader, mid), timestamp);
 
         if (cmp < 0)
           low = mid + 1;
@@ -852,20 +1004,17 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     else if (revision == getMostRecentRevisionNumber() + 1)
       return getMostRecentRevisionNumber();
 
-    try (final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-         final R rtxRevision = beginNodeReadOnlyTrx(revision)) {
-      final int revisionNumber;
+    return getClosestRevision(timestamp, revision);
+  }
 
-      if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-                                                                                                  rtxRevision.getRevisionTimestamp()
-                                                                                                             .toEpochMilli())) {
-        revisionNumber = rtxRevisionMinus1.getRevisionNumber();
-      } else {
-        revisionNumber = rtxRevision.getRevisionNumber();
-      }
+  @Override
+  public RevisionMetadataIndex getRevisionMetadataIndex() {
+    return revisionMetadataIndex;
+  }
 
-      return revisionNumber;
-    }
+  @Override
+  public ChildPositionIndex getChildPositionIndex() {
+    return childPositionIndex;
   }
 
   @Override
@@ -0,0 +1,113 @@
+package io.sirix.access.trx.node;
+
+import io.sirix.api.NodeCursor;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Positional index of the children of large nodes (for instance JSON arrays) of committed
+ * revisions.
+ *
+ * <p>For each node, the key of every {@link #SKIP_INTERVAL}-th child is stored (skip entries), thus
+ * moving to the child at a position takes a lookup of the skip entry and at most
+ * {@code SKIP_INTERVAL - 1} moves to the right sibling instead of moving through all preceding
+ * siblings. The skip entries are never collected up front: they are recorded while moving through
+ * the siblings to a position, which isn't covered yet, starting at the last recorded skip entry.
+ * Thus a lookup never moves through more siblings than without the index, and the skip entries
+ * of a node grow with the positions accessed.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ChildPositionIndex {
+
+  /**
+   * The number of children between two skip entries.
+   */
+  public static final int SKIP_INTERVAL = 64;
+
+  /**
+   * The minimum position of a child, for which the skip entries are used. Smaller positions are
+   * reached faster by moving through the siblings.
+   */
+  public static final int MIN_POSITION = 4 * SKIP_INTERVAL;
+
+  /**
+   * The maximum number of cached skip entries (8 bytes each).
+   */
+  private static final long MAX_SKIP_ENTRIES = 4_194_304;
+
+  private final CommittedRevisionCache<long[]> skipEntries;
+
+  /**
+   * Constructor.
+   */
+  public ChildPositionIndex() {
+    skipEntries = new CommittedRevisionCache<>(MAX_SKIP_ENTRIES, entries -> entries.length);
+  }
+
+  /**
+   * Move the cursor to the child at a position, using and extending the skip entries of the
+   * parent node.
+   *
+   * @param cursor     the cursor, located at the parent node
+   * @param revision   the revision
+   * @param childCount the number of children
+   * @param position   the position of the child, which must be smaller than the number of children
+   * @return {@code true}, if the cursor has been moved, {@code false}, if the child is reached faster
+   * by moving from the last child to its left siblings, in which case the cursor doesn't move
+   */
+  public boolean moveToChildAtPosition(final NodeCursor cursor, final @NonNegative int revision,
+      final @NonNegative long childCount, final @NonNegative long position) {
+    checkArgument(position < childCount, "The position must be smaller than the number of children.");
+    final long nodeKey = cursor.getNodeKey();
+    final long[] entries = skipEntries.getIfPresent(revision, nodeKey);
+    final int entry = (int) (position / SKIP_INTERVAL);
+
+    if (entries != null && entry < entries.length) {
+      cursor.moveTo(entries[entry]);
+
+      for (long i = position % SKIP_INTERVAL; i > 0; i--) {
+        cursor.moveToRightSibling();
+      }
+
+      return true;
+    }
+
+    final long coveredPosition = entries == null ? 0 : (long) (entries.length - 1) * SKIP_INTERVAL;
+
+    // Don't move through more siblings than by moving backwards from the last child.
+    if (position - coveredPosition > childCount - 1 - position) {
+      return false;
+    }
+
+    final long[] newEntries = entries == null ? new long[entry + 1] : Arrays.copyOf(entries, entry + 1);
+    long currentPosition = coveredPosition;
+
+    if (entries == null) {
+      cursor.moveToFirstChild();
+    } else {
+      cursor.moveTo(entries[entries.length - 1]);
+    }
+
+    while (true) {
+      if (currentPosition % SKIP_INTERVAL == 0) {
+        newEntries[(int) (currentPosition / SKIP_INTERVAL)] = cursor.getNodeKey();
+      }
+      if (currentPosition == position) {
+        break;
+      }
+      cursor.moveToRightSibling();
+      currentPosition++;
+    }
+
+    // Concurrent transactions might have recorded more skip entries in the meantime.
+    skipEntries.merge(revision, nodeKey, newEntries, (current, recorded) -> recorded.length > current.length
+        ? recorded
+        : current);
+
+    return true;
+  }
+}
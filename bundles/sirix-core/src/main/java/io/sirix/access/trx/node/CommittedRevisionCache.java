@@ -0,0 +1,83 @@
+package io.sirix.access.trx.node;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounded cache of values derived from a node (or a path node) of a committed revision, which is
+ * shared by the read-only transactions of a resource session. Committed revisions don't change,
+ * thus entries are keyed by the revision and the node key and are only evicted by weight.
+ *
+ * @param <V> the type of the cached values
+ * @author Johannes Lichtenberger
+ */
+public final class CommittedRevisionCache<V> {
+
+  private record Key(int revision, long nodeKey) {
+  }
+
+  private final Cache<Key, V> cache;
+
+  /**
+   * Constructor.
+   *
+   * @param maximumWeight the maximum weight of all entries
+   * @param weigher       determines the weight of a value, which is at least {@code 1}
+   */
+  public CommittedRevisionCache(final long maximumWeight, final ToIntFunction<V> weigher) {
+    checkArgument(maximumWeight > 0, "The maximum weight must be positive.");
+    requireNonNull(weigher);
+    cache = Caffeine.newBuilder()
+                    .maximumWeight(maximumWeight)
+                    .weigher((Key key, V value) -> Math.max(1, weigher.applyAsInt(value)))
+                    .build();
+  }
+
+  /**
+   * Get a cached value.
+   *
+   * @param revision the revision
+   * @param nodeKey  the node key
+   * @return the value or {@code null}, if it isn't cached
+   */
+  public @Nullable V getIfPresent(final @NonNegative int revision, final long nodeKey) {
+    return cache.getIfPresent(new Key(revision, nodeKey));
+  }
+
+  /**
+   * Get a value, which is loaded, if it isn't cached, yet.
+   *
+   * @param revision the revision
+   * @param nodeKey  the node key
+   * @param loader   loads the value
+   * @return the value
+   */
+  public V get(final @NonNegative int revision, final long nodeKey, final Supplier<V> loader) {
+    requireNonNull(loader);
+    return cache.get(new Key(revision, nodeKey), unused -> loader.get());
+  }
+
+  /**
+   * Put a value, which is merged with a value cached concurrently.
+   *
+   * @param revision the revision
+   * @param nodeKey  the node key
+   * @param value    the value
+   * @param merger   merges the cached and the new value
+   */
+  public void merge(final @NonNegative int revision, final long nodeKey, final V value,
+      final BinaryOperator<V> merger) {
+    requireNonNull(value);
+    requireNonNull(merger);
+    cache.asMap().merge(new Key(revision, nodeKey), value, merger);
+  }
+}
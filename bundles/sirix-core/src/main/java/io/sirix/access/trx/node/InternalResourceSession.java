@@ -47,4 +47,18 @@ public interface InternalResourceSession<R extends NodeReadOnlyTrx & NodeCursor,
   void closePageReadTransaction(Long trxId);
 
   void closePageWriteTransaction(Long transactionID);
+
+  /**
+   * Get the index of the metadata of the revisions, which is maintained at commit time.
+   *
+   * @return the revision metadata index
+   */
+  RevisionMetadataIndex getRevisionMetadataIndex();
+
+  /**
+   * Get the positional index of the children of large nodes of committed revisions.
+   *
+   * @return the child position index
+   */
+  ChildPositionIndex getChildPositionIndex();
 }
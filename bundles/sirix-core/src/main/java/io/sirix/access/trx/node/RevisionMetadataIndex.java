@@ -0,0 +1,220 @@
+package io.sirix.access.trx.node;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.access.User;
+import io.sirix.api.RevisionInfo;
+import io.sirix.exception.SirixIOException;
+import io.sirix.io.IndexedRecordLog;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Append-only index of the metadata of the revisions of a resource (timestamp, author and commit
+ * message), which is maintained at commit time. It serves history queries and timestamp lookups
+ * without reading any revision root page or data page.
+ *
+ * <p>It's an {@link IndexedRecordLog} in the {@link ResourceConfiguration.ResourcePaths#DATA} folder:
+ * the entries (revision, timestamp and the position of the metadata record) are held in memory, the
+ * records (author and commit message) are read on demand. If a revision has been committed more than
+ * once (as the first commit has been truncated during recovery), the last entry wins.</p>
+ *
+ * <p>Revisions without an entry (for instance revisions of resources, which have been created
+ * before the index has been introduced) are simply not contained, so callers fall back to the
+ * revision root pages.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionMetadataIndex implements AutoCloseable {
+
+  /**
+   * The name of the file, which stores the entries.
+   */
+  static final String INDEX_FILENAME = "sirix.revisions.meta.idx";
+
+  /**
+   * The name of the file, which stores the records.
+   */
+  static final String RECORDS_FILENAME = "sirix.revisions.meta";
+
+  /**
+   * Size of the header of an entry: the revision and the timestamp.
+   */
+  private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+
+  private final IndexedRecordLog log;
+
+  /**
+   * The entries read so far.
+   */
+  private ByteBuffer entries = ByteBuffer.allocate(0);
+
+  /**
+   * The position of the entry of each revision or {@code -1}, if the revision has no entry.
+   */
+  private int[] positionsByRevision = new int[0];
+
+  /**
+   * Lazily opened channel to read the records.
+   */
+  private FileChannel records;
+
+  /**
+   * Constructor.
+   *
+   * @param dataDirectory the folder, which stores the data of a resource
+   */
+  public RevisionMetadataIndex(final Path dataDirectory) {
+    requireNonNull(dataDirectory);
+    log = new IndexedRecordLog(dataDirectory.resolve(RECORDS_FILENAME), dataDirectory.resolve(INDEX_FILENAME),
+                               HEADER_SIZE);
+  }
+
+  /**
+   * Get the revision metadata index of a resource.
+   *
+   * @param resourceConfig the configuration of the resource
+   * @return the revision metadata index
+   */
+  public static RevisionMetadataIndex of(final ResourceConfiguration resourceConfig) {
+    return new RevisionMetadataIndex(resourceConfig.getResource()
+                                                   .resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()));
+  }
+
+  /**
+   * Append the metadata of a committed revision.
+   *
+   * @param revision      the revision number
+   * @param timestamp     the timestamp of the revision in milliseconds since the epoch
+   * @param user          the author of the revision or {@code null}
+   * @param commitMessage the commit message or {@code null}
+   * @throws SirixIOException if the index can't be written
+   */
+  public void append(final int revision, final long timestamp, final @Nullable User user,
+      final @Nullable String commitMessage) {
+    checkArgument(revision >= 0, "The revision must not be negative.");
+
+    final byte[] userName = user == null ? new byte[0] : user.getName().getBytes(StandardCharsets.UTF_8);
+    final byte[] message = commitMessage == null ? new byte[0] : commitMessage.getBytes(StandardCharsets.UTF_8);
+
+    final ByteBuffer record = ByteBuffer.allocate(1 + 2 * Long.BYTES + 2 * Integer.BYTES + userName.length + 1
+                                                      + message.length);
+    record.put((byte) (user == null ? 0 : 1))
+          .putLong(user == null ? 0 : user.getId().getMostSignificantBits())
+          .putLong(user == null ? 0 : user.getId().getLeastSignificantBits())
+          .putInt(userName.length)
+          .put(userName)
+          .put((byte) (commitMessage == null ? 0 : 1))
+          .putInt(message.length)
+          .put(message)
+          .flip();
+
+    log.append(ByteBuffer.allocate(HEADER_SIZE).putInt(revision).putLong(timestamp).flip(), record);
+  }
+
+  /**
+   * Get the timestamp of a revision.
+   *
+   * @param revision the revision number
+   * @return the timestamp or {@code null}, if the index doesn't contain the revision
+   * @throws SirixIOException if the index can't be read
+   */
+  public synchronized @Nullable Instant getRevisionTimestamp(final int revision) {
+    final int position = getPosition(revision);
+    return position == -1 ? null : Instant.ofEpochMilli(entries.getLong(position + Integer.BYTES));
+  }
+
+  /**
+   * Get the metadata of a revision.
+   *
+   * @param revision the revision number
+   * @return the metadata or {@code null}, if the index doesn't contain the revision
+   * @throws SirixIOException if the index can't be read
+   */
+  public synchronized @Nullable RevisionInfo getRevisionInfo(final int revision) {
+    final int position = getPosition(revision);
+    if (position == -1) {
+      return null;
+    }
+
+    final long timestamp = entries.getLong(position + Integer.BYTES);
+
+    try {
+      if (records == null) {
+        records = log.openRecords();
+      }
+
+      final ByteBuffer record = log.readRecord(records, entries, position);
+
+      final boolean hasUser = record.get() != 0;
+      final UUID userId = new UUID(record.getLong(), record.getLong());
+      final String userName = readString(record);
+      final boolean hasCommitMessage = record.get() != 0;
+      final String commitMessage = readString(record);
+
+      return new RevisionInfo(hasUser ? new User(userName, userId) : null,
+                              revision,
+                              Instant.ofEpochMilli(timestamp),
+                              hasCommitMessage ? commitMessage : null);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static String readString(final ByteBuffer record) {
+    final byte[] bytes = new byte[record.getInt()];
+    record.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private int getPosition(final int revision) {
+    if (revision < 0) {
+      return -1;
+    }
+    if (revision >= positionsByRevision.length || positionsByRevision[revision] == -1) {
+      readNewEntries();
+    }
+    return revision < positionsByRevision.length ? positionsByRevision[revision] : -1;
+  }
+
+  /**
+   * Read the entries, which have been appended since the index has been read the last time.
+   */
+  private void readNewEntries() {
+    final int oldLimit = entries.limit();
+    entries = log.readEntries(entries);
+
+    for (int position = oldLimit; position < entries.limit(); position += log.getEntrySize()) {
+      final int revision = entries.getInt(position);
+      if (revision >= positionsByRevision.length) {
+        final int oldLength = positionsByRevision.length;
+        positionsByRevision = Arrays.copyOf(positionsByRevision, Math.max(revision + 1, oldLength * 2));
+        Arrays.fill(positionsByRevision, oldLength, positionsByRevision.length, -1);
+      }
+      positionsByRevision[revision] = position;
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (records != null) {
+      try {
+        records.close();
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      } finally {
+        records = null;
+      }
+    }
+  }
+}
@@ -6,11 +6,13 @@ import io.sirix.access.trx.node.CommitCredentials;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.json.JsonResourceSession;
+import io.sirix.api.json.NumberColumn;
 import io.sirix.api.visitor.JsonNodeVisitor;
 import io.sirix.api.visitor.VisitResult;
 import io.sirix.node.NodeKind;
 import io.sirix.node.SirixDeweyID;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
+import io.sirix.node.json.NumberType;
 import io.brackit.query.atomic.QNm;
 
 import java.time.Instant;
@@ -66,6 +68,26 @@ public interface ForwardingJsonNodeReadOnlyTrx extends JsonNodeReadOnlyTrx {
     return nodeReadOnlyTrxDelegate().getNumberValue();
   }
 
+  @Override
+  default NumberColumn getNumberColumn(final long pathNodeKey) {
+    return nodeReadOnlyTrxDelegate().getNumberColumn(pathNodeKey);
+  }
+
+  @Override
+  default NumberType getNumberType() {
+    return nodeReadOnlyTrxDelegate().getNumberType();
+  }
+
+  @Override
+  default long getLongValue() {
+    return nodeReadOnlyTrxDelegate().getLongValue();
+  }
+
+  @Override
+  default double getDoubleValue() {
+    return nodeReadOnlyTrxDelegate().getDoubleValue();
+  }
+
   @Override
   default CommitCredentials getCommitCredentials() {
     return nodeReadOnlyTrxDelegate().getCommitCredentials();
@@ -346,6 +368,16 @@ public interface ForwardingJsonNodeReadOnlyTrx extends JsonNodeReadOnlyTrx {
     return nodeReadOnlyTrxDelegate().moveToRightSibling();
   }
 
+  @Override
+  default boolean moveToChildAtPosition(long position) {
+    return nodeReadOnlyTrxDelegate().moveToChildAtPosition(position);
+  }
+
+  @Override
+  default boolean moveToField(String name) {
+    return nodeReadOnlyTrxDelegate().moveToField(name);
+  }
+
   @Override
   default int getPreviousRevisionNumber() {
     return nodeReadOnlyTrxDelegate().getPreviousRevisionNumber();
@@ -1,14 +1,19 @@
 package io.sirix.access.trx.node.json;
 
+import io.sirix.access.DatabaseType;
 import io.sirix.access.trx.node.AbstractIndexController;
 import io.sirix.api.PageTrx;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.api.visitor.JsonNodeVisitor;
+import io.sirix.index.ChangeListener;
 import io.sirix.index.IndexBuilder;
 import io.sirix.index.IndexDef;
 import io.sirix.index.Indexes;
 import io.sirix.index.cas.json.JsonCASIndexImpl;
+import io.sirix.index.column.NumberColumnIndexWriter;
+import io.sirix.index.column.json.JsonNumberColumnIndexBuilder;
+import io.sirix.index.column.json.JsonNumberColumnIndexListener;
 import io.sirix.index.name.json.JsonNameIndexImpl;
 import io.sirix.index.path.PathFilter;
 import io.sirix.index.path.json.JsonPCRCollector;
@@ -72,11 +77,31 @@ public final class JsonIndexController extends AbstractIndexController<JsonNodeR
                                                             nodeWriteTrx.getPathSummary(),
                                                             indexDef));
         case NAME -> indexBuilders.add(createNameIndexBuilder(nodeWriteTrx.getPageWtx(), indexDef));
+        case NUMBER_COLUMN -> indexBuilders.add(createNumberColumnIndexBuilder(nodeWriteTrx, indexDef));
       }
     }
     return indexBuilders;
   }
 
+  @Override
+  protected ChangeListener createNumberColumnIndexListener(final JsonNodeTrx nodeWriteTrx, final IndexDef indexDef) {
+    return new JsonNumberColumnIndexListener(createNumberColumnIndexWriter(nodeWriteTrx.getPageWtx(), indexDef),
+                                             nodeWriteTrx.getPathSummary(),
+                                             indexDef.getPaths());
+  }
+
+  private JsonNodeVisitor createNumberColumnIndexBuilder(final JsonNodeTrx nodeWriteTrx, final IndexDef indexDef) {
+    return new JsonNumberColumnIndexBuilder(createNumberColumnIndexWriter(nodeWriteTrx.getPageWtx(), indexDef),
+                                            nodeWriteTrx,
+                                            nodeWriteTrx.getPathSummary(),
+                                            indexDef.getPaths());
+  }
+
+  private static NumberColumnIndexWriter createNumberColumnIndexWriter(final PageTrx pageWriteTrx,
+      final IndexDef indexDef) {
+    return new NumberColumnIndexWriter(DatabaseType.JSON, pageWriteTrx, indexDef.getID());
+  }
+
   @Override
   public PathFilter createPathFilter(final Set<String> queryString, final JsonNodeReadOnlyTrx rtx)
       throws PathException {
@@ -6,6 +6,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import io.sirix.access.ResourceConfiguration;
 import io.sirix.access.trx.node.AbstractNodeReadOnlyTrx;
+import io.sirix.access.trx.node.ChildPositionIndex;
 import io.sirix.access.trx.node.InternalResourceSession;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
@@ -13,12 +14,19 @@ import io.sirix.api.ResourceSession;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.api.json.JsonResourceSession;
+import io.sirix.api.json.NumberColumn;
 import io.sirix.api.visitor.JsonNodeVisitor;
 import io.sirix.api.visitor.VisitResult;
 import io.sirix.diff.JsonDiffSerializer;
+import io.sirix.exception.SirixIOException;
+import io.sirix.index.IndexDef;
+import io.sirix.index.Indexes;
+import io.sirix.index.column.NumberColumnIndexReader;
+import io.sirix.index.path.summary.PathSummaryReader;
 import io.sirix.node.NodeKind;
 import io.sirix.node.SirixDeweyID;
 import io.sirix.node.immutable.json.*;
+import io.sirix.node.interfaces.StructNode;
 import io.sirix.node.interfaces.ValueNode;
 import io.sirix.node.interfaces.immutable.ImmutableJsonNode;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
@@ -26,11 +34,10 @@ import io.sirix.node.json.*;
 import io.sirix.service.xml.xpath.ItemListImpl;
 import io.sirix.settings.Constants;
 import io.brackit.query.atomic.QNm;
+import io.brackit.query.util.path.PathException;
 import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -57,6 +64,27 @@ public final class JsonNodeReadOnlyTrxImpl
     super(trxId, pageReadTransaction, documentNode, resourceManager, new ItemListImpl());
   }
 
+  /**
+   * Constructor.
+   *
+   * @param resourceManager     the current {@link ResourceSession} the reader is bound to
+   * @param trxId               ID of the reader
+   * @param pageReadTransaction {@link PageReadOnlyTrx} to interact with the page layer
+   * @param documentNode        the document node
+   * @param resourceConfig      the resource configuration, which determines the layout of the
+   *                            serialized nodes, which are navigated through {@link JsonNodeView}s
+   */
+  JsonNodeReadOnlyTrxImpl(final InternalResourceSession<JsonNodeReadOnlyTrx, JsonNodeTrx> resourceManager,
+      final @NonNegative long trxId, final PageReadOnlyTrx pageReadTransaction, final ImmutableJsonNode documentNode,
+      final ResourceConfiguration resourceConfig) {
+    super(trxId,
+          pageReadTransaction,
+          documentNode,
+          resourceManager,
+          new ItemListImpl(),
+          () -> new JsonNodeView(resourceConfig));
+  }
+
   private final String INSERT = InsertOperations.INSERT.getName();
   private final String UPDATE = InsertOperations.UPDATE.getName();
   private final String DELETE = InsertOperations.DELETE.getName();
@@ -65,39 +93,114 @@ public final class JsonNodeReadOnlyTrxImpl
   @Override
   public boolean hasLastChild() {
     assertNotClosed();
-    return getStructuralNode().hasLastChild();
+    return getStructuralNodeOrView().hasLastChild();
   }
 
   @Override
   public boolean moveToLastChild() {
     assertNotClosed();
-    if (getStructuralNode().hasLastChild()) {
-      moveTo(getStructuralNode().getLastChildKey());
+    final StructNode node = getStructuralNodeOrView();
+    if (node.hasLastChild()) {
+      moveTo(node.getLastChildKey());
       return true;
     }
     return false;
   }
 
+  @Override
+  public boolean moveToChildAtPosition(final long position) {
+    assertNotClosed();
+    final long childCount = getChildCount();
+
+    // The nodes of a write transaction change, only the children of committed revisions are indexed.
+    if (pageReadOnlyTrx instanceof PageTrx || position < ChildPositionIndex.MIN_POSITION || position >= childCount) {
+      return InternalJsonNodeReadOnlyTrx.super.moveToChildAtPosition(position);
+    }
+
+    return resourceSession.getChildPositionIndex().moveToChildAtPosition(this, getRevisionNumber(), childCount, position)
+        || InternalJsonNodeReadOnlyTrx.super.moveToChildAtPosition(position);
+  }
+
+  @Override
+  public boolean moveToField(final String name) {
+    assertNotClosed();
+
+    // The nodes of a write transaction change, only the fields of committed revisions are indexed.
+    if (pageReadOnlyTrx instanceof PageTrx || !(resourceSession instanceof JsonResourceSessionImpl session)
+        || !isObject() || getChildCount() < ObjectKeyIndex.MIN_CHILD_COUNT) {
+      return InternalJsonNodeReadOnlyTrx.super.moveToField(name);
+    }
+
+    return session.getObjectKeyIndex().moveToField(this, getRevisionNumber(), name);
+  }
+
+  @Override
+  public NumberColumn getNumberColumn(final long pathNodeKey) {
+    assertNotClosed();
+
+    // The nodes of a write transaction change, only the columns of committed revisions are cached and
+    // read from number column indexes.
+    if (pageReadOnlyTrx instanceof PageTrx || !(resourceSession instanceof JsonResourceSessionImpl session)
+        || !session.getResourceConfig().withPathSummary) {
+      return InternalJsonNodeReadOnlyTrx.super.getNumberColumn(pathNodeKey);
+    }
+
+    final int revisionNumber = getRevisionNumber();
+
+    return session.getNumberColumnIndex().getColumn(revisionNumber, pathNodeKey, () -> {
+      try (final var pathSummary = session.openPathSummary(revisionNumber)) {
+        final IndexDef indexDef =
+            findNumberColumnIndexDef(session.getRtxIndexController(revisionNumber).getIndexes(), pathSummary, pathNodeKey);
+
+        if (indexDef != null) {
+          return NumberColumnIndexReader.getColumn(pageReadOnlyTrx, indexDef.getID(), pathNodeKey);
+        }
+
+        return NumberColumn.collect(this, pathNodeKey, NumberColumn.getPathNodeKeysOnPath(pathSummary, pathNodeKey));
+      }
+    });
+  }
+
+  /**
+   * Find a number column index, which stores the column of a path class.
+   *
+   * @return the index definition or {@code null}, if the column isn't indexed
+   */
+  private static @Nullable IndexDef findNumberColumnIndexDef(final Indexes indexes,
+      final PathSummaryReader pathSummary, final long pathNodeKey) {
+    for (final IndexDef indexDef : indexes.getIndexDefs()) {
+      if (!indexDef.isNumberColumnIndex()) {
+        continue;
+      }
+
+      try {
+        if (indexDef.getPaths().isEmpty() || pathSummary.getPCRsForPaths(indexDef.getPaths()).contains(pathNodeKey)) {
+          return indexDef;
+        }
+      } catch (final PathException e) {
+        throw new SirixIOException(e);
+      }
+    }
+
+    return null;
+  }
+
   @Override
   public List<JsonObject> getUpdateOperations() {
     final var revisionNumber = pageReadOnlyTrx instanceof PageTrx ? getRevisionNumber() - 1 : getRevisionNumber();
-    final var updateOperationsFile = resourceSession.getResourceConfig()
-                                                    .getResource()
-                                                    .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
-                                                    .resolve(
-                                                        "diffFromRev" + (revisionNumber - 1) + "toRev" + revisionNumber
-                                                            + ".json");
+    final var resource = resourceSession.getResourceConfig().getResource();
+    final var databaseName = resource.getParent().getParent().getFileName().toString();
+    final var updateOperations =
+        JsonDiffSerializer.serializeUpdateOperations(databaseName, getResourceSession(), revisionNumber);
 
     final var diffTuples = new ArrayList<JsonObject>();
 
-    try {
-      final var jsonElement = JsonParser.parseString(Files.readString(updateOperationsFile));
+    if (updateOperations != null) {
+      final var jsonElement = JsonParser.parseString(updateOperations);
       final var jsonObject = jsonElement.getAsJsonObject();
       final var diffs = jsonObject.getAsJsonArray("diffs");
 
       diffs.forEach(serializeJsonFragmentIfNeeded(diffTuples));
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
     }
 
     return diffTuples;
@@ -206,8 +309,8 @@ public final class JsonNodeReadOnlyTrxImpl
       case OBJECT_BOOLEAN_VALUE -> String.valueOf(((ObjectBooleanNode) currentNode).getValue());
       case BOOLEAN_VALUE -> String.valueOf(((BooleanNode) currentNode).getValue());
       case OBJECT_NULL_VALUE, NULL_VALUE -> "null";
-      case OBJECT_NUMBER_VALUE -> String.valueOf(((ObjectNumberNode) currentNode).getValue());
-      case NUMBER_VALUE -> String.valueOf(((NumberNode) currentNode).getValue());
+      case OBJECT_NUMBER_VALUE -> ((ObjectNumberNode) currentNode).getValueAsString();
+      case NUMBER_VALUE -> ((NumberNode) currentNode).getValueAsString();
       default -> "";
     };
   }
@@ -216,7 +319,10 @@ public final class JsonNodeReadOnlyTrxImpl
   public boolean getBooleanValue() {
     assertNotClosed();
 
-    final var currentNode = getCurrentNode();
+    final var currentNode = getCurrentNodeOrView();
+    if (currentNode instanceof JsonNodeView view
+        && (view.getKind() == NodeKind.BOOLEAN_VALUE || view.getKind() == NodeKind.OBJECT_BOOLEAN_VALUE))
+      return view.getBooleanValue();
     if (currentNode.getKind() == NodeKind.BOOLEAN_VALUE)
       return ((BooleanNode) currentNode).getValue();
     else if (currentNode.getKind() == NodeKind.OBJECT_BOOLEAN_VALUE)
@@ -235,6 +341,39 @@ public final class JsonNodeReadOnlyTrxImpl
     throw new IllegalStateException("Current node is no number node.");
   }
 
+  @Override
+  public NumberType getNumberType() {
+    assertNotClosed();
+    final var currentNode = getCurrentNodeOrView();
+    if (currentNode instanceof JsonNodeView view && view.getNumberType() != null)
+      return view.getNumberType();
+    return getNumberNode().getNumberType();
+  }
+
+  @Override
+  public long getLongValue() {
+    assertNotClosed();
+    final var currentNode = getCurrentNodeOrView();
+    if (currentNode instanceof JsonNodeView view && view.getNumberType() != null)
+      return view.getLongValue();
+    return getNumberNode().getLongValue();
+  }
+
+  @Override
+  public double getDoubleValue() {
+    assertNotClosed();
+    final var currentNode = getCurrentNodeOrView();
+    if (currentNode instanceof JsonNodeView view && view.getNumberType() != null)
+      return view.getDoubleValue();
+    return getNumberNode().getDoubleValue();
+  }
+
+  private AbstractNumberNode getNumberNode() {
+    if (getCurrentNode() instanceof AbstractNumberNode numberNode)
+      return numberNode;
+    throw new IllegalStateException("Current node is no number node.");
+  }
+
   @Override
   public JsonResourceSession getResourceSession() {
     assertNotClosed();
@@ -267,61 +406,69 @@ public final class JsonNodeReadOnlyTrxImpl
   @Override
   public boolean isArray() {
     assertNotClosed();
-    return getCurrentNode().getKind() == NodeKind.ARRAY;
+    return getKind() == NodeKind.ARRAY;
   }
 
   @Override
   public boolean isObject() {
     assertNotClosed();
-    return getCurrentNode().getKind() == NodeKind.OBJECT;
+    return getKind() == NodeKind.OBJECT;
   }
 
   @Override
   public boolean isObjectKey() {
     assertNotClosed();
-    return getCurrentNode().getKind() == NodeKind.OBJECT_KEY;
+    return getKind() == NodeKind.OBJECT_KEY;
   }
 
   @Override
   public boolean isNumberValue() {
     assertNotClosed();
-    final var currentNode = getCurrentNode();
-    return currentNode.getKind() == NodeKind.NUMBER_VALUE || currentNode.getKind() == NodeKind.OBJECT_NUMBER_VALUE;
+    final NodeKind kind = getKind();
+    return kind == NodeKind.NUMBER_VALUE || kind == NodeKind.OBJECT_NUMBER_VALUE;
   }
 
   @Override
   public boolean isNullValue() {
     assertNotClosed();
-    final var currentNode = getCurrentNode();
-    return currentNode.getKind() == NodeKind.NULL_VALUE || currentNode.getKind() == NodeKind.OBJECT_NULL_VALUE;
+    final NodeKind kind = getKind();
+    return kind == NodeKind.NULL_VALUE || kind == NodeKind.OBJECT_NULL_VALUE;
   }
 
   @Override
   public boolean isStringValue() {
     assertNotClosed();
-    final var currentNode = getCurrentNode();
-    return currentNode.getKind() == NodeKind.STRING_VALUE || currentNode.getKind() == NodeKind.OBJECT_STRING_VALUE;
+    final NodeKind kind = getKind();
+    return kind == NodeKind.STRING_VALUE || kind == NodeKind.OBJECT_STRING_VALUE;
   }
 
   @Override
   public boolean isBooleanValue() {
     assertNotClosed();
-    final var currentNode = getCurrentNode();
-    return currentNode.getKind() == NodeKind.BOOLEAN_VALUE || currentNode.getKind() == NodeKind.OBJECT_BOOLEAN_VALUE;
+    final NodeKind kind = getKind();
+    return kind == NodeKind.BOOLEAN_VALUE || kind == NodeKind.OBJECT_BOOLEAN_VALUE;
   }
 
   @Override
   public boolean isDocumentRoot() {
     assertNotClosed();
-    final var currentNode = getCurrentNode();
-    return currentNode.getKind() == NodeKind.JSON_DOCUMENT;
+    return getKind() == NodeKind.JSON_DOCUMENT;
   }
 
   @Override
   public QNm getName() {
     assertNotClosed();
 
-    final var currentNode = getCurrentNode();
+    final var currentNode = getCurrentNodeOrView();
+    if (currentNode instanceof JsonNodeView view) {
+      // Look up the name without deserializing the node.
+      if (view.getKind() != NodeKind.OBJECT_KEY) {
+        return null;
+      }
+      final int nameKey = view.getNameKey();
+      return new QNm(nameKey == -1 ? "" : pageReadOnlyTrx.getName(nameKey, NodeKind.OBJECT_KEY));
+    }
+
     if (currentNode.getKind() == NodeKind.OBJECT_KEY) {
       final var currentObjectKeyNode = (ObjectKeyNode) currentNode;
       if (currentObjectKeyNode.getName() != null) {
@@ -346,7 +493,10 @@ public final class JsonNodeReadOnlyTrxImpl
   @Override
   public int getNameKey() {
     assertNotClosed();
-    final var currentNode = getCurrentNode();
+    final var currentNode = getCurrentNodeOrView();
+    if (currentNode instanceof JsonNodeView view) {
+      return view.getNameKey();
+    }
     if (currentNode.getKind() == NodeKind.OBJECT_KEY) {
       return ((ObjectKeyNode) currentNode).getNameKey();
     }
@@ -25,7 +25,6 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import io.brackit.query.atomic.QNm;
 import io.brackit.query.jdm.Item;
-import io.sirix.access.ResourceConfiguration;
 import io.sirix.access.trx.node.*;
 import io.sirix.access.trx.node.json.objectvalue.ObjectRecordValue;
 import io.sirix.api.PageTrx;
@@ -33,10 +32,10 @@ import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.api.json.JsonResourceSession;
 import io.sirix.axis.PostOrderAxis;
+import io.sirix.diff.ChangeLog;
 import io.sirix.diff.DiffDepth;
 import io.sirix.diff.DiffFactory;
 import io.sirix.diff.DiffTuple;
-import io.sirix.diff.JsonDiffSerializer;
 import io.sirix.exception.SirixException;
 import io.sirix.exception.SirixIOException;
 import io.sirix.exception.SirixUsageException;
@@ -67,14 +66,11 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.Duration;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
 
-import static java.nio.file.StandardOpenOption.CREATE;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -2170,18 +2166,18 @@ final class JsonNodeTrxImpl extends
 
       moveToParent();
 
-      final var node = getNode();
+      final var parentNode = getNode();
 
-      if (node.getKind() == NodeKind.ARRAY) {
-        pathNodeKey = ((ImmutableArrayNode) node).getPathNodeKey();
-      } else if (node.getKind() == NodeKind.OBJECT_KEY) {
-        pathNodeKey = ((ImmutableObjectKeyNode) node).getPathNodeKey();
+      if (parentNode.getKind() == NodeKind.ARRAY) {
+        pathNodeKey = ((ImmutableArrayNode) parentNode).getPathNodeKey();
+      } else if (parentNode.getKind() == NodeKind.OBJECT_KEY) {
+        pathNodeKey = ((ImmutableObjectKeyNode) parentNode).getPathNodeKey();
       } else {
         pathNodeKey = -1;
       }
 
       moveTo(nodeKey);
-      indexController.notifyChange(IndexController.ChangeType.DELETE, node, pathNodeKey);
+      indexController.notifyChange(IndexController.ChangeType.DELETE, currentNode, pathNodeKey);
     }
   }
 
@@ -2534,27 +2530,12 @@ final class JsonNodeTrxImpl extends
   @Override
   protected void serializeUpdateDiffs(final int revisionNumber) {
     if (!nodeHashing.isBulkInsert() && revisionNumber - 1 > 0) {
-      final var diffSerializer = new JsonDiffSerializer(this.databaseName,
-                                                        (JsonResourceSession) resourceSession,
-                                                        beforeBulkInsertionRevisionNumber != 0 && isAutoCommitting
-                                                            ? beforeBulkInsertionRevisionNumber
-                                                            : revisionNumber - 1,
-                                                        revisionNumber,
-                                                        storeDeweyIDs()
-                                                            ? updateOperationsOrdered.values()
-                                                            : updateOperationsUnordered.values());
-      final var jsonDiff = diffSerializer.serialize(false);
-
-      final Path diff = resourceSession.getResourceConfig()
-                                       .getResource()
-                                       .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
-                                       .resolve(
-                                           "diffFromRev" + (revisionNumber - 1) + "toRev" + revisionNumber + ".json");
-      try {
-        Files.writeString(diff, jsonDiff, CREATE);
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      ChangeLog.of(resourceSession.getResourceConfig())
+               .append(beforeBulkInsertionRevisionNumber != 0 && isAutoCommitting
+                           ? beforeBulkInsertionRevisionNumber
+                           : revisionNumber - 1,
+                       revisionNumber,
+                       storeDeweyIDs() ? updateOperationsOrdered.values() : updateOperationsUnordered.values());
 
       if (storeDeweyIDs()) {
         updateOperationsOrdered.clear();
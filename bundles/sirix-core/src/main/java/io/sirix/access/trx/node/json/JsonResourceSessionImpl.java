@@ -36,6 +36,7 @@ import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.api.json.JsonResourceSession;
 import io.sirix.cache.BufferManager;
 import io.sirix.dagger.DatabaseName;
+import io.sirix.node.NodeSerializerImpl;
 import io.sirix.node.interfaces.Node;
 import io.sirix.node.interfaces.immutable.ImmutableJsonNode;
 import io.sirix.page.UberPage;
@@ -71,6 +72,16 @@ public final class JsonResourceSessionImpl extends AbstractResourceSession<JsonN
    */
   private final String databaseName;
 
+  /**
+   * The object keys of wide objects of committed revisions.
+   */
+  private final ObjectKeyIndex objectKeyIndex;
+
+  /**
+   * The columnar projections of the number values of path classes of committed revisions.
+   */
+  private final NumberColumnIndex numberColumnIndex;
+
   /**
    * Constructor.
    *
@@ -94,11 +105,38 @@ public final class JsonResourceSessionImpl extends AbstractResourceSession<JsonN
     this.databaseName = databaseName;
     rtxIndexControllers = new ConcurrentHashMap<>();
     wtxIndexControllers = new ConcurrentHashMap<>();
+    objectKeyIndex = new ObjectKeyIndex();
+    numberColumnIndex = new NumberColumnIndex();
+  }
+
+  /**
+   * Get the hashed index of the object keys of wide objects of committed revisions.
+   *
+   * @return the object key index
+   */
+  ObjectKeyIndex getObjectKeyIndex() {
+    return objectKeyIndex;
+  }
+
+  /**
+   * Get the columnar projections of the number values of path classes of committed revisions.
+   *
+   * @return the number column index
+   */
+  NumberColumnIndex getNumberColumnIndex() {
+    return numberColumnIndex;
   }
 
   @Override
   public InternalJsonNodeReadOnlyTrx createNodeReadOnlyTrx(long nodeTrxId, PageReadOnlyTrx pageReadTrx,
       Node documentNode) {
+    final ResourceConfiguration resourceConfig = getResourceConfig();
+    // Navigate read-only transactions through views of the serialized nodes. Nodes of write transactions are
+    // modified in place, thus they are always deserialized.
+    if (!(pageReadTrx instanceof PageTrx) && resourceConfig.recordPersister instanceof NodeSerializerImpl) {
+      return new JsonNodeReadOnlyTrxImpl(this, nodeTrxId, pageReadTrx, (ImmutableJsonNode) documentNode,
+                                         resourceConfig);
+    }
     return new JsonNodeReadOnlyTrxImpl(this, nodeTrxId, pageReadTrx, (ImmutableJsonNode) documentNode);
   }
 
@@ -140,13 +178,13 @@ public final class JsonResourceSessionImpl extends AbstractResourceSession<JsonN
 
   @SuppressWarnings("unchecked")
   @Override
-  public synchronized JsonIndexController getRtxIndexController(final int revision) {
+  public JsonIndexController getRtxIndexController(final int revision) {
     return rtxIndexControllers.computeIfAbsent(revision, unused -> createIndexController(revision));
   }
 
   @SuppressWarnings("unchecked")
   @Override
-  public synchronized JsonIndexController getWtxIndexController(final int revision) {
+  public JsonIndexController getWtxIndexController(final int revision) {
     return wtxIndexControllers.computeIfAbsent(revision, unused -> createIndexController(revision));
   }
 
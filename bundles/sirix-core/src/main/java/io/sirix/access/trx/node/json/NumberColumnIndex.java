@@ -0,0 +1,49 @@
+package io.sirix.access.trx.node.json;
+
+import io.sirix.access.trx.node.CommittedRevisionCache;
+import io.sirix.api.json.NumberColumn;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.util.function.Supplier;
+
+/**
+ * Cache of the columnar projections of the number values of path classes (PCRs) of committed
+ * revisions.
+ *
+ * <p>The column of a path class is read on the first access in a revision, either from a number
+ * column index, which stores the column, or with a single pass over the nodes on the paths to the
+ * path class. Aggregations over a path class usually read all of its values, so the column is read
+ * as a whole, and repeated aggregations in the same revision read the compact column instead of
+ * the record or the nodes.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class NumberColumnIndex {
+
+  /**
+   * The maximum number of cached values (16 bytes each including the node key).
+   */
+  private static final long MAX_VALUES = 8_388_608;
+
+  private final CommittedRevisionCache<NumberColumn> columns;
+
+  /**
+   * Constructor.
+   */
+  NumberColumnIndex() {
+    columns = new CommittedRevisionCache<>(MAX_VALUES, NumberColumn::size);
+  }
+
+  /**
+   * Get the column of a path class.
+   *
+   * @param revision    the revision
+   * @param pathNodeKey the path node key (PCR)
+   * @param loader      reads the column, if it's not cached, yet
+   * @return the column
+   */
+  NumberColumn getColumn(final @NonNegative int revision, final long pathNodeKey,
+      final Supplier<NumberColumn> loader) {
+    return columns.get(revision, pathNodeKey, loader);
+  }
+}
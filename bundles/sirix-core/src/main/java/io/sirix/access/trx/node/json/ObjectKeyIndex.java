@@ -0,0 +1,115 @@
+package io.sirix.access.trx.node.json;
+
+import io.sirix.access.trx.node.CommittedRevisionCache;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+/**
+ * Hashed index of the object keys of wide JSON objects of committed revisions, which maps the name
+ * of a field to the node key of its (first) object key node.
+ *
+ * <p>A lookup, which misses the index, scans the object key nodes as without the index and stops
+ * at the field. The scan doesn't start at the first field, though, but after the last field scanned
+ * by a previous lookup, and the scanned fields are added to the index. Thus each field of an object
+ * is read and hashed at most once per revision, and no lookup scans more fields than without the
+ * index. Inserted, renamed and removed fields simply show up in the index of the next revision.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class ObjectKeyIndex {
+
+  /**
+   * The minimum number of fields of an object, for which the object keys are indexed.
+   */
+  static final int MIN_CHILD_COUNT = 64;
+
+  /**
+   * The maximum number of indexed fields.
+   */
+  private static final long MAX_FIELDS = 1_048_576;
+
+  /**
+   * The fields of an object scanned so far.
+   */
+  private static final class Fields {
+    /**
+     * The number of fields of the object.
+     */
+    private final int size;
+
+    private final Object2LongOpenHashMap<String> objectKeys;
+
+    /**
+     * The node key of the last scanned object key node, {@code -1}, if no field has been scanned.
+     */
+    private long lastObjectKey = -1;
+
+    /**
+     * Determines if all fields have been scanned.
+     */
+    private boolean isComplete;
+
+    Fields(final int size) {
+      this.size = size;
+      objectKeys = new Object2LongOpenHashMap<>(size);
+      objectKeys.defaultReturnValue(-1);
+    }
+  }
+
+  private final CommittedRevisionCache<Fields> fields;
+
+  /**
+   * Constructor.
+   */
+  ObjectKeyIndex() {
+    fields = new CommittedRevisionCache<>(MAX_FIELDS, objectFields -> objectFields.size);
+  }
+
+  /**
+   * Move from the object node, the transaction is located at, to the object key node of the field
+   * with the given name. The transaction doesn't move, if the object has no such field.
+   *
+   * @param rtx      the transaction, located at the object node
+   * @param revision the revision
+   * @param name     the name of the field
+   * @return {@code true}, if the transaction has been moved, {@code false} otherwise
+   */
+  boolean moveToField(final JsonNodeReadOnlyTrx rtx, final @NonNegative int revision, final String name) {
+    final long objectNodeKey = rtx.getNodeKey();
+    final Fields objectFields = fields.get(revision, objectNodeKey, () -> new Fields((int) rtx.getChildCount()));
+
+    synchronized (objectFields) {
+      final long objectKey = objectFields.objectKeys.getLong(name);
+
+      if (objectKey != -1) {
+        return rtx.moveTo(objectKey);
+      }
+
+      if (objectFields.isComplete) {
+        return false;
+      }
+
+      boolean hasField = objectFields.lastObjectKey == -1
+          ? rtx.moveToFirstChild()
+          : rtx.moveTo(objectFields.lastObjectKey) && rtx.moveToRightSibling();
+
+      while (hasField) {
+        final String fieldName = rtx.getName().getLocalName();
+        // Only the first of duplicate fields is found, as by the linear scan.
+        objectFields.objectKeys.putIfAbsent(fieldName, rtx.getNodeKey());
+        objectFields.lastObjectKey = rtx.getNodeKey();
+
+        if (name.equals(fieldName)) {
+          return true;
+        }
+
+        hasField = rtx.moveToRightSibling();
+      }
+
+      objectFields.isComplete = true;
+      rtx.moveTo(objectNodeKey);
+      return false;
+    }
+  }
+}
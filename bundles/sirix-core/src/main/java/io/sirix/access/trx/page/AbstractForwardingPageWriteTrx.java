@@ -10,6 +10,8 @@ import io.sirix.node.interfaces.DataRecord;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Forwards all methods to the delegate.
  *
@@ -65,6 +67,11 @@ public abstract class AbstractForwardingPageWriteTrx extends AbstractForwardingP
     delegate().commit(reference);
   }
 
+  @Override
+  public CompletableFuture<Void> getCommitDurability() {
+    return delegate().getCommitDurability();
+  }
+
   @Override
   protected abstract @NonNull PageTrx delegate();
 }
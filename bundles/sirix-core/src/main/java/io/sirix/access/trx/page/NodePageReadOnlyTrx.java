@@ -37,6 +37,7 @@ import io.sirix.io.Reader;
 import io.sirix.node.DeletedNode;
 import io.sirix.node.NodeKind;
 import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.RecordView;
 import io.sirix.page.*;
 import io.sirix.page.interfaces.KeyValuePage;
 import io.sirix.page.interfaces.Page;
@@ -48,13 +49,16 @@ import net.openhft.chronicle.bytes.Bytes;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
@@ -66,6 +70,8 @@ import static java.util.Objects.requireNonNull;
  */
 public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(NodePageReadOnlyTrx.class);
+
   private record RecordPage(int index, IndexType indexType, long recordPageKey, int revision, Page page) {
   }
 
@@ -136,6 +142,34 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
   private RecordPage pathSummaryRecordPage;
 
+  /**
+   * The state of the revision, which is shared with the other read-only transactions on the
+   * revision ({@code null} for transactions with a transaction intent log).
+   */
+  private final RevisionSnapshot revisionSnapshot;
+
+  /**
+   * The key of the most recently loaded record page of the document index (used to detect
+   * sequential scans).
+   */
+  private long lastLoadedDocumentRecordPageKey = -1;
+
+  /**
+   * The key of the last record page of the document index, which has been scheduled for read-ahead.
+   */
+  private long readAheadUpToRecordPageKey = -1;
+
+  /**
+   * The read-ahead tasks, which might not be finished. They are awaited on {@link #close()}, as they
+   * use the state of this transaction.
+   */
+  private final List<CompletableFuture<Void>> readAheadTasks = new ArrayList<>();
+
+  /**
+   * Determines if read-ahead tasks, which haven't started so far, must skip reading.
+   */
+  private volatile boolean isReadAheadCancelled;
+
   private final Bytes<ByteBuffer> byteBufferForRecords = Bytes.elasticHeapByteBuffer(40);
 
   /**
@@ -155,6 +189,36 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       final UberPage uberPage, final @NonNegative int revision, final Reader reader,
       final BufferManager resourceBufferManager, final @NonNull RevisionRootPageReader revisionRootPageReader,
       final @Nullable TransactionIntentLog trxIntentLog) {
+    this(trxId,
+         resourceSession,
+         uberPage,
+         revision,
+         reader,
+         resourceBufferManager,
+         revisionRootPageReader,
+         trxIntentLog,
+         null);
+  }
+
+  /**
+   * Constructor, which attaches the transaction to the shared state of the revision.
+   *
+   * @param trxId                 the transaction-ID.
+   * @param resourceSession       the resource manager
+   * @param uberPage              {@link UberPage} to start reading from
+   * @param revision              key of revision to read from uber page
+   * @param reader                to read stored pages for this transaction
+   * @param resourceBufferManager caches in-memory reconstructed pages
+   * @param trxIntentLog          the transaction intent log (can be {@code null})
+   * @param revisionSnapshot      the state of the revision shared by the read-only transactions or
+   *                              {@code null}, if it has to be resolved
+   * @throws SirixIOException if reading of the persistent storage fails
+   */
+  public NodePageReadOnlyTrx(final long trxId,
+      final InternalResourceSession<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceSession,
+      final UberPage uberPage, final @NonNegative int revision, final Reader reader,
+      final BufferManager resourceBufferManager, final @NonNull RevisionRootPageReader revisionRootPageReader,
+      final @Nullable TransactionIntentLog trxIntentLog, final @Nullable RevisionSnapshot revisionSnapshot) {
     checkArgument(trxId > 0, "Transaction-ID must be >= 0.");
     this.trxId = trxId;
     this.resourceBufferManager = resourceBufferManager;
@@ -166,8 +230,31 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     this.trxIntentLog = trxIntentLog;
 
     revisionNumber = revision;
-    rootPage = revisionRootPageReader.loadRevisionRootPage(this, revision);
-    namePage = revisionRootPageReader.getNamePage(this, rootPage);
+
+    if (trxIntentLog != null) {
+      rootPage = revisionRootPageReader.loadRevisionRootPage(this, revision);
+      namePage = revisionRootPageReader.getNamePage(this, rootPage);
+      this.revisionSnapshot = null;
+    } else if (revisionSnapshot == null || revisionSnapshot.getRevision() != revision) {
+      rootPage = revisionRootPageReader.loadRevisionRootPage(this, revision);
+      namePage = revisionRootPageReader.getNamePage(this, rootPage);
+      this.revisionSnapshot = new RevisionSnapshot(rootPage, namePage);
+    } else {
+      rootPage = revisionSnapshot.getRevisionRootPage();
+      namePage = revisionSnapshot.getNamePage();
+      this.revisionSnapshot = revisionSnapshot;
+    }
+  }
+
+  /**
+   * Get the state of the revision, which can be shared with other read-only transactions on the
+   * revision.
+   *
+   * @return the revision snapshot or {@code null}, if the transaction has a transaction intent log
+   */
+  @Nullable
+  public RevisionSnapshot getRevisionSnapshot() {
+    return revisionSnapshot;
   }
 
   private Page loadPage(final PageReference reference) {
@@ -250,6 +337,50 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   @Override
   public <V extends DataRecord> V getRecord(final long recordKey, @NonNull final IndexType indexType,
       @NonNegative final int index) {
+    final KeyValueLeafPage page = getLeafPageOfRecord(recordKey, indexType, index);
+
+    if (page == null) {
+      return null;
+    }
+
+    final var dataRecord = getValue(page, recordKey);
+
+    //noinspection unchecked
+    return (V) checkItemIfDeleted(dataRecord);
+  }
+
+  @Override
+  public DataRecord getRecordOrView(final long recordKey, @NonNull final IndexType indexType,
+      @NonNegative final int index, @NonNull final RecordView view) {
+    requireNonNull(view);
+    final KeyValueLeafPage page = getLeafPageOfRecord(recordKey, indexType, index);
+
+    if (page == null) {
+      return null;
+    }
+
+    final var offset = PageReadOnlyTrx.recordPageOffset(recordKey);
+
+    // Records, which have already been deserialized, are simply reused. Otherwise the view decodes
+    // the fields lazily from the slot, if it supports the kind of record.
+    if (page.getRecord(offset) == null) {
+      final MemorySegment offHeapSlot = page.getOffHeapSlot(offset);
+      if (offHeapSlot != null) {
+        if (view.moveTo(recordKey, offHeapSlot)) {
+          return view;
+        }
+      } else {
+        final byte[] data = page.getSlot(offset);
+        if (data != null && view.moveTo(recordKey, data)) {
+          return view;
+        }
+      }
+    }
+
+    return checkItemIfDeleted(getValue(page, recordKey));
+  }
+
+  private KeyValueLeafPage getLeafPageOfRecord(final long recordKey, final IndexType indexType, final int index) {
     requireNonNull(indexType);
     assertNotClosed();
 
@@ -263,18 +394,12 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
     // $CASES-OMITTED$
     final Page page = switch (indexType) {
-      case DOCUMENT, CHANGED_NODES, RECORD_TO_REVISIONS, PATH_SUMMARY, PATH, CAS, NAME -> getRecordPage(indexLogKey);
+      case DOCUMENT, CHANGED_NODES, RECORD_TO_REVISIONS, PATH_SUMMARY, PATH, CAS, NAME, NUMBER_COLUMN ->
+          getRecordPage(indexLogKey);
       default -> throw new IllegalStateException();
     };
 
-    if (page == null) {
-      return null;
-    }
-
-    final var dataRecord = getValue(((KeyValueLeafPage) page), recordKey);
-
-    //noinspection unchecked
-    return (V) checkItemIfDeleted(dataRecord);
+    return (KeyValueLeafPage) page;
   }
 
   @Override
@@ -282,6 +407,11 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     final var offset = PageReadOnlyTrx.recordPageOffset(nodeKey);
     DataRecord record = page.getRecord(offset);
     if (record == null) {
+      // Deserialize directly from off-heap memory, if the page has been restored from the off-heap cache.
+      final MemorySegment offHeapSlot = page.getOffHeapSlot(offset);
+      if (offHeapSlot != null) {
+        return getDataRecord(nodeKey, offset, offHeapSlot, page);
+      }
       byte[] data = page.getSlot(offset);
       if (data != null) {
         record = getDataRecord(nodeKey, offset, data, page);
@@ -304,6 +434,15 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return record;
   }
 
+  private DataRecord getDataRecord(long key, int offset, MemorySegment data, KeyValueLeafPage page) {
+    final var record = resourceConfig.recordPersister.deserialize(Bytes.wrapForRead(data.asByteBuffer()),
+                                                                  key,
+                                                                  page.getDeweyId(offset),
+                                                                  resourceConfig);
+    page.setRecord(record);
+    return record;
+  }
+
   private DataRecord getDataRecord(long key, int offset, byte[] data, KeyValueLeafPage page) {
     byteBufferForRecords.clear();
     BytesUtils.doWrite(byteBufferForRecords, data);
@@ -494,12 +633,65 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     if (recordPageFromBuffer != null) {
       setMostRecentlyReadRecordPage(indexLogKey, recordPageFromBuffer);
       pageReferenceToRecordPage.setPage(recordPageFromBuffer);
+      readAhead(indexLogKey);
       return recordPageFromBuffer;
     }
 
     return null;
   }
 
+  /**
+   * Asynchronously load and combine the next record pages of the document index into the record
+   * page cache, if the record pages are read sequentially (for instance by axis scans or by
+   * serializers).
+   *
+   * @param indexLogKey the key of the record page, which has just been loaded
+   */
+  private void readAhead(final IndexLogKey indexLogKey) {
+    final int readAheadWindow = resourceConfig.readAheadWindow;
+    if (readAheadWindow == 0 || trxIntentLog != null || indexLogKey.getIndexType() != IndexType.DOCUMENT) {
+      return;
+    }
+
+    final long recordPageKey = indexLogKey.getRecordPageKey();
+    final boolean isSequential = recordPageKey == lastLoadedDocumentRecordPageKey + 1;
+    lastLoadedDocumentRecordPageKey = recordPageKey;
+
+    if (!isSequential) {
+      return;
+    }
+
+    final long maxRecordPageKey = pageKey(rootPage.getMaxNodeKeyInDocumentIndex(), IndexType.DOCUMENT);
+    final long fromRecordPageKey = Math.max(recordPageKey + 1, readAheadUpToRecordPageKey + 1);
+    final long toRecordPageKey = Math.min(recordPageKey + readAheadWindow, maxRecordPageKey);
+
+    readAheadTasks.removeIf(CompletableFuture::isDone);
+
+    for (long key = fromRecordPageKey; key <= toRecordPageKey; key++) {
+      // The trie is traversed by this thread, as the transaction must only be accessed by a single thread.
+      final PageReference reference = getLeafPageReference(key, indexLogKey.getIndexNumber(), IndexType.DOCUMENT);
+      if (reference == null || reference.getKey() == Constants.NULL_ID_LONG || reference.getPage() != null) {
+        continue;
+      }
+      final long recordPageKey = key;
+      readAheadTasks.add(CompletableFuture.runAsync(() -> {
+        if (isReadAheadCancelled) {
+          return;
+        }
+        try (final Reader reader = resourceSession.createReader()) {
+          // The record page cache makes sure, that the page is loaded only once, even if it is requested concurrently.
+          resourceBufferManager.getRecordPageCache()
+                               .get(reference, _ -> (KeyValueLeafPage) combinePageFragments(reference, reader));
+        } catch (final RuntimeException e) {
+          // Read-ahead is best effort, the page is loaded on demand otherwise.
+          LOGGER.debug("Read-ahead of record page {} failed.", recordPageKey, e);
+        }
+      }, Reader.POOL));
+    }
+
+    readAheadUpToRecordPageKey = Math.max(readAheadUpToRecordPageKey, toRecordPageKey);
+  }
+
   private void setMostRecentlyReadRecordPage(@NonNull IndexLogKey indexLogKey, Page recordPageFromBuffer) {
     if (indexLogKey.getIndexType() == IndexType.PATH_SUMMARY) {
       pathSummaryRecordPage = new RecordPage(indexLogKey.getIndexNumber(),
@@ -525,8 +717,28 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return null;
     }
 
+    final Page completePage = combinePageFragments(pageReferenceToRecordPage, pageReader);
+
+    if (completePage == null) {
+      return null;
+    }
+
+    pageReferenceToRecordPage.setPage(completePage);
+    setMostRecentlyReadRecordPage(indexLogKey, completePage);
+    return completePage;
+  }
+
+  /**
+   * Load the page fragments of a record page from durable storage and combine them.
+   *
+   * @param pageReferenceToRecordPage reference to the record page
+   * @param reader                    the reader to read the most recent page fragment
+   * @return the combined record page or {@code null}, if no page fragment has been found
+   */
+  @Nullable
+  private Page combinePageFragments(final PageReference pageReferenceToRecordPage, final Reader reader) {
     // Load list of page "fragments" from persistent storage.
-    final List<KeyValuePage<DataRecord>> pages = getPageFragments(pageReferenceToRecordPage);
+    final List<KeyValuePage<DataRecord>> pages = getPageFragments(pageReferenceToRecordPage, reader);
 
     if (pages.isEmpty()) {
       return null;
@@ -534,11 +746,7 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
     final int maxRevisionsToRestore = resourceConfig.maxNumberOfRevisionsToRestore;
     final VersioningType versioningApproach = resourceConfig.versioningType;
-    final Page completePage = versioningApproach.combineRecordPages(pages, maxRevisionsToRestore, this);
-
-    pageReferenceToRecordPage.setPage(completePage);
-    setMostRecentlyReadRecordPage(indexLogKey, completePage);
-    return completePage;
+    return versioningApproach.combineRecordPages(pages, maxRevisionsToRestore, this);
   }
 
   @Nullable
@@ -556,8 +764,23 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
   PageReference getLeafPageReference(final @NonNegative long recordPageKey, final int indexNumber,
       final IndexType indexType) {
+    if (revisionSnapshot != null) {
+      final PageReference cachedReference =
+          revisionSnapshot.getLeafPageReference(recordPageKey, indexNumber, indexType);
+      if (cachedReference != null) {
+        return cachedReference;
+      }
+    }
+
     final PageReference pageReferenceToSubtree = getPageReference(rootPage, indexType, indexNumber);
-    return getReferenceToLeafOfSubtree(pageReferenceToSubtree, recordPageKey, indexNumber, indexType, rootPage);
+    final PageReference reference =
+        getReferenceToLeafOfSubtree(pageReferenceToSubtree, recordPageKey, indexNumber, indexType, rootPage);
+
+    if (revisionSnapshot != null && reference != null) {
+      revisionSnapshot.putLeafPageReference(recordPageKey, indexNumber, indexType, reference);
+    }
+
+    return reference;
   }
 
   PageReference getLeafPageReference(final PageReference pageReferenceToSubtree, final @NonNegative long recordPageKey,
@@ -573,8 +796,12 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
    * @return dereferenced pages
    * @throws SirixIOException if an I/O-error occurs within the creation process
    */
-  @SuppressWarnings("unchecked")
   List<KeyValuePage<DataRecord>> getPageFragments(final PageReference pageReference) {
+    return getPageFragments(pageReference, pageReader);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<KeyValuePage<DataRecord>> getPageFragments(final PageReference pageReference, final Reader reader) {
     assert pageReference != null;
     final ResourceConfiguration config = resourceSession.getResourceConfig();
     final int revsToRestore = config.maxNumberOfRevisionsToRestore;
@@ -589,10 +816,10 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     if (trxIntentLog == null) {
       page = (KeyValuePage<DataRecord>) resourceBufferManager.getPageCache()
                                                              .get(pageReferenceWithKey,
-                                                                  _ -> pageReader.read(pageReferenceWithKey,
-                                                                                       resourceSession.getResourceConfig()));
+                                                                  _ -> reader.read(pageReferenceWithKey,
+                                                                                   resourceSession.getResourceConfig()));
     } else {
-      page = (KeyValuePage<DataRecord>) pageReader.read(pageReferenceWithKey, resourceSession.getResourceConfig());
+      page = (KeyValuePage<DataRecord>) reader.read(pageReferenceWithKey, resourceSession.getResourceConfig());
     }
     pages.add(page);
 
@@ -607,48 +834,49 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return pages;
   }
 
+  /**
+   * Read the previous page fragments of a record page. Fragments, which are not cached, are read
+   * with a single batched submission to the storage backend.
+   *
+   * @param pageFragments the keys of the page fragments
+   * @return the page fragments sorted by revision in descending order
+   */
+  @SuppressWarnings("unchecked")
   private List<KeyValuePage<DataRecord>> getPreviousPageFragments(final List<PageFragmentKey> pageFragments) {
-    final var pages = pageFragments.stream().map(this::readPage).collect(Collectors.toList());
-    return sequence(pages).join()
-                          .stream()
-                          .sorted(Comparator.<KeyValuePage<DataRecord>, Integer>comparing(KeyValuePage::getRevision)
-                                            .reversed())
-                          .collect(Collectors.toList());
-  }
+    final var pages = new ArrayList<KeyValuePage<DataRecord>>(pageFragments.size());
+    final var pageReferencesToRead = new ArrayList<PageReference>(pageFragments.size());
 
-  @SuppressWarnings("unchecked")
-  private CompletableFuture<KeyValuePage<DataRecord>> readPage(final PageFragmentKey pageFragmentKey) {
-    final var pageReference = new PageReference().setKey(pageFragmentKey.key());
-    if (trxIntentLog == null) {
-      final var pageFromBufferManager = resourceBufferManager.getPageCache().get(pageReference);
-      if (pageFromBufferManager != null) {
-        assert pageFragmentKey.revision() == ((KeyValuePage<DataRecord>) pageFromBufferManager).getRevision();
-        return CompletableFuture.completedFuture((KeyValuePage<DataRecord>) pageFromBufferManager);
+    for (final PageFragmentKey pageFragmentKey : pageFragments) {
+      final var pageReference = new PageReference().setKey(pageFragmentKey.key());
+      if (trxIntentLog == null) {
+        final var pageFromBufferManager = resourceBufferManager.getPageCache().get(pageReference);
+        if (pageFromBufferManager != null) {
+          assert pageFragmentKey.revision() == ((KeyValuePage<DataRecord>) pageFromBufferManager).getRevision();
+          pages.add((KeyValuePage<DataRecord>) pageFromBufferManager);
+          continue;
+        }
+      }
+      pageReferencesToRead.add(pageReference);
+    }
+
+    if (!pageReferencesToRead.isEmpty()) {
+      final List<Page> readPages;
+      try (final var reader = resourceSession.createReader()) {
+        readPages = reader.readAllAsync(pageReferencesToRead, resourceConfig).join();
+      }
+      for (int i = 0; i < readPages.size(); i++) {
+        final var page = (KeyValuePage<DataRecord>) readPages.get(i);
+        if (trxIntentLog == null) {
+          synchronized (resourceBufferManager.getPageCache()) {
+            resourceBufferManager.getPageCache().putIfAbsent(pageReferencesToRead.get(i), page);
+          }
+        }
+        pages.add(page);
       }
     }
-    final var reader = resourceSession.createReader();
-    return (CompletableFuture<KeyValuePage<DataRecord>>) reader.readAsync(pageReference,
-                                                                          resourceSession.getResourceConfig())
-                                                               .whenComplete((page, _) -> {
-                                                                 reader.close();
-                                                                 if (trxIntentLog == null) {
-                                                                   assert pageFragmentKey.revision()
-                                                                       == ((KeyValuePage<DataRecord>) page).getRevision();
-                                                                   synchronized (resourceBufferManager.getPageCache()) {
-                                                                     resourceBufferManager.getPageCache()
-                                                                                          .putIfAbsent(pageReference,
-                                                                                                       page);
-                                                                   }
-                                                                 }
-                                                               });
-  }
 
-  static CompletableFuture<List<KeyValuePage<DataRecord>>> sequence(
-      List<CompletableFuture<KeyValuePage<DataRecord>>> listOfCompletableFutures) {
-    return CompletableFuture.allOf(listOfCompletableFutures.toArray(new CompletableFuture[0]))
-                            .thenApply(_ -> listOfCompletableFutures.stream()
-                                                                    .map(CompletableFuture::join)
-                                                                    .collect(Collectors.toList()));
+    pages.sort(Comparator.<KeyValuePage<DataRecord>, Integer>comparing(KeyValuePage::getRevision).reversed());
+    return pages;
   }
 
   /**
@@ -668,7 +896,7 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       case RECORD_TO_REVISIONS -> revisionRoot.getIndirectRecordToRevisionsIndexPageReference();
       case DEWEYID_TO_RECORDID -> getDeweyIDPage(revisionRoot).getIndirectPageReference();
       case CAS -> getCASPage(revisionRoot).getIndirectPageReference(index);
-      case PATH -> getPathPage(revisionRoot).getIndirectPageReference(index);
+      case PATH, NUMBER_COLUMN -> getPathPage(revisionRoot).getIndirectPageReference(index);
       case NAME -> getNamePage(revisionRoot).getIndirectPageReference(index);
       case PATH_SUMMARY -> getPathSummaryPage(revisionRoot).getIndirectPageReference(index);
       default ->
@@ -740,7 +968,7 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return switch (indexType) {
       case PATH_SUMMARY -> recordKey >> Constants.PATHINP_REFERENCE_COUNT_EXPONENT;
       case REVISIONS -> recordKey >> Constants.UBPINP_REFERENCE_COUNT_EXPONENT;
-      case PATH, DOCUMENT, CAS, NAME -> recordKey >> Constants.INP_REFERENCE_COUNT_EXPONENT;
+      case PATH, DOCUMENT, CAS, NAME, NUMBER_COLUMN -> recordKey >> Constants.INP_REFERENCE_COUNT_EXPONENT;
       default -> recordKey >> Constants.NDP_NODE_COUNT_EXPONENT;
     };
   }
@@ -758,7 +986,7 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       case CHANGED_NODES -> currentRevisionRootPage.getCurrentMaxLevelOfChangedNodesIndexIndirectPages();
       case RECORD_TO_REVISIONS -> currentRevisionRootPage.getCurrentMaxLevelOfRecordToRevisionsIndexIndirectPages();
       case CAS -> getCASPage(currentRevisionRootPage).getCurrentMaxLevelOfIndirectPages(index);
-      case PATH -> getPathPage(currentRevisionRootPage).getCurrentMaxLevelOfIndirectPages(index);
+      case PATH, NUMBER_COLUMN -> getPathPage(currentRevisionRootPage).getCurrentMaxLevelOfIndirectPages(index);
       case NAME -> getNamePage(currentRevisionRootPage).getCurrentMaxLevelOfIndirectPages(index);
       case PATH_SUMMARY -> getPathSummaryPage(currentRevisionRootPage).getCurrentMaxLevelOfIndirectPages(index);
       case DEWEYID_TO_RECORDID -> getDeweyIDPage(currentRevisionRootPage).getCurrentMaxLevelOfIndirectPages();
@@ -786,6 +1014,8 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   @Override
   public synchronized void close() {
     if (!isClosed) {
+      cancelReadAhead();
+
       if (trxIntentLog == null) {
         pageReader.close();
       }
@@ -804,6 +1034,42 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return namePage.getCount(key, kind, this);
   }
 
+  /**
+   * Cancel the read-ahead tasks, which haven't started so far, and wait for the running ones, such
+   * that no task uses this transaction once it's closed.
+   */
+  private void cancelReadAhead() {
+    isReadAheadCancelled = true;
+    boolean isInterrupted = false;
+    for (final CompletableFuture<Void> task : readAheadTasks) {
+      while (true) {
+        try {
+          task.get();
+          break;
+        } catch (final InterruptedException e) {
+          isInterrupted = true;
+        } catch (final ExecutionException e) {
+          // Failures are already handled by the task.
+          break;
+        }
+      }
+    }
+    readAheadTasks.clear();
+    if (isInterrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Get the read-ahead tasks, which have been scheduled by the last read-ahead and which might not
+   * be finished.
+   *
+   * @return the read-ahead tasks
+   */
+  List<CompletableFuture<Void>> getReadAheadTasks() {
+    return List.copyOf(readAheadTasks);
+  }
+
   @Override
   public boolean isClosed() {
     return isClosed;
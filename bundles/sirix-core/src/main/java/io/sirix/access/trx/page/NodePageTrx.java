@@ -21,6 +21,7 @@
 
 package io.sirix.access.trx.page;
 
+import io.sirix.access.DurabilityMode;
 import io.sirix.access.ResourceConfiguration;
 import io.sirix.access.User;
 import io.sirix.access.trx.node.CommitCredentials;
@@ -33,6 +34,7 @@ import io.sirix.cache.PageContainer;
 import io.sirix.cache.TransactionIntentLog;
 import io.sirix.exception.SirixIOException;
 import io.sirix.index.IndexType;
+import io.sirix.io.GroupCommitter;
 import io.sirix.io.Writer;
 import io.sirix.node.DeletedNode;
 import io.sirix.node.NodeKind;
@@ -60,6 +62,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -148,6 +151,11 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
 
   private final LinkedHashMap<IndexLogKey, PageContainer> pageContainerCache;
 
+  /**
+   * Completed as soon as the last commit is durable.
+   */
+  private CompletableFuture<Void> commitDurability = CompletableFuture.completedFuture(null);
+
   /**
    * Constructor.
    *
@@ -253,7 +261,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         final CASPage casPage = ((CASPage) newRevisionRootPage.getCASPageReference().getPage());
         yield casPage.incrementAndGetMaxNodeKey(index);
       }
-      case PATH -> {
+      case PATH, NUMBER_COLUMN -> {
         final PathPage pathPage = ((PathPage) newRevisionRootPage.getPathPageReference().getPage());
         yield pathPage.incrementAndGetMaxNodeKey(index);
       }
@@ -384,14 +392,26 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       // Recursively write indirectly referenced pages.
       uberPage.commit(this);
 
-      storagePageReaderWriter.writeUberPageReference(getResourceSession().getResourceConfig(),
-                                                     uberPageReference,
-                                                     uberPage,
-                                                     bufferBytes);
+      final ResourceConfiguration resourceConfig = getResourceSession().getResourceConfig();
+      storagePageReaderWriter.writeUberPageReference(resourceConfig, uberPageReference, uberPage, bufferBytes);
+
+      if (resourceConfig.durabilityMode == DurabilityMode.SYNC) {
+        storagePageReaderWriter.force();
+      } else {
+        // Share the force with other commits in the group commit window.
+        commitDurability = GroupCommitter.getInstance()
+                                         .requestForce(storagePageReaderWriter, resourceConfig.groupCommitWindow);
+      }
 
       final int revision = uberPage.getRevisionNumber();
       serializeIndexDefinitions(revision);
 
+      pageRtx.resourceSession.getRevisionMetadataIndex()
+                             .append(revision,
+                                     newRevisionRootPage.getRevisionTimestamp(),
+                                     newRevisionRootPage.getUser().orElse(null),
+                                     newRevisionRootPage.getCommitMessage());
+
       log.clear();
       pageContainerCache.clear();
 
@@ -466,6 +486,11 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     optionalUser.ifPresent(newRevisionRootPage::setUser);
   }
 
+  @Override
+  public CompletableFuture<Void> getCommitDurability() {
+    return commitDurability;
+  }
+
   @Override
   public UberPage rollback() {
     pageRtx.assertNotClosed();
@@ -488,7 +513,13 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
 
       log.close();
       pageRtx.close();
-      storagePageReaderWriter.close();
+
+      // The writer must not be closed before it's forced.
+      if (commitDurability.isDone()) {
+        storagePageReaderWriter.close();
+      } else {
+        commitDurability.whenComplete((unused, exception) -> storagePageReaderWriter.close());
+      }
       isClosed = true;
     }
   }
@@ -603,8 +634,8 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
 
       // $CASES-OMITTED$
       switch (indexType) {
-        case DOCUMENT, CHANGED_NODES, RECORD_TO_REVISIONS, DEWEYID_TO_RECORDID, PATH_SUMMARY, PATH, CAS, NAME ->
-            appendLogRecord(reference, pageContainer);
+        case DOCUMENT, CHANGED_NODES, RECORD_TO_REVISIONS, DEWEYID_TO_RECORDID, PATH_SUMMARY, PATH, CAS, NAME,
+            NUMBER_COLUMN -> appendLogRecord(reference, pageContainer);
         default -> throw new IllegalStateException("Page kind not known!");
       }
 
@@ -0,0 +1,130 @@
+package io.sirix.access.trx.page;
+
+import io.sirix.index.IndexType;
+import io.sirix.page.NamePage;
+import io.sirix.page.PageReference;
+import io.sirix.page.RevisionRootPage;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The resolved state of a committed revision, which is shared by all read-only page transactions
+ * on the revision: the revision root page, the name page and a small cache of the references to the
+ * leaves of the indirect page trees, such that the tries are traversed only once for all readers.
+ *
+ * <p>Committed revisions are immutable, thus the cached references never change. The references
+ * are the same instances, which are stored in the (shared) indirect pages.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionSnapshot {
+
+  /**
+   * Maximum number of cached leaf references. The cache is cleared if it's exceeded, as a cached
+   * reference might hold its record page.
+   */
+  private static final int MAX_LEAF_REFERENCES = 512;
+
+  /**
+   * Number of bits of the record page key in the key of a leaf reference.
+   */
+  private static final int RECORD_PAGE_KEY_BITS = 48;
+
+  /**
+   * Number of bits of the index number in the key of a leaf reference.
+   */
+  private static final int INDEX_NUMBER_BITS = 10;
+
+  private final RevisionRootPage revisionRootPage;
+
+  private final NamePage namePage;
+
+  private final ConcurrentMap<Long, PageReference> leafReferences;
+
+  /**
+   * Constructor.
+   *
+   * @param revisionRootPage the revision root page of the revision
+   * @param namePage         the name page of the revision
+   */
+  public RevisionSnapshot(final RevisionRootPage revisionRootPage, final NamePage namePage) {
+    this.revisionRootPage = requireNonNull(revisionRootPage);
+    this.namePage = requireNonNull(namePage);
+    leafReferences = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Get the revision number.
+   *
+   * @return the revision number
+   */
+  public int getRevision() {
+    return revisionRootPage.getRevision();
+  }
+
+  /**
+   * Get the revision root page.
+   *
+   * @return the revision root page
+   */
+  public RevisionRootPage getRevisionRootPage() {
+    return revisionRootPage;
+  }
+
+  /**
+   * Get the name page.
+   *
+   * @return the name page
+   */
+  public NamePage getNamePage() {
+    return namePage;
+  }
+
+  /**
+   * Get a cached reference to the leaf of an indirect page tree.
+   *
+   * @param recordPageKey the key of the record page
+   * @param indexNumber   the index number
+   * @param indexType     the index type
+   * @return the reference or {@code null}, if it isn't cached
+   */
+  @Nullable
+  PageReference getLeafPageReference(final long recordPageKey, final int indexNumber, final IndexType indexType) {
+    if (!isCacheable(recordPageKey, indexNumber)) {
+      return null;
+    }
+    return leafReferences.get(leafKey(recordPageKey, indexNumber, indexType));
+  }
+
+  /**
+   * Cache a reference to the leaf of an indirect page tree.
+   *
+   * @param recordPageKey the key of the record page
+   * @param indexNumber   the index number
+   * @param indexType     the index type
+   * @param reference     the reference
+   */
+  void putLeafPageReference(final long recordPageKey, final int indexNumber, final IndexType indexType,
+      final PageReference reference) {
+    if (!isCacheable(recordPageKey, indexNumber)) {
+      return;
+    }
+    if (leafReferences.size() >= MAX_LEAF_REFERENCES) {
+      leafReferences.clear();
+    }
+    leafReferences.putIfAbsent(leafKey(recordPageKey, indexNumber, indexType), reference);
+  }
+
+  private static boolean isCacheable(final long recordPageKey, final int indexNumber) {
+    return recordPageKey >>> RECORD_PAGE_KEY_BITS == 0 && indexNumber >= 0 && indexNumber >>> INDEX_NUMBER_BITS == 0;
+  }
+
+  private static long leafKey(final long recordPageKey, final int indexNumber, final IndexType indexType) {
+    return ((long) indexType.ordinal() << (RECORD_PAGE_KEY_BITS + INDEX_NUMBER_BITS))
+        | ((long) indexNumber << RECORD_PAGE_KEY_BITS) | recordPageKey;
+  }
+}
@@ -141,7 +141,7 @@ public final class TreeModifierImpl implements TreeModifier {
       case CHANGED_NODES -> revisionRoot.setOrCreateReference(1, pageReference);
       case RECORD_TO_REVISIONS -> revisionRoot.setOrCreateReference(2, pageReference);
       case CAS -> pageRtx.getCASPage(revisionRoot).setOrCreateReference(index, pageReference);
-      case PATH -> pageRtx.getPathPage(revisionRoot).setOrCreateReference(index, pageReference);
+      case PATH, NUMBER_COLUMN -> pageRtx.getPathPage(revisionRoot).setOrCreateReference(index, pageReference);
       case NAME -> pageRtx.getNamePage(revisionRoot).setOrCreateReference(index, pageReference);
       case PATH_SUMMARY -> pageRtx.getPathSummaryPage(revisionRoot).setOrCreateReference(index, pageReference);
       default ->
@@ -157,7 +157,8 @@ public final class TreeModifierImpl implements TreeModifier {
       case CHANGED_NODES -> revisionRoot.incrementAndGetCurrentMaxLevelOfChangedNodesIndexIndirectPages();
       case RECORD_TO_REVISIONS -> revisionRoot.incrementAndGetCurrentMaxLevelOfRecordToRevisionsIndexIndirectPages();
       case CAS -> pageRtx.getCASPage(revisionRoot).incrementAndGetCurrentMaxLevelOfIndirectPages(index);
-      case PATH -> pageRtx.getPathPage(revisionRoot).incrementAndGetCurrentMaxLevelOfIndirectPages(index);
+      case PATH, NUMBER_COLUMN ->
+          pageRtx.getPathPage(revisionRoot).incrementAndGetCurrentMaxLevelOfIndirectPages(index);
       case NAME -> pageRtx.getNamePage(revisionRoot).incrementAndGetCurrentMaxLevelOfIndirectPages(index);
       case PATH_SUMMARY ->
           pageRtx.getPathSummaryPage(revisionRoot).incrementAndGetCurrentMaxLevelOfIndirectPages(index);
@@ -10,6 +10,7 @@ import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface NodeTrx extends NodeReadOnlyTrx, AutoCloseable {
 
@@ -38,6 +39,34 @@ public interface NodeTrx extends NodeReadOnlyTrx, AutoCloseable {
 
   NodeTrx commit(@Nullable String commitMessage, @Nullable Instant commitTimeStamp);
 
+  /**
+   * Commit all modifications of the exclusive write transaction, but don't wait until the new
+   * revision is durable. Whereas {@link #commit()} waits in {@link io.sirix.access.DurabilityMode#SYNC}
+   * and {@link io.sirix.access.DurabilityMode#GROUP_COMMIT} mode, this method returns as soon as the
+   * revision is written. In {@link io.sirix.access.DurabilityMode#SYNC} mode the future is already
+   * completed.
+   *
+   * @param commitMessage message of the commit
+   * @return a future, which is completed with the committed revision number as soon as the revision
+   *     is durable
+   * @throws SirixException if this revision couldn't be committed
+   */
+  default CompletableFuture<Integer> commitAsync(@Nullable String commitMessage) {
+    return commitAsync(commitMessage, null);
+  }
+
+  /**
+   * Commit all modifications of the exclusive write transaction, but don't wait until the new
+   * revision is durable (see {@link #commitAsync(String)}).
+   *
+   * @param commitMessage   message of the commit
+   * @param commitTimeStamp the commit timestamp
+   * @return a future, which is completed with the committed revision number as soon as the revision
+   *     is durable
+   * @throws SirixException if this revision couldn't be committed
+   */
+  CompletableFuture<Integer> commitAsync(@Nullable String commitMessage, @Nullable Instant commitTimeStamp);
+
   /**
    * Rollback all modifications of the exclusive write transaction.
    *
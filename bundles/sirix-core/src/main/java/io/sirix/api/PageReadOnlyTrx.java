@@ -8,6 +8,7 @@ import io.sirix.cache.BufferManager;
 import io.sirix.cache.IndexLogKey;
 import io.sirix.exception.SirixIOException;
 import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.RecordView;
 import io.sirix.settings.Constants;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -71,6 +72,22 @@ public interface PageReadOnlyTrx extends AutoCloseable {
    */
   <V extends DataRecord> V getRecord(@NonNull long key, @NonNull IndexType indexType, int index);
 
+  /**
+   * Get a record from persistent storage like {@link #getRecord(long, IndexType, int)}, but if the
+   * record hasn't been deserialized so far, point the given view to its serialized form instead of
+   * deserializing it. The view is only valid until it's pointed to another record.
+   *
+   * @param key       the unique record-ID
+   * @param indexType the index type
+   * @param index     the index number
+   * @param view      the view to point to the serialized record
+   * @return the view, the deserialized record or {@code null}, if the record doesn't exist
+   * @throws SirixIOException if an I/O error occurred
+   */
+  default DataRecord getRecordOrView(long key, @NonNull IndexType indexType, int index, @NonNull RecordView view) {
+    return getRecord(key, indexType, index);
+  }
+
   /**
    * Current reference to actual revision-root page.
    *
@@ -16,6 +16,7 @@ import io.sirix.cache.PageContainer;
 
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for writing pages to disk and to create in-memory records.
@@ -128,6 +129,16 @@ public interface PageTrx extends PageReadOnlyTrx {
    */
   UberPage commit(@Nullable String commitMessage, @Nullable Instant commitTimeStamp);
 
+  /**
+   * Get a future, which is completed as soon as the last commit of this transaction is durable. In
+   * {@link io.sirix.access.DurabilityMode#SYNC} mode commits are durable as soon as they return, in
+   * all other modes the pages are forced at the end of the group commit window.
+   *
+   * @return the future, which is completed as soon as the last commit is durable (or completed
+   *     exceptionally, if the pages couldn't be forced to the storage device)
+   */
+  CompletableFuture<Void> getCommitDurability();
+
   /**
    * Committing a {@link PageTrx}. This method is recursively invoked by all {@link PageReference}s.
    *
@@ -5,6 +5,7 @@ import io.sirix.api.visitor.JsonNodeVisitor;
 import io.sirix.api.visitor.VisitResult;
 import io.sirix.api.visitor.VisitResultType;
 import io.sirix.node.SirixDeweyID;
+import io.sirix.node.json.NumberType;
 import io.sirix.api.NodeCursor;
 import io.sirix.api.NodeReadOnlyTrx;
 import io.sirix.api.ResourceSession;
@@ -59,6 +60,90 @@ public interface JsonNodeReadOnlyTrx extends NodeCursor, NodeReadOnlyTrx {
   @Override
   boolean moveToNextFollowing();
 
+  /**
+   * Move from the current object node to the object key node of the field with the given name. The
+   * cursor doesn't move, if the object has no such field.
+   *
+   * @param name the name of the field
+   * @return {@code true}, if the cursor has been moved, {@code false} otherwise
+   */
+  default boolean moveToField(final String name) {
+    if (!isObject()) {
+      return false;
+    }
+
+    final long nodeKey = getNodeKey();
+
+    if (moveToFirstChild()) {
+      do {
+        if (name.equals(getName().getLocalName())) {
+          return true;
+        }
+      } while (moveToRightSibling());
+
+      moveTo(nodeKey);
+    }
+
+    return false;
+  }
+
+  /**
+   * Get the columnar projection of the number values of a path class: the number values of the
+   * object key nodes and the number elements of the array nodes of the path class. The cursor
+   * doesn't move. Resources with a path summary read the columns of committed revisions from a
+   * number column index, if one stores the path class.
+   *
+   * @param pathNodeKey the path node key (PCR) of the path class
+   * @return the column
+   */
+  default NumberColumn getNumberColumn(final long pathNodeKey) {
+    return NumberColumn.collect(this, pathNodeKey, null);
+  }
+
+  /**
+   * Move to the child at the given position of the current node, for instance to the element of
+   * an array at the given index. The cursor doesn't move, if there's no child at the position.
+   *
+   * @param position the position of the child (starting with {@code 0})
+   * @return {@code true}, if the cursor has been moved, {@code false} otherwise
+   */
+  default boolean moveToChildAtPosition(final long position) {
+    if (position < 0) {
+      return false;
+    }
+
+    final long nodeKey = getNodeKey();
+    final long childCount = getChildCount();
+
+    // The child count is 0, if it's not stored.
+    if (childCount > 0 && position >= childCount) {
+      return false;
+    }
+
+    if (childCount > 0 && position > childCount / 2) {
+      moveToLastChild();
+
+      for (long i = childCount - 1; i > position; i--) {
+        moveToLeftSibling();
+      }
+
+      return true;
+    }
+
+    if (!moveToFirstChild()) {
+      return false;
+    }
+
+    for (long i = 0; i < position; i++) {
+      if (!moveToRightSibling()) {
+        moveTo(nodeKey);
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   /**
    * Accept a visitor.
    *
@@ -79,6 +164,35 @@ public interface JsonNodeReadOnlyTrx extends NodeCursor, NodeReadOnlyTrx {
 
   Number getNumberValue();
 
+  /**
+   * Get the type of the value of the current number node.
+   *
+   * @return the type of the number value
+   */
+  default NumberType getNumberType() {
+    return NumberType.of(getNumberValue());
+  }
+
+  /**
+   * Get the value of the current number node as a {@code long} value, converted as by
+   * {@link Number#longValue()}. Integer and long values are returned without boxing.
+   *
+   * @return the number value
+   */
+  default long getLongValue() {
+    return getNumberValue().longValue();
+  }
+
+  /**
+   * Get the value of the current number node as a {@code double} value, converted as by
+   * {@link Number#doubleValue()}. Float and double values are returned without boxing.
+   *
+   * @return the number value
+   */
+  default double getDoubleValue() {
+    return getNumberValue().doubleValue();
+  }
+
   int getNameKey();
 
   List<JsonObject> getUpdateOperations();
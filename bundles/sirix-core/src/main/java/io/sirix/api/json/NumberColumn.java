@@ -0,0 +1,496 @@
+package io.sirix.api.json;
+
+import io.sirix.index.path.summary.PathSummaryReader;
+import io.sirix.node.NodeKind;
+import io.sirix.node.json.NumberType;
+import it.unimi.dsi.fastutil.Arrays;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Columnar projection of the number values of a path class (PCR): the values of the object key
+ * nodes of the path class and the number elements of the array nodes of the path class are densely
+ * packed into a primitive vector together with the keys of the number nodes, in node key order
+ * (which is the document order, unless nodes have been inserted in front of existing nodes).
+ *
+ * <p>If all values are integers or longs, they are stored as {@code long} values, otherwise as
+ * {@code double} values (big numbers are converted). The minimum and the maximum are computed
+ * once, aggregations and range predicates are simple loops over the vector, which the JIT compiler
+ * is able to vectorize, instead of navigating the document and deserializing the nodes.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class NumberColumn {
+
+  private static final NumberColumn EMPTY = new NumberColumn(new long[0], new long[0], null);
+
+  /**
+   * The keys of the number nodes.
+   */
+  private final long[] nodeKeys;
+
+  /**
+   * The values, if all of them are integral, {@code null} otherwise.
+   */
+  private final long @Nullable [] longValues;
+
+  /**
+   * The values, if at least one of them isn't integral, {@code null} otherwise.
+   */
+  private final double @Nullable [] doubleValues;
+
+  private final long longMin;
+
+  private final long longMax;
+
+  private final double doubleMin;
+
+  private final double doubleMax;
+
+  private NumberColumn(final long[] nodeKeys, final long @Nullable [] longValues,
+      final double @Nullable [] doubleValues) {
+    this.nodeKeys = nodeKeys;
+    this.longValues = longValues;
+    this.doubleValues = doubleValues;
+
+    long longMin = Long.MAX_VALUE;
+    long longMax = Long.MIN_VALUE;
+    double doubleMin = Double.POSITIVE_INFINITY;
+    double doubleMax = Double.NEGATIVE_INFINITY;
+
+    if (longValues != null) {
+      for (final long value : longValues) {
+        longMin = Math.min(longMin, value);
+        longMax = Math.max(longMax, value);
+      }
+      doubleMin = longMin;
+      doubleMax = longMax;
+    } else {
+      for (final double value : doubleValues) {
+        doubleMin = Math.min(doubleMin, value);
+        doubleMax = Math.max(doubleMax, value);
+      }
+    }
+
+    this.longMin = longMin;
+    this.longMax = longMax;
+    this.doubleMin = doubleMin;
+    this.doubleMax = doubleMax;
+  }
+
+  /**
+   * Get the empty column.
+   *
+   * @return the empty column
+   */
+  public static NumberColumn empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Get a column.
+   *
+   * @param nodeKeys     the keys of the number nodes in ascending order
+   * @param longValues   the values, if all of them are integral, {@code null} otherwise
+   * @param doubleValues the values, if at least one of them isn't integral, {@code null} otherwise
+   * @return the column, which references the arrays
+   * @throws IllegalArgumentException if not exactly one of the value arrays is given or if its
+   *                                  length doesn't match the number of node keys
+   */
+  public static NumberColumn of(final long[] nodeKeys, final long @Nullable [] longValues,
+      final double @Nullable [] doubleValues) {
+    requireNonNull(nodeKeys);
+    checkArgument((longValues == null) != (doubleValues == null), "Exactly one of the value arrays must be given.");
+    checkArgument((longValues == null ? doubleValues.length : longValues.length) == nodeKeys.length,
+                  "The number of values must match the number of node keys.");
+
+    if (nodeKeys.length == 0) {
+      return EMPTY;
+    }
+
+    return new NumberColumn(nodeKeys, longValues, doubleValues);
+  }
+
+  /**
+   * Get the number of values.
+   *
+   * @return the number of values
+   */
+  public int size() {
+    return nodeKeys.length;
+  }
+
+  /**
+   * Determines if all values are integers or longs.
+   *
+   * @return {@code true}, if the values are stored as {@code long} values
+   */
+  public boolean isIntegral() {
+    return longValues != null;
+  }
+
+  /**
+   * Get the key of the number node of a value.
+   *
+   * @param index the index of the value
+   * @return the node key
+   */
+  public long getNodeKey(final @NonNegative int index) {
+    return nodeKeys[index];
+  }
+
+  /**
+   * Get a value of an integral column.
+   *
+   * @param index the index of the value
+   * @return the value
+   * @throws IllegalStateException if the column isn't integral
+   */
+  public long getLong(final @NonNegative int index) {
+    return longValues()[index];
+  }
+
+  /**
+   * Get a value as a {@code double} value.
+   *
+   * @param index the index of the value
+   * @return the value
+   */
+  public double getDouble(final @NonNegative int index) {
+    return longValues != null ? (double) longValues[index] : doubleValues[index];
+  }
+
+  /**
+   * Get the sum of the values of an integral column.
+   *
+   * @return the sum
+   * @throws IllegalStateException if the column isn't integral
+   * @throws ArithmeticException   if the sum overflows a {@code long} value
+   */
+  public long longSum() {
+    final long[] values = longValues();
+
+    if (values.length == 0) {
+      return 0;
+    }
+
+    // The sum can't overflow, if the number of values times the maximum magnitude fits into a long.
+    final long maxMagnitude = Math.max(Math.abs(longMin), Math.abs(longMax));
+    final boolean mightOverflow = longMin == Long.MIN_VALUE || Math.multiplyHigh(maxMagnitude, values.length) != 0
+        || maxMagnitude * values.length < 0;
+
+    if (mightOverflow) {
+      long sum = 0;
+      for (final long value : values) {
+        sum = Math.addExact(sum, value);
+      }
+      return sum;
+    }
+
+    long sum = 0;
+    for (final long value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  /**
+   * Get the sum of the values as a {@code double} value.
+   *
+   * @return the sum
+   */
+  public double doubleSum() {
+    if (longValues != null) {
+      double sum = 0;
+      for (final long value : longValues) {
+        sum += value;
+      }
+      return sum;
+    }
+
+    double sum = 0;
+    for (final double value : doubleValues) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  /**
+   * Get the minimum of an integral column.
+   *
+   * @return the minimum
+   * @throws IllegalStateException  if the column isn't integral
+   * @throws NoSuchElementException if the column is empty
+   */
+  public long longMin() {
+    longValues();
+    checkNotEmpty();
+    return longMin;
+  }
+
+  /**
+   * Get the maximum of an integral column.
+   *
+   * @return the maximum
+   * @throws IllegalStateException  if the column isn't integral
+   * @throws NoSuchElementException if the column is empty
+   */
+  public long longMax() {
+    longValues();
+    checkNotEmpty();
+    return longMax;
+  }
+
+  /**
+   * Get the minimum as a {@code double} value.
+   *
+   * @return the minimum
+   * @throws NoSuchElementException if the column is empty
+   */
+  public double doubleMin() {
+    checkNotEmpty();
+    return doubleMin;
+  }
+
+  /**
+   * Get the maximum as a {@code double} value.
+   *
+   * @return the maximum
+   * @throws NoSuchElementException if the column is empty
+   */
+  public double doubleMax() {
+    checkNotEmpty();
+    return doubleMax;
+  }
+
+  /**
+   * Select the number nodes, whose values are in a range.
+   *
+   * @param lowerBound the inclusive lower bound
+   * @param upperBound the inclusive upper bound
+   * @return the keys of the selected number nodes in ascending order
+   */
+  public long[] selectNodeKeys(final double lowerBound, final double upperBound) {
+    if (Double.isNaN(lowerBound) || Double.isNaN(upperBound) || size() == 0 || lowerBound > doubleMax
+        || upperBound < doubleMin) {
+      return new long[0];
+    }
+
+    final var selectedNodeKeys = new LongArrayList();
+
+    if (longValues != null) {
+      // Compare exactly, the double to long conversion saturates.
+      final long lower = (long) Math.ceil(lowerBound);
+      final long upper = (long) Math.floor(upperBound);
+
+      for (int i = 0; i < longValues.length; i++) {
+        if (longValues[i] >= lower && longValues[i] <= upper) {
+          selectedNodeKeys.add(nodeKeys[i]);
+        }
+      }
+    } else {
+      for (int i = 0; i < doubleValues.length; i++) {
+        if (doubleValues[i] >= lowerBound && doubleValues[i] <= upperBound) {
+          selectedNodeKeys.add(nodeKeys[i]);
+        }
+      }
+    }
+
+    return selectedNodeKeys.toLongArray();
+  }
+
+  private long[] longValues() {
+    if (longValues == null) {
+      throw new IllegalStateException("The column isn't integral.");
+    }
+    return longValues;
+  }
+
+  private void checkNotEmpty() {
+    if (size() == 0) {
+      throw new NoSuchElementException("The column is empty.");
+    }
+  }
+
+  /**
+   * Get the path node keys of a path class and of its ancestors, that is the path classes of the
+   * nodes, which have to be visited to collect the values of the path class.
+   *
+   * @param pathSummary the path summary
+   * @param pathNodeKey the path node key (PCR)
+   * @return the path node keys, which are empty, if the path class doesn't exist
+   */
+  public static LongSet getPathNodeKeysOnPath(final PathSummaryReader pathSummary, final long pathNodeKey) {
+    final LongSet pathNodeKeys = new LongOpenHashSet();
+
+    if (!pathSummary.moveTo(pathNodeKey)) {
+      return pathNodeKeys;
+    }
+
+    do {
+      pathNodeKeys.add(pathSummary.getNodeKey());
+    } while (pathSummary.moveToParent());
+
+    return pathNodeKeys;
+  }
+
+  /**
+   * Collect the number values of a path class by navigating the document. The position of the
+   * transaction is restored.
+   *
+   * @param rtx                the transaction
+   * @param pathNodeKey        the path node key (PCR)
+   * @param pathNodeKeysOnPath the path node keys of the path class and of its ancestors to prune
+   *                           the subtrees, which don't contain nodes of the path class, or
+   *                           {@code null} to visit all nodes
+   * @return the column
+   */
+  public static NumberColumn collect(final JsonNodeReadOnlyTrx rtx, final long pathNodeKey,
+      final @Nullable LongSet pathNodeKeysOnPath) {
+    if (pathNodeKeysOnPath != null && !pathNodeKeysOnPath.contains(pathNodeKey)) {
+      return EMPTY;
+    }
+
+    final long nodeKey = rtx.getNodeKey();
+
+    try {
+      rtx.moveToDocumentRoot();
+
+      if (!rtx.moveToFirstChild()) {
+        return EMPTY;
+      }
+
+      final var builder = new Builder();
+
+      while (true) {
+        if (visit(rtx, pathNodeKey, pathNodeKeysOnPath, builder) && rtx.moveToFirstChild()) {
+          continue;
+        }
+
+        while (!rtx.hasRightSibling()) {
+          if (!rtx.moveToParent() || rtx.isDocumentRoot()) {
+            return builder.build();
+          }
+        }
+
+        rtx.moveToRightSibling();
+      }
+    } finally {
+      rtx.moveTo(nodeKey);
+    }
+  }
+
+  /**
+   * Visit a node.
+   *
+   * @return {@code true}, if the children of the node have to be visited
+   */
+  private static boolean visit(final JsonNodeReadOnlyTrx rtx, final long pathNodeKey,
+      final @Nullable LongSet pathNodeKeysOnPath, final Builder builder) {
+    final NodeKind kind = rtx.getKind();
+
+    if (kind == NodeKind.OBJECT) {
+      return true;
+    }
+
+    if (kind != NodeKind.OBJECT_KEY && kind != NodeKind.ARRAY) {
+      return false;
+    }
+
+    final long currentPathNodeKey = rtx.getPathNodeKey();
+
+    if (currentPathNodeKey != pathNodeKey) {
+      return pathNodeKeysOnPath == null || pathNodeKeysOnPath.contains(currentPathNodeKey);
+    }
+
+    // The value of an object key or the elements of an array.
+    if (rtx.moveToFirstChild()) {
+      do {
+        if (rtx.isNumberValue()) {
+          builder.add(rtx.getNodeKey(), rtx.getNumberType(), rtx);
+        }
+      } while (kind == NodeKind.ARRAY && rtx.moveToRightSibling());
+
+      rtx.moveToParent();
+    }
+
+    // Path classes are unique, the subtree doesn't contain further nodes of the path class.
+    return false;
+  }
+
+  /**
+   * Collects the values, which are converted to {@code double} values as soon as a value isn't
+   * integral. The values are sorted by their node keys, if they haven't been added in this order.
+   */
+  private static final class Builder {
+    private final LongArrayList nodeKeys = new LongArrayList();
+
+    private @Nullable LongArrayList longValues = new LongArrayList();
+
+    private @Nullable DoubleArrayList doubleValues;
+
+    private boolean isSorted = true;
+
+    void add(final long nodeKey, final NumberType numberType, final JsonNodeReadOnlyTrx rtx) {
+      isSorted &= nodeKeys.isEmpty() || nodeKeys.getLong(nodeKeys.size() - 1) < nodeKey;
+      nodeKeys.add(nodeKey);
+
+      if (longValues != null && numberType.isIntegral()) {
+        longValues.add(rtx.getLongValue());
+        return;
+      }
+
+      if (longValues != null) {
+        doubleValues = new DoubleArrayList(Math.max(16, longValues.size() * 2));
+        for (int i = 0; i < longValues.size(); i++) {
+          doubleValues.add((double) longValues.getLong(i));
+        }
+        longValues = null;
+      }
+
+      doubleValues.add(rtx.getDoubleValue());
+    }
+
+    NumberColumn build() {
+      if (nodeKeys.isEmpty()) {
+        return EMPTY;
+      }
+
+      final long[] sortedNodeKeys = nodeKeys.toLongArray();
+      final long[] sortedLongValues = longValues == null ? null : longValues.toLongArray();
+      final double[] sortedDoubleValues = doubleValues == null ? null : doubleValues.toDoubleArray();
+
+      if (!isSorted) {
+        final IntComparator byNodeKey = (i, j) -> Long.compare(sortedNodeKeys[i], sortedNodeKeys[j]);
+        Arrays.quickSort(0, sortedNodeKeys.length, byNodeKey, (i, j) -> {
+          swap(sortedNodeKeys, i, j);
+          if (sortedLongValues != null) {
+            swap(sortedLongValues, i, j);
+          } else {
+            final double value = sortedDoubleValues[i];
+            sortedDoubleValues[i] = sortedDoubleValues[j];
+            sortedDoubleValues[j] = value;
+          }
+        });
+      }
+
+      return new NumberColumn(sortedNodeKeys, sortedLongValues, sortedDoubleValues);
+    }
+
+    private static void swap(final long[] values, final int i, final int j) {
+      final long value = values[i];
+      values[i] = values[j];
+      values[j] = value;
+    }
+  }
+}
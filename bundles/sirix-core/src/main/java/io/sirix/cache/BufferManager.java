@@ -7,6 +7,8 @@ import io.sirix.page.RevisionRootPage;
 import io.sirix.node.interfaces.Node;
 import io.sirix.page.interfaces.Page;
 
+import java.util.Map;
+
 public interface BufferManager extends AutoCloseable {
   Cache<PageReference, KeyValueLeafPage> getRecordPageCache();
 
@@ -21,4 +23,32 @@ public interface BufferManager extends AutoCloseable {
   Cache<Integer, PathSummaryData> getPathSummaryCache();
 
   void clearAllCaches();
+
+  /**
+   * Get a snapshot of the statistics of all caches, keyed by the name of the cache.
+   *
+   * @return the statistics of all caches
+   */
+  Map<String, CacheStatistics> getStatistics();
+
+  /**
+   * Get the estimated retained size of all cached entries in bytes.
+   *
+   * @return the weighted size of all caches
+   */
+  long getWeightedSize();
+
+  /**
+   * Redistribute the given memory budget amongst the caches.
+   *
+   * @param memoryBudget the memory budget in bytes
+   */
+  void resize(long memoryBudget);
+
+  /**
+   * Set the off-heap memory budget of the second level record page cache (if enabled).
+   *
+   * @param offHeapMemoryBudget the off-heap memory budget in bytes
+   */
+  void resizeOffHeap(long offHeapMemoryBudget);
 }
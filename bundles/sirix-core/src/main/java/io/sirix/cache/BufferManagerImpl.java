@@ -6,8 +6,34 @@ import io.sirix.page.PageReference;
 import io.sirix.page.RevisionRootPage;
 import io.sirix.page.interfaces.Page;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The buffer manager of a resource. All caches are bounded by the estimated retained size of their
+ * entries (see {@link PageWeigher}). The memory budget is split amongst the caches according to
+ * fixed base shares, which are shifted towards caches which evicted entries since the last
+ * rebalancing.
+ */
 public final class BufferManagerImpl implements BufferManager {
 
+  /**
+   * Base shares of the memory budget for the page cache, the record page cache, the revision root
+   * page cache, the red-black tree node cache, the names cache and the path summary cache.
+   */
+  private static final double[] BASE_SHARES = { 0.25, 0.55, 0.05, 0.10, 0.03, 0.02 };
+
+  /**
+   * The names of the caches (used for the statistics).
+   */
+  private static final String[] CACHE_NAMES =
+      { "pageCache", "recordPageCache", "revisionRootPageCache", "indexCache", "namesCache", "pathSummaryCache" };
+
+  /**
+   * Maximum factor by which the share of a cache is increased due to evictions.
+   */
+  private static final double MAX_SHARE_BOOST = 2.0;
+
   private final PageCache pageCache;
 
   private final RecordPageCache recordPageCache;
@@ -20,14 +46,54 @@ public final class BufferManagerImpl implements BufferManager {
 
   private final PathSummaryCache pathSummaryCache;
 
-  public BufferManagerImpl(int maxPageCacheSize, int maxRecordPageCacheSize,
-      int maxRevisionRootPageCache, int maxRBTreeNodeCache, int maxNamesCacheSize, int maxPathSummaryCacheSize) {
-    pageCache = new PageCache(maxPageCacheSize);
-    recordPageCache = new RecordPageCache(maxRecordPageCacheSize);
-    revisionRootPageCache = new RevisionRootPageCache(maxRevisionRootPageCache);
-    redBlackTreeNodeCache = new RedBlackTreeNodeCache(maxRBTreeNodeCache);
-    namesCache = new NamesCache(maxNamesCacheSize);
-    pathSummaryCache = new PathSummaryCache(maxPathSummaryCacheSize);
+  /**
+   * Optional off-heap second level cache below the {@link RecordPageCache} ({@code null} if disabled).
+   */
+  private final OffHeapRecordPageCache offHeapRecordPageCache;
+
+  /**
+   * All caches in the order of {@link #BASE_SHARES}.
+   */
+  private final Cache<?, ?>[] caches;
+
+  /**
+   * The eviction weights of the caches during the last rebalancing.
+   */
+  private final long[] lastEvictionWeights;
+
+  /**
+   * Constructor.
+   *
+   * @param memoryBudget the initial memory budget in bytes, which is split amongst all caches
+   */
+  public BufferManagerImpl(final long memoryBudget) {
+    this(memoryBudget, 0);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param memoryBudget        the initial memory budget in bytes, which is split amongst all caches
+   * @param offHeapMemoryBudget the initial off-heap memory budget in bytes for the second level
+   *                            record page cache, {@code 0} to disable the off-heap cache
+   */
+  public BufferManagerImpl(final long memoryBudget, final long offHeapMemoryBudget) {
+    offHeapRecordPageCache = offHeapMemoryBudget > 0 ? new OffHeapRecordPageCache(offHeapMemoryBudget) : null;
+    pageCache = new PageCache(share(memoryBudget, 0));
+    recordPageCache = offHeapRecordPageCache == null
+        ? new RecordPageCache(share(memoryBudget, 1))
+        : new RecordPageCache(share(memoryBudget, 1), offHeapRecordPageCache);
+    revisionRootPageCache = new RevisionRootPageCache(share(memoryBudget, 2));
+    redBlackTreeNodeCache = new RedBlackTreeNodeCache(share(memoryBudget, 3));
+    namesCache = new NamesCache(share(memoryBudget, 4));
+    pathSummaryCache = new PathSummaryCache(share(memoryBudget, 5));
+    caches = new Cache<?, ?>[] { pageCache, recordPageCache, revisionRootPageCache, redBlackTreeNodeCache, namesCache,
+        pathSummaryCache };
+    lastEvictionWeights = new long[caches.length];
+  }
+
+  private static long share(final long memoryBudget, final int cache) {
+    return (long) (memoryBudget * BASE_SHARES[cache]);
   }
 
   @Override
@@ -60,6 +126,57 @@ public final class BufferManagerImpl implements BufferManager {
     return pathSummaryCache;
   }
 
+  @Override
+  public Map<String, CacheStatistics> getStatistics() {
+    final var statistics = new LinkedHashMap<String, CacheStatistics>(caches.length);
+    for (int i = 0; i < caches.length; i++) {
+      statistics.put(CACHE_NAMES[i], caches[i].getStatistics());
+    }
+    if (offHeapRecordPageCache != null) {
+      statistics.put("offHeapRecordPageCache", offHeapRecordPageCache.getStatistics());
+    }
+    return statistics;
+  }
+
+  @Override
+  public long getWeightedSize() {
+    long weightedSize = 0;
+    for (final Cache<?, ?> cache : caches) {
+      weightedSize += cache.getStatistics().weightedSize();
+    }
+    return weightedSize;
+  }
+
+  @Override
+  public synchronized void resize(final long memoryBudget) {
+    final double[] shares = new double[caches.length];
+    double sumOfShares = 0;
+
+    for (int i = 0; i < caches.length; i++) {
+      final CacheStatistics statistics = caches[i].getStatistics();
+      final long evictionWeight = statistics.evictionWeight() - lastEvictionWeights[i];
+      lastEvictionWeights[i] = statistics.evictionWeight();
+
+      // Caches, which had to evict entries, get a bigger share (at most MAX_SHARE_BOOST times the base share).
+      final double pressure = statistics.maximumWeight() == 0
+          ? 0
+          : Math.min(MAX_SHARE_BOOST - 1, (double) evictionWeight / statistics.maximumWeight());
+      shares[i] = BASE_SHARES[i] * (1 + pressure);
+      sumOfShares += shares[i];
+    }
+
+    for (int i = 0; i < caches.length; i++) {
+      caches[i].setMaximumWeight((long) (memoryBudget * (shares[i] / sumOfShares)));
+    }
+  }
+
+  @Override
+  public void resizeOffHeap(final long offHeapMemoryBudget) {
+    if (offHeapRecordPageCache != null) {
+      offHeapRecordPageCache.setMaximumWeight(offHeapMemoryBudget);
+    }
+  }
+
   @Override
   public void close() {
   }
@@ -72,5 +189,8 @@ public final class BufferManagerImpl implements BufferManager {
     redBlackTreeNodeCache.clear();
     namesCache.clear();
     pathSummaryCache.clear();
+    if (offHeapRecordPageCache != null) {
+      offHeapRecordPageCache.clear();
+    }
   }
 }
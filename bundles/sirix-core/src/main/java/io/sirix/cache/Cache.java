@@ -109,4 +109,23 @@ public interface Cache<K, V> {
 
   /** Close a cache, might be a file handle for persistent caches. */
   void close();
+
+  /**
+   * Get a snapshot of the hit/miss/eviction statistics of this cache.
+   *
+   * @return the statistics
+   */
+  default CacheStatistics getStatistics() {
+    return CacheStatistics.EMPTY;
+  }
+
+  /**
+   * Set the maximum weight of this cache, that is the estimated retained size of all entries in
+   * bytes. Entries are evicted, if the new maximum is smaller than the current weighted size. Caches,
+   * which aren't bounded by weight, ignore the call.
+   *
+   * @param maximumWeight the maximum weight in bytes
+   */
+  default void setMaximumWeight(long maximumWeight) {
+  }
 }
@@ -0,0 +1,53 @@
+package io.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Immutable snapshot of the statistics of a single cache.
+ *
+ * @param hitCount       the number of lookups which returned a cached value
+ * @param missCount      the number of lookups which did not find a cached value
+ * @param evictionCount  the number of evicted entries
+ * @param evictionWeight the sum of the weights (in bytes) of the evicted entries
+ * @param weightedSize   the current weighted size (in bytes) of the cache
+ * @param maximumWeight  the current maximum weight (in bytes) of the cache
+ * @author Johannes Lichtenberger
+ */
+public record CacheStatistics(long hitCount, long missCount, long evictionCount, long evictionWeight,
+    long weightedSize, long maximumWeight) {
+
+  /**
+   * Statistics of a cache, which doesn't cache anything.
+   */
+  public static final CacheStatistics EMPTY = new CacheStatistics(0, 0, 0, 0, 0, 0);
+
+  /**
+   * Create a snapshot of the statistics of a {@code Caffeine} cache, which must be bounded by weight.
+   *
+   * @param cache the cache
+   * @return the statistics
+   */
+  static CacheStatistics of(final com.github.benmanes.caffeine.cache.Cache<?, ?> cache) {
+    final CacheStats stats = cache.stats();
+    final var eviction = cache.policy().eviction();
+    final long weightedSize = eviction.map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+    final long maximumWeight = eviction.map(Policy.Eviction::getMaximum).orElse(0L);
+    return new CacheStatistics(stats.hitCount(),
+                               stats.missCount(),
+                               stats.evictionCount(),
+                               stats.evictionWeight(),
+                               weightedSize,
+                               maximumWeight);
+  }
+
+  /**
+   * Get the ratio of lookups which returned a cached value.
+   *
+   * @return the hit rate, {@code 1.0} if no lookups have been made
+   */
+  public double hitRate() {
+    final long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+}
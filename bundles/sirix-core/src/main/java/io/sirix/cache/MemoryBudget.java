@@ -0,0 +1,152 @@
+package io.sirix.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A global memory budget of a database, which is shared by the {@link BufferManager}s of all its
+ * resources. Half of the budget is split evenly, the other half proportionally to the current
+ * weighted size of the buffer managers, such that frequently used resources get more memory.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class MemoryBudget {
+
+  /**
+   * The memory budget in bytes.
+   */
+  private volatile long maxMemory;
+
+  /**
+   * The off-heap memory budget in bytes ({@code 0}, if off-heap caching is disabled).
+   */
+  private volatile long maxOffHeapMemory;
+
+  /**
+   * The buffer managers sharing the budget.
+   */
+  private final Set<BufferManager> bufferManagers;
+
+  /**
+   * Constructor.
+   *
+   * @param maxMemory the memory budget in bytes
+   */
+  public MemoryBudget(final long maxMemory) {
+    this(maxMemory, 0);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxMemory        the memory budget in bytes
+   * @param maxOffHeapMemory the off-heap memory budget in bytes, {@code 0} to disable off-heap caching
+   */
+  public MemoryBudget(final long maxMemory, final long maxOffHeapMemory) {
+    checkArgument(maxMemory > 0, "The memory budget must be > 0!");
+    checkArgument(maxOffHeapMemory >= 0, "The off-heap memory budget must be >= 0!");
+    this.maxMemory = maxMemory;
+    this.maxOffHeapMemory = maxOffHeapMemory;
+    this.bufferManagers = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Get the off-heap memory budget.
+   *
+   * @return the off-heap memory budget in bytes, {@code 0} if off-heap caching is disabled
+   */
+  public long getMaxOffHeapMemory() {
+    return maxOffHeapMemory;
+  }
+
+  /**
+   * Set a new off-heap memory budget and rebalance the buffer managers. Off-heap caching can't be
+   * enabled or disabled for already registered buffer managers.
+   *
+   * @param maxOffHeapMemory the off-heap memory budget in bytes
+   */
+  public void setMaxOffHeapMemory(final long maxOffHeapMemory) {
+    checkArgument(maxOffHeapMemory >= 0, "The off-heap memory budget must be >= 0!");
+    this.maxOffHeapMemory = maxOffHeapMemory;
+    rebalance();
+  }
+
+  /**
+   * Get the memory budget.
+   *
+   * @return the memory budget in bytes
+   */
+  public long getMaxMemory() {
+    return maxMemory;
+  }
+
+  /**
+   * Set a new memory budget and rebalance the buffer managers.
+   *
+   * @param maxMemory the memory budget in bytes
+   */
+  public void setMaxMemory(final long maxMemory) {
+    checkArgument(maxMemory > 0, "The memory budget must be > 0!");
+    this.maxMemory = maxMemory;
+    rebalance();
+  }
+
+  /**
+   * Register a buffer manager and rebalance.
+   *
+   * @param bufferManager the buffer manager
+   */
+  public void register(final BufferManager bufferManager) {
+    bufferManagers.add(bufferManager);
+    rebalance();
+  }
+
+  /**
+   * Deregister a buffer manager and rebalance.
+   *
+   * @param bufferManager the buffer manager
+   */
+  public void deregister(final BufferManager bufferManager) {
+    if (bufferManagers.remove(bufferManager)) {
+      rebalance();
+    }
+  }
+
+  /**
+   * Get the estimated retained size of all buffer managers.
+   *
+   * @return the weighted size in bytes
+   */
+  public long getWeightedSize() {
+    long weightedSize = 0;
+    for (final BufferManager bufferManager : bufferManagers) {
+      weightedSize += bufferManager.getWeightedSize();
+    }
+    return weightedSize;
+  }
+
+  /**
+   * Redistribute the memory budget amongst all registered buffer managers.
+   */
+  public synchronized void rebalance() {
+    final int numberOfBufferManagers = bufferManagers.size();
+
+    if (numberOfBufferManagers == 0) {
+      return;
+    }
+
+    final long memory = maxMemory;
+    final long evenShare = memory / 2 / numberOfBufferManagers;
+    final long weightedSize = getWeightedSize();
+
+    for (final BufferManager bufferManager : bufferManagers) {
+      final long demandShare = weightedSize == 0
+          ? memory / 2 / numberOfBufferManagers
+          : (long) ((memory / 2) * ((double) bufferManager.getWeightedSize() / weightedSize));
+      bufferManager.resize(evenShare + demandShare);
+      bufferManager.resizeOffHeap(maxOffHeapMemory / numberOfBufferManagers);
+    }
+  }
+}
@@ -10,11 +10,13 @@ public final class NamesCache implements Cache<NamesCacheKey, Names> {
 
   private final com.github.benmanes.caffeine.cache.Cache<NamesCacheKey, Names> cache;
 
-  public NamesCache(final int maxSize) {
+  public NamesCache(final long maxWeight) {
     cache = Caffeine.newBuilder()
-                    .maximumSize(maxSize)
+                    .maximumWeight(maxWeight)
+                    .weigher((NamesCacheKey key, Names value) -> PageWeigher.weigh(value))
                     .expireAfterAccess(5, TimeUnit.MINUTES)
                     .scheduler(scheduler)
+                    .recordStats()
                     .build();
   }
 
@@ -56,4 +58,14 @@ public final class NamesCache implements Cache<NamesCacheKey, Names> {
   @Override
   public void close() {
   }
+
+  @Override
+  public CacheStatistics getStatistics() {
+    return CacheStatistics.of(cache);
+  }
+
+  @Override
+  public void setMaximumWeight(long maximumWeight) {
+    cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
 }
@@ -0,0 +1,184 @@
+package io.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.index.IndexType;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.OffHeapSlots;
+import io.sirix.page.PageReference;
+import io.sirix.settings.Constants;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.ref.Cleaner;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Second level cache below the {@link RecordPageCache}, which stores the slots and DeweyIDs of
+ * evicted record pages off-heap. Pages restored from this cache deserialize their records directly
+ * from off-heap memory. Only pages, which are stored durably (that is which have a persistent key),
+ * are cached.
+ *
+ * <p>Each entry owns a reference to its {@link OffHeapSlots}, which is released on eviction or
+ * removal, such that the off-heap memory is freed right away, unless a restored page is still
+ * reachable. Restored pages own a reference of their own, which is released once the page has been
+ * garbage collected.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class OffHeapRecordPageCache implements Cache<PageReference, KeyValueLeafPage> {
+
+  /**
+   * A record page, whose slots and DeweyIDs are stored off-heap.
+   *
+   * @param recordPageKey  the record page key
+   * @param revision       the revision of the page
+   * @param indexType      the index type
+   * @param resourceConfig the resource configuration
+   * @param references     references to overflow pages (an immutable copy, as the references of a
+   *                       page are cleared, once the page is cleared)
+   * @param slots          the off-heap slots and DeweyIDs
+   */
+  private record OffHeapPage(long recordPageKey, int revision, IndexType indexType,
+      ResourceConfiguration resourceConfig, Map<Long, PageReference> references, OffHeapSlots slots) {
+    KeyValueLeafPage toKeyValueLeafPage() {
+      return new KeyValueLeafPage(recordPageKey, revision, indexType, resourceConfig,
+                                  new ConcurrentHashMap<>(references), slots);
+    }
+  }
+
+  /**
+   * Releases the references of restored pages, once they have been garbage collected.
+   */
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private final com.github.benmanes.caffeine.cache.Cache<Long, OffHeapPage> cache;
+
+  /**
+   * Constructor.
+   *
+   * @param maxWeight the maximum size of the off-heap memory in bytes
+   */
+  public OffHeapRecordPageCache(final long maxWeight) {
+    cache = Caffeine.newBuilder()
+                    .maximumWeight(maxWeight)
+                    .weigher((Long key, OffHeapPage value) -> (int) Math.min(Integer.MAX_VALUE,
+                                                                             value.slots().byteSize()))
+                    .executor(Runnable::run)
+                    .scheduler(scheduler)
+                    .removalListener((Long key, OffHeapPage value, RemovalCause cause) -> {
+                      if (value != null) {
+                        value.slots().release();
+                      }
+                    })
+                    .recordStats()
+                    .build();
+  }
+
+  private static boolean isCacheable(final PageReference key) {
+    return key.getKey() != Constants.NULL_ID_LONG && key.getLogKey() == Constants.NULL_ID_INT;
+  }
+
+  @Override
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public KeyValueLeafPage get(PageReference key) {
+    if (!isCacheable(key)) {
+      return null;
+    }
+    final OffHeapPage offHeapPage = cache.getIfPresent(key.getKey());
+
+    // The entry might have been evicted concurrently and its off-heap memory freed.
+    if (offHeapPage == null || !offHeapPage.slots().retain()) {
+      return null;
+    }
+
+    final KeyValueLeafPage page = offHeapPage.toKeyValueLeafPage();
+    CLEANER.register(page, offHeapPage.slots()::release);
+    return page;
+  }
+
+  @Override
+  public void put(PageReference key, @NonNull KeyValueLeafPage value) {
+    if (!isCacheable(key)) {
+      return;
+    }
+
+    // Records, which have not been serialized into a slot can't be stored off-heap.
+    final var records = value.records();
+    final var slots = value.getOffHeapSlots() == null ? value.getSlots() : null;
+    if (slots != null) {
+      for (int i = 0; i < records.length; i++) {
+        if (records[i] != null && slots[i] == null && value.getPageReference(records[i].getNodeKey()) == null) {
+          return;
+        }
+      }
+    }
+
+    final OffHeapSlots offHeapSlots;
+    if (slots == null) {
+      // A restored page, which is still referenced by the page itself: the entry shares its memory.
+      offHeapSlots = value.getOffHeapSlots();
+      if (!offHeapSlots.retain()) {
+        return;
+      }
+    } else {
+      offHeapSlots = OffHeapSlots.of(slots, value.getDeweyIds());
+    }
+
+    cache.put(key.getKey(),
+              new OffHeapPage(value.getPageKey(),
+                              value.getRevision(),
+                              value.getIndexType(),
+                              value.getResourceConfig(),
+                              Map.copyOf(value.getReferencesMap()),
+                              offHeapSlots));
+  }
+
+  @Override
+  public void putAll(Map<? extends PageReference, ? extends KeyValueLeafPage> map) {
+    map.forEach(this::put);
+  }
+
+  @Override
+  public void toSecondCache() {
+    // The lowest cache level, there's no cache to move the pages to.
+  }
+
+  @Override
+  public Map<PageReference, KeyValueLeafPage> getAll(Iterable<? extends PageReference> keys) {
+    final var pages = new HashMap<PageReference, KeyValueLeafPage>();
+    for (final PageReference key : keys) {
+      final KeyValueLeafPage page = get(key);
+      if (page != null) {
+        pages.put(key, page);
+      }
+    }
+    return pages;
+  }
+
+  @Override
+  public void remove(PageReference key) {
+    cache.invalidate(key.getKey());
+  }
+
+  @Override
+  public void close() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public CacheStatistics getStatistics() {
+    return CacheStatistics.of(cache);
+  }
+
+  @Override
+  public void setMaximumWeight(long maximumWeight) {
+    cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
+}
@@ -16,17 +16,18 @@ public final class PageCache implements Cache<PageReference, Page> {
 
   private final com.github.benmanes.caffeine.cache.Cache<PageReference, Page> pageCache;
 
-  public PageCache(final int maxSize) {
+  public PageCache(final long maxWeight) {
     RemovalListener<PageReference, Page> removalListener = (PageReference key, Page value, RemovalCause cause) -> {
       key.setPage(null);
     };
 
     pageCache = Caffeine.newBuilder()
-                        .initialCapacity(maxSize)
-                        .maximumSize(maxSize)
+                        .maximumWeight(maxWeight)
+                        .weigher((PageReference key, Page value) -> PageWeigher.weigh(value))
                         .executor(Runnable::run)
                         .scheduler(scheduler)
                         .removalListener(removalListener)
+                        .recordStats()
                         .build();
   }
 
@@ -78,4 +79,14 @@ public final class PageCache implements Cache<PageReference, Page> {
   @Override
   public void close() {
   }
+
+  @Override
+  public CacheStatistics getStatistics() {
+    return CacheStatistics.of(pageCache);
+  }
+
+  @Override
+  public void setMaximumWeight(long maximumWeight) {
+    pageCache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
 }
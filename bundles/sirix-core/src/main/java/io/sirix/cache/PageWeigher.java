@@ -0,0 +1,143 @@
+package io.sirix.cache;
+
+import io.sirix.index.name.Names;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.interfaces.Page;
+import io.sirix.settings.Constants;
+
+/**
+ * Estimates the retained heap size of cached values in bytes. The estimates are used as
+ * {@code Caffeine} weights, such that the caches of a {@link BufferManager} are bounded by memory
+ * instead of by the number of entries.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PageWeigher {
+
+  /**
+   * Object header plus some fields.
+   */
+  static final int OBJECT_OVERHEAD = 32;
+
+  /**
+   * Array header (object header plus length).
+   */
+  static final int ARRAY_OVERHEAD = 16;
+
+  /**
+   * Size of a reference (uncompressed references to not underestimate large heaps).
+   */
+  static final int REFERENCE_SIZE = 8;
+
+  /**
+   * Estimated size of a {@link io.sirix.page.PageReference} including its fields.
+   */
+  static final int PAGE_REFERENCE_SIZE = 64;
+
+  /**
+   * Estimated additional size of a deserialized record compared to its serialized slot.
+   */
+  static final int RECORD_OVERHEAD = 64;
+
+  /**
+   * Estimated size of a red-black tree index node.
+   */
+  static final int INDEX_NODE_SIZE = 160;
+
+  /**
+   * Estimated size of a single name entry in a {@link Names} instance (three hash map entries).
+   */
+  static final int NAME_ENTRY_SIZE = 96;
+
+  /**
+   * Estimated size of a single path node in the path summary.
+   */
+  static final int PATH_NODE_SIZE = 192;
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private PageWeigher() {
+    throw new AssertionError("May not be instantiated!");
+  }
+
+  /**
+   * Estimate the retained size of a page.
+   *
+   * @param page the page
+   * @return the estimated size in bytes
+   */
+  public static int weigh(final Page page) {
+    if (page instanceof KeyValueLeafPage keyValueLeafPage) {
+      return weigh(keyValueLeafPage);
+    }
+    return saturatedCast(OBJECT_OVERHEAD + (long) page.getReferences().size() * PAGE_REFERENCE_SIZE);
+  }
+
+  /**
+   * Estimate the retained size of a record page, that is the slot byte arrays, the records which
+   * are deserialized from the slots on demand and the DeweyIDs.
+   *
+   * @param page the record page
+   * @return the estimated size in bytes
+   */
+  public static int weigh(final KeyValueLeafPage page) {
+    final var offHeapSlots = page.getOffHeapSlots();
+
+    if (offHeapSlots != null) {
+      // Only the records, which are deserialized from the off-heap slots, are retained on-heap.
+      final long size = OBJECT_OVERHEAD + 3L * (ARRAY_OVERHEAD + (long) Constants.NDP_NODE_COUNT * REFERENCE_SIZE)
+          + (long) offHeapSlots.getNumberOfRecords() * RECORD_OVERHEAD + offHeapSlots.byteSize()
+          + (long) page.getReferencesMap().size() * PAGE_REFERENCE_SIZE;
+      return saturatedCast(size);
+    }
+
+    final byte[][] slots = page.getSlots();
+    final byte[][] deweyIds = page.getDeweyIds();
+
+    // The records, slots and DeweyIDs arrays.
+    long size = OBJECT_OVERHEAD + 3L * (ARRAY_OVERHEAD + (long) slots.length * REFERENCE_SIZE);
+
+    for (final byte[] slot : slots) {
+      if (slot != null) {
+        // Slot plus the record, which is deserialized from the slot.
+        size += ARRAY_OVERHEAD + RECORD_OVERHEAD + 2L * slot.length;
+      }
+    }
+
+    for (final byte[] deweyId : deweyIds) {
+      if (deweyId != null) {
+        size += ARRAY_OVERHEAD + deweyId.length;
+      }
+    }
+
+    size += (long) page.getReferencesMap().size() * PAGE_REFERENCE_SIZE;
+
+    return saturatedCast(size);
+  }
+
+  /**
+   * Estimate the retained size of a names instance.
+   *
+   * @param names the names
+   * @return the estimated size in bytes
+   */
+  public static int weigh(final Names names) {
+    return saturatedCast(OBJECT_OVERHEAD + (long) names.size() * NAME_ENTRY_SIZE);
+  }
+
+  /**
+   * Estimate the retained size of the cached path summary data.
+   *
+   * @param pathSummaryData the path summary data
+   * @return the estimated size in bytes
+   */
+  public static int weigh(final PathSummaryData pathSummaryData) {
+    final long pathNodes = pathSummaryData.pathNodeMapping() == null ? 0 : pathSummaryData.pathNodeMapping().length;
+    return saturatedCast(OBJECT_OVERHEAD + ARRAY_OVERHEAD + pathNodes * (REFERENCE_SIZE + PATH_NODE_SIZE));
+  }
+
+  private static int saturatedCast(final long size) {
+    return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+  }
+}
@@ -9,10 +9,12 @@ public class PathSummaryCache implements Cache<Integer, PathSummaryData> {
 
   private final com.github.benmanes.caffeine.cache.Cache<Integer, PathSummaryData> cache;
 
-  public PathSummaryCache(final int maxSize) {
+  public PathSummaryCache(final long maxWeight) {
     cache = Caffeine.newBuilder()
-                    .maximumSize(maxSize)
+                    .maximumWeight(maxWeight)
+                    .weigher((Integer key, PathSummaryData value) -> PageWeigher.weigh(value))
                     .expireAfterAccess(5, TimeUnit.MINUTES)
+                    .recordStats()
                     .build();
   }
 
@@ -54,4 +56,14 @@ public class PathSummaryCache implements Cache<Integer, PathSummaryData> {
   @Override
   public void close() {
   }
+
+  @Override
+  public CacheStatistics getStatistics() {
+    return CacheStatistics.of(cache);
+  }
+
+  @Override
+  public void setMaximumWeight(long maximumWeight) {
+    cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
 }
@@ -16,24 +16,40 @@ public final class RecordPageCache implements Cache<PageReference, KeyValueLeafP
 
   private final com.github.benmanes.caffeine.cache.Cache<PageReference, KeyValueLeafPage> pageCache;
 
-  public RecordPageCache(final int maxSize) {
+  /**
+   * Second level cache, evicted pages are moved to (for instance an {@link OffHeapRecordPageCache}).
+   */
+  private final Cache<PageReference, KeyValueLeafPage> secondLevelCache;
+
+  public RecordPageCache(final long maxWeight) {
+    this(maxWeight, new EmptyCache<>());
+  }
+
+  public RecordPageCache(final long maxWeight, final Cache<PageReference, KeyValueLeafPage> secondLevelCache) {
+    this.secondLevelCache = secondLevelCache;
+
     final RemovalListener<PageReference, KeyValueLeafPage> removalListener =
-        (PageReference key, KeyValueLeafPage _, RemovalCause cause) -> {
+        (PageReference key, KeyValueLeafPage value, RemovalCause cause) -> {
           key.setPage(null);
+          if (cause.wasEvicted()) {
+            this.secondLevelCache.put(key, value);
+          }
         };
 
     pageCache = Caffeine.newBuilder()
-                        .initialCapacity(maxSize)
                         .executor(Runnable::run)
-                        .maximumSize(maxSize)
+                        .maximumWeight(maxWeight)
+                        .weigher((PageReference key, KeyValueLeafPage value) -> PageWeigher.weigh(value))
                         .scheduler(scheduler)
                         .removalListener(removalListener)
+                        .recordStats()
                         .build();
   }
 
   @Override
   public void clear() {
     pageCache.invalidateAll();
+    secondLevelCache.clear();
   }
 
   @Override
@@ -44,13 +60,23 @@ public final class RecordPageCache implements Cache<PageReference, KeyValueLeafP
     //      keyValueLeafPage = new KeyValueLeafPage(keyValueLeafPage);
     //    }
 
+    if (keyValueLeafPage == null) {
+      keyValueLeafPage = secondLevelCache.get(key);
+      if (keyValueLeafPage != null) {
+        pageCache.put(key, keyValueLeafPage);
+      }
+    }
+
     return keyValueLeafPage;
   }
 
   @Override
   public KeyValueLeafPage get(PageReference key,
       Function<? super PageReference, ? extends @PolyNull KeyValueLeafPage> mappingFunction) {
-    return pageCache.get(key, mappingFunction);
+    return pageCache.get(key, pageReference -> {
+      final KeyValueLeafPage page = secondLevelCache.get(pageReference);
+      return page != null ? page : mappingFunction.apply(pageReference);
+    });
   }
 
   @Override
@@ -65,7 +91,7 @@ public final class RecordPageCache implements Cache<PageReference, KeyValueLeafP
 
   @Override
   public void toSecondCache() {
-    throw new UnsupportedOperationException();
+    pageCache.asMap().forEach(secondLevelCache::put);
   }
 
   @Override
@@ -76,9 +102,20 @@ public final class RecordPageCache implements Cache<PageReference, KeyValueLeafP
   @Override
   public void remove(PageReference key) {
     pageCache.invalidate(key);
+    secondLevelCache.remove(key);
   }
 
   @Override
   public void close() {
   }
+
+  @Override
+  public CacheStatistics getStatistics() {
+    return CacheStatistics.of(pageCache);
+  }
+
+  @Override
+  public void setMaximumWeight(long maximumWeight) {
+    pageCache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
 }
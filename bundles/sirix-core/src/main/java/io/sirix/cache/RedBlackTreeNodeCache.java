@@ -13,7 +13,7 @@ public final class RedBlackTreeNodeCache implements Cache<RBIndexKey, Node> {
 
   private final com.github.benmanes.caffeine.cache.Cache<RBIndexKey, Node> cache;
 
-  public RedBlackTreeNodeCache(final int maxSize) {
+  public RedBlackTreeNodeCache(final long maxWeight) {
     final RemovalListener<RBIndexKey, Node> removalListener =
         (RBIndexKey key, Node value, RemovalCause cause) -> {
           assert key != null;
@@ -32,7 +32,13 @@ public final class RedBlackTreeNodeCache implements Cache<RBIndexKey, Node> {
           }
         };
 
-    cache = Caffeine.newBuilder().maximumSize(maxSize).removalListener(removalListener).scheduler(scheduler).build();
+    cache = Caffeine.newBuilder()
+                    .maximumWeight(maxWeight)
+                    .weigher((RBIndexKey key, Node value) -> PageWeigher.INDEX_NODE_SIZE)
+                    .removalListener(removalListener)
+                    .scheduler(scheduler)
+                    .recordStats()
+                    .build();
   }
 
   @Override
@@ -73,4 +79,14 @@ public final class RedBlackTreeNodeCache implements Cache<RBIndexKey, Node> {
   @Override
   public void close() {
   }
+
+  @Override
+  public CacheStatistics getStatistics() {
+    return CacheStatistics.of(cache);
+  }
+
+  @Override
+  public void setMaximumWeight(long maximumWeight) {
+    cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
 }
@@ -40,9 +40,13 @@ import java.util.concurrent.TimeUnit;
 public final class RevisionRootPageCache implements Cache<Integer, RevisionRootPage> {
   private final com.github.benmanes.caffeine.cache.Cache<Integer, RevisionRootPage> pageCache;
 
-  public RevisionRootPageCache(final int maxSize) {
-    pageCache =
-        Caffeine.newBuilder().maximumSize(maxSize).scheduler(scheduler).build();
+  public RevisionRootPageCache(final long maxWeight) {
+    pageCache = Caffeine.newBuilder()
+                        .maximumWeight(maxWeight)
+                        .weigher((Integer key, RevisionRootPage value) -> PageWeigher.weigh(value))
+                        .scheduler(scheduler)
+                        .recordStats()
+                        .build();
   }
 
   @Override
@@ -89,4 +93,14 @@ public final class RevisionRootPageCache implements Cache<Integer, RevisionRootP
   @Override
   public void close() {
   }
+
+  @Override
+  public CacheStatistics getStatistics() {
+    return CacheStatistics.of(pageCache);
+  }
+
+  @Override
+  public void setMaximumWeight(long maximumWeight) {
+    pageCache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
 }
@@ -35,6 +35,14 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import io.sirix.diff.DiffFactory.Builder;
 import io.sirix.diff.DiffFactory.DiffOptimized;
 import io.sirix.diff.DiffFactory.DiffType;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -153,6 +161,11 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   private final boolean skipSubtrees;
 
+  /**
+   * The builder, from which the diffs of subtrees are derived.
+   */
+  private final Builder<R, W> builder;
+
   /**
    * Constructor.
    *
@@ -160,8 +173,9 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    * @throws SirixException if setting up transactions failes
    */
   AbstractDiff(final Builder<R, W> builder) throws SirixException {
+    this.builder = requireNonNull(builder);
     skipSubtrees = builder.skipSubtrees;
-    diffKind = requireNonNull(builder).kind;
+    diffKind = builder.kind;
     oldMaxDepth = builder.oldMaxDepth;
     synchronized (builder.resMgr) {
       newRtx = builder.resMgr.beginNodeReadOnlyTrx(builder.newRev);
@@ -219,6 +233,11 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
       return;
     }
 
+    if (diffSubtreesInParallel()) {
+      diffDone();
+      return;
+    }
+
     // Check first node.
     if (hashKind == HashType.NONE || diffKind == DiffOptimized.NO) {
       diff = diff(newRtx, oldRtx, depth);
@@ -277,6 +296,148 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
     diffDone();
   }
 
+  /**
+   * Diffs the subtrees of the children of the start node in parallel, if the children are the same in
+   * both revisions. Nodes with a single child are descended until a node with enough children is
+   * found. Children with the same hash are skipped, the others are diffed on the fork-join pool, and
+   * the diffs are fired in document order afterwards, just as if they were computed sequentially.
+   *
+   * @return {@code true}, if the revisions have been diffed, {@code false}, if they have to be diffed
+   * sequentially (in which case the transactions are still located at the start nodes)
+   */
+  private boolean diffSubtreesInParallel() {
+    final Function<Builder<R, W>, AbstractDiff<R, W>> subtreeDiffFactory = subtreeDiffFactory();
+    if (subtreeDiffFactory == null || builder.parallelThreshold == Integer.MAX_VALUE || hashKind == HashType.NONE
+        || diffKind != DiffOptimized.HASHED || oldMaxDepth > 0 || newRtx.getNodeKey() != oldRtx.getNodeKey()) {
+      return false;
+    }
+
+    final long startKey = newRtx.getNodeKey();
+    final List<DiffTuple> ancestorDiffs = new ArrayList<>();
+    int newDepth = depth.getNewDepth();
+    int oldDepth = depth.getOldDepth();
+    long[] childKeys;
+
+    while (true) {
+      if (newRtx.getNodeKey() != oldRtx.getNodeKey() || newRtx.getHash() == oldRtx.getHash()
+          || !checkNodes(newRtx, oldRtx)) {
+        newRtx.moveTo(startKey);
+        oldRtx.moveTo(startKey);
+        return false;
+      }
+      ancestorDiffs.add(new DiffTuple(DiffType.SAME, newRtx.getNodeKey(), oldRtx.getNodeKey(),
+                                      new DiffDepth(newDepth, oldDepth)));
+      childKeys = sameChildKeys();
+      if (childKeys == null || (childKeys.length != 1 && childKeys.length < builder.parallelThreshold)) {
+        newRtx.moveTo(startKey);
+        oldRtx.moveTo(startKey);
+        return false;
+      }
+      if (newRtx.getKind() != NodeKind.OBJECT_KEY) {
+        newDepth++;
+        oldDepth++;
+      }
+      if (childKeys.length >= builder.parallelThreshold) {
+        break;
+      }
+      newRtx.moveTo(childKeys[0]);
+      oldRtx.moveTo(childKeys[0]);
+    }
+
+    final int childNewDepth = newDepth;
+    final int childOldDepth = oldDepth;
+    final List<Supplier<List<DiffTuple>>> subtreeDiffs = new ArrayList<>(childKeys.length);
+    for (final long childKey : childKeys) {
+      newRtx.moveTo(childKey);
+      oldRtx.moveTo(childKey);
+      if (newRtx.getHash() == oldRtx.getHash()) {
+        final List<DiffTuple> diffs =
+            List.of(new DiffTuple(DiffType.SAMEHASH, childKey, childKey, new DiffDepth(childNewDepth, childOldDepth)));
+        subtreeDiffs.add(() -> diffs);
+      } else {
+        final ForkJoinTask<List<DiffTuple>> task = ForkJoinTask.adapt(() -> {
+          final var recorder = new DiffTupleRecorder();
+          subtreeDiffFactory.apply(subtreeBuilder(childKey, childNewDepth, childOldDepth, recorder)).diffMovement();
+          return recorder.diffs;
+        }).fork();
+        subtreeDiffs.add(task::join);
+      }
+    }
+
+    for (final DiffTuple diffTuple : ancestorDiffs) {
+      fireDiff(diffTuple.getDiff(), diffTuple.getNewNodeKey(), diffTuple.getOldNodeKey(), diffTuple.getDepth());
+    }
+    for (final Supplier<List<DiffTuple>> subtreeDiff : subtreeDiffs) {
+      for (final DiffTuple diffTuple : subtreeDiff.get()) {
+        fireDiff(diffTuple.getDiff(), diffTuple.getNewNodeKey(), diffTuple.getOldNodeKey(), diffTuple.getDepth());
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Get the node keys of the children of the current nodes, if they are the same in both revisions.
+   * The transactions are moved back afterwards.
+   *
+   * @return the node keys of the children or {@code null}, if they differ
+   */
+  private long[] sameChildKeys() {
+    final long nodeKey = newRtx.getNodeKey();
+    final LongArrayList childKeys = new LongArrayList();
+    boolean newMoved = newRtx.moveToFirstChild();
+    boolean oldMoved = oldRtx.moveToFirstChild();
+    while (newMoved && oldMoved && newRtx.getNodeKey() == oldRtx.getNodeKey()) {
+      childKeys.add(newRtx.getNodeKey());
+      newMoved = newRtx.moveToRightSibling();
+      oldMoved = oldRtx.moveToRightSibling();
+    }
+    final boolean same = !newMoved && !oldMoved;
+    newRtx.moveTo(nodeKey);
+    oldRtx.moveTo(nodeKey);
+    return same ? childKeys.toLongArray() : null;
+  }
+
+  /**
+   * Create the builder of the diff of a subtree, which has the same root node in both revisions.
+   *
+   * @param nodeKey  the node key of the root of the subtree
+   * @param newDepth the depth of the root in the new revision
+   * @param oldDepth the depth of the root in the old revision
+   * @param observer the observer of the diffs
+   * @return the builder
+   */
+  private Builder<R, W> subtreeBuilder(final long nodeKey, final int newDepth, final int oldDepth,
+      final DiffObserver observer) {
+    final Builder<R, W> subtreeBuilder =
+        new Builder<>(builder.resMgr, builder.newRev, builder.oldRev, builder.kind, Set.of(observer));
+    subtreeBuilder.newStartKey(nodeKey)
+                  .oldStartKey(nodeKey)
+                  .newDepth(newDepth)
+                  .oldDepth(oldDepth)
+                  .hashKind(hashKind)
+                  .isGUI(isGUI)
+                  .skipSubtrees(skipSubtrees)
+                  .parallelThreshold(builder.parallelThreshold);
+    return subtreeBuilder;
+  }
+
+  /**
+   * Records the diffs of a subtree.
+   */
+  private static final class DiffTupleRecorder implements DiffObserver {
+    private final List<DiffTuple> diffs = new ArrayList<>();
+
+    @Override
+    public void diffListener(final DiffType diffType, final long newNodeKey, final long oldNodeKey,
+        final @NonNull DiffDepth depth) {
+      diffs.add(new DiffTuple(diffType, newNodeKey, oldNodeKey, depth));
+    }
+
+    @Override
+    public void diffDone() {
+    }
+  }
+
   private void emitDeleteDiff() {
     diff = DiffType.DELETED;
     final DiffDepth diffDepth = new DiffDepth(this.depth.getNewDepth(), this.depth.getOldDepth());
@@ -747,6 +908,16 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   abstract boolean checkNodeNamesOrValues(R newRtx, R oldRtx);
 
+  /**
+   * Get the factory of diffs of the same kind for subtrees, such that subtrees can be diffed in
+   * parallel.
+   *
+   * @return the factory or {@code null}, if subtrees mustn't be diffed separately
+   */
+  Function<Builder<R, W>, AbstractDiff<R, W>> subtreeDiffFactory() {
+    return null;
+  }
+
   /**
    * Get the document node kind.
    *
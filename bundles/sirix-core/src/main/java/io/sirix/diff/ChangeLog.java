@@ -0,0 +1,216 @@
+package io.sirix.diff;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.exception.SirixIOException;
+import io.sirix.io.IndexedRecordLog;
+import io.sirix.io.bytepipe.ByteHandler;
+import io.sirix.io.bytepipe.LZ4Compressor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Append-only, binary change log of a resource, which stores the update operations (the
+ * {@link DiffTuple}s) of each commit. It consists of two files in the
+ * {@link ResourceConfiguration.ResourcePaths#UPDATE_OPERATIONS} folder: the log itself, which holds
+ * one LZ4 compressed block of tuples per revision, and an index with a fixed size entry per
+ * revision, which denotes the offset and the length of the block of the revision.
+ *
+ * <p>Both files form an {@link IndexedRecordLog}. If a revision has been appended more than once (as
+ * a commit failed after its changes have been appended), the last entry wins.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ChangeLog {
+
+  /**
+   * The name of the log file.
+   */
+  static final String LOG_FILE = "changes.log";
+
+  /**
+   * The name of the index file.
+   */
+  static final String INDEX_FILE = "changes.idx";
+
+  /**
+   * Size of the header of an index entry: the revision and the old revision.
+   */
+  private static final int INDEX_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+  /**
+   * Size of a serialized tuple: the diff type, a flag for the depth, both node keys and both depths.
+   */
+  private static final int TUPLE_SIZE = 2 + 2 * Long.BYTES + 2 * Integer.BYTES;
+
+  private static final DiffFactory.DiffType[] DIFF_TYPES = DiffFactory.DiffType.values();
+
+  private static final ByteHandler COMPRESSOR = new LZ4Compressor();
+
+  /**
+   * The update operations of one revision.
+   *
+   * @param oldRevisionNumber the revision the changes are based on
+   * @param revisionNumber    the revision, which has been committed with the changes
+   * @param diffs             the changes in the order of the update operations
+   */
+  public record RevisionChanges(int oldRevisionNumber, int revisionNumber, List<DiffTuple> diffs) {
+  }
+
+  private final IndexedRecordLog log;
+
+  /**
+   * Constructor.
+   *
+   * @param updateOperationsDirectory the folder, which stores the update operations of a resource
+   */
+  public ChangeLog(final Path updateOperationsDirectory) {
+    requireNonNull(updateOperationsDirectory);
+    log = new IndexedRecordLog(updateOperationsDirectory.resolve(LOG_FILE),
+                               updateOperationsDirectory.resolve(INDEX_FILE),
+                               INDEX_HEADER_SIZE);
+  }
+
+  /**
+   * Get the change log of a resource.
+   *
+   * @param resourceConfig the configuration of the resource
+   * @return the change log
+   */
+  public static ChangeLog of(final ResourceConfiguration resourceConfig) {
+    return new ChangeLog(resourceConfig.getResource()
+                                       .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath()));
+  }
+
+  /**
+   * Append the update operations of a commit.
+   *
+   * @param oldRevisionNumber the revision the changes are based on
+   * @param revisionNumber    the committed revision
+   * @param diffs             the changes in the order of the update operations
+   * @throws SirixIOException if the log can't be written
+   */
+  public void append(final int oldRevisionNumber, final int revisionNumber, final Collection<DiffTuple> diffs) {
+    checkArgument(oldRevisionNumber >= 0 && oldRevisionNumber < revisionNumber,
+                  "The old revision must be older than the revision.");
+
+    final ByteBuffer tuples = ByteBuffer.allocate(Integer.BYTES + diffs.size() * TUPLE_SIZE);
+    tuples.putInt(diffs.size());
+    for (final DiffTuple diff : diffs) {
+      final DiffDepth depth = diff.getDepth();
+      tuples.put((byte) diff.getDiff().ordinal())
+            .put((byte) (depth == null ? 0 : 1))
+            .putLong(diff.getNewNodeKey())
+            .putLong(diff.getOldNodeKey())
+            .putInt(depth == null ? 0 : depth.getNewDepth())
+            .putInt(depth == null ? 0 : depth.getOldDepth());
+    }
+    final ByteBuffer block = COMPRESSOR.serialize(tuples.flip());
+
+    log.append(ByteBuffer.allocate(INDEX_HEADER_SIZE).putInt(revisionNumber).putInt(oldRevisionNumber).flip(),
+               block);
+  }
+
+  /**
+   * Get the update operations of the commit of a revision.
+   *
+   * @param revisionNumber the revision number
+   * @return the changes or {@code null}, if the log doesn't contain the revision
+   * @throws SirixIOException if the log can't be read
+   */
+  public RevisionChanges getChanges(final int revisionNumber) {
+    final ByteBuffer index = log.readEntries();
+    try (final FileChannel records = index.hasRemaining() ? log.openRecords() : null) {
+      // The last entry of the revision belongs to the commit, which succeeded.
+      for (int position = index.limit() - log.getEntrySize(); position >= 0; position -= log.getEntrySize()) {
+        if (index.getInt(position) == revisionNumber) {
+          return readChanges(records, index, position);
+        }
+      }
+      return null;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Stream the update operations of all commits between two revisions, that is of all revisions
+   * {@code r} with {@code fromRevisionNumber < r <= toRevisionNumber} in ascending order. The changes
+   * of a revision are decompressed not before the stream reaches them. The stream must be closed.
+   *
+   * @param fromRevisionNumber the (exclusive) start revision
+   * @param toRevisionNumber   the (inclusive) end revision
+   * @return the stream of changes
+   * @throws SirixIOException if the log can't be read
+   */
+  public Stream<RevisionChanges> streamChanges(final int fromRevisionNumber, final int toRevisionNumber) {
+    checkArgument(fromRevisionNumber <= toRevisionNumber,
+                  "The start revision must not be newer than the end revision.");
+
+    final ByteBuffer index = log.readEntries();
+    // The entries are appended in the order of the commits, a later entry of a revision replaces an
+    // earlier one.
+    final var positionsByRevision = new TreeMap<Integer, Integer>();
+    for (int position = 0; position < index.limit(); position += log.getEntrySize()) {
+      final int revisionNumber = index.getInt(position);
+      if (revisionNumber > fromRevisionNumber && revisionNumber <= toRevisionNumber) {
+        positionsByRevision.put(revisionNumber, position);
+      }
+    }
+    final int[] positions = positionsByRevision.values().stream().mapToInt(Integer::intValue).toArray();
+    if (positions.length == 0) {
+      return Stream.empty();
+    }
+
+    final FileChannel records;
+    try {
+      records = log.openRecords();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    return IntStream.of(positions).mapToObj(position -> {
+      try {
+        return readChanges(records, index, position);
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }).onClose(() -> {
+      try {
+        records.close();
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    });
+  }
+
+  private RevisionChanges readChanges(final FileChannel records, final ByteBuffer index, final int position)
+      throws IOException {
+    final int revisionNumber = index.getInt(position);
+    final int oldRevisionNumber = index.getInt(position + Integer.BYTES);
+
+    final ByteBuffer tuples = COMPRESSOR.deserialize(log.readRecord(records, index, position));
+    final int size = tuples.getInt();
+    final List<DiffTuple> diffs = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      final DiffFactory.DiffType diffType = DIFF_TYPES[tuples.get()];
+      final boolean hasDepth = tuples.get() != 0;
+      final long newNodeKey = tuples.getLong();
+      final long oldNodeKey = tuples.getLong();
+      final int newDepth = tuples.getInt();
+      final int oldDepth = tuples.getInt();
+      diffs.add(new DiffTuple(diffType, newNodeKey, oldNodeKey, hasDepth ? new DiffDepth(newDepth, oldDepth) : null));
+    }
+    return new RevisionChanges(oldRevisionNumber, revisionNumber, diffs);
+  }
+}
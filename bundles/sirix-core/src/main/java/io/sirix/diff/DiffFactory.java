@@ -166,6 +166,12 @@ public final class DiffFactory {
   /** Builder to simplify static methods. */
   public static final class Builder<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> {
 
+    /**
+     * Default minimum number of children of a node, such that the subtrees of the children are diffed
+     * in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 64;
+
     /** {@link ResourceSession} reference. */
     final ResourceSession<R, W> resMgr;
 
@@ -208,6 +214,9 @@ public final class DiffFactory {
     /** The maximum depth. */
       transient long oldMaxDepth;
 
+    /** Minimum number of children of a node, such that their subtrees are diffed in parallel. */
+    transient int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
     /**
      * Constructor.
      *
@@ -332,6 +341,21 @@ public final class DiffFactory {
       this.skipSubtrees = skipSubtrees;
       return this;
     }
+
+    /**
+     * Set the minimum number of children of a node, such that the subtrees of its children are diffed
+     * in parallel. This is only done for hashed JSON diffs without a maximum depth, if the children
+     * (identified by their node keys) are the same in both revisions. {@link Integer#MAX_VALUE}
+     * disables parallel diffing.
+     *
+     * @param parallelThreshold the minimum number of children
+     * @return this builder
+     */
+    public Builder<R, W> parallelThreshold(final @NonNegative int parallelThreshold) {
+      checkArgument(parallelThreshold > 0, "parallelThreshold must be > 0!");
+      this.parallelThreshold = parallelThreshold;
+      return this;
+    }
   }
 
   /**
@@ -347,7 +371,7 @@ public final class DiffFactory {
    *
    * @param builder {@link Builder} reference
    */
-  public static synchronized void invokeJsonDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+  public static void invokeJsonDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
     DiffAlgorithm.JSON.invoke(builder);
   }
 
@@ -356,7 +380,7 @@ public final class DiffFactory {
    *
    * @param builder {@link Builder} reference
    */
-  public static synchronized void invokeFullXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
+  public static void invokeFullXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
     DiffAlgorithm.XML_FULL.invoke(builder);
   }
 
@@ -365,7 +389,7 @@ public final class DiffFactory {
    *
    * @param builder {@link Builder} reference
    */
-  public static synchronized void invokeStructuralXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
+  public static void invokeStructuralXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
     DiffAlgorithm.XML_STRUCTURAL.invoke(builder);
   }
 }
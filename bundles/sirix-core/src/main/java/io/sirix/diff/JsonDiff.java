@@ -22,6 +22,7 @@
 package io.sirix.diff;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.json.JsonNodeTrx;
@@ -43,6 +44,11 @@ final class JsonDiff extends AbstractDiff<JsonNodeReadOnlyTrx, JsonNodeTrx> {
     super(builder);
   }
 
+  @Override
+  Function<DiffFactory.Builder<JsonNodeReadOnlyTrx, JsonNodeTrx>, AbstractDiff<JsonNodeReadOnlyTrx, JsonNodeTrx>> subtreeDiffFactory() {
+    return JsonDiff::new;
+  }
+
   @Override
   NodeKind documentNode() {
     return NodeKind.JSON_DOCUMENT;
@@ -3,6 +3,7 @@ package io.sirix.diff;
 import com.google.api.client.util.Objects;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import io.sirix.access.ResourceConfiguration;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.json.JsonResourceSession;
 import io.sirix.node.NodeKind;
@@ -11,6 +12,7 @@ import io.sirix.service.json.serialize.JsonSerializer;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.util.Collection;
 
 public final class JsonDiffSerializer {
@@ -33,6 +35,44 @@ public final class JsonDiffSerializer {
     this.diffs = diffs;
   }
 
+  /**
+   * Serialize the update operations of the commit of a revision, as stored in the {@link ChangeLog} of
+   * the resource. Resources, which have been written before the change log has been introduced, store
+   * the serialized update operations in a JSON file per revision instead.
+   *
+   * @param databaseName    the name of the database
+   * @param resourceSession the resource session
+   * @param revisionNumber  the revision number
+   * @return the serialized update operations or {@code null}, if no update operations are stored for
+   * the revision
+   */
+  public static String serializeUpdateOperations(final String databaseName,
+      final JsonResourceSession resourceSession, final int revisionNumber) {
+    final var resourceConfig = resourceSession.getResourceConfig();
+    final var changes = ChangeLog.of(resourceConfig).getChanges(revisionNumber);
+
+    if (changes != null) {
+      return new JsonDiffSerializer(databaseName,
+                                    resourceSession,
+                                    changes.oldRevisionNumber(),
+                                    changes.revisionNumber(),
+                                    changes.diffs()).serialize(false);
+    }
+
+    final var updateOperationsFile = resourceConfig.getResource()
+                                                   .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
+                                                   .resolve("diffFromRev" + (revisionNumber - 1) + "toRev"
+                                                                + revisionNumber + ".json");
+    if (!Files.exists(updateOperationsFile)) {
+      return null;
+    }
+    try {
+      return Files.readString(updateOperationsFile);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   public String serialize(boolean emitFromDiffAlgorithm) {
     final var resourceName = resourceManager.getResourceConfig().getName();
 
@@ -4,5 +4,15 @@ import io.sirix.index.redblacktree.RBNodeKey;
 
 public interface Filter {
 
-  <K extends Comparable<? super K>> boolean filter(RBNodeKey<K> node);
+  default <K extends Comparable<? super K>> boolean filter(RBNodeKey<K> node) {
+    return filterKey(node.getKey());
+  }
+
+  /**
+   * Filter an index key, independent of the backend the index is stored in.
+   *
+   * @param key the key to filter
+   * @return {@code true} if the key has been filtered, {@code false} otherwise
+   */
+  <K extends Comparable<? super K>> boolean filterKey(K key);
 }
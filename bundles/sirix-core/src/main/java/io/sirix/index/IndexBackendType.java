@@ -0,0 +1,20 @@
+package io.sirix.index;
+
+/**
+ * The persistent data structure, which stores the entries of a secondary index.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum IndexBackendType {
+  /**
+   * A balanced binary search tree, in which each tree node and each value is a separate record.
+   */
+  RED_BLACK_TREE,
+
+  /**
+   * An adaptive radix tree with path compression, in which the leaves store the keys together with
+   * their values. Lookups need far fewer record fetches than in the red-black tree and all keys with
+   * a common prefix are stored in a single subtree, which makes prefix and range scans cheap.
+   */
+  ADAPTIVE_RADIX_TREE
+}
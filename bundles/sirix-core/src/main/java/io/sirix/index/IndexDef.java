@@ -17,6 +17,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.*;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 public final class IndexDef implements Materializable {
@@ -36,6 +37,8 @@ public final class IndexDef implements Materializable {
 
   private static final QNm ID_ATTRIBUTE = new QNm("id");
 
+  private static final QNm BACKEND_ATTRIBUTE = new QNm("backend");
+
   public static final QNm INDEX_TAG = new QNm("index");
 
   private DbType dbType;
@@ -51,6 +54,9 @@ public final class IndexDef implements Materializable {
   // populated when index is built
   private int id;
 
+  // the persistent data structure storing the index
+  private IndexBackendType backend = IndexBackendType.RED_BLACK_TREE;
+
   public enum DbType {
     XML,
 
@@ -94,6 +100,17 @@ public final class IndexDef implements Materializable {
     this.dbType = dbType;
   }
 
+  /**
+   * Number column index.
+   */
+  IndexDef(final Set<Path<QNm>> paths, final int indexDefNo, final DbType dbType, final IndexType type) {
+    checkArgument(type == IndexType.NUMBER_COLUMN, "The index type must be a number column index.");
+    this.type = type;
+    this.paths.addAll(paths);
+    id = indexDefNo;
+    this.dbType = dbType;
+  }
+
   /**
    * CAS index.
    */
@@ -124,6 +141,10 @@ public final class IndexDef implements Materializable {
       tmp.attribute(UNIQUE_ATTRIBUTE, new Una(Boolean.toString(unique)));
     }
 
+    if (backend != IndexBackendType.RED_BLACK_TREE) {
+      tmp.attribute(BACKEND_ATTRIBUTE, new Una(backend.toString()));
+    }
+
     if (!paths.isEmpty()) {
       for (final Path<QNm> path : paths) {
         tmp.openElement(PATH_TAG);
@@ -196,6 +217,11 @@ public final class IndexDef implements Materializable {
       unique = Boolean.parseBoolean(attribute.getValue().stringValue());
     }
 
+    attribute = root.getAttribute(BACKEND_ATTRIBUTE);
+    if (attribute != null) {
+      backend = IndexBackendType.valueOf(attribute.getValue().stringValue());
+    }
+
     attribute = root.getAttribute(DB_TYPE_ATTRIBUTE);
     if (attribute != null) {
       dbType = DbType.ofString(attribute.getValue().stringValue()).orElseThrow(() -> new DocumentException("Invalid db type"));
@@ -257,6 +283,10 @@ public final class IndexDef implements Materializable {
     return type == IndexType.PATH;
   }
 
+  public boolean isNumberColumnIndex() {
+    return type == IndexType.NUMBER_COLUMN;
+  }
+
   public boolean isUnique() {
     return unique;
   }
@@ -296,6 +326,15 @@ public final class IndexDef implements Materializable {
     return contentType;
   }
 
+  public IndexBackendType getBackend() {
+    return backend;
+  }
+
+  IndexDef setBackend(final IndexBackendType backend) {
+    this.backend = requireNonNull(backend);
+    return this;
+  }
+
   @Override
   public int hashCode() {
     int result = id;
@@ -36,6 +36,20 @@ public final class IndexDefs {
     return new IndexDef(type, paths, unique, indexDefNo, dbType);
   }
 
+  /**
+   * Create a CAS {@link IndexDef} instance, which is stored in the given backend.
+   *
+   * @param unique  determine if it's unique
+   * @param optType an optional type
+   * @param paths   the paths to index
+   * @param backend the persistent data structure storing the index
+   * @return a new {@link IndexDef} instance
+   */
+  public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
+      final int indexDefNo, final IndexDef.DbType dbType, final IndexBackendType backend) {
+    return createCASIdxDef(unique, optType, paths, indexDefNo, dbType).setBackend(backend);
+  }
+
   /**
    * Create a path {@link IndexDef}.
    *
@@ -47,6 +61,31 @@ public final class IndexDefs {
     return new IndexDef(paths, indexDefNo, dbType);
   }
 
+  /**
+   * Create a path {@link IndexDef}, which is stored in the given backend.
+   *
+   * @param paths   the paths to index
+   * @param backend the persistent data structure storing the index
+   * @return a new path {@link IndexDef} instance
+   */
+  public static IndexDef createPathIdxDef(final Set<Path<QNm>> paths, final int indexDefNo,
+      final IndexDef.DbType dbType, final IndexBackendType backend) {
+    return createPathIdxDef(paths, indexDefNo, dbType).setBackend(backend);
+  }
+
+  /**
+   * Create a number column {@link IndexDef}. The trees of number column indexes are referenced by
+   * the path page, thus the index number has to be unique among the path and number column indexes
+   * (see {@link Indexes#getNrOfPathPageIndexDefs()}).
+   *
+   * @param paths the paths of the columns to index, or all paths, if empty
+   * @return a new number column {@link IndexDef} instance
+   */
+  public static IndexDef createNumberColumnIdxDef(final Set<Path<QNm>> paths, final int indexDefNo,
+      final IndexDef.DbType dbType) {
+    return new IndexDef(paths, indexDefNo, dbType, IndexType.NUMBER_COLUMN);
+  }
+
   public static IndexDef createNameIdxDef(final int indexDefNo, final IndexDef.DbType dbType) {
     return switch (dbType) {
       case JSON -> new IndexDef(ImmutableSet.of(),
@@ -60,6 +99,11 @@ public final class IndexDefs {
     };
   }
 
+  public static IndexDef createNameIdxDef(final int indexDefNo, final IndexDef.DbType dbType,
+      final IndexBackendType backend) {
+    return createNameIdxDef(indexDefNo, dbType).setBackend(backend);
+  }
+
   public static IndexDef createFilteredNameIdxDef(final Set<QNm> excluded, final int indexDefNo,
       final IndexDef.DbType dbType) {
     return switch (dbType) {
@@ -52,7 +52,13 @@ public enum IndexType {
   /**
    * DeweyIDs to record-IDs.
    */
-  DEWEYID_TO_RECORDID((byte) 8);
+  DEWEYID_TO_RECORDID((byte) 8),
+
+  /**
+   * Number column index, which stores the number values of path classes (the index trees are
+   * referenced by the path page).
+   */
+  NUMBER_COLUMN((byte) 9);
 
   /**
    * Unique ID.
@@ -0,0 +1,74 @@
+package io.sirix.index;
+
+import io.sirix.access.DatabaseType;
+import io.sirix.api.PageTrx;
+import io.sirix.index.art.ARTTreeWriter;
+import io.sirix.index.art.BinaryComparable;
+import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.redblacktree.interfaces.References;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.util.Optional;
+
+/**
+ * Writes the entries of a secondary index into its persistent backend, that is either a red-black
+ * tree or an adaptive radix tree (see {@link IndexBackendType}).
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Johannes Lichtenberger
+ */
+public interface IndexWriter<K extends Comparable<? super K>, V extends References> {
+
+  /**
+   * Index the value under the given key. If the key is already indexed, its value is replaced.
+   *
+   * @param key   the key to index
+   * @param value the node key references
+   * @param move  determines if the cursor must be moved to the document root (only relevant for the
+   *              red-black tree backend)
+   * @return the indexed value
+   */
+  V index(K key, V value, RBTreeReader.MoveCursor move);
+
+  /**
+   * Get the value of the given key.
+   *
+   * @param key  the key to search for
+   * @param mode the search mode
+   * @return the value, if the key is indexed
+   */
+  Optional<V> get(K key, SearchMode mode);
+
+  /**
+   * Remove a node key from the references of the given key.
+   *
+   * @param key     the key
+   * @param nodeKey the node key to remove
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   */
+  boolean remove(K key, @NonNegative long nodeKey);
+
+  /**
+   * Get a new writer for the backend of the index definition.
+   *
+   * @param databaseType     the type of the database
+   * @param pageTrx          the page trx
+   * @param indexDef         the index definition
+   * @param binaryComparable transforms keys into their binary comparable form (only used by the
+   *                         adaptive radix tree backend)
+   * @param <K>              the key type
+   * @param <V>              the value type
+   * @return a new index writer
+   */
+  static <K extends Comparable<? super K>, V extends References> IndexWriter<K, V> getInstance(
+      final DatabaseType databaseType, final PageTrx pageTrx, final IndexDef indexDef,
+      final BinaryComparable<K> binaryComparable) {
+    return switch (indexDef.getBackend()) {
+      case RED_BLACK_TREE -> RBTreeWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+      case ADAPTIVE_RADIX_TREE ->
+          ARTTreeWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID(), binaryComparable);
+    };
+  }
+}
@@ -163,6 +163,16 @@ public final class Indexes implements Materializable {
     return Optional.empty();
   }
 
+  /**
+   * Get the number of the path and number column index definitions, whose index trees are both
+   * referenced by the path page and thus share the index numbers.
+   *
+   * @return the number of path and number column index definitions
+   */
+  public int getNrOfPathPageIndexDefs() {
+    return getNrOfIndexDefsWithType(IndexType.PATH) + getNrOfIndexDefsWithType(IndexType.NUMBER_COLUMN);
+  }
+
   public int getNrOfIndexDefsWithType(final IndexType type) {
     requireNonNull(type);
     int nr = 0;
@@ -0,0 +1,47 @@
+package io.sirix.index.art;
+
+import com.google.common.collect.AbstractIterator;
+import io.sirix.index.Filter;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+
+import java.util.Iterator;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Filters the leaves of an adaptive radix tree index and returns the node references of the
+ * matching leaves.
+ *
+ * @param <K> the key type
+ * @author Johannes Lichtenberger
+ */
+public final class ARTIndexFilterAxis<K extends Comparable<? super K>> extends AbstractIterator<NodeReferences> {
+
+  private final Iterator<ARTLeafNode<K, NodeReferences>> iter;
+
+  private final Set<? extends Filter> filter;
+
+  public ARTIndexFilterAxis(final Iterator<ARTLeafNode<K, NodeReferences>> iter, final Set<? extends Filter> filter) {
+    this.iter = requireNonNull(iter);
+    this.filter = requireNonNull(filter);
+  }
+
+  @Override
+  protected NodeReferences computeNext() {
+    while (iter.hasNext()) {
+      final ARTLeafNode<K, NodeReferences> leaf = iter.next();
+      boolean filterResult = true;
+      for (final Filter filter : filter) {
+        filterResult = filter.filterKey(leaf.getKey());
+        if (!filterResult) {
+          break;
+        }
+      }
+      if (filterResult) {
+        return leaf.getValue();
+      }
+    }
+    return endOfData();
+  }
+}
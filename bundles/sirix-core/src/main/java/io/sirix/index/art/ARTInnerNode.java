@@ -0,0 +1,270 @@
+package io.sirix.index.art;
+
+import com.google.common.base.MoreObjects;
+import io.sirix.node.AbstractForwardingNode;
+import io.sirix.node.NodeKind;
+import io.sirix.node.SirixDeweyID;
+import io.sirix.node.delegates.NodeDelegate;
+import io.sirix.settings.Fixed;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Inner node of a persistent adaptive radix tree. The node stores the compressed path (the
+ * prefix, which is shared by all keys in its subtree), the partial keys of its children in
+ * ascending unsigned order together with the node keys of the children, and optionally the node
+ * key of a leaf, whose key ends directly after the prefix.
+ *
+ * <p>As in the in-memory {@link AdaptiveRadixTree}, the capacity grows in steps of 4, 16, 48 and
+ * 256 children, but only the used part is serialized, such that the record size is proportional to
+ * the actual fan-out.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ARTInnerNode extends AbstractForwardingNode {
+
+  /**
+   * The capacities of the adaptive node sizes.
+   */
+  private static final int[] CAPACITIES = { 4, 16, 48, 256 };
+
+  /**
+   * {@link NodeDelegate} reference.
+   */
+  private final NodeDelegate nodeDelegate;
+
+  /**
+   * The compressed path.
+   */
+  private byte[] prefix;
+
+  /**
+   * The partial keys of the children in ascending unsigned order.
+   */
+  private byte[] partialKeys;
+
+  /**
+   * The node keys of the children.
+   */
+  private long[] childKeys;
+
+  /**
+   * The number of children.
+   */
+  private int numberOfChildren;
+
+  /**
+   * The node key of the leaf, whose key ends after the prefix.
+   */
+  private long leafKey;
+
+  /**
+   * Constructor.
+   *
+   * @param prefix       the compressed path
+   * @param nodeDelegate the node delegate
+   */
+  public ARTInnerNode(final byte[] prefix, final NodeDelegate nodeDelegate) {
+    this(prefix, new byte[0], new long[0], Fixed.NULL_NODE_KEY.getStandardProperty(), nodeDelegate);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param prefix       the compressed path
+   * @param partialKeys  the partial keys of the children in ascending unsigned order
+   * @param childKeys    the node keys of the children
+   * @param leafKey      the node key of the leaf, whose key ends after the prefix
+   * @param nodeDelegate the node delegate
+   */
+  public ARTInnerNode(final byte[] prefix, final byte[] partialKeys, final long[] childKeys, final long leafKey,
+      final NodeDelegate nodeDelegate) {
+    this.prefix = requireNonNull(prefix);
+    this.nodeDelegate = requireNonNull(nodeDelegate);
+    this.leafKey = leafKey;
+    numberOfChildren = partialKeys.length;
+    final int capacity = capacityFor(numberOfChildren);
+    this.partialKeys = Arrays.copyOf(partialKeys, capacity);
+    this.childKeys = Arrays.copyOf(childKeys, capacity);
+  }
+
+  private static int capacityFor(final int numberOfChildren) {
+    for (final int capacity : CAPACITIES) {
+      if (numberOfChildren <= capacity) {
+        return capacity;
+      }
+    }
+    throw new IllegalStateException("An inner node can't have more than 256 children.");
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return NodeKind.ART_INNER_NODE;
+  }
+
+  @Override
+  protected @NonNull NodeDelegate delegate() {
+    return nodeDelegate;
+  }
+
+  public byte[] getPrefix() {
+    return prefix;
+  }
+
+  public void setPrefix(final byte[] prefix) {
+    this.prefix = requireNonNull(prefix);
+  }
+
+  public long getLeafKey() {
+    return leafKey;
+  }
+
+  public boolean hasLeaf() {
+    return leafKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  public void setLeafKey(final long leafKey) {
+    this.leafKey = leafKey;
+  }
+
+  public int getNumberOfChildren() {
+    return numberOfChildren;
+  }
+
+  /**
+   * Get the partial key of the child at the given position.
+   *
+   * @param index the position of the child
+   * @return the partial key
+   */
+  public byte getPartialKey(final int index) {
+    return partialKeys[index];
+  }
+
+  /**
+   * Get the node key of the child at the given position.
+   *
+   * @param index the position of the child
+   * @return the node key of the child
+   */
+  public long getChildKey(final int index) {
+    return childKeys[index];
+  }
+
+  /**
+   * Find the child for a partial key.
+   *
+   * @param partialKey the partial key
+   * @return the node key of the child or {@link Fixed#NULL_NODE_KEY}, if there's no child
+   */
+  public long findChild(final byte partialKey) {
+    final int index = indexOf(partialKey);
+    return index < 0 ? Fixed.NULL_NODE_KEY.getStandardProperty() : childKeys[index];
+  }
+
+  /**
+   * Get the position of the first child, whose partial key is greater than or equal to the given
+   * partial key.
+   *
+   * @param partialKey the partial key
+   * @return the position, or the number of children if all partial keys are smaller
+   */
+  public int ceilingIndex(final byte partialKey) {
+    final int index = indexOf(partialKey);
+    return index < 0 ? -(index + 1) : index;
+  }
+
+  private int indexOf(final byte partialKey) {
+    int low = 0;
+    int high = numberOfChildren - 1;
+    final int key = Byte.toUnsignedInt(partialKey);
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int midKey = Byte.toUnsignedInt(partialKeys[mid]);
+      if (midKey < key) {
+        low = mid + 1;
+      } else if (midKey > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Add a child. The partial key must not yet be present.
+   *
+   * @param partialKey the partial key
+   * @param childKey   the node key of the child
+   */
+  public void addChild(final byte partialKey, final long childKey) {
+    final int index = indexOf(partialKey);
+    if (index >= 0) {
+      throw new IllegalStateException("Child for partial key " + Byte.toUnsignedInt(partialKey) + " already exists.");
+    }
+    final int insertionPoint = -(index + 1);
+    if (numberOfChildren == partialKeys.length) {
+      final int capacity = capacityFor(numberOfChildren + 1);
+      partialKeys = Arrays.copyOf(partialKeys, capacity);
+      childKeys = Arrays.copyOf(childKeys, capacity);
+    }
+    System.arraycopy(partialKeys, insertionPoint, partialKeys, insertionPoint + 1, numberOfChildren - insertionPoint);
+    System.arraycopy(childKeys, insertionPoint, childKeys, insertionPoint + 1, numberOfChildren - insertionPoint);
+    partialKeys[insertionPoint] = partialKey;
+    childKeys[insertionPoint] = childKey;
+    numberOfChildren++;
+  }
+
+  /**
+   * Replace the child for an existing partial key.
+   *
+   * @param partialKey the partial key
+   * @param childKey   the node key of the new child
+   */
+  public void replaceChild(final byte partialKey, final long childKey) {
+    final int index = indexOf(partialKey);
+    if (index < 0) {
+      throw new IllegalStateException("No child for partial key " + Byte.toUnsignedInt(partialKey) + ".");
+    }
+    childKeys[index] = childKey;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(nodeDelegate.getNodeKey());
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof ARTInnerNode other) {
+      return nodeDelegate.getNodeKey() == other.nodeDelegate.getNodeKey();
+    }
+    return false;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("node delegate", nodeDelegate)
+                      .add("prefix", Arrays.toString(prefix))
+                      .add("partial keys", Arrays.toString(Arrays.copyOf(partialKeys, numberOfChildren)))
+                      .add("child keys", Arrays.toString(Arrays.copyOf(childKeys, numberOfChildren)))
+                      .add("leaf key", leafKey)
+                      .toString();
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public byte[] getDeweyIDAsBytes() {
+    return null;
+  }
+}
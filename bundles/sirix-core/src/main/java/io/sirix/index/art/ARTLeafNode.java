@@ -0,0 +1,105 @@
+package io.sirix.index.art;
+
+import com.google.common.base.MoreObjects;
+import io.sirix.index.redblacktree.interfaces.References;
+import io.sirix.node.AbstractForwardingNode;
+import io.sirix.node.NodeKind;
+import io.sirix.node.SirixDeweyID;
+import io.sirix.node.delegates.NodeDelegate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Leaf of a persistent adaptive radix tree, which stores the indexed key together with its value,
+ * such that an index probe doesn't need a separate record fetch for the value.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Johannes Lichtenberger
+ */
+public final class ARTLeafNode<K extends Comparable<? super K>, V extends References> extends AbstractForwardingNode {
+
+  /**
+   * {@link NodeDelegate} reference.
+   */
+  private final NodeDelegate nodeDelegate;
+
+  /**
+   * The key.
+   */
+  private final K key;
+
+  /**
+   * The value.
+   */
+  private V value;
+
+  /**
+   * Constructor.
+   *
+   * @param key          the key
+   * @param value        the value
+   * @param nodeDelegate the node delegate
+   */
+  public ARTLeafNode(final K key, final V value, final NodeDelegate nodeDelegate) {
+    this.key = requireNonNull(key);
+    this.value = requireNonNull(value);
+    this.nodeDelegate = requireNonNull(nodeDelegate);
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return NodeKind.ART_LEAF_NODE;
+  }
+
+  @Override
+  protected @NonNull NodeDelegate delegate() {
+    return nodeDelegate;
+  }
+
+  public K getKey() {
+    return key;
+  }
+
+  public V getValue() {
+    return value;
+  }
+
+  public void setValue(final V value) {
+    this.value = requireNonNull(value);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(nodeDelegate.getNodeKey());
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof ARTLeafNode<?, ?> other) {
+      return nodeDelegate.getNodeKey() == other.nodeDelegate.getNodeKey();
+    }
+    return false;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("node delegate", nodeDelegate)
+                      .add("key", key)
+                      .add("value", value)
+                      .toString();
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public byte[] getDeweyIDAsBytes() {
+    return null;
+  }
+}
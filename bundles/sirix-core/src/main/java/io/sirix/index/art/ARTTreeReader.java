@@ -0,0 +1,303 @@
+package io.sirix.index.art;
+
+import com.google.common.collect.AbstractIterator;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.index.IndexType;
+import io.sirix.index.SearchMode;
+import io.sirix.index.redblacktree.interfaces.References;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.StructNode;
+import io.sirix.settings.Fixed;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reader of a persistent adaptive radix tree, which stores the entries of a secondary index. The
+ * tree is stored in the record pages of the index, such that it's versioned like any other index:
+ * modified nodes are written to new page fragments on commit, while unmodified subtrees are shared
+ * between revisions.
+ *
+ * <p>The document node of the index references the root of the tree as its first child. Inner
+ * nodes are {@link ARTInnerNode}s, leaves are {@link ARTLeafNode}s, which store the key and the value.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Johannes Lichtenberger
+ */
+public final class ARTTreeReader<K extends Comparable<? super K>, V extends References> {
+
+  /**
+   * {@link PageReadOnlyTrx} for persistent storage.
+   */
+  private final PageReadOnlyTrx pageReadOnlyTrx;
+
+  /**
+   * The index type.
+   */
+  private final IndexType indexType;
+
+  /**
+   * The index number.
+   */
+  private final int index;
+
+  /**
+   * Transforms keys into their binary comparable representation.
+   */
+  private final BinaryComparable<K> binaryComparable;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageReadOnlyTrx  {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType        the index type
+   * @param index            the index number
+   * @param binaryComparable transforms keys into their binary comparable representation
+   */
+  private ARTTreeReader(final PageReadOnlyTrx pageReadOnlyTrx, final IndexType indexType,
+      final @NonNegative int index, final BinaryComparable<K> binaryComparable) {
+    this.pageReadOnlyTrx = requireNonNull(pageReadOnlyTrx);
+    this.indexType = requireNonNull(indexType);
+    this.index = index;
+    this.binaryComparable = requireNonNull(binaryComparable);
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param pageReadOnlyTrx  {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType        the index type
+   * @param index            the index number
+   * @param binaryComparable transforms keys into their binary comparable representation
+   * @param <K>              the key type
+   * @param <V>              the value type
+   * @return new reader instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> ARTTreeReader<K, V> getInstance(
+      final PageReadOnlyTrx pageReadOnlyTrx, final IndexType indexType, final @NonNegative int index,
+      final BinaryComparable<K> binaryComparable) {
+    return new ARTTreeReader<>(pageReadOnlyTrx, indexType, index, binaryComparable);
+  }
+
+  BinaryComparable<K> getBinaryComparable() {
+    return binaryComparable;
+  }
+
+  /**
+   * Get the node key of the root of the tree.
+   *
+   * @return the node key of the root or {@link Fixed#NULL_NODE_KEY}, if the tree is empty
+   */
+  long getRootKey() {
+    final DataRecord document =
+        pageReadOnlyTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), indexType, index);
+    if (document == null) {
+      return Fixed.NULL_NODE_KEY.getStandardProperty();
+    }
+    return ((StructNode) document).getFirstChildKey();
+  }
+
+  /**
+   * Get a node of the tree.
+   *
+   * @param nodeKey the node key
+   * @return the node
+   */
+  DataRecord getNode(final long nodeKey) {
+    final DataRecord node = pageReadOnlyTrx.getRecord(nodeKey, indexType, index);
+    if (node == null) {
+      throw new IllegalStateException("Node " + nodeKey + " couldn't be fetched from persistent storage!");
+    }
+    return node;
+  }
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key  key to be found
+   * @param mode the search mode (only {@link SearchMode#EQUAL} is supported, use the iterators for
+   *             range scans)
+   * @return {@link Optional} reference with the found value
+   */
+  public Optional<V> get(final K key, final SearchMode mode) {
+    checkArgument(mode == SearchMode.EQUAL, "Only exact lookups are supported, use the iterators for range scans.");
+    final ARTLeafNode<K, V> leaf = getLeaf(binaryComparable.get(requireNonNull(key)));
+    return leaf == null ? Optional.empty() : Optional.of(leaf.getValue());
+  }
+
+  /**
+   * Finds the leaf with the specified binary comparable key.
+   *
+   * @param key the binary comparable key
+   * @return the leaf or {@code null}, if the key isn't indexed
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable ARTLeafNode<K, V> getLeaf(final byte[] key) {
+    long nodeKey = getRootKey();
+    int depth = 0;
+
+    while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final DataRecord node = getNode(nodeKey);
+
+      if (node instanceof ARTLeafNode<?, ?> leaf) {
+        // Only the bytes up to the depth of the leaf have been compared.
+        return Arrays.equals(binaryComparable.get((K) leaf.getKey()), key) ? (ARTLeafNode<K, V>) leaf : null;
+      }
+
+      final ARTInnerNode innerNode = (ARTInnerNode) node;
+      final byte[] prefix = innerNode.getPrefix();
+      if (key.length < depth + prefix.length
+          || !Arrays.equals(prefix, 0, prefix.length, key, depth, depth + prefix.length)) {
+        return null;
+      }
+      depth += prefix.length;
+
+      if (depth == key.length) {
+        nodeKey = innerNode.getLeafKey();
+      } else {
+        nodeKey = innerNode.findChild(key[depth]);
+        depth++;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Iterate over all leaves in ascending key order.
+   *
+   * @return the iterator
+   */
+  public Iterator<ARTLeafNode<K, V>> iterator() {
+    return new LeafIterator(new byte[0], new byte[0], new byte[0]);
+  }
+
+  /**
+   * Iterate in ascending key order over all leaves, whose binary comparable key starts with the
+   * given prefix and is greater than or equal to the given lower bound. Subtrees, which can't
+   * contain such keys, are skipped without fetching their nodes.
+   *
+   * @param prefix     the prefix of all keys
+   * @param lowerBound the inclusive lower bound (an empty array for no bound)
+   * @return the iterator
+   */
+  public Iterator<ARTLeafNode<K, V>> iterator(final byte[] prefix, final byte[] lowerBound) {
+    return iterator(prefix, lowerBound, new byte[0]);
+  }
+
+  /**
+   * Iterate in ascending key order over all leaves, whose binary comparable key starts with the
+   * given prefix, is greater than or equal to the given lower bound and whose first bytes aren't
+   * greater than the given upper bound. The iteration stops at the first subtree or key above the
+   * upper bound. Keys, which start with the upper bound, are returned, thus the caller has to filter
+   * them for an exclusive bound.
+   *
+   * @param prefix     the prefix of all keys
+   * @param lowerBound the inclusive lower bound (an empty array for no bound)
+   * @param upperBound the upper bound, compared on the common length with a key (an empty array for
+   *                   no bound)
+   * @return the iterator
+   */
+  public Iterator<ARTLeafNode<K, V>> iterator(final byte[] prefix, final byte[] lowerBound,
+      final byte[] upperBound) {
+    return new LeafIterator(requireNonNull(prefix), requireNonNull(lowerBound), requireNonNull(upperBound));
+  }
+
+  /**
+   * A subtree, which has yet to be visited.
+   *
+   * @param nodeKey the node key of the root of the subtree
+   * @param path    the bytes, which all keys in the subtree start with
+   */
+  private record Frame(long nodeKey, byte[] path) {
+  }
+
+  /**
+   * Depth-first iterator over the leaves in ascending key order.
+   */
+  private final class LeafIterator extends AbstractIterator<ARTLeafNode<K, V>> {
+
+    private final byte[] prefix;
+
+    private final byte[] lowerBound;
+
+    private final byte[] upperBound;
+
+    private final Deque<Frame> stack;
+
+    LeafIterator(final byte[] prefix, final byte[] lowerBound, final byte[] upperBound) {
+      this.prefix = prefix;
+      this.lowerBound = lowerBound;
+      this.upperBound = upperBound;
+      stack = new ArrayDeque<>();
+      final long rootKey = getRootKey();
+      if (rootKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+        stack.push(new Frame(rootKey, new byte[0]));
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected ARTLeafNode<K, V> computeNext() {
+      while (!stack.isEmpty()) {
+        final Frame frame = stack.pop();
+
+        final int prefixComparison = compareOnCommonLength(frame.path(), prefix);
+        if (prefixComparison > 0 || compareOnCommonLength(frame.path(), upperBound) > 0) {
+          // All remaining subtrees are greater than the prefix or the upper bound.
+          stack.clear();
+          break;
+        }
+        if (prefixComparison < 0 || compareOnCommonLength(frame.path(), lowerBound) < 0) {
+          continue;
+        }
+
+        final DataRecord node = getNode(frame.nodeKey());
+
+        if (node instanceof ARTLeafNode<?, ?> leaf) {
+          final byte[] key = binaryComparable.get((K) leaf.getKey());
+          final int keyComparison = compareOnCommonLength(key, prefix);
+          if (keyComparison > 0 || compareOnCommonLength(key, upperBound) > 0) {
+            stack.clear();
+            break;
+          }
+          if (keyComparison == 0 && key.length >= prefix.length && Arrays.compareUnsigned(key, lowerBound) >= 0) {
+            return (ARTLeafNode<K, V>) leaf;
+          }
+          continue;
+        }
+
+        final ARTInnerNode innerNode = (ARTInnerNode) node;
+        final byte[] path = IndexBinaryComparables.concat(frame.path(), innerNode.getPrefix());
+
+        // Push in descending order, such that the smallest key is visited first.
+        for (int i = innerNode.getNumberOfChildren() - 1; i >= 0; i--) {
+          final byte[] childPath = Arrays.copyOf(path, path.length + 1);
+          childPath[path.length] = innerNode.getPartialKey(i);
+          stack.push(new Frame(innerNode.getChildKey(i), childPath));
+        }
+        if (innerNode.hasLeaf()) {
+          stack.push(new Frame(innerNode.getLeafKey(), path));
+        }
+      }
+      return endOfData();
+    }
+  }
+
+  /**
+   * Compare two byte arrays (unsigned) on their common length.
+   */
+  private static int compareOnCommonLength(final byte[] first, final byte[] second) {
+    final int length = Math.min(first.length, second.length);
+    return Arrays.compareUnsigned(first, 0, length, second, 0, length);
+  }
+}
@@ -0,0 +1,299 @@
+package io.sirix.index.art;
+
+import io.sirix.access.DatabaseType;
+import io.sirix.api.PageTrx;
+import io.sirix.cache.PageContainer;
+import io.sirix.index.IndexType;
+import io.sirix.index.IndexWriter;
+import io.sirix.index.SearchMode;
+import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.redblacktree.interfaces.References;
+import io.sirix.node.SirixDeweyID;
+import io.sirix.node.delegates.NodeDelegate;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.StructNode;
+import io.sirix.page.CASPage;
+import io.sirix.page.NamePage;
+import io.sirix.page.PathPage;
+import io.sirix.page.RevisionRootPage;
+import io.sirix.settings.Fixed;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writer of a persistent adaptive radix tree (see {@link ARTTreeReader}). Nodes are never modified
+ * in place, but through {@link PageTrx#prepareRecordForModification(long, IndexType, int)}, such that
+ * only the record pages of the modified nodes are copied into the new revision. An insertion
+ * modifies at most one existing inner node and creates at most one inner node and one leaf.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Johannes Lichtenberger
+ */
+public final class ARTTreeWriter<K extends Comparable<? super K>, V extends References>
+    implements IndexWriter<K, V> {
+
+  /**
+   * {@link PageTrx} instance.
+   */
+  private final PageTrx pageTrx;
+
+  /**
+   * The index type.
+   */
+  private final IndexType indexType;
+
+  /**
+   * The index number.
+   */
+  private final int index;
+
+  /**
+   * The reader to navigate the tree.
+   */
+  private final ARTTreeReader<K, V> reader;
+
+  /**
+   * Private constructor.
+   *
+   * @param databaseType     the type of database
+   * @param pageTrx          {@link PageTrx} for persistent storage
+   * @param indexType        the index type
+   * @param index            the index number
+   * @param binaryComparable transforms keys into their binary comparable representation
+   */
+  private ARTTreeWriter(final DatabaseType databaseType, final PageTrx pageTrx, final IndexType indexType,
+      final @NonNegative int index, final BinaryComparable<K> binaryComparable) {
+    this.pageTrx = requireNonNull(pageTrx);
+    this.indexType = requireNonNull(indexType);
+    this.index = index;
+
+    // Create the index tree (the document node of the index) if needed.
+    final RevisionRootPage revisionRootPage = pageTrx.getActualRevisionRootPage();
+    switch (indexType) {
+      case PATH -> {
+        final PathPage pathPage = pageTrx.getPathPage(revisionRootPage);
+        pageTrx.appendLogRecord(revisionRootPage.getPathPageReference(), PageContainer.getInstance(pathPage, pathPage));
+        pathPage.createPathIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+      }
+      case CAS -> {
+        final CASPage casPage = pageTrx.getCASPage(revisionRootPage);
+        pageTrx.appendLogRecord(revisionRootPage.getCASPageReference(), PageContainer.getInstance(casPage, casPage));
+        casPage.createCASIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+      }
+      case NAME -> {
+        final NamePage namePage = pageTrx.getNamePage(revisionRootPage);
+        pageTrx.appendLogRecord(revisionRootPage.getNamePageReference(), PageContainer.getInstance(namePage, namePage));
+        namePage.createNameIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+      }
+      default -> throw new IllegalArgumentException("Index type " + indexType + " isn't supported.");
+    }
+
+    reader = ARTTreeReader.getInstance(pageTrx, indexType, index, binaryComparable);
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param databaseType     the type of database
+   * @param pageTrx          {@link PageTrx} for persistent storage
+   * @param indexType        the index type
+   * @param index            the index number
+   * @param binaryComparable transforms keys into their binary comparable representation
+   * @param <K>              the key type
+   * @param <V>              the value type
+   * @return new writer instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> ARTTreeWriter<K, V> getInstance(
+      final DatabaseType databaseType, final PageTrx pageTrx, final IndexType indexType, final @NonNegative int index,
+      final BinaryComparable<K> binaryComparable) {
+    return new ARTTreeWriter<>(databaseType, pageTrx, indexType, index, binaryComparable);
+  }
+
+  /**
+   * Get the reader used to navigate.
+   *
+   * @return the reader
+   */
+  public ARTTreeReader<K, V> getReader() {
+    return reader;
+  }
+
+  @Override
+  public V index(final K key, final V value, final RBTreeReader.MoveCursor move) {
+    final byte[] bytes = reader.getBinaryComparable().get(requireNonNull(key));
+    requireNonNull(value);
+    final RevisionRootPage root = pageTrx.getActualRevisionRootPage();
+
+    long nodeKey = reader.getRootKey();
+
+    if (nodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      // Index is empty... the first leaf is the root.
+      final long leafKey = createLeaf(key, value, root);
+      final StructNode document = pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+                                                                       indexType,
+                                                                       index);
+      document.setFirstChildKey(leafKey);
+      document.incrementChildCount();
+      document.incrementDescendantCount();
+      return value;
+    }
+
+    long parentKey = Fixed.DOCUMENT_NODE_KEY.getStandardProperty();
+    byte partialKeyInParent = 0;
+    int depth = 0;
+
+    while (true) {
+      final DataRecord node = reader.getNode(nodeKey);
+
+      if (node instanceof ARTLeafNode<?, ?> leaf) {
+        @SuppressWarnings("unchecked") final byte[] leafBytes = reader.getBinaryComparable().get((K) leaf.getKey());
+
+        if (Arrays.equals(leafBytes, bytes)) {
+          final ARTLeafNode<K, V> modifiableLeaf = pageTrx.prepareRecordForModification(nodeKey, indexType, index);
+          modifiableLeaf.setValue(value);
+          return value;
+        }
+
+        // Replace the leaf with an inner node, which stores the common prefix of both keys.
+        final int mismatch = depth + Arrays.mismatch(leafBytes, depth, leafBytes.length, bytes, depth, bytes.length);
+        final long newLeafKey = createLeaf(key, value, root);
+        final ARTInnerNode innerNode = newInnerNode(Arrays.copyOfRange(bytes, depth, mismatch), root);
+        attach(innerNode, leafBytes, mismatch, nodeKey);
+        attach(innerNode, bytes, mismatch, newLeafKey);
+        pageTrx.createRecord(innerNode, indexType, index);
+        replaceChild(parentKey, partialKeyInParent, innerNode.getNodeKey());
+        incrementDescendantCount();
+        return value;
+      }
+
+      final ARTInnerNode innerNode = (ARTInnerNode) node;
+      final byte[] prefix = innerNode.getPrefix();
+      final int remaining = bytes.length - depth;
+      final int prefixMismatch = Arrays.mismatch(prefix, 0, prefix.length, bytes, depth, depth + Math.min(remaining, prefix.length));
+
+      if (prefixMismatch != -1 && prefixMismatch < prefix.length) {
+        // Split the compressed path: a new inner node stores the common part of the prefix.
+        final long newLeafKey = createLeaf(key, value, root);
+        final ARTInnerNode newInnerNode = newInnerNode(Arrays.copyOf(prefix, prefixMismatch), root);
+        newInnerNode.addChild(prefix[prefixMismatch], nodeKey);
+        attach(newInnerNode, bytes, depth + prefixMismatch, newLeafKey);
+        pageTrx.createRecord(newInnerNode, indexType, index);
+
+        final ARTInnerNode modifiableInnerNode = pageTrx.prepareRecordForModification(nodeKey, indexType, index);
+        modifiableInnerNode.setPrefix(Arrays.copyOfRange(prefix, prefixMismatch + 1, prefix.length));
+
+        replaceChild(parentKey, partialKeyInParent, newInnerNode.getNodeKey());
+        incrementDescendantCount();
+        return value;
+      }
+
+      depth += prefix.length;
+
+      if (depth == bytes.length) {
+        if (innerNode.hasLeaf()) {
+          nodeKey = innerNode.getLeafKey();
+          continue;
+        }
+        final long newLeafKey = createLeaf(key, value, root);
+        final ARTInnerNode modifiableInnerNode = pageTrx.prepareRecordForModification(nodeKey, indexType, index);
+        modifiableInnerNode.setLeafKey(newLeafKey);
+        incrementDescendantCount();
+        return value;
+      }
+
+      final long childKey = innerNode.findChild(bytes[depth]);
+
+      if (childKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+        final long newLeafKey = createLeaf(key, value, root);
+        final ARTInnerNode modifiableInnerNode = pageTrx.prepareRecordForModification(nodeKey, indexType, index);
+        modifiableInnerNode.addChild(bytes[depth], newLeafKey);
+        incrementDescendantCount();
+        return value;
+      }
+
+      parentKey = nodeKey;
+      partialKeyInParent = bytes[depth];
+      nodeKey = childKey;
+      depth++;
+    }
+  }
+
+  @Override
+  public Optional<V> get(final K key, final SearchMode mode) {
+    return reader.get(key, mode);
+  }
+
+  @Override
+  public boolean remove(final K key, final @NonNegative long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    final ARTLeafNode<K, V> leaf = reader.getLeaf(reader.getBinaryComparable().get(requireNonNull(key)));
+    if (leaf == null || !leaf.getValue().contains(nodeKey)) {
+      return false;
+    }
+    final ARTLeafNode<K, V> modifiableLeaf = pageTrx.prepareRecordForModification(leaf.getNodeKey(), indexType, index);
+    return modifiableLeaf.getValue().removeNodeKey(nodeKey);
+  }
+
+  /**
+   * Attach a node to an inner node, either as the leaf, whose key ends at the given depth, or as the
+   * child for the partial key at the given depth.
+   */
+  private static void attach(final ARTInnerNode innerNode, final byte[] key, final int depth, final long nodeKey) {
+    if (key.length == depth) {
+      innerNode.setLeafKey(nodeKey);
+    } else {
+      innerNode.addChild(key[depth], nodeKey);
+    }
+  }
+
+  private void replaceChild(final long parentKey, final byte partialKey, final long childKey) {
+    if (parentKey == Fixed.DOCUMENT_NODE_KEY.getStandardProperty()) {
+      final StructNode document = pageTrx.prepareRecordForModification(parentKey, indexType, index);
+      document.setFirstChildKey(childKey);
+    } else {
+      final ARTInnerNode parent = pageTrx.prepareRecordForModification(parentKey, indexType, index);
+      parent.replaceChild(partialKey, childKey);
+    }
+  }
+
+  private void incrementDescendantCount() {
+    final StructNode document =
+        pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), indexType, index);
+    document.incrementDescendantCount();
+  }
+
+  private long createLeaf(final K key, final V value, final RevisionRootPage root) {
+    final long nodeKey = getNewNodeKey(root);
+    pageTrx.createRecord(new ARTLeafNode<>(key, value, newNodeDelegate(nodeKey)), indexType, index);
+    return nodeKey;
+  }
+
+  /**
+   * Create an inner node, which has to be stored with {@link PageTrx#createRecord} after its
+   * children have been attached.
+   */
+  private ARTInnerNode newInnerNode(final byte[] prefix, final RevisionRootPage root) {
+    return new ARTInnerNode(prefix, newNodeDelegate(getNewNodeKey(root)));
+  }
+
+  private static NodeDelegate newNodeDelegate(final long nodeKey) {
+    // Tree nodes don't store parent keys, as they are moved during splits. Navigation uses a stack.
+    return new NodeDelegate(nodeKey, Fixed.NULL_NODE_KEY.getStandardProperty(), null, 0, 0, (SirixDeweyID) null);
+  }
+
+  private long getNewNodeKey(final RevisionRootPage root) {
+    // $CASES-OMITTED$
+    return switch (indexType) {
+      case PATH -> pageTrx.getPathPage(root).getMaxNodeKey(index) + 1;
+      case CAS -> pageTrx.getCASPage(root).getMaxNodeKey(index) + 1;
+      case NAME -> pageTrx.getNamePage(root).getMaxNodeKey(index) + 1;
+      default -> throw new IllegalStateException();
+    };
+  }
+}
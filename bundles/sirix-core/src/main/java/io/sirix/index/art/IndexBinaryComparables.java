@@ -0,0 +1,152 @@
+package io.sirix.index.art;
+
+import io.brackit.query.atomic.Atomic;
+import io.brackit.query.atomic.Numeric;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.jdm.Type;
+import io.sirix.index.AtomicUtil;
+import io.sirix.index.redblacktree.keyvalue.CASValue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Provides the {@link BinaryComparable} key transformations for the keys of the secondary indexes,
+ * which are stored in a persistent adaptive radix tree.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class IndexBinaryComparables {
+
+  private static final BinaryComparable<CASValue> CAS_VALUE = IndexBinaryComparables::casValueToBytes;
+
+  private static final BinaryComparable<QNm> QNM = IndexBinaryComparables::qnmToBytes;
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private IndexBinaryComparables() {
+    throw new AssertionError("May not be instantiated!");
+  }
+
+  /**
+   * Keys of CAS indexes: the path class record followed by the atomic value. Thus, all values of a
+   * path are stored in a single subtree, ordered by their value.
+   *
+   * @return the key transformation
+   */
+  public static BinaryComparable<CASValue> forCASValue() {
+    return CAS_VALUE;
+  }
+
+  /**
+   * Keys of path indexes, that is path class records.
+   *
+   * @return the key transformation
+   */
+  public static BinaryComparable<Long> forPathNodeKey() {
+    return BinaryComparables.forLong();
+  }
+
+  /**
+   * Keys of name indexes.
+   *
+   * @return the key transformation
+   */
+  public static BinaryComparable<QNm> forQNm() {
+    return QNM;
+  }
+
+  /**
+   * Transform a path class record into its binary comparable form, which is a prefix of all CAS
+   * keys of the path class record.
+   *
+   * @param pathNodeKey the path class record
+   * @return the binary comparable bytes
+   */
+  public static byte[] pathNodeKeyToBytes(final long pathNodeKey) {
+    return BinaryComparables.forLong().get(pathNodeKey);
+  }
+
+  /**
+   * Transform an atomic value into its binary comparable form.
+   *
+   * <ul>
+   *   <li>Numeric values are stored as order-preserving doubles followed by their exact binary
+   *   representation, such that values, which map to the same double, don't collide.</li>
+   *   <li>Booleans are stored as a single byte.</li>
+   *   <li>All other values are stored as their UTF-8 encoded string value.</li>
+   * </ul>
+   *
+   * @param atomic the atomic value
+   * @param type   the type of the value
+   * @return the binary comparable bytes
+   */
+  public static byte[] atomicToBytes(final Atomic atomic, final Type type) {
+    final Atomic typedAtomic = AtomicUtil.toType(atomic, type);
+    if (type.isNumeric()) {
+      final byte[] exactBytes = AtomicUtil.toBytes(typedAtomic);
+      return ByteBuffer.allocate(Long.BYTES + exactBytes.length)
+                       .putLong(orderedDoubleBits(((Numeric) typedAtomic).doubleValue()))
+                       .put(exactBytes)
+                       .array();
+    }
+    if (type.instanceOf(Type.BOOL)) {
+      return new byte[] { typedAtomic.booleanValue() ? (byte) 1 : (byte) 0 };
+    }
+    return typedAtomic.stringValue().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Transform an atomic value into a prefix of its binary comparable form, which is a lower bound for
+   * all equal values. In contrast to {@link #atomicToBytes(Atomic, Type)}, the exact binary
+   * representation of numeric values is omitted, such that for instance {@code 1} and {@code 1.0}
+   * share the same prefix.
+   *
+   * @param atomic the atomic value
+   * @param type   the type of the value
+   * @return the binary comparable prefix
+   */
+  public static byte[] atomicToPrefixBytes(final Atomic atomic, final Type type) {
+    final byte[] bytes = atomicToBytes(atomic, type);
+    return type.isNumeric() ? Arrays.copyOf(bytes, Long.BYTES) : bytes;
+  }
+
+  /**
+   * Concatenate two binary comparable keys.
+   *
+   * @param first  the first key
+   * @param second the second key
+   * @return the concatenated key
+   */
+  public static byte[] concat(final byte[] first, final byte[] second) {
+    final byte[] result = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+
+  /**
+   * Map a double to a long, whose unsigned order is the numeric order of the doubles.
+   */
+  private static long orderedDoubleBits(final double value) {
+    final long bits = Double.doubleToLongBits(value);
+    return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+  }
+
+  private static byte[] casValueToBytes(final CASValue casValue) {
+    return concat(pathNodeKeyToBytes(casValue.getPathNodeKey()),
+                  atomicToBytes(casValue.getAtomicValue(), casValue.getType()));
+  }
+
+  private static byte[] qnmToBytes(final QNm name) {
+    final byte[] namespaceURI = name.getNamespaceURI().getBytes(StandardCharsets.UTF_8);
+    final byte[] localName = name.getLocalName().getBytes(StandardCharsets.UTF_8);
+    // The namespace URI is terminated by a 0 byte, such that it can't be confused with the local name.
+    return ByteBuffer.allocate(namespaceURI.length + 1 + localName.length)
+                     .put(namespaceURI)
+                     .put((byte) 0)
+                     .put(localName)
+                     .array();
+  }
+}
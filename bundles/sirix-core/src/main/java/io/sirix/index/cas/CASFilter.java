@@ -4,7 +4,6 @@ import io.sirix.index.Filter;
 import io.sirix.index.SearchMode;
 import io.sirix.index.path.PCRCollector;
 import io.sirix.index.path.PathFilter;
-import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.brackit.query.atomic.Atomic;
 import io.brackit.query.atomic.QNm;
@@ -65,14 +64,13 @@ public final class CASFilter implements Filter {
   /**
    * Filter the node.
    *
-   * @param node node to filter
-   * @return {@code true} if the node has been filtered, {@code false} otherwise
+   * @param key key to filter
+   * @return {@code true} if the key has been filtered, {@code false} otherwise
    */
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final RBNodeKey<K> node) {
-    final K key = node.getKey();
+  public <K extends Comparable<? super K>> boolean filterKey(final K key) {
     if (key instanceof final CASValue casValue) {
-      return pathFilter.filter(node) && (this.key == null || mode.compare(this.key, casValue.getAtomicValue()) == 0);
+      return pathFilter.filterKey(key) && (this.key == null || mode.compare(this.key, casValue.getAtomicValue()) == 0);
     }
     return true;
   }
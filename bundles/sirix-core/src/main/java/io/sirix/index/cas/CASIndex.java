@@ -7,13 +7,18 @@ import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
 import io.sirix.index.ChangeListener;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexBackendType;
 import io.sirix.index.IndexFilterAxis;
 import io.sirix.index.SearchMode;
+import io.sirix.index.art.ARTIndexFilterAxis;
+import io.sirix.index.art.ARTTreeReader;
+import io.sirix.index.art.IndexBinaryComparables;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBNodeValue;
 import io.sirix.index.redblacktree.RBTreeReader;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.exception.SirixRuntimeException;
 import io.sirix.settings.Fixed;
 import io.brackit.query.atomic.Atomic;
 import io.sirix.index.path.summary.PathSummaryReader;
@@ -27,6 +32,21 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   L createListener(PageTrx pageWriteTrx, PathSummaryReader pathSummaryReader, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilterRange filter) {
+    if (indexDef.getBackend() == IndexBackendType.ADAPTIVE_RADIX_TREE) {
+      final ARTTreeReader<CASValue, NodeReferences> reader = getARTReader(pageRtx, indexDef);
+      final Set<Long> pcrs = filter.getPCRs();
+
+      if (pcrs.size() == 1) {
+        // Scan the subtree of the PCR starting at the lower bound of the range.
+        final byte[] prefix = IndexBinaryComparables.pathNodeKeyToBytes(pcrs.iterator().next());
+        final byte[] lowerBound = lowerBound(prefix, filter.getMin(), indexDef);
+        final byte[] upperBound = lowerBound(prefix, filter.getMax(), indexDef);
+        return new ARTIndexFilterAxis<>(reader.iterator(prefix, lowerBound, upperBound), Set.of(filter));
+      }
+
+      return new ARTIndexFilterAxis<>(reader.iterator(), Set.of(filter));
+    }
+
     final RBTreeReader<CASValue, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -39,6 +59,10 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   }
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter) {
+    if (indexDef.getBackend() == IndexBackendType.ADAPTIVE_RADIX_TREE) {
+      return openARTIndex(pageRtx, indexDef, filter);
+    }
+
     final RBTreeReader<CASValue, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -133,4 +157,69 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
       return new IndexFilterAxis<>(reader, iter, Set.of(filter));
     };
   }
+
+  private Iterator<NodeReferences> openARTIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter) {
+    final ARTTreeReader<CASValue, NodeReferences> reader = getARTReader(pageRtx, indexDef);
+
+    // PCRs requested.
+    final Set<Long> pcrsRequested = filter == null ? Set.of() : filter.getPCRs();
+
+    if (pcrsRequested.size() != 1) {
+      return new ARTIndexFilterAxis<>(reader.iterator(), filter == null ? Set.of() : Set.of(filter));
+    }
+
+    final Atomic atomic = filter.getKey();
+    final long pcr = pcrsRequested.iterator().next();
+    final SearchMode mode = filter.getMode();
+    final byte[] prefix = IndexBinaryComparables.pathNodeKeyToBytes(pcr);
+
+    if (atomic != null && mode == SearchMode.EQUAL && !indexDef.getContentType().isNumeric()) {
+      // Non-numeric keys are stored in their canonical form, thus a single lookup suffices.
+      try {
+        return Iterators.forArray(reader.get(new CASValue(atomic, indexDef.getContentType(), pcr), mode)
+                                        .orElse(new NodeReferences()));
+      } catch (final SirixRuntimeException e) {
+        // Not castable to the type of the index.
+        return Collections.emptyIterator();
+      }
+    }
+
+    final byte[] lowerBound = switch (mode) {
+      case EQUAL, GREATER, GREATER_OR_EQUAL -> lowerBound(prefix, atomic, indexDef);
+      default -> prefix;
+    };
+    // Stop at the first key above the value instead of scanning all keys of the PCR.
+    final byte[] upperBound = switch (mode) {
+      case LOWER, LOWER_OR_EQUAL -> lowerBound(prefix, atomic, indexDef);
+      default -> prefix;
+    };
+    final byte[] scanPrefix = mode == SearchMode.EQUAL ? lowerBound : prefix;
+
+    return new ARTIndexFilterAxis<>(reader.iterator(scanPrefix, lowerBound, upperBound), Set.of(filter));
+  }
+
+  private static ARTTreeReader<CASValue, NodeReferences> getARTReader(PageReadOnlyTrx pageRtx, IndexDef indexDef) {
+    return ARTTreeReader.getInstance(pageRtx,
+                                     indexDef.getType(),
+                                     indexDef.getID(),
+                                     IndexBinaryComparables.forCASValue());
+  }
+
+  /**
+   * Get the binary comparable lower bound of all keys of a PCR, which are greater than or equal to
+   * the given atomic value.
+   */
+  private static byte[] lowerBound(byte[] pcrPrefix, Atomic atomic, IndexDef indexDef) {
+    if (atomic == null) {
+      return pcrPrefix;
+    }
+    try {
+      return IndexBinaryComparables.concat(pcrPrefix,
+                                           IndexBinaryComparables.atomicToPrefixBytes(atomic,
+                                                                                      indexDef.getContentType()));
+    } catch (final SirixRuntimeException e) {
+      // Not castable to the type of the index, scan all keys of the PCR.
+      return pcrPrefix;
+    }
+  }
 }
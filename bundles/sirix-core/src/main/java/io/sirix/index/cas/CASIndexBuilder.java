@@ -7,7 +7,7 @@ import io.sirix.exception.SirixRuntimeException;
 import io.sirix.index.AtomicUtil;
 import io.sirix.index.SearchMode;
 import io.sirix.index.redblacktree.RBTreeReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexWriter;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.node.immutable.json.ImmutableBooleanNode;
@@ -31,7 +31,7 @@ import java.util.Set;
 public final class CASIndexBuilder {
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(CASIndexBuilder.class));
 
-  private final RBTreeWriter<CASValue, NodeReferences> indexWriter;
+  private final IndexWriter<CASValue, NodeReferences> indexWriter;
 
   private final PathSummaryReader pathSummaryReader;
 
@@ -39,7 +39,7 @@ public final class CASIndexBuilder {
 
   private final Type type;
 
-  public CASIndexBuilder(final RBTreeWriter<CASValue, NodeReferences> indexWriter,
+  public CASIndexBuilder(final IndexWriter<CASValue, NodeReferences> indexWriter,
       final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final Type type) {
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
@@ -53,8 +53,8 @@ public final class CASIndexBuilder {
         final Str strValue = switch (node) {
           case ImmutableValueNode immutableValueNode -> new Str(immutableValueNode.getValue());
           case ImmutableObjectNumberNode immutableObjectNumberNode ->
-              new Str(String.valueOf(immutableObjectNumberNode.getValue()));
-          case ImmutableNumberNode immutableNumberNode -> new Str(String.valueOf(immutableNumberNode.getValue()));
+              new Str(immutableObjectNumberNode.getValueAsString());
+          case ImmutableNumberNode immutableNumberNode -> new Str(immutableNumberNode.getValueAsString());
           case ImmutableObjectBooleanNode immutableObjectBooleanNode ->
               new Str(String.valueOf(immutableObjectBooleanNode.getValue()));
           case ImmutableBooleanNode immutableBooleanNode -> new Str(String.valueOf(immutableBooleanNode.getValue()));
@@ -5,7 +5,8 @@ import static java.util.Objects.requireNonNull;
 import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.IndexDef;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexWriter;
+import io.sirix.index.art.IndexBinaryComparables;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.index.path.summary.PathSummaryReader;
@@ -20,12 +21,14 @@ public final class CASIndexBuilderFactory {
 
   public CASIndexBuilder create(final PageTrx pageTrx,
       final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
-    final var rbTreeWriter =
-        RBTreeWriter.<CASValue, NodeReferences>getInstance(this.databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+    final var indexWriter = IndexWriter.<CASValue, NodeReferences>getInstance(this.databaseType,
+                                                                              pageTrx,
+                                                                              indexDef,
+                                                                              IndexBinaryComparables.forCASValue());
     final var pathSummary = requireNonNull(pathSummaryReader);
     final var paths = requireNonNull(indexDef.getPaths());
     final var type = requireNonNull(indexDef.getContentType());
 
-    return new CASIndexBuilder(rbTreeWriter, pathSummary, paths, type);
+    return new CASIndexBuilder(indexWriter, pathSummary, paths, type);
   }
 }
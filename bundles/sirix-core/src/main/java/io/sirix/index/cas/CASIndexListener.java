@@ -6,7 +6,7 @@ import io.sirix.exception.SirixRuntimeException;
 import io.sirix.index.AtomicUtil;
 import io.sirix.index.SearchMode;
 import io.sirix.index.redblacktree.RBTreeReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexWriter;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
@@ -21,13 +21,13 @@ import java.util.Set;
 
 public final class CASIndexListener {
 
-  private final RBTreeWriter<CASValue, NodeReferences> indexWriter;
+  private final IndexWriter<CASValue, NodeReferences> indexWriter;
   private final PathSummaryReader pathSummaryReader;
   private final Set<Path<QNm>> paths;
   private final Type type;
 
   public CASIndexListener(final PathSummaryReader pathSummaryReader,
-      final RBTreeWriter<CASValue, NodeReferences> indexWriter, final Set<Path<QNm>> paths, final Type type) {
+      final IndexWriter<CASValue, NodeReferences> indexWriter, final Set<Path<QNm>> paths, final Type type) {
     this.pathSummaryReader = pathSummaryReader;
     this.indexWriter = indexWriter;
     this.paths = paths;
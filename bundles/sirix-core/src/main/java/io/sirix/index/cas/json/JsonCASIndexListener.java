@@ -7,10 +7,9 @@ import io.sirix.node.interfaces.ValueNode;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
 import io.brackit.query.atomic.Str;
 import io.sirix.index.cas.CASIndexListener;
+import io.sirix.node.json.AbstractNumberNode;
 import io.sirix.node.json.BooleanNode;
-import io.sirix.node.json.NumberNode;
 import io.sirix.node.json.ObjectBooleanNode;
-import io.sirix.node.json.ObjectNumberNode;
 
 public final class JsonCASIndexListener implements ChangeListener {
 
@@ -35,14 +34,10 @@ public final class JsonCASIndexListener implements ChangeListener {
                                                                 node,
                                                                 pathNodeKey,
                                                                 new Str(String.valueOf(((ObjectBooleanNode) node).getValue())));
-      case NUMBER_VALUE -> indexListenerDelegate.listen(type,
-                                                        node,
-                                                        pathNodeKey,
-                                                        new Str(String.valueOf(((NumberNode) node).getValue())));
-      case OBJECT_NUMBER_VALUE -> indexListenerDelegate.listen(type,
-                                                               node,
-                                                               pathNodeKey,
-                                                               new Str(String.valueOf(((ObjectNumberNode) node).getValue())));
+      case NUMBER_VALUE, OBJECT_NUMBER_VALUE -> indexListenerDelegate.listen(type,
+                                                                             node,
+                                                                             pathNodeKey,
+                                                                             new Str(((AbstractNumberNode) node).getValueAsString()));
     }
   }
 }
@@ -0,0 +1,40 @@
+package io.sirix.index.column;
+
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.api.json.NumberColumn;
+import io.sirix.index.IndexType;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+/**
+ * Reader of a number column index (see {@link NumberColumnIndexWriter}).
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class NumberColumnIndexReader {
+
+  /**
+   * Private constructor.
+   */
+  private NumberColumnIndexReader() {
+    throw new AssertionError("May never be instantiated!");
+  }
+
+  /**
+   * Get the column of a path class in the revision of the page transaction.
+   *
+   * @param pageRtx     the page transaction
+   * @param index       the index number
+   * @param pathNodeKey the path node key (PCR)
+   * @return the column, which is empty, if the path class has no indexed number values
+   */
+  public static NumberColumn getColumn(final PageReadOnlyTrx pageRtx, final @NonNegative int index,
+      final long pathNodeKey) {
+    if (pathNodeKey <= 0
+        || pathNodeKey > pageRtx.getPathPage(pageRtx.getActualRevisionRootPage()).getMaxNodeKey(index)) {
+      return NumberColumn.empty();
+    }
+
+    final NumberColumnNode column = pageRtx.getRecord(pathNodeKey, IndexType.NUMBER_COLUMN, index);
+    return column == null ? NumberColumn.empty() : column.toNumberColumn();
+  }
+}
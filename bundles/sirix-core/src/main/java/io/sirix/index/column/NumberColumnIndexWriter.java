@@ -0,0 +1,93 @@
+package io.sirix.index.column;
+
+import io.sirix.access.DatabaseType;
+import io.sirix.api.PageTrx;
+import io.sirix.cache.PageContainer;
+import io.sirix.index.IndexType;
+import io.sirix.node.json.NumberType;
+import io.sirix.page.PathPage;
+import io.sirix.page.RevisionRootPage;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writer of a number column index, which stores a {@link NumberColumnNode} per path class. The
+ * record key of a column is the path node key (PCR), thus the records of the path classes without
+ * number values are empty. Only the record pages of the modified columns are copied into the new
+ * revision.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class NumberColumnIndexWriter {
+
+  /**
+   * {@link PageTrx} instance.
+   */
+  private final PageTrx pageTrx;
+
+  /**
+   * The index number.
+   */
+  private final int index;
+
+  /**
+   * Constructor, which creates the index tree if needed.
+   *
+   * @param databaseType the type of database
+   * @param pageTrx      {@link PageTrx} for persistent storage
+   * @param index        the index number
+   */
+  public NumberColumnIndexWriter(final DatabaseType databaseType, final PageTrx pageTrx,
+      final @NonNegative int index) {
+    this.pageTrx = requireNonNull(pageTrx);
+    this.index = index;
+
+    final RevisionRootPage revisionRootPage = pageTrx.getActualRevisionRootPage();
+    final PathPage pathPage = pageTrx.getPathPage(revisionRootPage);
+    pageTrx.appendLogRecord(revisionRootPage.getPathPageReference(), PageContainer.getInstance(pathPage, pathPage));
+    pathPage.createNumberColumnIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+  }
+
+  /**
+   * Add the value of a number node to the column of its path class or replace its value.
+   *
+   * @param pathNodeKey   the path node key (PCR)
+   * @param numberNodeKey the key of the number node
+   * @param numberType    the type of the value
+   * @param longValue     the value as a {@code long} value
+   * @param doubleValue   the value as a {@code double} value
+   */
+  public void add(final long pathNodeKey, final long numberNodeKey, final NumberType numberType,
+      final long longValue, final double doubleValue) {
+    if (pathNodeKey <= 0) {
+      return;
+    }
+
+    final long maxNodeKey = pageTrx.getPathPage(pageTrx.getActualRevisionRootPage()).getMaxNodeKey(index);
+
+    // Record keys are allocated sequentially.
+    for (long nodeKey = maxNodeKey + 1; nodeKey <= pathNodeKey; nodeKey++) {
+      pageTrx.createRecord(new NumberColumnNode(nodeKey), IndexType.NUMBER_COLUMN, index);
+    }
+
+    final NumberColumnNode column = pageTrx.prepareRecordForModification(pathNodeKey, IndexType.NUMBER_COLUMN, index);
+    column.add(numberNodeKey, numberType, longValue, doubleValue);
+  }
+
+  /**
+   * Remove the value of a number node from the column of its path class.
+   *
+   * @param pathNodeKey   the path node key (PCR)
+   * @param numberNodeKey the key of the number node
+   */
+  public void remove(final long pathNodeKey, final long numberNodeKey) {
+    if (pathNodeKey <= 0
+        || pathNodeKey > pageTrx.getPathPage(pageTrx.getActualRevisionRootPage()).getMaxNodeKey(index)) {
+      return;
+    }
+
+    final NumberColumnNode column = pageTrx.prepareRecordForModification(pathNodeKey, IndexType.NUMBER_COLUMN, index);
+    column.remove(numberNodeKey);
+  }
+}
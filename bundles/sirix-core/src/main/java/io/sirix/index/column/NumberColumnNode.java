@@ -0,0 +1,264 @@
+package io.sirix.index.column;
+
+import io.sirix.api.json.NumberColumn;
+import io.sirix.node.NodeKind;
+import io.sirix.node.SirixDeweyID;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.RecordSerializer;
+import io.sirix.node.json.NumberType;
+import it.unimi.dsi.fastutil.booleans.BooleanArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Record of a number column index, which stores the number values of a path class (the record key
+ * is the path node key) sorted by the keys of the number nodes.
+ *
+ * <p>Integral values (integers and longs) are stored as {@code long} values, the other values as
+ * the bits of their {@code double} values. The column is integral, as long as no other value is
+ * stored, which is tracked by a flag per value, such that it's integral again, once the last
+ * non-integral value has been removed.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class NumberColumnNode implements DataRecord {
+
+  private final long nodeKey;
+
+  /**
+   * The keys of the number nodes in ascending order.
+   */
+  private final LongArrayList nodeKeys;
+
+  /**
+   * The {@code long} values or the bits of the {@code double} values.
+   */
+  private final LongArrayList values;
+
+  /**
+   * Determines for each value, if it's integral.
+   */
+  private final BooleanArrayList integral;
+
+  /**
+   * The number of values, which aren't integral.
+   */
+  private int nonIntegralCount;
+
+  /**
+   * Constructor for an empty column.
+   *
+   * @param nodeKey the record key, that is the path node key (PCR)
+   */
+  public NumberColumnNode(final long nodeKey) {
+    this(nodeKey, new LongArrayList(), new LongArrayList(), new BooleanArrayList());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey  the record key, that is the path node key (PCR)
+   * @param nodeKeys the keys of the number nodes in ascending order
+   * @param values   the {@code long} values or the bits of the {@code double} values
+   * @param integral determines for each value, if it's integral
+   */
+  public NumberColumnNode(final long nodeKey, final LongArrayList nodeKeys, final LongArrayList values,
+      final BooleanArrayList integral) {
+    checkArgument(nodeKeys.size() == values.size() && nodeKeys.size() == integral.size(),
+                  "The number of values must match the number of node keys.");
+    this.nodeKey = nodeKey;
+    this.nodeKeys = requireNonNull(nodeKeys);
+    this.values = requireNonNull(values);
+    this.integral = requireNonNull(integral);
+    for (int i = 0, size = integral.size(); i < size; i++) {
+      if (!integral.getBoolean(i)) {
+        nonIntegralCount++;
+      }
+    }
+  }
+
+  /**
+   * Add the value of a number node or replace its value.
+   *
+   * @param numberNodeKey the key of the number node
+   * @param numberType    the type of the value
+   * @param longValue     the value as a {@code long} value
+   * @param doubleValue   the value as a {@code double} value
+   */
+  public void add(final long numberNodeKey, final NumberType numberType, final long longValue,
+      final double doubleValue) {
+    final boolean isIntegral = numberType.isIntegral();
+    final long value = isIntegral ? longValue : Double.doubleToRawLongBits(doubleValue);
+    final int size = nodeKeys.size();
+
+    // Number nodes are usually appended.
+    final int index = size == 0 || nodeKeys.getLong(size - 1) < numberNodeKey ? -size - 1 : indexOf(numberNodeKey);
+
+    if (index >= 0) {
+      if (!integral.getBoolean(index)) {
+        nonIntegralCount--;
+      }
+      values.set(index, value);
+      integral.set(index, isIntegral);
+    } else {
+      final int insertionIndex = -index - 1;
+      nodeKeys.add(insertionIndex, numberNodeKey);
+      values.add(insertionIndex, value);
+      integral.add(insertionIndex, isIntegral);
+    }
+
+    if (!isIntegral) {
+      nonIntegralCount++;
+    }
+  }
+
+  /**
+   * Remove the value of a number node.
+   *
+   * @param numberNodeKey the key of the number node
+   * @return {@code true}, if the value has been removed, {@code false}, if the column doesn't contain
+   *     a value of the number node
+   */
+  public boolean remove(final long numberNodeKey) {
+    final int index = indexOf(numberNodeKey);
+
+    if (index < 0) {
+      return false;
+    }
+
+    if (!integral.getBoolean(index)) {
+      nonIntegralCount--;
+    }
+    nodeKeys.removeLong(index);
+    values.removeLong(index);
+    integral.removeBoolean(index);
+    return true;
+  }
+
+  private int indexOf(final long numberNodeKey) {
+    int low = 0;
+    int high = nodeKeys.size() - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final long midNodeKey = nodeKeys.getLong(mid);
+
+      if (midNodeKey < numberNodeKey) {
+        low = mid + 1;
+      } else if (midNodeKey > numberNodeKey) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+
+    return -(low + 1);
+  }
+
+  /**
+   * Get the number of values.
+   *
+   * @return the number of values
+   */
+  public int size() {
+    return nodeKeys.size();
+  }
+
+  /**
+   * Determines if all values are integral.
+   *
+   * @return {@code true}, if all values are integral, {@code false} otherwise
+   */
+  public boolean isIntegral() {
+    return nonIntegralCount == 0;
+  }
+
+  /**
+   * Get the key of the number node of a value.
+   *
+   * @param index the index of the value
+   * @return the node key
+   */
+  public long getNumberNodeKey(final @NonNegative int index) {
+    return nodeKeys.getLong(index);
+  }
+
+  /**
+   * Determines if a value is integral.
+   *
+   * @param index the index of the value
+   * @return {@code true}, if the value is integral, {@code false} otherwise
+   */
+  public boolean isIntegral(final @NonNegative int index) {
+    return integral.getBoolean(index);
+  }
+
+  /**
+   * Get the {@code long} value or the bits of the {@code double} value.
+   *
+   * @param index the index of the value
+   * @return the {@code long} value, if the value is integral, the bits of the {@code double} value
+   *     otherwise
+   */
+  public long getValueBits(final @NonNegative int index) {
+    return values.getLong(index);
+  }
+
+  /**
+   * Get the column, which doesn't change with this record.
+   *
+   * @return the column
+   */
+  public NumberColumn toNumberColumn() {
+    final int size = size();
+
+    if (nonIntegralCount == 0) {
+      return NumberColumn.of(nodeKeys.toLongArray(), values.toLongArray(), null);
+    }
+
+    final double[] doubleValues = new double[size];
+    for (int i = 0; i < size; i++) {
+      final long value = values.getLong(i);
+      doubleValues[i] = integral.getBoolean(i) ? (double) value : Double.longBitsToDouble(value);
+    }
+    return NumberColumn.of(nodeKeys.toLongArray(), null, doubleValues);
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public byte[] getDeweyIDAsBytes() {
+    return null;
+  }
+
+  @Override
+  public RecordSerializer getKind() {
+    return NodeKind.NUMBER_COLUMN_NODE;
+  }
+
+  @Override
+  public int getPreviousRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int getLastModifiedRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String toString() {
+    return "NumberColumnNode{nodeKey=" + nodeKey + ", size=" + size() + ", integral=" + isIntegral() + "}";
+  }
+}
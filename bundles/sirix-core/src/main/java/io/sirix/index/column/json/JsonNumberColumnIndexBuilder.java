@@ -0,0 +1,99 @@
+package io.sirix.index.column.json;
+
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.util.path.Path;
+import io.brackit.query.util.path.PathException;
+import io.sirix.access.trx.node.json.AbstractJsonNodeVisitor;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.visitor.VisitResult;
+import io.sirix.api.visitor.VisitResultType;
+import io.sirix.exception.SirixIOException;
+import io.sirix.index.column.NumberColumnIndexWriter;
+import io.sirix.index.path.summary.PathSummaryReader;
+import io.sirix.node.immutable.json.ImmutableArrayNode;
+import io.sirix.node.immutable.json.ImmutableNumberNode;
+import io.sirix.node.immutable.json.ImmutableObjectKeyNode;
+import io.sirix.node.immutable.json.ImmutableObjectNumberNode;
+import io.sirix.node.interfaces.immutable.ImmutableNode;
+import io.sirix.node.json.NumberType;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builds a number column index.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonNumberColumnIndexBuilder extends AbstractJsonNodeVisitor {
+
+  private final NumberColumnIndexWriter indexWriter;
+
+  private final JsonNodeReadOnlyTrx rtx;
+
+  /**
+   * The path classes of the paths, or {@code null}, if all path classes are indexed.
+   */
+  private final @Nullable LongSet pathNodeKeys;
+
+  /**
+   * Constructor.
+   *
+   * @param indexWriter       the index writer
+   * @param rtx               the transaction, which visits the nodes
+   * @param pathSummaryReader the path summary
+   * @param paths             the paths of the columns to index, or all paths, if empty
+   */
+  public JsonNumberColumnIndexBuilder(final NumberColumnIndexWriter indexWriter, final JsonNodeReadOnlyTrx rtx,
+      final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths) {
+    this.indexWriter = requireNonNull(indexWriter);
+    this.rtx = requireNonNull(rtx);
+    try {
+      pathNodeKeys = paths.isEmpty() ? null : pathSummaryReader.getPCRsForPaths(paths);
+    } catch (final PathException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableNumberNode node) {
+    return process(node, node.getNumberType(), node.getLongValue(), node.getDoubleValue());
+  }
+
+  @Override
+  public VisitResult visit(final ImmutableObjectNumberNode node) {
+    return process(node, node.getNumberType(), node.getLongValue(), node.getDoubleValue());
+  }
+
+  private VisitResult process(final ImmutableNode node, final NumberType numberType, final long longValue,
+      final double doubleValue) {
+    final long pathNodeKey = getPathClassRecord(node);
+
+    if (pathNodeKey > 0 && (pathNodeKeys == null || pathNodeKeys.contains(pathNodeKey))) {
+      indexWriter.add(pathNodeKey, node.getNodeKey(), numberType, longValue, doubleValue);
+    }
+
+    return VisitResultType.CONTINUE;
+  }
+
+  private long getPathClassRecord(final ImmutableNode node) {
+    rtx.moveTo(node.getParentKey());
+
+    final long pcr;
+
+    if (rtx.isObjectKey()) {
+      pcr = ((ImmutableObjectKeyNode) rtx.getNode()).getPathNodeKey();
+    } else if (rtx.isArray()) {
+      pcr = ((ImmutableArrayNode) rtx.getNode()).getPathNodeKey();
+    } else {
+      pcr = 0;
+    }
+
+    rtx.moveTo(node.getNodeKey());
+
+    return pcr;
+  }
+}
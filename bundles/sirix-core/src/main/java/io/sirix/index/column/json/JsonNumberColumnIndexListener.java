@@ -0,0 +1,111 @@
+package io.sirix.index.column.json;
+
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.util.path.Path;
+import io.brackit.query.util.path.PathException;
+import io.sirix.access.trx.node.IndexController;
+import io.sirix.exception.SirixIOException;
+import io.sirix.index.ChangeListener;
+import io.sirix.index.column.NumberColumnIndexWriter;
+import io.sirix.index.path.summary.PathSummaryReader;
+import io.sirix.node.immutable.json.ImmutableNumberNode;
+import io.sirix.node.immutable.json.ImmutableObjectNumberNode;
+import io.sirix.node.interfaces.immutable.ImmutableNode;
+import io.sirix.node.json.AbstractNumberNode;
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maintains a number column index on changes of number nodes.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonNumberColumnIndexListener implements ChangeListener {
+
+  private final NumberColumnIndexWriter indexWriter;
+
+  private final PathSummaryReader pathSummaryReader;
+
+  private final Set<Path<QNm>> paths;
+
+  /**
+   * Determines for the path classes seen so far, if they match the paths (the path of a path class
+   * never changes).
+   */
+  private final Long2BooleanMap matchingPathNodeKeys = new Long2BooleanOpenHashMap();
+
+  /**
+   * Constructor.
+   *
+   * @param indexWriter       the index writer
+   * @param pathSummaryReader the path summary of the write transaction
+   * @param paths             the paths of the columns to index, or all paths, if empty
+   */
+  public JsonNumberColumnIndexListener(final NumberColumnIndexWriter indexWriter,
+      final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths) {
+    this.indexWriter = requireNonNull(indexWriter);
+    this.pathSummaryReader = requireNonNull(pathSummaryReader);
+    this.paths = requireNonNull(paths);
+  }
+
+  @Override
+  public void listen(final IndexController.ChangeType type, final ImmutableNode node, final long pathNodeKey) {
+    if (pathNodeKey <= 0 || !matches(pathNodeKey)) {
+      return;
+    }
+
+    switch (type) {
+      case INSERT -> {
+        // Value nodes are passed as records on insertions and as immutable nodes on updates.
+        switch (node) {
+          case AbstractNumberNode numberNode -> indexWriter.add(pathNodeKey,
+                                                                numberNode.getNodeKey(),
+                                                                numberNode.getNumberType(),
+                                                                numberNode.getLongValue(),
+                                                                numberNode.getDoubleValue());
+          case ImmutableNumberNode numberNode -> indexWriter.add(pathNodeKey,
+                                                                 numberNode.getNodeKey(),
+                                                                 numberNode.getNumberType(),
+                                                                 numberNode.getLongValue(),
+                                                                 numberNode.getDoubleValue());
+          case ImmutableObjectNumberNode numberNode -> indexWriter.add(pathNodeKey,
+                                                                       numberNode.getNodeKey(),
+                                                                       numberNode.getNumberType(),
+                                                                       numberNode.getLongValue(),
+                                                                       numberNode.getDoubleValue());
+          default -> {
+          }
+        }
+      }
+      case DELETE -> {
+        switch (node.getKind()) {
+          case NUMBER_VALUE, OBJECT_NUMBER_VALUE -> indexWriter.remove(pathNodeKey, node.getNodeKey());
+          default -> {
+          }
+        }
+      }
+      default -> {
+      }
+    }
+  }
+
+  private boolean matches(final long pathNodeKey) {
+    if (paths.isEmpty()) {
+      return true;
+    }
+
+    if (!matchingPathNodeKeys.containsKey(pathNodeKey)) {
+      try {
+        matchingPathNodeKeys.put(pathNodeKey, pathSummaryReader.getPCRsForPaths(paths).contains(pathNodeKey));
+      } catch (final PathException e) {
+        throw new SirixIOException(e);
+      }
+    }
+
+    return matchingPathNodeKeys.get(pathNodeKey);
+  }
+}
@@ -1,7 +1,6 @@
 package io.sirix.index.name;
 
 import io.sirix.index.Filter;
-import io.sirix.index.redblacktree.RBNodeKey;
 import io.brackit.query.atomic.QNm;
 
 import java.util.Collections;
@@ -29,8 +28,8 @@ public final class NameFilter implements Filter {
   }
 
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final RBNodeKey<K> node) {
-    if (!(node.getKey() instanceof final QNm name))
+  public <K extends Comparable<? super K>> boolean filterKey(final K key) {
+    if (!(key instanceof final QNm name))
       throw new IllegalStateException("Key is not of type QNm!");
 
     final boolean included = (includes.isEmpty() || includes.contains(name));
@@ -5,6 +5,9 @@ import com.google.common.collect.Iterators;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
 import io.sirix.index.*;
+import io.sirix.index.art.ARTIndexFilterAxis;
+import io.sirix.index.art.ARTTreeReader;
+import io.sirix.index.art.IndexBinaryComparables;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBTreeReader;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
@@ -21,6 +24,20 @@ public interface NameIndex<B, L extends ChangeListener> {
   L createListener(PageTrx pageTrx, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, NameFilter filter) {
+    if (indexDef.getBackend() == IndexBackendType.ADAPTIVE_RADIX_TREE) {
+      final ARTTreeReader<QNm, NodeReferences> reader =
+          ARTTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID(), IndexBinaryComparables.forQNm());
+
+      if (filter.getIncludes().size() == 1 && filter.getExcludes().isEmpty()) {
+        final Optional<NodeReferences> optionalNodeReferences =
+            reader.get(filter.getIncludes().iterator().next(), SearchMode.EQUAL);
+        return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+      }
+
+      final Set<Filter> setFilter = ImmutableSet.of(filter);
+      return new ARTIndexFilterAxis<>(reader.iterator(), setFilter);
+    }
+
     final RBTreeReader<QNm, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
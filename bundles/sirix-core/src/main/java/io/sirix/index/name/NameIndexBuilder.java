@@ -5,7 +5,7 @@ import io.sirix.api.visitor.VisitResultType;
 import io.sirix.index.SearchMode;
 import io.sirix.exception.SirixIOException;
 import io.sirix.index.redblacktree.RBTreeReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexWriter;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.node.json.ObjectKeyNode;
 import io.sirix.utils.LogWrapper;
@@ -21,12 +21,12 @@ public final class NameIndexBuilder {
 
   public Set<QNm> includes;
   public Set<QNm> excludes;
-  public RBTreeWriter<QNm, NodeReferences> indexWriter;
+  public IndexWriter<QNm, NodeReferences> indexWriter;
 
   public PageReadOnlyTrx pageRtx;
 
   public NameIndexBuilder(final Set<QNm> includes, final Set<QNm> excludes,
-      final RBTreeWriter<QNm, NodeReferences> indexWriter, final PageReadOnlyTrx pageRtx) {
+      final IndexWriter<QNm, NodeReferences> indexWriter, final PageReadOnlyTrx pageRtx) {
     this.includes = includes;
     this.excludes = excludes;
     this.indexWriter = indexWriter;
@@ -6,7 +6,8 @@ import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.IndexDef;
 import io.sirix.index.IndexType;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexWriter;
+import io.sirix.index.art.IndexBinaryComparables;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.brackit.query.atomic.QNm;
 
@@ -22,13 +23,11 @@ public final class NameIndexBuilderFactory {
     final var includes = requireNonNull(indexDefinition.getIncluded());
     final var excludes = requireNonNull(indexDefinition.getExcluded());
     assert indexDefinition.getType() == IndexType.NAME;
-    final var rbTreeWriter = RBTreeWriter.<QNm, NodeReferences>getInstance(
-            this.databaseType,
-            pageTrx,
-            indexDefinition.getType(),
-            indexDefinition.getID()
-    );
+    final var indexWriter = IndexWriter.<QNm, NodeReferences>getInstance(this.databaseType,
+                                                                         pageTrx,
+                                                                         indexDefinition,
+                                                                         IndexBinaryComparables.forQNm());
 
-    return new NameIndexBuilder(includes, excludes, rbTreeWriter, pageTrx);
+    return new NameIndexBuilder(includes, excludes, indexWriter, pageTrx);
   }
 }
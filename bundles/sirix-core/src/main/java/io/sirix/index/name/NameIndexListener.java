@@ -3,7 +3,7 @@ package io.sirix.index.name;
 import io.sirix.access.trx.node.IndexController;
 import io.sirix.index.SearchMode;
 import io.sirix.index.redblacktree.RBTreeReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexWriter;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.brackit.query.atomic.QNm;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -16,10 +16,10 @@ public final class NameIndexListener {
 
   private final Set<QNm> includes;
   private final Set<QNm> excludes;
-  private final RBTreeWriter<QNm, NodeReferences> indexWriter;
+  private final IndexWriter<QNm, NodeReferences> indexWriter;
 
   public NameIndexListener(final Set<QNm> includes, final Set<QNm> excludes,
-      final RBTreeWriter<QNm, NodeReferences> indexTreeWriter) {
+      final IndexWriter<QNm, NodeReferences> indexTreeWriter) {
     this.includes = includes;
     this.excludes = excludes;
     this.indexWriter = indexTreeWriter;
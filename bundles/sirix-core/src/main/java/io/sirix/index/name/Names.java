@@ -254,6 +254,15 @@ public final class Names {
     return nameMap.get(key);
   }
 
+  /**
+   * Get the number of distinct names.
+   *
+   * @return number of distinct names
+   */
+  public int size() {
+    return nameMap.size();
+  }
+
   /**
    * Get a new instance.
    *
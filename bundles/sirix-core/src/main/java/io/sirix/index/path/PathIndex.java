@@ -3,6 +3,9 @@ package io.sirix.index.path;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
 import io.sirix.index.*;
+import io.sirix.index.art.ARTIndexFilterAxis;
+import io.sirix.index.art.ARTTreeReader;
+import io.sirix.index.art.IndexBinaryComparables;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
@@ -22,6 +25,20 @@ public interface PathIndex<B, L extends ChangeListener> {
 
   default Iterator<NodeReferences> openIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
       final PathFilter filter) {
+    if (indexDef.getBackend() == IndexBackendType.ADAPTIVE_RADIX_TREE) {
+      final ARTTreeReader<Long, NodeReferences> reader =
+          ARTTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID(), IndexBinaryComparables.forPathNodeKey());
+
+      if (filter != null && filter.getPCRs().size() == 1) {
+        final Optional<NodeReferences> optionalNodeReferences =
+            reader.get(filter.getPCRs().iterator().next(), SearchMode.EQUAL);
+        return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+      }
+
+      final Set<Filter> setFilter = filter == null ? ImmutableSet.of() : ImmutableSet.of(filter);
+      return new ARTIndexFilterAxis<>(reader.iterator(), setFilter);
+    }
+
     final RBTreeReader<Long, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
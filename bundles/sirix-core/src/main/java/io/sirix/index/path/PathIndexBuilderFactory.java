@@ -7,7 +7,8 @@ import io.sirix.index.IndexDef;
 import io.sirix.index.IndexType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.path.summary.PathSummaryReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexWriter;
+import io.sirix.index.art.IndexBinaryComparables;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 
@@ -24,9 +25,11 @@ public final class PathIndexBuilderFactory {
     final var pathSummary = requireNonNull(pathSummaryReader);
     final var paths = requireNonNull(indexDef.getPaths());
     assert indexDef.getType() == IndexType.PATH;
-    final var rbTreeWriter = RBTreeWriter.<Long, NodeReferences>getInstance(
-            this.databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+    final var indexWriter = IndexWriter.<Long, NodeReferences>getInstance(this.databaseType,
+                                                                          pageTrx,
+                                                                          indexDef,
+                                                                          IndexBinaryComparables.forPathNodeKey());
 
-    return new PathIndexBuilder(rbTreeWriter, pathSummary, paths);
+    return new PathIndexBuilder(indexWriter, pathSummary, paths);
   }
 }
@@ -8,7 +8,7 @@ import io.brackit.query.util.path.PathException;
 import io.sirix.exception.SirixIOException;
 import io.sirix.index.path.summary.PathSummaryReader;
 import io.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexWriter;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
 
@@ -17,12 +17,12 @@ import java.util.Set;
 
 public final class PathIndexListener {
 
-  private final RBTreeWriter<Long, NodeReferences> indexWriter;
+  private final IndexWriter<Long, NodeReferences> indexWriter;
   private final PathSummaryReader pathSummaryReader;
   private final Set<Path<QNm>> paths;
 
   public PathIndexListener(final Set<Path<QNm>> paths, final PathSummaryReader pathSummaryReader,
-      final RBTreeWriter<Long, NodeReferences> indexWriter) {
+      final IndexWriter<Long, NodeReferences> indexWriter) {
     this.indexWriter = indexWriter;
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
@@ -6,7 +6,8 @@ import io.sirix.access.DatabaseType;
 import io.sirix.index.IndexDef;
 import io.sirix.api.PageTrx;
 import io.sirix.index.path.summary.PathSummaryReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexWriter;
+import io.sirix.index.art.IndexBinaryComparables;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 public final class PathIndexListenerFactory {
@@ -21,11 +22,11 @@ public final class PathIndexListenerFactory {
       final IndexDef indexDef) {
     final var pathSummary = requireNonNull(pathSummaryReader);
     final var paths = requireNonNull(indexDef.getPaths());
-    final var avlTreeWriter = RBTreeWriter.<Long, NodeReferences>getInstance(this.databaseType,
-                                                                             pageTrx,
-                                                                             indexDef.getType(),
-                                                                             indexDef.getID());
+    final var indexWriter = IndexWriter.<Long, NodeReferences>getInstance(this.databaseType,
+                                                                          pageTrx,
+                                                                          indexDef,
+                                                                          IndexBinaryComparables.forPathNodeKey());
 
-    return new PathIndexListener(paths, pathSummary, avlTreeWriter);
+    return new PathIndexListener(paths, pathSummary, indexWriter);
   }
 }
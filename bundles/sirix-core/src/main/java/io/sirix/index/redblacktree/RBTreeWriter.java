@@ -35,6 +35,7 @@ import io.sirix.api.PageTrx;
 import io.sirix.cache.PageContainer;
 import io.sirix.exception.SirixIOException;
 import io.sirix.index.IndexType;
+import io.sirix.index.IndexWriter;
 import io.sirix.index.SearchMode;
 import io.sirix.index.redblacktree.interfaces.References;
 import io.sirix.node.SirixDeweyID;
@@ -61,7 +62,7 @@ import static java.util.Objects.requireNonNull;
  */
 @SuppressWarnings("ConstantValue")
 public final class RBTreeWriter<K extends Comparable<? super K>, V extends References>
-    extends AbstractForwardingNodeCursor {
+    extends AbstractForwardingNodeCursor implements IndexWriter<K, V> {
   /**
    * Logger.
    */
@@ -150,6 +151,7 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
    * @return indexed node key references
    * @throws SirixIOException if an I/O error occurs
    */
+  @Override
   public V index(final K key, final V value, final RBTreeReader.MoveCursor move) {
     if (move == RBTreeReader.MoveCursor.TO_DOCUMENT_ROOT) {
       moveToDocumentRoot();
@@ -266,6 +268,7 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
    * @param nodeKey the nodeKey to remove from the value
    * @throws SirixIOException if an I/O error occured
    */
+  @Override
   public boolean remove(final K key, final @NonNegative long nodeKey) {
     checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
     final Optional<V> searchedValue = rbTreeReader.get(requireNonNull(key), SearchMode.EQUAL);
@@ -548,6 +551,7 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
    * @return {@link Optional} reference (with the found value, or a reference which indicates that the
    * value hasn't been found)
    */
+  @Override
   public Optional<V> get(final K key, final SearchMode mode) {
     return rbTreeReader.get(requireNonNull(key), requireNonNull(mode));
   }
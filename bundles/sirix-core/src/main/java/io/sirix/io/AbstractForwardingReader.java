@@ -9,6 +9,7 @@ import io.sirix.page.interfaces.Page;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -35,6 +36,12 @@ public abstract class AbstractForwardingReader extends ForwardingObject implemen
     return delegate().readAsync(reference, resourceConfiguration);
   }
 
+  @Override
+  public CompletableFuture<List<Page>> readAllAsync(List<PageReference> references,
+      @Nullable ResourceConfiguration resourceConfiguration) {
+    return delegate().readAllAsync(references, resourceConfiguration);
+  }
+
   @Override
   public PageReference readUberPageReference() {
     return delegate().readUberPageReference();
@@ -10,13 +10,12 @@ import io.sirix.page.UberPage;
 import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
 
 public abstract class AbstractReader implements Reader {
 
-  private final Bytes<byte[]> wrappedForRead = Bytes.allocateElasticOnHeap(10_000);
-
   protected final ByteHandler byteHandler;
 
   /**
@@ -36,15 +35,37 @@ public abstract class AbstractReader implements Reader {
   }
 
   public Page deserialize(ResourceConfiguration resourceConfiguration, byte[] page) throws IOException {
+    return deserialize(resourceConfiguration, ByteBuffer.wrap(page));
+  }
+
+  /**
+   * Deserialize a page, which is stored in a buffer (from its position to its limit). The bytes are
+   * decompressed/decrypted directly from the buffer, which may be a direct buffer.
+   *
+   * @param resourceConfiguration the resource configuration
+   * @param page                  the serialized page
+   * @return the deserialized page
+   * @throws IOException if an I/O error occurs
+   */
+  public Page deserialize(ResourceConfiguration resourceConfiguration, ByteBuffer page) throws IOException {
+    // perform byte operations
+    final ByteBuffer bytes = byteHandler.deserialize(page);
+    return pagePersister.deserializePage(resourceConfiguration, Bytes.wrapForRead(bytes), type);
+  }
+
+  /**
+   * Deserialize a page, which is stored in a memory segment, for instance in a slice of a memory
+   * mapped file, without copying the serialized page to the heap first.
+   *
+   * @param resourceConfiguration the resource configuration
+   * @param page                  the serialized page
+   * @return the deserialized page
+   * @throws IOException if an I/O error occurs
+   */
+  public Page deserialize(ResourceConfiguration resourceConfiguration, MemorySegment page) throws IOException {
     // perform byte operations
-    byte[] bytes;
-    try (final var inputStream = byteHandler.deserialize(new ByteArrayInputStream(page))) {
-      bytes = inputStream.readAllBytes();
-    }
-    wrappedForRead.write(bytes);
-    final var deserializedPage = pagePersister.deserializePage(resourceConfiguration, wrappedForRead, type);
-    wrappedForRead.clear();
-    return deserializedPage;
+    final ByteBuffer bytes = byteHandler.deserialize(page);
+    return pagePersister.deserializePage(resourceConfiguration, Bytes.wrapForRead(bytes), type);
   }
 
   @Override
@@ -27,6 +27,38 @@ public final class BytesUtils {
     return byteBuffer;
   }
 
+  /**
+   * Get a view of the readable bytes of a {@link Bytes} instance. The bytes are only copied if the
+   * instance is neither backed by a {@link ByteBuffer} nor by a byte array.
+   *
+   * @param bytes the bytes
+   * @return a buffer, whose remaining bytes are the readable bytes
+   */
+  public static ByteBuffer asByteBuffer(Bytes<?> bytes) {
+    final Object underlyingObject = bytes.underlyingObject();
+    if (underlyingObject instanceof ByteBuffer byteBuffer) {
+      return byteBuffer.duplicate().limit((int) bytes.readLimit()).position((int) bytes.readPosition());
+    }
+    if (underlyingObject instanceof byte[] array) {
+      return ByteBuffer.wrap(array, (int) bytes.readPosition(), (int) bytes.readRemaining());
+    }
+    return ByteBuffer.wrap(bytes.toByteArray());
+  }
+
+  /**
+   * Write the remaining bytes of a buffer to a {@link Bytes} instance without modifying the buffer.
+   *
+   * @param bytes   the bytes to write to
+   * @param toWrite the buffer to write
+   */
+  public static void write(Bytes<?> bytes, ByteBuffer toWrite) {
+    if (toWrite.hasArray()) {
+      bytes.write(toWrite.array(), toWrite.arrayOffset() + toWrite.position(), toWrite.remaining());
+    } else {
+      bytes.write(Bytes.wrapForRead(toWrite.duplicate()));
+    }
+  }
+
   /**
    * Convert the byte[] into a String to be used for logging and debugging.
    *
@@ -0,0 +1,195 @@
+package io.sirix.io;
+
+import io.sirix.access.DurabilityMode;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects the writers of commits, which have to be forced to the storage device, and forces them
+ * all at once at the end of a group commit window. Thus, successive commits and commits of several
+ * resources share one force instead of issuing one each (see {@link DurabilityMode#GROUP_COMMIT} and
+ * {@link DurabilityMode#ASYNC}).
+ *
+ * <p>All commits requested in the same window share one future, which is completed as soon as all
+ * writers of the window have been forced. The window ends after the shortest group commit window
+ * of the requests.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class GroupCommitter {
+
+  /**
+   * The shared instance.
+   */
+  private static final GroupCommitter INSTANCE = new GroupCommitter();
+
+  /**
+   * Schedules the ends of the group commit windows.
+   */
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Guards the current group.
+   */
+  private final Lock lock;
+
+  /**
+   * Makes sure that groups are forced one after the other.
+   */
+  private final Lock forceLock;
+
+  /**
+   * The group of the current window or {@code null}, if no commit is pending.
+   */
+  private Group currentGroup;
+
+  /**
+   * The writers of one group commit window.
+   */
+  private static final class Group {
+    private final Set<Writer> writers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final CompletableFuture<Void> durable = new CompletableFuture<>();
+
+    private long deadline;
+
+    private Group(final long deadline) {
+      this.deadline = deadline;
+    }
+  }
+
+  /**
+   * Constructor.
+   */
+  GroupCommitter() {
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final var thread = new Thread(runnable, "sirix-group-commit");
+      // Pending groups are only lost if the operating system crashes, not if the JVM exits.
+      thread.setDaemon(true);
+      return thread;
+    });
+    lock = new ReentrantLock();
+    forceLock = new ReentrantLock();
+  }
+
+  /**
+   * Get the shared instance.
+   *
+   * @return the shared instance
+   */
+  public static GroupCommitter getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Request to force the given writer to the storage device at the end of the current group commit
+   * window. The writer must not be closed until the returned future is completed. Actions, which
+   * depend on the future, are executed by the thread, which forces the group, thus they should not
+   * block.
+   *
+   * @param writer            the writer to force
+   * @param groupCommitWindow the maximum time span until the writer is forced
+   * @return the future of the group, which is completed as soon as the writer has been forced or
+   *     completed exceptionally, if forcing any writer of the group failed
+   */
+  public CompletableFuture<Void> requestForce(final Writer writer, final Duration groupCommitWindow) {
+    final long delay = groupCommitWindow.toNanos();
+    final long deadline = System.nanoTime() + delay;
+
+    lock.lock();
+    try {
+      Group group = currentGroup;
+      if (group == null) {
+        group = new Group(deadline);
+        currentGroup = group;
+        schedule(group, delay);
+      } else if (deadline - group.deadline < 0) {
+        group.deadline = deadline;
+        schedule(group, delay);
+      }
+      group.writers.add(writer);
+      return group.durable;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Immediately force all writers of the current group and wait until forcing a group, which is
+   * already in progress, is finished.
+   */
+  public void forceAll() {
+    final Group group;
+
+    lock.lock();
+    try {
+      group = currentGroup;
+    } finally {
+      lock.unlock();
+    }
+
+    forceLock.lock();
+    try {
+      if (group != null) {
+        force(group);
+      }
+    } finally {
+      forceLock.unlock();
+    }
+  }
+
+  private void schedule(final Group group, final long delay) {
+    scheduler.schedule(() -> {
+      forceLock.lock();
+      try {
+        force(group);
+      } finally {
+        forceLock.unlock();
+      }
+    }, delay, TimeUnit.NANOSECONDS);
+  }
+
+  private void force(final Group group) {
+    // A group might be scheduled more than once, if its window is shortened.
+    if (group.durable.isDone()) {
+      return;
+    }
+
+    lock.lock();
+    try {
+      if (currentGroup == group) {
+        currentGroup = null;
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    RuntimeException exception = null;
+    for (final Writer writer : group.writers) {
+      try {
+        writer.force();
+      } catch (final RuntimeException e) {
+        if (exception == null) {
+          exception = e;
+        } else {
+          exception.addSuppressed(e);
+        }
+      }
+    }
+
+    if (exception == null) {
+      group.durable.complete(null);
+    } else {
+      group.durable.completeExceptionally(exception);
+    }
+  }
+}
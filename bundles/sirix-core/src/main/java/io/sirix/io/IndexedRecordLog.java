@@ -0,0 +1,181 @@
+package io.sirix.io;
+
+import io.sirix.exception.SirixIOException;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Append-only log of variable length records with an index of fixed size entries. An entry consists
+ * of a header, whose layout is defined by the user of the log, followed by the offset and the length
+ * of its record.
+ *
+ * <p>A record is appended before its entry, thus a record without an entry (due to a crash in
+ * between) is simply ignored. A partially written entry is ignored by readers and truncated before
+ * the next entry is appended, such that the entries stay aligned. Entries are never modified once
+ * they have been written completely. There is at most one writer, but any number of readers.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class IndexedRecordLog {
+
+  /**
+   * Size of the offset and the length of a record in an entry.
+   */
+  private static final int RECORD_POINTER_SIZE = Long.BYTES + Integer.BYTES;
+
+  private final Path recordsFile;
+
+  private final Path indexFile;
+
+  private final int headerSize;
+
+  private final int entrySize;
+
+  /**
+   * Constructor.
+   *
+   * @param recordsFile the file, which stores the records
+   * @param indexFile   the file, which stores the entries
+   * @param headerSize  the size of the header of an entry
+   */
+  public IndexedRecordLog(final Path recordsFile, final Path indexFile, final @NonNegative int headerSize) {
+    checkArgument(headerSize >= 0, "The header size must not be negative.");
+    this.recordsFile = requireNonNull(recordsFile);
+    this.indexFile = requireNonNull(indexFile);
+    this.headerSize = headerSize;
+    this.entrySize = headerSize + RECORD_POINTER_SIZE;
+  }
+
+  /**
+   * Get the size of an entry.
+   *
+   * @return the size of the header plus the size of the offset and the length of the record
+   */
+  public int getEntrySize() {
+    return entrySize;
+  }
+
+  /**
+   * Append a record and its entry.
+   *
+   * @param header the header of the entry
+   * @param record the record
+   * @throws SirixIOException if the log can't be written
+   */
+  public void append(final ByteBuffer header, final ByteBuffer record) {
+    checkArgument(header.remaining() == headerSize, "The header must have a size of %s bytes.", headerSize);
+
+    try (final FileChannel records = FileChannel.open(recordsFile, CREATE, WRITE, APPEND);
+         final FileChannel index = FileChannel.open(indexFile, CREATE, WRITE)) {
+      // Truncate a partially written entry, such that the entries stay aligned.
+      final long indexSize = index.size() - index.size() % entrySize;
+      index.truncate(indexSize);
+      index.position(indexSize);
+
+      final long offset = records.size();
+      final int length = record.remaining();
+      while (record.hasRemaining()) {
+        records.write(record);
+      }
+
+      final ByteBuffer entry = ByteBuffer.allocate(entrySize).put(header).putLong(offset).putInt(length).flip();
+      while (entry.hasRemaining()) {
+        index.write(entry);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Read all completely written entries.
+   *
+   * @return the entries
+   * @throws SirixIOException if the index can't be read
+   */
+  public ByteBuffer readEntries() {
+    return readEntries(ByteBuffer.allocate(0));
+  }
+
+  /**
+   * Read the entries, which have been appended since the given entries have been read.
+   *
+   * @param entries the entries read so far (as returned by this method)
+   * @return the given entries, if no entry has been appended, otherwise the given and the appended
+   * entries
+   * @throws SirixIOException if the index can't be read
+   */
+  public ByteBuffer readEntries(final ByteBuffer entries) {
+    try {
+      if (!Files.exists(indexFile)) {
+        return entries;
+      }
+
+      final long size = Files.size(indexFile);
+      // Ignore a partially written entry.
+      final int newLimit = (int) (size - size % entrySize);
+      if (newLimit <= entries.limit()) {
+        return entries;
+      }
+
+      final ByteBuffer newEntries = ByteBuffer.allocate(newLimit);
+      newEntries.put(entries.duplicate().rewind());
+      try (final FileChannel index = FileChannel.open(indexFile, READ)) {
+        while (newEntries.hasRemaining()) {
+          if (index.read(newEntries, newEntries.position()) == -1) {
+            break;
+          }
+        }
+      }
+      newEntries.flip();
+      return newEntries.limit(newEntries.limit() - newEntries.limit() % entrySize);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Open a channel to read records.
+   *
+   * @return the channel
+   * @throws IOException if the records file can't be opened
+   */
+  public FileChannel openRecords() throws IOException {
+    return FileChannel.open(recordsFile, READ);
+  }
+
+  /**
+   * Read the record of an entry.
+   *
+   * @param records  the channel to read records
+   * @param entries  the entries
+   * @param position the position of the entry
+   * @return the record
+   * @throws IOException if the record can't be read
+   */
+  public ByteBuffer readRecord(final FileChannel records, final ByteBuffer entries, final int position)
+      throws IOException {
+    final long offset = entries.getLong(position + headerSize);
+    final int length = entries.getInt(position + headerSize + Long.BYTES);
+
+    final ByteBuffer record = ByteBuffer.allocate(length);
+    while (record.hasRemaining()) {
+      if (records.read(record, offset + record.position()) == -1) {
+        throw new IOException("The record at offset " + offset + " of " + recordsFile + " is truncated.");
+      }
+    }
+    return record.flip();
+  }
+}
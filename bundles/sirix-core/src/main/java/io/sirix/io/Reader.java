@@ -40,6 +40,8 @@ import io.sirix.page.interfaces.Page;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -83,6 +85,27 @@ public interface Reader extends AutoCloseable {
     return CompletableFuture.supplyAsync(() -> read(key, resourceConfiguration), POOL);
   }
 
+  /**
+   * Read several pages with a single submission. The pages are returned in the order of the
+   * references. Backends, which support batched I/O, submit all reads at once, the default
+   * implementation reads the pages one after the other in a single task.
+   *
+   * @param references            the references of the pages to read
+   * @param resourceConfiguration the resource configuration
+   * @return the pages in the order of the references
+   * @throws SirixIOException if something bad happens during read
+   */
+  default CompletableFuture<List<Page>> readAllAsync(List<PageReference> references,
+      @NonNull ResourceConfiguration resourceConfiguration) {
+    return CompletableFuture.supplyAsync(() -> {
+      final var pages = new ArrayList<Page>(references.size());
+      for (final PageReference reference : references) {
+        pages.add(read(reference, resourceConfiguration));
+      }
+      return pages;
+    }, POOL);
+  }
+
   /**
    * Getting a reference for the given pointer.
    *
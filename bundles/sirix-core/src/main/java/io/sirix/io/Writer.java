@@ -59,7 +59,8 @@ public interface Writer extends Reader {
       Bytes<ByteBuffer> bufferedBytes);
 
   /**
-   * Write beacon for the first reference.
+   * Write beacon for the first reference. The written pages are not forced to the storage device
+   * (see {@link #force()}).
    *
    * @param resourceConfiguration the resource configuration
    * @param pageReference         that points to the beacon
@@ -71,6 +72,14 @@ public interface Writer extends Reader {
   Writer writeUberPageReference(ResourceConfiguration resourceConfiguration, PageReference pageReference, Page page,
       Bytes<ByteBuffer> bufferedBytes);
 
+  /**
+   * Force all written pages to the storage device, such that they are durable.
+   *
+   * @return this writer instance
+   * @throws SirixIOException if an I/O error occured
+   */
+  Writer force();
+
   /**
    * Truncate to a specific revision.
    *
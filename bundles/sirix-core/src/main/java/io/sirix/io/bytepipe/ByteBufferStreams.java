@@ -0,0 +1,168 @@
+package io.sirix.io.bytepipe;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Adapters between {@link ByteBuffer}s and streams, used by the {@link ByteHandler}s, which only
+ * provide a stream based implementation.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class ByteBufferStreams {
+
+  /**
+   * Size of the chunks, which are copied from direct buffers.
+   */
+  private static final int CHUNK_SIZE = 8_192;
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private ByteBufferStreams() {
+    throw new AssertionError("May not be instantiated!");
+  }
+
+  /**
+   * Write the remaining bytes of a buffer to a stream without modifying the buffer.
+   *
+   * @param buffer the buffer
+   * @param out    the stream to write to
+   * @throws IOException if an I/O error occurs
+   */
+  static void transferTo(final ByteBuffer buffer, final OutputStream out) throws IOException {
+    if (buffer.hasArray()) {
+      out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      return;
+    }
+
+    final byte[] chunk = new byte[Math.min(CHUNK_SIZE, buffer.remaining())];
+    final ByteBuffer source = buffer.duplicate();
+    while (source.hasRemaining()) {
+      final int length = Math.min(chunk.length, source.remaining());
+      source.get(chunk, 0, length);
+      out.write(chunk, 0, length);
+    }
+  }
+
+  /**
+   * An input stream, which reads the remaining bytes of a buffer.
+   */
+  static final class Input extends InputStream {
+    private final ByteBuffer buffer;
+
+    Input(final ByteBuffer buffer) {
+      this.buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int bytesToRead = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, bytesToRead);
+      return bytesToRead;
+    }
+
+    @Override
+    public long skip(final long n) {
+      final int bytesToSkip = (int) Math.max(0, Math.min(n, buffer.remaining()));
+      buffer.position(buffer.position() + bytesToSkip);
+      return bytesToSkip;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+
+  /**
+   * A channel, which reads the remaining bytes of a buffer.
+   */
+  static final class InputChannel implements ReadableByteChannel {
+    private final ByteBuffer buffer;
+
+    private boolean isOpen = true;
+
+    InputChannel(final ByteBuffer buffer) {
+      this.buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int read(final ByteBuffer target) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int bytesToRead = Math.min(target.remaining(), buffer.remaining());
+      target.put(target.position(), buffer, buffer.position(), bytesToRead);
+      target.position(target.position() + bytesToRead);
+      buffer.position(buffer.position() + bytesToRead);
+      return bytesToRead;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return isOpen;
+    }
+
+    @Override
+    public void close() {
+      isOpen = false;
+    }
+  }
+
+  /**
+   * A growable output stream, whose content is exposed as a {@link ByteBuffer} without copying it.
+   */
+  static class Output extends OutputStream {
+    private byte[] bytes;
+
+    private int size;
+
+    Output(final int initialCapacity) {
+      bytes = new byte[Math.max(32, initialCapacity)];
+    }
+
+    private void ensureCapacity(final int minCapacity) {
+      if (minCapacity > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(minCapacity, bytes.length << 1));
+      }
+    }
+
+    @Override
+    public void write(final int b) {
+      ensureCapacity(size + 1);
+      bytes[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] source, final int offset, final int length) {
+      ensureCapacity(size + length);
+      System.arraycopy(source, offset, bytes, size, length);
+      size += length;
+    }
+
+    /**
+     * Get the written bytes.
+     *
+     * @return a buffer wrapping the written bytes
+     */
+    ByteBuffer toByteBuffer() {
+      return ByteBuffer.wrap(bytes, 0, size).slice();
+    }
+  }
+}
@@ -1,7 +1,11 @@
 package io.sirix.io.bytepipe;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
 
 /**
  * Interface for the decorator, representing any byte representation to be serialized or to
@@ -28,6 +32,54 @@ public interface ByteHandler {
    */
   InputStream deserialize(InputStream toDeserialize);
 
+  /**
+   * Serialize the remaining bytes of a buffer in one go. The result is byte-wise identical to the
+   * result of {@link #serialize(OutputStream)}. The position and limit of the source buffer are not
+   * modified. Handlers, which are able to work on buffers directly override this method, the
+   * default implementation falls back to the stream based serialization.
+   *
+   * @param toSerialize the bytes to serialize (from the position to the limit)
+   * @return the serialized bytes, with position {@code 0} and the limit set to the number of bytes
+   */
+  default ByteBuffer serialize(ByteBuffer toSerialize) {
+    final var output = new ByteBufferStreams.Output(toSerialize.remaining());
+    try (final OutputStream serializingStream = serialize(output)) {
+      ByteBufferStreams.transferTo(toSerialize, serializingStream);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return output.toByteBuffer();
+  }
+
+  /**
+   * Deserialize the remaining bytes of a buffer in one go. The position and limit of the source
+   * buffer are not modified. Handlers, which are able to work on buffers directly override this
+   * method, the default implementation falls back to the stream based deserialization.
+   *
+   * @param toDeserialize the bytes to deserialize (from the position to the limit)
+   * @return the deserialized bytes, with position {@code 0} and the limit set to the number of bytes
+   */
+  default ByteBuffer deserialize(ByteBuffer toDeserialize) {
+    final var output = new ByteBufferStreams.Output(toDeserialize.remaining() << 1);
+    try (final InputStream deserializingStream = deserialize(new ByteBufferStreams.Input(toDeserialize))) {
+      deserializingStream.transferTo(output);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return output.toByteBuffer();
+  }
+
+  /**
+   * Deserialize the bytes of a memory segment, for instance a slice of a memory mapped file,
+   * without copying them to the heap first.
+   *
+   * @param toDeserialize the bytes to deserialize
+   * @return the deserialized bytes, with position {@code 0} and the limit set to the number of bytes
+   */
+  default ByteBuffer deserialize(MemorySegment toDeserialize) {
+    return deserialize(toDeserialize.asByteBuffer());
+  }
+
   /**
    * Method to retrieve a new instance.
    *
@@ -28,8 +28,10 @@
 package io.sirix.io.bytepipe;
 
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
 import java.lang.reflect.Constructor;
@@ -79,6 +81,54 @@ public enum ByteHandlerKind {
     }
   },
 
+  ZSTD_COMPRESSOR(ZstdCompressor.class) {
+    @Override
+    public ByteHandler deserialize(JsonReader reader) throws IOException {
+      return deserialize(reader, null);
+    }
+
+    @Override
+    public ByteHandler deserialize(JsonReader reader, @Nullable Path resourcePath) throws IOException {
+      boolean useDictionaries = false;
+      int leafPageLevel = ZstdCompressor.DEFAULT_LEAF_PAGE_LEVEL;
+      int indirectPageLevel = ZstdCompressor.DEFAULT_INDIRECT_PAGE_LEVEL;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "dictionaries" -> useDictionaries = reader.nextBoolean();
+          // Formerly, the absolute resource path has been stored.
+          case "resourcePath" -> {
+            if (reader.peek() == JsonToken.NULL) {
+              reader.nextNull();
+            } else {
+              reader.skipValue();
+              useDictionaries = true;
+            }
+          }
+          case "leafPageLevel" -> leafPageLevel = reader.nextInt();
+          case "indirectPageLevel" -> indirectPageLevel = reader.nextInt();
+          default -> reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new ZstdCompressor(useDictionaries ? resourcePath : null, leafPageLevel, indirectPageLevel);
+    }
+
+    @Override
+    public void serialize(ByteHandler byteHandler, JsonWriter writer) throws IOException {
+      final ZstdCompressor compressor = (ZstdCompressor) byteHandler;
+      writer.beginObject();
+      writer.name(byteHandler.getClass().getName());
+      writer.beginObject();
+      // The resource path is resolved when the configuration is deserialized.
+      writer.name("dictionaries").value(compressor.getResourcePath() != null);
+      writer.name("leafPageLevel").value(compressor.getLeafPageLevel());
+      writer.name("indirectPageLevel").value(compressor.getIndirectPageLevel());
+      writer.endObject();
+      writer.endObject();
+    }
+  },
+
   ENCRYPTOR(Encryptor.class) {
     @Override
     public ByteHandler deserialize(JsonReader reader) {
@@ -108,6 +158,19 @@ public enum ByteHandlerKind {
 
   public abstract ByteHandler deserialize(JsonReader reader) throws IOException;
 
+  /**
+   * Deserialize the byte handler of a resource.
+   *
+   * @param reader       the reader of the resource configuration
+   * @param resourcePath the path of the resource, which is used by handlers storing data in the
+   *                     resource, or {@code null}, if it's unknown
+   * @return the byte handler
+   * @throws IOException if the configuration can't be read
+   */
+  public ByteHandler deserialize(JsonReader reader, @Nullable Path resourcePath) throws IOException {
+    return deserialize(reader);
+  }
+
   public abstract void serialize(ByteHandler byteHandler, JsonWriter writer) throws IOException;
 
   /** Mapping of class -> byte handler kind. */
@@ -5,8 +5,14 @@ package io.sirix.io.bytepipe;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
 
 /**
  * Decorator to zip any data.
@@ -26,6 +32,55 @@ public final class DeflateCompressor implements ByteHandler {
     return new InflaterInputStream(toDeserialize);
   }
 
+  @Override
+  public ByteBuffer serialize(final ByteBuffer toSerialize) {
+    final Deflater deflater = new Deflater();
+    try {
+      deflater.setInput(toSerialize.duplicate());
+      deflater.finish();
+
+      // Upper bound of zlib for the default settings, such that usually no resizing is needed.
+      final int length = toSerialize.remaining();
+      ByteBuffer sink = ByteBuffer.allocate(length + (length >> 12) + (length >> 14) + (length >> 25) + 13);
+      while (!deflater.finished()) {
+        if (!sink.hasRemaining()) {
+          sink = grow(sink);
+        }
+        deflater.deflate(sink);
+      }
+      return sink.flip();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  @Override
+  public ByteBuffer deserialize(final ByteBuffer toDeserialize) {
+    final Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(toDeserialize.duplicate());
+
+      ByteBuffer sink = ByteBuffer.allocate(Math.max(64, toDeserialize.remaining() << 2));
+      while (!inflater.finished()) {
+        if (!sink.hasRemaining()) {
+          sink = grow(sink);
+        }
+        if (inflater.inflate(sink) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new UncheckedIOException(new ZipException("Unexpected end of ZLIB input stream"));
+        }
+      }
+      return sink.flip();
+    } catch (final DataFormatException e) {
+      throw new UncheckedIOException(new ZipException(e.getMessage()));
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static ByteBuffer grow(final ByteBuffer buffer) {
+    return ByteBuffer.allocate(buffer.capacity() << 1).put(buffer.flip());
+  }
+
   @Override
   public ByteHandler getInstance() {
     return new DeflateCompressor();
@@ -3,6 +3,11 @@ package io.sirix.io.bytepipe;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.GeneralSecurityException;
@@ -87,6 +92,49 @@ public final class Encryptor implements ByteHandler {
     }
   }
 
+  /**
+   * Encrypts the buffer through a channel, which is the same as the stream based encryption, but
+   * doesn't copy the plaintext to an intermediate array.
+   */
+  @Override
+  public ByteBuffer serialize(final ByteBuffer toSerialize) {
+    final var output = new ByteBufferStreams.Output(toSerialize.remaining() + 64);
+    try (final WritableByteChannel channel =
+             getStreamingAead().newEncryptingChannel(Channels.newChannel(output), mAssociatedData)) {
+      final ByteBuffer plaintext = toSerialize.duplicate();
+      while (plaintext.hasRemaining()) {
+        channel.write(plaintext);
+      }
+    } catch (final GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return output.toByteBuffer();
+  }
+
+  /**
+   * Decrypts the buffer through a channel. The plaintext is smaller than the ciphertext, thus the
+   * result is allocated once.
+   */
+  @Override
+  public ByteBuffer deserialize(final ByteBuffer toDeserialize) {
+    try (final ReadableByteChannel channel = getStreamingAead().newDecryptingChannel(
+        new ByteBufferStreams.InputChannel(toDeserialize), mAssociatedData)) {
+      ByteBuffer sink = ByteBuffer.allocate(Math.max(64, toDeserialize.remaining()));
+      while (channel.read(sink) != -1) {
+        if (!sink.hasRemaining()) {
+          sink = ByteBuffer.allocate(sink.capacity() << 1).put(sink.flip());
+        }
+      }
+      return sink.flip();
+    } catch (final GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   public static ByteHandler create(Path resourcePath) {
     return createInstance(resourcePath);
   }
@@ -2,17 +2,47 @@ package io.sirix.io.bytepipe;
 
 import net.jpountz.lz4.LZ4BlockInputStream;
 import net.jpountz.lz4.LZ4BlockOutputStream;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import net.jpountz.xxhash.XXHashFactory;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.Checksum;
 
 /**
- * LZ4 compression/decompression.
+ * LZ4 compression/decompression. The buffer based methods produce and consume the same block format
+ * as {@link LZ4BlockOutputStream} and {@link LZ4BlockInputStream} with their default settings.
  *
  * @author Johannes Lichtenberger, University of Konstanz
  */
 public final class LZ4Compressor implements ByteHandler {
 
+  private static final byte[] MAGIC = { 'L', 'Z', '4', 'B', 'l', 'o', 'c', 'k' };
+
+  private static final int HEADER_LENGTH = MAGIC.length + 1 + 4 + 4 + 4;
+
+  private static final int COMPRESSION_METHOD_RAW = 0x10;
+
+  private static final int COMPRESSION_METHOD_LZ4 = 0x20;
+
+  /**
+   * The default block size of {@link LZ4BlockOutputStream}.
+   */
+  private static final int BLOCK_SIZE = 1 << 16;
+
+  private static final int COMPRESSION_LEVEL = Math.max(0, 32 - Integer.numberOfLeadingZeros(BLOCK_SIZE - 1) - 10);
+
+  private static final int DEFAULT_SEED = 0x9747b28c;
+
+  private static final net.jpountz.lz4.LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+  private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
   @Override
   public OutputStream serialize(final OutputStream toSerialize) {
     return new LZ4BlockOutputStream(toSerialize);
@@ -23,6 +53,135 @@ public final class LZ4Compressor implements ByteHandler {
     return new LZ4BlockInputStream(toDeserialize);
   }
 
+  @Override
+  public ByteBuffer serialize(final ByteBuffer toSerialize) {
+    final int sourceOffset = toSerialize.position();
+    final int length = toSerialize.remaining();
+
+    int maxLength = HEADER_LENGTH;
+    for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+      maxLength += HEADER_LENGTH + COMPRESSOR.maxCompressedLength(Math.min(BLOCK_SIZE, length - offset));
+    }
+
+    final ByteBuffer sink = ByteBuffer.allocate(maxLength).order(ByteOrder.LITTLE_ENDIAN);
+    final Checksum checksum = newChecksum();
+    int sinkOffset = 0;
+
+    for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+      final int blockLength = Math.min(BLOCK_SIZE, length - offset);
+      final int blockOffset = sourceOffset + offset;
+      final int dataOffset = sinkOffset + HEADER_LENGTH;
+
+      checksum.reset();
+      checksum.update(toSerialize.duplicate().limit(blockOffset + blockLength).position(blockOffset));
+
+      int compressedLength = COMPRESSOR.compress(toSerialize,
+                                                 blockOffset,
+                                                 blockLength,
+                                                 sink,
+                                                 dataOffset,
+                                                 sink.capacity() - dataOffset);
+      final int compressionMethod;
+      if (compressedLength >= blockLength) {
+        compressionMethod = COMPRESSION_METHOD_RAW;
+        compressedLength = blockLength;
+        sink.put(dataOffset, toSerialize, blockOffset, blockLength);
+      } else {
+        compressionMethod = COMPRESSION_METHOD_LZ4;
+      }
+
+      writeHeader(sink, sinkOffset, compressionMethod, compressedLength, blockLength, (int) checksum.getValue());
+      sinkOffset = dataOffset + compressedLength;
+    }
+
+    // End mark.
+    writeHeader(sink, sinkOffset, COMPRESSION_METHOD_RAW, 0, 0, 0);
+    sinkOffset += HEADER_LENGTH;
+
+    return sink.limit(sinkOffset).order(ByteOrder.BIG_ENDIAN);
+  }
+
+  @Override
+  public ByteBuffer deserialize(final ByteBuffer toDeserialize) {
+    final ByteBuffer source = toDeserialize.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+    // First pass: determine the size of the decompressed data.
+    int decompressedSize = 0;
+    int offset = 0;
+    while (offset + HEADER_LENGTH <= source.limit()) {
+      checkMagic(source, offset);
+      final int compressedLength = source.getInt(offset + MAGIC.length + 1);
+      final int decompressedLength = source.getInt(offset + MAGIC.length + 5);
+      if (decompressedLength == 0) {
+        break;
+      }
+      decompressedSize += decompressedLength;
+      offset += HEADER_LENGTH + compressedLength;
+    }
+
+    final ByteBuffer sink = ByteBuffer.allocate(decompressedSize);
+    final Checksum checksum = newChecksum();
+    int sinkOffset = 0;
+    offset = 0;
+
+    while (sinkOffset < decompressedSize) {
+      final int compressionMethod = source.get(offset + MAGIC.length) & 0xF0;
+      final int compressedLength = source.getInt(offset + MAGIC.length + 1);
+      final int decompressedLength = source.getInt(offset + MAGIC.length + 5);
+      final int check = source.getInt(offset + MAGIC.length + 9);
+      final int dataOffset = offset + HEADER_LENGTH;
+
+      switch (compressionMethod) {
+        case COMPRESSION_METHOD_RAW -> sink.put(sinkOffset, source, dataOffset, decompressedLength);
+        case COMPRESSION_METHOD_LZ4 -> {
+          final int length =
+              DECOMPRESSOR.decompress(source, dataOffset, compressedLength, sink, sinkOffset, decompressedLength);
+          if (length != decompressedLength) {
+            throw new UncheckedIOException(new IOException("Stream is corrupted"));
+          }
+        }
+        default -> throw new UncheckedIOException(new IOException("Stream is corrupted"));
+      }
+
+      checksum.reset();
+      checksum.update(sink.duplicate().limit(sinkOffset + decompressedLength).position(sinkOffset));
+      if ((int) checksum.getValue() != check) {
+        throw new UncheckedIOException(new IOException("Stream is corrupted"));
+      }
+
+      sinkOffset += decompressedLength;
+      offset = dataOffset + compressedLength;
+    }
+
+    return sink;
+  }
+
+  private static void checkMagic(final ByteBuffer source, final int offset) {
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (source.get(offset + i) != MAGIC[i]) {
+        throw new UncheckedIOException(new IOException("Stream is corrupted"));
+      }
+    }
+  }
+
+  private static void writeHeader(final ByteBuffer sink, final int offset, final int compressionMethod,
+      final int compressedLength, final int decompressedLength, final int check) {
+    sink.put(offset, MAGIC);
+    sink.put(offset + MAGIC.length, (byte) (compressionMethod | COMPRESSION_LEVEL));
+    sink.putInt(offset + MAGIC.length + 1, compressedLength);
+    sink.putInt(offset + MAGIC.length + 5, decompressedLength);
+    sink.putInt(offset + MAGIC.length + 9, check);
+  }
+
+  /**
+   * Create the same checksum, which is used by the LZ4 block streams (which masks the hash values).
+   *
+   * @return a new checksum instance
+   */
+  private static Checksum newChecksum() {
+    return XXHashFactory.fastestInstance().newStreamingHash32(DEFAULT_SEED).asChecksum();
+  }
+
   @Override
   public ByteHandler getInstance() {
     return new LZ4Compressor();
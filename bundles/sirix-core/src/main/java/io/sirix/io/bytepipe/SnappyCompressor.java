@@ -1,5 +1,6 @@
 package io.sirix.io.bytepipe;
 
+import org.xerial.snappy.Snappy;
 import org.xerial.snappy.SnappyInputStream;
 import org.xerial.snappy.SnappyOutputStream;
 
@@ -7,15 +8,30 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 /**
- * Snappy compression/decompression.
+ * Snappy compression/decompression. The buffer based methods produce and consume the same framing
+ * as {@link SnappyOutputStream} and {@link SnappyInputStream} with their default settings.
  *
  * @author Johannes Lichtenberger, University of Konstanz
  *
  */
 public final class SnappyCompressor implements ByteHandler {
 
+  private static final byte[] MAGIC_HEADER = { -126, 'S', 'N', 'A', 'P', 'P', 'Y', 0 };
+
+  private static final int VERSION = 1;
+
+  private static final int COMPATIBLE_VERSION = 1;
+
+  private static final int HEADER_LENGTH = MAGIC_HEADER.length + 4 + 4;
+
+  /**
+   * The default block size of {@link SnappyOutputStream}.
+   */
+  private static final int BLOCK_SIZE = 32 * 1024;
+
   @Override
   public OutputStream serialize(final OutputStream toSerialize) {
     return new SnappyOutputStream(toSerialize);
@@ -30,6 +46,147 @@ public final class SnappyCompressor implements ByteHandler {
     }
   }
 
+  @Override
+  public ByteBuffer serialize(final ByteBuffer toSerialize) {
+    // The native library only supports direct buffers or arrays.
+    if (!toSerialize.isDirect() && !toSerialize.hasArray()) {
+      return ByteHandler.super.serialize(toSerialize);
+    }
+
+    final int length = toSerialize.remaining();
+
+    if (length == 0) {
+      return ByteBuffer.allocate(0);
+    }
+
+    int maxLength = HEADER_LENGTH;
+    for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+      maxLength += 4 + Snappy.maxCompressedLength(Math.min(BLOCK_SIZE, length - offset));
+    }
+
+    try {
+      final ByteBuffer sink =
+          toSerialize.isDirect() ? ByteBuffer.allocateDirect(maxLength) : ByteBuffer.allocate(maxLength);
+      sink.put(MAGIC_HEADER).putInt(VERSION).putInt(COMPATIBLE_VERSION);
+
+      final ByteBuffer source = toSerialize.duplicate();
+      final int sourceOffset = source.position();
+
+      for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+        final int blockLength = Math.min(BLOCK_SIZE, length - offset);
+        final int lengthOffset = sink.position();
+        final int compressedLength;
+
+        if (toSerialize.isDirect()) {
+          source.limit(sourceOffset + offset + blockLength).position(sourceOffset + offset);
+          sink.position(lengthOffset + 4);
+          compressedLength = Snappy.compress(source, sink);
+        } else {
+          compressedLength = Snappy.compress(source.array(),
+                                             source.arrayOffset() + sourceOffset + offset,
+                                             blockLength,
+                                             sink.array(),
+                                             sink.arrayOffset() + lengthOffset + 4);
+        }
+
+        sink.putInt(lengthOffset, compressedLength);
+        sink.limit(sink.capacity()).position(lengthOffset + 4 + compressedLength);
+      }
+
+      return sink.flip();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public ByteBuffer deserialize(final ByteBuffer toDeserialize) {
+    if (!toDeserialize.isDirect() && !toDeserialize.hasArray()) {
+      return ByteHandler.super.deserialize(toDeserialize);
+    }
+
+    final ByteBuffer source = toDeserialize.slice();
+
+    if (source.limit() == 0) {
+      return ByteBuffer.allocate(0);
+    }
+
+    try {
+      if (!hasHeader(source)) {
+        // Not framed, that is the whole input is a single compressed block.
+        return uncompress(source, 0, source.limit());
+      }
+
+      // First pass: determine the size of the decompressed data.
+      int decompressedSize = 0;
+      for (int offset = HEADER_LENGTH; offset + 4 <= source.limit(); ) {
+        final int compressedLength = source.getInt(offset);
+        decompressedSize += uncompressedLength(source, offset + 4, compressedLength);
+        offset += 4 + compressedLength;
+      }
+
+      final ByteBuffer sink =
+          source.isDirect() ? ByteBuffer.allocateDirect(decompressedSize) : ByteBuffer.allocate(decompressedSize);
+
+      for (int offset = HEADER_LENGTH; offset + 4 <= source.limit(); ) {
+        final int compressedLength = source.getInt(offset);
+        final int sinkOffset = sink.position();
+
+        if (source.isDirect()) {
+          final ByteBuffer block = source.duplicate().limit(offset + 4 + compressedLength).position(offset + 4);
+          final int length = Snappy.uncompress(block, sink.limit(sink.capacity()));
+          sink.limit(sink.capacity()).position(sinkOffset + length);
+        } else {
+          final int length = Snappy.uncompress(source.array(),
+                                               source.arrayOffset() + offset + 4,
+                                               compressedLength,
+                                               sink.array(),
+                                               sink.arrayOffset() + sinkOffset);
+          sink.position(sinkOffset + length);
+        }
+
+        offset += 4 + compressedLength;
+      }
+
+      return sink.flip();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static boolean hasHeader(final ByteBuffer source) {
+    if (source.limit() < HEADER_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC_HEADER.length; i++) {
+      if (source.get(i) != MAGIC_HEADER[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int uncompressedLength(final ByteBuffer source, final int offset, final int length)
+      throws IOException {
+    if (source.isDirect()) {
+      return Snappy.uncompressedLength(source.duplicate().limit(offset + length).position(offset));
+    }
+    return Snappy.uncompressedLength(source.array(), source.arrayOffset() + offset, length);
+  }
+
+  private static ByteBuffer uncompress(final ByteBuffer source, final int offset, final int length)
+      throws IOException {
+    final int uncompressedLength = uncompressedLength(source, offset, length);
+    if (source.isDirect()) {
+      final ByteBuffer sink = ByteBuffer.allocateDirect(uncompressedLength);
+      Snappy.uncompress(source.duplicate().limit(offset + length).position(offset), sink);
+      return sink;
+    }
+    final ByteBuffer sink = ByteBuffer.allocate(uncompressedLength);
+    Snappy.uncompress(source.array(), source.arrayOffset() + offset, length, sink.array(), 0);
+    return sink;
+  }
+
   @Override
   public ByteHandler getInstance() {
     return new SnappyCompressor();
@@ -0,0 +1,280 @@
+package io.sirix.io.bytepipe;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import io.sirix.page.PageKind;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Zstandard compression/decompression with separate compression levels for leaf pages (record
+ * pages) and for all other (indirect, revision root...) pages. If a resource path is given, a
+ * dictionary is trained from the first serialized record pages of the resource and used to compress
+ * all following page fragments, which pays off especially for the repetitive keys and structures of
+ * JSON resources.
+ *
+ * <p>The resource path isn't persisted with the resource configuration, but resolved when the
+ * configuration is read, such that a resource can be moved. The dictionaries are shared by all
+ * handlers of a resource.</p>
+ *
+ * <p>Each compressed page fragment starts with the ID of the dictionary it is compressed with
+ * ({@code 0} for none), followed by a Zstandard frame. This handler must be the last one of a
+ * {@link ByteHandlerPipeline} (that is, it has to be applied first), as it determines the kind of
+ * a page by its first byte.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ZstdCompressor implements ByteHandler {
+
+  /**
+   * The default compression level of leaf pages.
+   */
+  public static final int DEFAULT_LEAF_PAGE_LEVEL = 3;
+
+  /**
+   * The default compression level of indirect pages, which are usually small and rather random.
+   */
+  public static final int DEFAULT_INDIRECT_PAGE_LEVEL = 1;
+
+  private static final int HEADER_LENGTH = Integer.BYTES;
+
+  private final Path resourcePath;
+
+  private final int leafPageLevel;
+
+  private final int indirectPageLevel;
+
+  /**
+   * The dictionaries, which are shared by all handlers of a resource.
+   */
+  private final ZstdDictionaries dictionaries;
+
+  /**
+   * Constructor without dictionaries and with the default compression levels.
+   */
+  public ZstdCompressor() {
+    this(null, DEFAULT_LEAF_PAGE_LEVEL, DEFAULT_INDIRECT_PAGE_LEVEL);
+  }
+
+  /**
+   * Constructor without dictionaries.
+   *
+   * @param leafPageLevel     the compression level of leaf pages
+   * @param indirectPageLevel the compression level of all other pages
+   */
+  public ZstdCompressor(final int leafPageLevel, final int indirectPageLevel) {
+    this(null, leafPageLevel, indirectPageLevel);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourcePath      the path of the resource, where the dictionaries are stored, or
+   *                          {@code null} to compress without dictionaries
+   * @param leafPageLevel     the compression level of leaf pages
+   * @param indirectPageLevel the compression level of all other pages
+   */
+  public ZstdCompressor(final @Nullable Path resourcePath, final int leafPageLevel, final int indirectPageLevel) {
+    this(resourcePath, leafPageLevel, indirectPageLevel, ZstdDictionaries.of(resourcePath));
+  }
+
+  private ZstdCompressor(final Path resourcePath, final int leafPageLevel, final int indirectPageLevel,
+      final ZstdDictionaries dictionaries) {
+    if (leafPageLevel < Zstd.minCompressionLevel() || leafPageLevel > Zstd.maxCompressionLevel()) {
+      throw new IllegalArgumentException("Invalid compression level of leaf pages: " + leafPageLevel);
+    }
+    if (indirectPageLevel < Zstd.minCompressionLevel() || indirectPageLevel > Zstd.maxCompressionLevel()) {
+      throw new IllegalArgumentException("Invalid compression level of indirect pages: " + indirectPageLevel);
+    }
+    this.resourcePath = resourcePath;
+    this.leafPageLevel = leafPageLevel;
+    this.indirectPageLevel = indirectPageLevel;
+    this.dictionaries = dictionaries;
+  }
+
+  /**
+   * Remove the dictionaries of a resource, which has been removed, from the registry of shared
+   * dictionaries, such that a new resource with the same path doesn't use them.
+   *
+   * @param resourcePath the path of the resource
+   */
+  public static void removeDictionaries(final Path resourcePath) {
+    ZstdDictionaries.remove(resourcePath);
+  }
+
+  /**
+   * @return the resource path or {@code null}, if no dictionaries are used
+   */
+  @Nullable
+  public Path getResourcePath() {
+    return resourcePath;
+  }
+
+  /**
+   * @return the compression level of leaf pages
+   */
+  public int getLeafPageLevel() {
+    return leafPageLevel;
+  }
+
+  /**
+   * @return the compression level of all other pages
+   */
+  public int getIndirectPageLevel() {
+    return indirectPageLevel;
+  }
+
+  /**
+   * Train a new version of the dictionary from the given samples. All page fragments, which are
+   * compressed from now on use the new dictionary, whereas the older page fragments are still
+   * decompressed with the dictionary they have been compressed with.
+   *
+   * @param samples the samples, usually serialized record pages
+   * @return the ID of the new dictionary or {@code 0}, if no dictionary could be trained
+   * @throws IllegalStateException if the handler has been created without a resource path
+   */
+  public int trainDictionary(final List<byte[]> samples) {
+    return dictionaries.train(samples);
+  }
+
+  @Override
+  public OutputStream serialize(final OutputStream toSerialize) {
+    // Page fragments are compressed as a whole (the kind of page determines the compression level).
+    return new ByteBufferStreams.Output(1_024) {
+      private boolean closed;
+
+      @Override
+      public void close() throws IOException {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        try (toSerialize) {
+          ByteBufferStreams.transferTo(serialize(toByteBuffer()), toSerialize);
+        }
+      }
+    };
+  }
+
+  @Override
+  public InputStream deserialize(final InputStream toDeserialize) {
+    try (toDeserialize) {
+      return new ByteBufferStreams.Input(deserialize(ByteBuffer.wrap(toDeserialize.readAllBytes())));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public ByteBuffer serialize(final ByteBuffer toSerialize) {
+    final ByteBuffer source = toSerialize.isDirect() || toSerialize.hasArray() ? toSerialize : copy(toSerialize);
+    final int length = source.remaining();
+    final boolean isLeafPage = length > 0 && source.get(source.position()) == PageKind.KEYVALUELEAFPAGE.getID();
+
+    if (isLeafPage && dictionaries.needsSamples()) {
+      final byte[] sample = new byte[length];
+      source.get(source.position(), sample);
+      dictionaries.addSample(sample);
+    }
+
+    final ZstdDictionaries.CompressionDictionary dictionary = dictionaries.getCompressionDictionary();
+    final int level = isLeafPage ? leafPageLevel : indirectPageLevel;
+    final ZstdDictCompress dictCompress = dictionary == null ? null : dictionary.digest(level);
+
+    final int maxLength = HEADER_LENGTH + (int) Zstd.compressBound(length);
+    final ByteBuffer sink =
+        source.isDirect() ? ByteBuffer.allocateDirect(maxLength) : ByteBuffer.allocate(maxLength);
+    sink.putInt(0, dictionary == null ? ZstdDictionaries.NO_DICTIONARY : dictionary.id());
+
+    final long compressedLength;
+    if (source.isDirect()) {
+      compressedLength = dictCompress == null
+          ? Zstd.compressDirectByteBuffer(sink, HEADER_LENGTH, maxLength - HEADER_LENGTH, source, source.position(),
+                                          length, level)
+          : Zstd.compressDirectByteBufferFastDict(sink, HEADER_LENGTH, maxLength - HEADER_LENGTH, source,
+                                                  source.position(), length, dictCompress);
+    } else {
+      final int sourceOffset = source.arrayOffset() + source.position();
+      compressedLength = dictCompress == null
+          ? Zstd.compressByteArray(sink.array(), HEADER_LENGTH, maxLength - HEADER_LENGTH, source.array(),
+                                   sourceOffset, length, level)
+          : Zstd.compressFastDict(sink.array(), HEADER_LENGTH, source.array(), sourceOffset, length, dictCompress);
+    }
+
+    checkError(compressedLength);
+    return sink.limit(HEADER_LENGTH + (int) compressedLength);
+  }
+
+  @Override
+  public ByteBuffer deserialize(final ByteBuffer toDeserialize) {
+    final ByteBuffer source =
+        toDeserialize.isDirect() || toDeserialize.hasArray() ? toDeserialize : copy(toDeserialize);
+    final int dictionaryId = source.getInt(source.position());
+    final int framePosition = source.position() + HEADER_LENGTH;
+    final int frameLength = source.remaining() - HEADER_LENGTH;
+    final ZstdDictDecompress dictDecompress =
+        dictionaryId == ZstdDictionaries.NO_DICTIONARY ? null : dictionaries.getDecompressionDictionary(dictionaryId);
+
+    final ByteBuffer sink;
+    final long decompressedLength;
+    if (source.isDirect()) {
+      final long length = checkError(Zstd.decompressedDirectByteBufferSize(source, framePosition, frameLength));
+      sink = ByteBuffer.allocateDirect((int) length);
+      decompressedLength = dictDecompress == null
+          ? Zstd.decompressDirectByteBuffer(sink, 0, (int) length, source, framePosition, frameLength)
+          : Zstd.decompressDirectByteBufferFastDict(sink, 0, (int) length, source, framePosition, frameLength,
+                                                    dictDecompress);
+    } else {
+      final int frameOffset = source.arrayOffset() + framePosition;
+      final long length = checkError(Zstd.decompressedSize(source.array(), frameOffset, frameLength));
+      sink = ByteBuffer.allocate((int) length);
+      decompressedLength = dictDecompress == null
+          ? Zstd.decompressByteArray(sink.array(), 0, (int) length, source.array(), frameOffset, frameLength)
+          : Zstd.decompressFastDict(sink.array(), 0, source.array(), frameOffset, frameLength, dictDecompress);
+    }
+
+    checkError(decompressedLength);
+    return sink.limit((int) decompressedLength);
+  }
+
+  private static ByteBuffer copy(final ByteBuffer buffer) {
+    return ByteBuffer.allocate(buffer.remaining()).put(buffer.duplicate()).flip();
+  }
+
+  private static long checkError(final long result) {
+    if (Zstd.isError(result)) {
+      throw new UncheckedIOException(new IOException(Zstd.getErrorName(result)));
+    }
+    return result;
+  }
+
+  @Override
+  public ByteHandler getInstance() {
+    // Share the dictionaries.
+    return new ZstdCompressor(resourcePath, leafPageLevel, indirectPageLevel, dictionaries);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * Integer.hashCode(leafPageLevel) + Integer.hashCode(indirectPageLevel))
+        + (resourcePath == null ? 0 : resourcePath.hashCode());
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (!(other instanceof ZstdCompressor otherCompressor)) {
+      return false;
+    }
+    return leafPageLevel == otherCompressor.leafPageLevel && indirectPageLevel == otherCompressor.indirectPageLevel
+        && Objects.equals(resourcePath, otherCompressor.resourcePath);
+  }
+}
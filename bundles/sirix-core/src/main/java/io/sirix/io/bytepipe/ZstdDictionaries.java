@@ -0,0 +1,329 @@
+package io.sirix.io.bytepipe;
+
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdException;
+import io.sirix.exception.SirixIOException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * The versioned Zstandard dictionaries of a resource. Each dictionary is stored in its own file
+ * named by its ID in the {@link #FOLDER} of the resource and is never modified or deleted, such that
+ * page fragments compressed with older dictionaries stay readable. New page fragments are always
+ * compressed with the latest dictionary.
+ *
+ * <p>As long as no dictionary exists, serialized record pages are sampled until enough bytes are
+ * collected to train the first dictionary.</p>
+ *
+ * <p>The dictionaries of a resource are shared by all handlers in the process through a registry
+ * keyed by the resource path, such that separately constructed handlers neither train nor write
+ * the same dictionary twice.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class ZstdDictionaries {
+
+  /**
+   * The folder in the resource, where the dictionaries are stored.
+   */
+  static final String FOLDER = "compression-dictionaries";
+
+  /**
+   * ID, which denotes that no dictionary is used.
+   */
+  static final int NO_DICTIONARY = 0;
+
+  /**
+   * The maximum size of a trained dictionary.
+   */
+  static final int MAX_DICTIONARY_SIZE = 64 * 1024;
+
+  /**
+   * The number of sampled bytes, which trigger the training of the first dictionary (about a
+   * hundred times the dictionary size as recommended by Zstandard).
+   */
+  static final int TRAINING_SAMPLES_SIZE = 100 * MAX_DICTIONARY_SIZE;
+
+  private static final String FILE_SUFFIX = ".zdict";
+
+  /**
+   * The instance, which denotes that dictionaries are disabled.
+   */
+  static final ZstdDictionaries DISABLED = new ZstdDictionaries(null);
+
+  /**
+   * The dictionaries of the resources, keyed by the absolute resource path.
+   */
+  private static final ConcurrentMap<Path, ZstdDictionaries> DICTIONARIES = new ConcurrentHashMap<>();
+
+  /**
+   * The latest dictionary, which is digested for each compression level it's used with.
+   */
+  static final class CompressionDictionary {
+    private final int id;
+
+    private final byte[] dictionary;
+
+    private final ConcurrentMap<Integer, ZstdDictCompress> digestedDictionaries = new ConcurrentHashMap<>();
+
+    private CompressionDictionary(final int id, final byte[] dictionary) {
+      this.id = id;
+      this.dictionary = dictionary;
+    }
+
+    /**
+     * @return the dictionary ID
+     */
+    int id() {
+      return id;
+    }
+
+    /**
+     * Get the dictionary digested with a compression level.
+     *
+     * @param level the compression level
+     * @return the digested dictionary
+     */
+    ZstdDictCompress digest(final int level) {
+      return digestedDictionaries.computeIfAbsent(level, unused -> new ZstdDictCompress(dictionary, level));
+    }
+  }
+
+  /**
+   * The folder with the dictionary files, {@code null} if dictionaries are disabled.
+   */
+  private final Path directory;
+
+  private final ConcurrentMap<Integer, ZstdDictDecompress> decompressionDictionaries;
+
+  private volatile CompressionDictionary compressionDictionary;
+
+  private volatile boolean initialized;
+
+  private List<byte[]> samples;
+
+  private long samplesSize;
+
+  /**
+   * Constructor.
+   *
+   * @param resourcePath the path of the resource or {@code null}, to disable dictionaries
+   */
+  private ZstdDictionaries(final @Nullable Path resourcePath) {
+    this.directory = resourcePath == null ? null : resourcePath.resolve(FOLDER);
+    this.decompressionDictionaries = new ConcurrentHashMap<>();
+    this.samples = new ArrayList<>();
+  }
+
+  /**
+   * Get the dictionaries of a resource.
+   *
+   * @param resourcePath the path of the resource or {@code null}, to disable dictionaries
+   * @return the dictionaries shared by all handlers of the resource
+   */
+  static ZstdDictionaries of(final @Nullable Path resourcePath) {
+    if (resourcePath == null) {
+      return DISABLED;
+    }
+    return DICTIONARIES.computeIfAbsent(resourcePath.toAbsolutePath().normalize(), ZstdDictionaries::new);
+  }
+
+  /**
+   * Remove the dictionaries of a resource from the registry, for instance once the resource has
+   * been removed.
+   *
+   * @param resourcePath the path of the resource
+   */
+  static void remove(final Path resourcePath) {
+    DICTIONARIES.remove(resourcePath.toAbsolutePath().normalize());
+  }
+
+  /**
+   * Determines if dictionaries are enabled.
+   *
+   * @return {@code true}, if dictionaries are enabled, {@code false} otherwise
+   */
+  boolean isEnabled() {
+    return directory != null;
+  }
+
+  /**
+   * Get the latest dictionary, used to compress new page fragments.
+   *
+   * @return the latest dictionary or {@code null}, if no dictionary has been trained so far
+   */
+  @Nullable
+  CompressionDictionary getCompressionDictionary() {
+    if (directory == null) {
+      return null;
+    }
+    initialize();
+    return compressionDictionary;
+  }
+
+  /**
+   * Get the dictionary with the given ID for decompression.
+   *
+   * @param id the dictionary ID
+   * @return the dictionary
+   * @throws SirixIOException if the dictionary doesn't exist
+   */
+  ZstdDictDecompress getDecompressionDictionary(final int id) {
+    return decompressionDictionaries.computeIfAbsent(id, unused -> new ZstdDictDecompress(read(id)));
+  }
+
+  /**
+   * Add a sample of a serialized leaf page as long as the first dictionary isn't trained. Trains the
+   * first dictionary as soon as enough samples have been collected.
+   *
+   * @param sample the serialized leaf page
+   */
+  void addSample(final byte[] sample) {
+    final List<byte[]> trainingSamples;
+    synchronized (this) {
+      if (samples == null || getCompressionDictionary() != null) {
+        return;
+      }
+      samples.add(sample);
+      samplesSize += sample.length;
+      if (samplesSize < TRAINING_SAMPLES_SIZE) {
+        return;
+      }
+      trainingSamples = samples;
+      samples = null;
+    }
+
+    train(trainingSamples);
+  }
+
+  /**
+   * Determines if samples are still needed to train the first dictionary.
+   *
+   * @return {@code true}, if samples are needed, {@code false} otherwise
+   */
+  boolean needsSamples() {
+    return directory != null && samples != null && compressionDictionary == null;
+  }
+
+  /**
+   * Train a new dictionary from the given samples, store it durably and use it for all page
+   * fragments compressed from now on.
+   *
+   * @param samples the samples (usually serialized leaf pages)
+   * @return the ID of the new dictionary or {@link #NO_DICTIONARY}, if no dictionary could be
+   *     trained from the samples
+   */
+  int train(final List<byte[]> samples) {
+    if (directory == null) {
+      throw new IllegalStateException("Dictionaries are disabled.");
+    }
+
+    long size = 0;
+    for (final byte[] sample : samples) {
+      size += sample.length;
+    }
+
+    final byte[] dictionary;
+    try {
+      final var trainer = new ZstdDictTrainer((int) Math.min(Integer.MAX_VALUE, size), MAX_DICTIONARY_SIZE);
+      for (final byte[] sample : samples) {
+        trainer.addSample(sample);
+      }
+      dictionary = trainer.trainSamples();
+    } catch (final ZstdException e) {
+      // Not enough or too uniform samples, keep on compressing without a dictionary.
+      return NO_DICTIONARY;
+    }
+
+    synchronized (this) {
+      initialize();
+      final int id = (compressionDictionary == null ? NO_DICTIONARY : compressionDictionary.id()) + 1;
+      final byte[] storedDictionary = write(id, dictionary);
+      decompressionDictionaries.put(id, new ZstdDictDecompress(storedDictionary));
+      compressionDictionary = new CompressionDictionary(id, storedDictionary);
+      return id;
+    }
+  }
+
+  private void initialize() {
+    if (initialized) {
+      return;
+    }
+    synchronized (this) {
+      if (initialized) {
+        return;
+      }
+      if (Files.exists(directory)) {
+        try (final Stream<Path> files = Files.list(directory)) {
+          final int latestId = files.map(file -> file.getFileName().toString())
+                                    .filter(fileName -> fileName.endsWith(FILE_SUFFIX))
+                                    .map(fileName -> fileName.substring(0, fileName.length() - FILE_SUFFIX.length()))
+                                    .mapToInt(Integer::parseInt)
+                                    .max()
+                                    .orElse(NO_DICTIONARY);
+          if (latestId != NO_DICTIONARY) {
+            compressionDictionary = new CompressionDictionary(latestId, read(latestId));
+          }
+        } catch (final IOException e) {
+          throw new SirixIOException(e);
+        }
+      }
+      initialized = true;
+    }
+  }
+
+  private Path file(final int id) {
+    return directory.resolve(id + FILE_SUFFIX);
+  }
+
+  private byte[] read(final int id) {
+    if (directory == null) {
+      throw new SirixIOException("No dictionaries available to decompress a page fragment (dictionary " + id + ").");
+    }
+    try {
+      return Files.readAllBytes(file(id));
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Write a dictionary, unless a dictionary with the same ID has already been written (for instance
+   * by another process), in which case the existing dictionary is used.
+   *
+   * @return the stored dictionary
+   */
+  private byte[] write(final int id, final byte[] dictionary) {
+    try {
+      Files.createDirectories(directory);
+      // The dictionary must be durable before any page fragment, which is compressed with it.
+      try (final FileChannel channel = FileChannel.open(file(id), StandardOpenOption.CREATE_NEW,
+                                                        StandardOpenOption.WRITE)) {
+        final ByteBuffer buffer = ByteBuffer.wrap(dictionary);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      return dictionary;
+    } catch (final FileAlreadyExistsException e) {
+      return read(id);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+}
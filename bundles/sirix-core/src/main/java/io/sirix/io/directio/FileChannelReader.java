@@ -38,7 +38,6 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.time.Instant;
-import java.util.Arrays;
 
 /**
  * File Reader. Used for {@link PageReadOnlyTrx} to provide read only access on a RandomAccessFile.
@@ -99,11 +98,9 @@ public final class FileChannelReader extends AbstractReader {
 
       DirectIOUtils.read(dataFileChannel, buffer, position + IOStorage.OTHER_BEACON);
       buffer.flip();
-      final byte[] page = Arrays.copyOf(buffer.array(), dataLength);
-      buffer.clear();
 
       // Perform byte operations.
-      return deserialize(resourceConfiguration, page);
+      return deserialize(resourceConfiguration, buffer.limit(dataLength));
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -131,11 +128,9 @@ public final class FileChannelReader extends AbstractReader {
       buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
       dataFileChannel.read(buffer, dataFileOffset + 4);
       buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
 
       // Perform byte operations.
-      return (RevisionRootPage) deserialize(resourceConfiguration, page);
+      return (RevisionRootPage) deserialize(resourceConfiguration, buffer);
     } catch (IOException e) {
       throw new SirixIOException(e);
     }
@@ -31,8 +31,6 @@ import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -151,26 +149,18 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
     try {
       // Serialize page.
       pagePersister.serializePage(resourceConfiguration, byteBufferBytes, page, serializationType);
-      final var byteArray = byteBufferBytes.toByteArray();
 
-      final byte[] serializedPage;
+      final ByteBuffer serializedPage = reader.getByteHandler().serialize(BytesUtils.asByteBuffer(byteBufferBytes));
+      final int serializedPageLength = serializedPage.remaining();
 
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length)) {
-        try (final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
-          dataOutput.write(byteArray);
-          dataOutput.flush();
-        }
-        serializedPage = output.toByteArray();
-      }
-
-      byteBufferBytes.clear();
+      final long nearestMultipleOfBlockSize = DirectIOUtils.nearestMultipleOfBlockSize(serializedPageLength);
 
-      final long nearestMultipleOfBlockSize = DirectIOUtils.nearestMultipleOfBlockSize(serializedPage.length);
+      final long offsetToAdd = nearestMultipleOfBlockSize - serializedPageLength - Integer.BYTES;
 
-      final long offsetToAdd = nearestMultipleOfBlockSize - serializedPage.length - Integer.BYTES;
+      bufferedBytes.writeInt(serializedPageLength);
+      BytesUtils.write(bufferedBytes, serializedPage);
 
-      bufferedBytes.writeInt(serializedPage.length);
-      bufferedBytes.write(serializedPage);
+      byteBufferBytes.clear();
 
       if (offsetToAdd > 0) {
         final byte[] bytesToAdd = new byte[(int) offsetToAdd];
@@ -187,7 +177,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       if (page instanceof KeyValueLeafPage keyValueLeafPage) {
         pageReference.setHash(keyValueLeafPage.getHashCode());
       } else {
-        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage.duplicate()).asBytes());
       }
 
       if (serializationType == SerializationType.DATA) {
@@ -210,7 +200,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
                                                                              Instant.ofEpochMilli(revisionRootPage.getRevisionTimestamp()))));
         } else if (page instanceof UberPage && isFirstUberPage) {
           ByteBuffer buffer = ByteBuffer.allocateDirect(Writer.UBER_PAGE_BYTE_ALIGN).order(ByteOrder.nativeOrder());
-          buffer.put(serializedPage);
+          buffer.put(serializedPage.duplicate());
           buffer.position(0);
           revisionsFileChannel.write(buffer, 0);
           buffer.position(0);
@@ -258,7 +248,6 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       buffer.limit((int) bufferedBytes.readLimit());
       dataFileChannel.write(buffer.alignedSlice(DirectIOUtils.BLOCK_SIZE).order(ByteOrder.nativeOrder()),
                             DirectIOUtils.BLOCK_SIZE);
-      dataFileChannel.force(false);
       bufferedBytes.clear();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -267,6 +256,17 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
     return this;
   }
 
+  @Override
+  public Writer force() {
+    try {
+      dataFileChannel.force(false);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
   private void flushBuffer(Bytes<ByteBuffer> bufferedBytes) throws IOException {
     final long fileSize = dataFileChannel.size();
     long offset;
@@ -37,7 +37,6 @@ import net.openhft.chronicle.bytes.Bytes;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
@@ -126,11 +125,8 @@ public final class FileReader implements Reader {
 
   @NonNull
   private Page getPage(ResourceConfiguration resourceConfiguration, byte[] page) throws IOException {
-    final var inputStream = byteHandler.deserialize(new ByteArrayInputStream(page));
-    final Bytes<?> input = Bytes.wrapForRead(inputStream.readAllBytes());
-    final var deserializedPage = pagePersiter.deserializePage(resourceConfiguration, input, serializationType);
-    input.clear();
-    return deserializedPage;
+    final Bytes<ByteBuffer> input = Bytes.wrapForRead(byteHandler.deserialize(ByteBuffer.wrap(page)));
+    return pagePersiter.deserializePage(resourceConfiguration, input, serializationType);
   }
 
   @Override
@@ -31,8 +31,6 @@ import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
@@ -137,26 +135,14 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
     // Perform byte operations.
     try {
       // Serialize page.
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(1_000)) {
-        try (final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
-          pagePersister.serializePage(resourceConfiguration, byteBufferBytes, page, type);
-          final var byteArray = byteBufferBytes.toByteArray();
-          dataOutput.write(byteArray);
-          dataOutput.flush();
-        }
-        serializedPage = output.toByteArray();
-      }
+      pagePersister.serializePage(resourceConfiguration, byteBufferBytes, page, type);
+      final ByteBuffer serializedPage = reader.byteHandler.serialize(BytesUtils.asByteBuffer(byteBufferBytes));
+      final int serializedPageLength = serializedPage.remaining();
 
-      byteBufferBytes.clear();
+      final byte[] writtenPage = new byte[serializedPageLength + IOStorage.OTHER_BEACON];
+      ByteBuffer.wrap(writtenPage).putInt(serializedPageLength).put(serializedPage.duplicate());
 
-      final byte[] writtenPage = new byte[serializedPage.length + IOStorage.OTHER_BEACON];
-      final ByteBuffer buffer = ByteBuffer.allocate(writtenPage.length);
-      buffer.putInt(serializedPage.length);
-      buffer.put(serializedPage);
-      buffer.flip();
-      buffer.get(writtenPage);
+      byteBufferBytes.clear();
 
       // Getting actual offset and appending to the end of the current file.
       if (type == SerializationType.DATA) {
@@ -177,7 +163,7 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
       if (page instanceof KeyValueLeafPage keyValueLeafPage) {
         pageReference.setHash(keyValueLeafPage.getHashCode());
       } else {
-        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage.duplicate()).asBytes());
       }
 
       if (type == SerializationType.DATA) {
@@ -197,9 +183,9 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
           }
         } else if (page instanceof UberPage && isFirstUberPage) {
           revisionsFile.seek(0);
-          revisionsFile.write(serializedPage);
+          revisionsFile.write(writtenPage, IOStorage.OTHER_BEACON, serializedPageLength);
           revisionsFile.seek(IOStorage.FIRST_BEACON >> 1);
-          revisionsFile.write(serializedPage);
+          revisionsFile.write(writtenPage, IOStorage.OTHER_BEACON, serializedPageLength);
         }
       }
 
@@ -236,6 +222,16 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
     return this;
   }
 
+  @Override
+  public Writer force() {
+    try {
+      dataFile.getFD().sync();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    return this;
+  }
+
   @Override
   protected Reader delegate() {
     return reader;
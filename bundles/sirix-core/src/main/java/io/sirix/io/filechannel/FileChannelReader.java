@@ -100,10 +100,9 @@ public final class FileChannelReader extends AbstractReader {
 
       dataFileChannel.read(buffer, position + 4);
       buffer.flip();
-      final byte[] page = buffer.array();
 
       // Perform byte operations.
-      return deserialize(resourceConfiguration, page);
+      return deserialize(resourceConfiguration, buffer);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -131,11 +130,9 @@ public final class FileChannelReader extends AbstractReader {
       buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
       dataFileChannel.read(buffer, dataFileOffset + 4);
       buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
 
       // Perform byte operations.
-      return (RevisionRootPage) deserialize(resourceConfiguration, page);
+      return (RevisionRootPage) deserialize(resourceConfiguration, buffer);
     } catch (IOException e) {
       throw new SirixIOException(e);
     }
@@ -31,8 +31,6 @@ import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -152,23 +150,17 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
     try {
       // Serialize page.
       pagePersister.serializePage(resourceConfiguration, byteBufferBytes, page, serializationType);
-      final var byteArray = byteBufferBytes.toByteArray();
+      final ByteBuffer uncompressedPage = BytesUtils.asByteBuffer(byteBufferBytes);
 
-      final byte[] serializedPage;
+      final ByteBuffer serializedPage;
 
       if (page instanceof KeyValueLeafPage) {
-        serializedPage = byteArray;
+        serializedPage = uncompressedPage;
       } else {
-        try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length)) {
-          try (final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
-            dataOutput.write(byteArray);
-            dataOutput.flush();
-          }
-          serializedPage = output.toByteArray();
-        }
+        serializedPage = reader.getByteHandler().serialize(uncompressedPage);
       }
 
-      byteBufferBytes.clear();
+      final int serializedPageLength = serializedPage.remaining();
 
       int offsetToAdd = 0;
 
@@ -176,7 +168,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       if (serializationType == SerializationType.DATA) {
         if (page instanceof UberPage) {
           offsetToAdd =
-              UBER_PAGE_BYTE_ALIGN - ((serializedPage.length + IOStorage.OTHER_BEACON) % UBER_PAGE_BYTE_ALIGN);
+              UBER_PAGE_BYTE_ALIGN - ((serializedPageLength + IOStorage.OTHER_BEACON) % UBER_PAGE_BYTE_ALIGN);
         } else if (page instanceof RevisionRootPage && offset % REVISION_ROOT_PAGE_BYTE_ALIGN != 0) {
           offsetToAdd = (int) (REVISION_ROOT_PAGE_BYTE_ALIGN - (offset & (REVISION_ROOT_PAGE_BYTE_ALIGN - 1)));
           offset += offsetToAdd;
@@ -191,8 +183,8 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
         bufferedBytes.writePosition(bufferedBytes.writePosition() + offsetToAdd);
       }
 
-      bufferedBytes.writeInt(serializedPage.length);
-      bufferedBytes.write(serializedPage);
+      bufferedBytes.writeInt(serializedPageLength);
+      BytesUtils.write(bufferedBytes, serializedPage);
 
       if (page instanceof UberPage && offsetToAdd > 0) {
         final byte[] bytesToAdd = new byte[(int) offsetToAdd];
@@ -209,7 +201,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       if (page instanceof KeyValueLeafPage keyValueLeafPage) {
         pageReference.setHash(keyValueLeafPage.getHashCode());
       } else {
-        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage.duplicate()).asBytes());
       }
 
       if (serializationType == SerializationType.DATA) {
@@ -232,7 +224,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
                                                                              Instant.ofEpochMilli(revisionRootPage.getRevisionTimestamp()))));
         } else if (page instanceof UberPage && isFirstUberPage) {
           ByteBuffer buffer = ByteBuffer.allocateDirect(Writer.UBER_PAGE_BYTE_ALIGN).order(ByteOrder.nativeOrder());
-          buffer.put(serializedPage);
+          buffer.put(serializedPage.duplicate());
           buffer.position(0);
           revisionsFileChannel.write(buffer, 0);
           buffer.position(0);
@@ -240,6 +232,9 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
         }
       }
 
+      // The serialized page might be a view of the page buffer.
+      byteBufferBytes.clear();
+
       return this;
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -279,7 +274,6 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       @SuppressWarnings("DataFlowIssue") final var buffer = bufferedBytes.underlyingObject().rewind();
       buffer.limit((int) bufferedBytes.readLimit());
       dataFileChannel.write(buffer, 0L);
-      dataFileChannel.force(false);
       bufferedBytes.clear();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -288,6 +282,17 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
     return this;
   }
 
+  @Override
+  public Writer force() {
+    try {
+      dataFileChannel.force(false);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
   private void flushBuffer(Bytes<ByteBuffer> bufferedBytes) throws IOException {
     final long fileSize = dataFileChannel.size();
     long offset;
@@ -45,6 +45,8 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -105,6 +107,35 @@ public final class IOUringReader extends AbstractReader {
     return CompletableFuture.supplyAsync(() -> readPageFragment(reference, resourceConfiguration), POOL);
   }
 
+  @Override
+  public CompletableFuture<List<Page>> readAllAsync(final @NonNull List<PageReference> references,
+      final @Nullable ResourceConfiguration resourceConfiguration) {
+    // Submit the reads of all pages at once, such that they are batched by the ring.
+    final var pageFutures = new ArrayList<CompletableFuture<ByteBuffer>>(references.size());
+    for (final PageReference reference : references) {
+      final long position = reference.getKey();
+      final ByteBuffer lengthBuffer = ByteBuffer.allocateDirect(Integer.BYTES).order(ByteOrder.nativeOrder());
+      pageFutures.add(dataFile.read(lengthBuffer, position).thenCompose(_ -> {
+        lengthBuffer.flip();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(lengthBuffer.getInt()).order(ByteOrder.nativeOrder());
+        return dataFile.read(buffer, position + Integer.BYTES).thenApply(_ -> buffer.flip());
+      }));
+    }
+
+    // Deserialize one page after the other in a single task of the pool.
+    return CompletableFuture.allOf(pageFutures.toArray(new CompletableFuture[0])).thenApplyAsync(_ -> {
+      final var pages = new ArrayList<Page>(pageFutures.size());
+      try {
+        for (final CompletableFuture<ByteBuffer> pageFuture : pageFutures) {
+          pages.add(deserialize(resourceConfiguration, pageFuture.join()));
+        }
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+      return pages;
+    }, POOL);
+  }
+
   @NonNull
   private Page readPageFragment(@NonNull PageReference reference,
       @Nullable ResourceConfiguration resourceConfiguration) {
@@ -122,11 +153,9 @@ public final class IOUringReader extends AbstractReader {
 
       dataFile.read(buffer, position + Integer.BYTES).join();
       buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
 
       // Perform byte operations.
-      return deserialize(resourceConfiguration, page);
+      return deserialize(resourceConfiguration, buffer);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -145,11 +174,9 @@ public final class IOUringReader extends AbstractReader {
       buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
       dataFile.read(buffer, dataFileOffset + Integer.BYTES).join();
       buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
 
       // Perform byte operations.
-      return (RevisionRootPage) deserialize(resourceConfiguration, page);
+      return (RevisionRootPage) deserialize(resourceConfiguration, buffer);
     } catch (IOException e) {
       throw new SirixIOException(e);
     }
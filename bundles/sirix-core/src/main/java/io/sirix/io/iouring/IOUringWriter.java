@@ -33,10 +33,9 @@ import net.openhft.chronicle.bytes.Bytes;
 import one.jasyncfio.AsyncFile;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.file.Path;
@@ -172,23 +171,17 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
     try {
       // Serialize page.
       pagePersister.serializePage(resourceConfiguration, byteBufferBytes, page, serializationType);
-      final var byteArray = byteBufferBytes.toByteArray();
+      final ByteBuffer uncompressedPage = BytesUtils.asByteBuffer(byteBufferBytes);
 
-      final byte[] serializedPage;
+      final ByteBuffer serializedPage;
 
       if (page instanceof KeyValueLeafPage) {
-        serializedPage = byteArray;
+        serializedPage = uncompressedPage;
       } else {
-        try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length)) {
-          try (final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
-            dataOutput.write(byteArray);
-            dataOutput.flush();
-          }
-          serializedPage = output.toByteArray();
-        }
+        serializedPage = reader.getByteHandler().serialize(uncompressedPage);
       }
 
-      byteBufferBytes.clear();
+      final int serializedPageLength = serializedPage.remaining();
 
       int offsetToAdd = 0;
 
@@ -196,7 +189,7 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
       if (serializationType == SerializationType.DATA) {
         if (page instanceof UberPage) {
           offsetToAdd =
-              UBER_PAGE_BYTE_ALIGN - ((serializedPage.length + IOStorage.OTHER_BEACON) % UBER_PAGE_BYTE_ALIGN);
+              UBER_PAGE_BYTE_ALIGN - ((serializedPageLength + IOStorage.OTHER_BEACON) % UBER_PAGE_BYTE_ALIGN);
         } else if (page instanceof RevisionRootPage && offset % REVISION_ROOT_PAGE_BYTE_ALIGN != 0) {
           offsetToAdd = (int) (REVISION_ROOT_PAGE_BYTE_ALIGN - (offset & (REVISION_ROOT_PAGE_BYTE_ALIGN - 1)));
           offset += offsetToAdd;
@@ -207,7 +200,7 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
         }
       }
 
-      final var pageBuffer = ByteBuffer.allocateDirect(serializedPage.length + IOStorage.OTHER_BEACON + offsetToAdd)
+      final var pageBuffer = ByteBuffer.allocateDirect(serializedPageLength + IOStorage.OTHER_BEACON + offsetToAdd)
                                        .order(ByteOrder.nativeOrder());
 
       //      if (!(page instanceof UberPage) && offsetToAdd > 0) {
@@ -215,8 +208,8 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
       //        pageBuffer.put(buffer);
       //      }
 
-      pageBuffer.putInt(serializedPage.length);
-      pageBuffer.put(serializedPage);
+      pageBuffer.putInt(serializedPageLength);
+      pageBuffer.put(serializedPage.duplicate());
 
       if (page instanceof UberPage && offsetToAdd > 0) {
         final byte[] bytesToAdd = new byte[(int) offsetToAdd];
@@ -225,6 +218,9 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
 
       pageBuffer.flip();
 
+      // The serialized page might be a view of the page buffer.
+      byteBufferBytes.clear();
+
       dataFile.write(pageBuffer, offset).join();
 
       // Remember page coordinates.
@@ -233,7 +229,7 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
       if (page instanceof KeyValueLeafPage keyValueLeafPage) {
         pageReference.setHash(keyValueLeafPage.getHashCode());
       } else {
-        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage.duplicate()).asBytes());
       }
 
       if (serializationType == SerializationType.DATA) {
@@ -257,21 +253,20 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
         } else if (page instanceof UberPage && isFirstUberPage) {
           final ByteBuffer firstUberPageBuffer =
               ByteBuffer.allocateDirect(Writer.UBER_PAGE_BYTE_ALIGN).order(ByteOrder.nativeOrder());
-          firstUberPageBuffer.put(serializedPage);
+          firstUberPageBuffer.put(serializedPage.duplicate());
           firstUberPageBuffer.position(0);
           revisionsFile.write(firstUberPageBuffer, 0L).join();
           final ByteBuffer secondUberPageBuffer =
               ByteBuffer.allocateDirect(Writer.UBER_PAGE_BYTE_ALIGN).order(ByteOrder.nativeOrder());
-          secondUberPageBuffer.put(serializedPage);
+          secondUberPageBuffer.put(serializedPage.duplicate());
           secondUberPageBuffer.position(0);
           revisionsFile.write(secondUberPageBuffer, (long) Writer.UBER_PAGE_BYTE_ALIGN).join();
-          revisionsFile.dataSync().join();
         }
       }
 
       return this;
-    } catch (final IOException e) {
-      throw new SirixIOException(e);
+    } catch (final UncheckedIOException e) {
+      throw new SirixIOException(e.getCause());
     }
   }
 
@@ -296,7 +291,13 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
     isFirstUberPage = false;
     writePageReference(resourceConfiguration, pageReference, page, bufferedBytes, IOStorage.FIRST_BEACON >> 1);
 
+    return this;
+  }
+
+  @Override
+  public Writer force() {
     dataFile.dataSync().join();
+    revisionsFile.dataSync().join();
 
     return this;
   }
@@ -37,58 +37,54 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
-import java.lang.foreign.Arena;
-import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
 import java.time.Instant;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * Reader, to read from a memory-mapped file.
+ * Reader, to read from a memory-mapped file. The mappings of the data file and the revisions file
+ * are shared with all other readers of the resource, the reader only holds a reference.
  *
  * @author Johannes Lichtenberger
  */
 public final class MMFileReader extends AbstractReader {
 
-  static final ValueLayout.OfByte LAYOUT_BYTE = ValueLayout.JAVA_BYTE;
   static final ValueLayout.OfInt LAYOUT_INT = ValueLayout.JAVA_INT;
   static final ValueLayout.OfLong LAYOUT_LONG = ValueLayout.JAVA_LONG;
 
-  private final MemorySegment dataFileSegment;
+  private final MappedFile dataFile;
 
-  private final MemorySegment revisionsOffsetFileSegment;
+  private final MappedFile revisionsOffsetFile;
 
   private final Cache<Integer, RevisionFileData> cache;
 
-  private final Arena arena;
+  private boolean isClosed;
 
   /**
-   * Constructor.
+   * Constructor. The references to the mappings, which have to be retained by the caller, are
+   * released once the reader is closed.
    *
-   * @param byteHandler {@link ByteHandler} instance
+   * @param dataFile            the shared mapping of the data file
+   * @param revisionsOffsetFile the shared mapping of the revisions file
+   * @param byteHandler         {@link ByteHandler} instance
    */
-  public MMFileReader(final MemorySegment dataFileSegment, final MemorySegment revisionFileSegment,
-      final ByteHandler byteHandler, final SerializationType type, final PagePersister pagePersistenter,
-      final Cache<Integer, RevisionFileData> cache, final Arena arena) {
+  MMFileReader(final MappedFile dataFile, final MappedFile revisionsOffsetFile, final ByteHandler byteHandler,
+      final SerializationType type, final PagePersister pagePersistenter,
+      final Cache<Integer, RevisionFileData> cache) {
     super(byteHandler, pagePersistenter, type);
-    this.dataFileSegment = requireNonNull(dataFileSegment);
-    this.revisionsOffsetFileSegment = requireNonNull(revisionFileSegment);
+    this.dataFile = requireNonNull(dataFile);
+    this.revisionsOffsetFile = requireNonNull(revisionsOffsetFile);
     this.cache = requireNonNull(cache);
-    this.arena = requireNonNull(arena);
   }
 
   @Override
   public Page read(final @NonNull PageReference reference, final @Nullable ResourceConfiguration resourceConfiguration) {
     try {
       final long offset = reference.getKey() + LAYOUT_INT.byteSize();
-      final int dataLength = dataFileSegment.get(LAYOUT_INT, reference.getKey());
+      final int dataLength = dataFile.getInt(reference.getKey());
 
-      final byte[] page = new byte[dataLength];
-
-      MemorySegment.copy(dataFileSegment, LAYOUT_BYTE, offset, page, 0, dataLength);
-
-      return deserialize(resourceConfiguration, page);
+      return deserialize(resourceConfiguration, dataFile.slice(offset, dataLength));
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -100,13 +96,10 @@ public final class MMFileReader extends AbstractReader {
       //noinspection DataFlowIssue
       final var dataFileOffset = cache.get(revision, (unused) -> getRevisionFileData(revision)).offset();
 
-      final int dataLength = dataFileSegment.get(LAYOUT_INT, dataFileOffset);
-
-      final byte[] page = new byte[dataLength];
+      final int dataLength = dataFile.getInt(dataFileOffset);
 
-      MemorySegment.copy(dataFileSegment, LAYOUT_BYTE, dataFileOffset + LAYOUT_INT.byteSize(), page, 0, dataLength);
-
-      return (RevisionRootPage) deserialize(resourceConfiguration, page);
+      return (RevisionRootPage) deserialize(resourceConfiguration,
+                                            dataFile.slice(dataFileOffset + LAYOUT_INT.byteSize(), dataLength));
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -121,14 +114,17 @@ public final class MMFileReader extends AbstractReader {
   @Override
   public RevisionFileData getRevisionFileData(int revision) {
     final var fileOffset = IOStorage.FIRST_BEACON + (revision * LAYOUT_LONG.byteSize() * 2);
-    final var revisionOffset = revisionsOffsetFileSegment.get(LAYOUT_LONG, fileOffset);
-    final var timestamp =
-        Instant.ofEpochMilli(revisionsOffsetFileSegment.get(LAYOUT_LONG, fileOffset + LAYOUT_LONG.byteSize()));
+    final var revisionOffset = revisionsOffsetFile.getLong(fileOffset);
+    final var timestamp = Instant.ofEpochMilli(revisionsOffsetFile.getLong(fileOffset + LAYOUT_LONG.byteSize()));
     return new RevisionFileData(revisionOffset, timestamp);
   }
 
   @Override
   public void close() {
-    arena.close();
+    if (!isClosed) {
+      isClosed = true;
+      dataFile.release();
+      revisionsOffsetFile.release();
+    }
   }
 }
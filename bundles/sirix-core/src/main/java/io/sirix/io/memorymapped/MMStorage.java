@@ -37,7 +37,6 @@ import io.sirix.io.filechannel.FileChannelReader;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.lang.foreign.Arena;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -46,7 +45,8 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Storage, to provide offheap memory mapped access.
+ * Storage, to provide offheap memory mapped access. The data file and the revisions file are
+ * mapped once and the mappings are shared by all readers of the resource.
  *
  * @author Johannes Lichtenberger
  */
@@ -62,6 +62,11 @@ public final class MMStorage implements IOStorage {
    */
   private static final String REVISIONS_FILENAME = "sirix.revisions";
 
+  /**
+   * The size of a mapped chunk of the revisions file (16 bytes per revision).
+   */
+  private static final long REVISIONS_CHUNK_SIZE = 1L << 20;
+
   /**
    * Byte handler pipeline.
    */
@@ -78,6 +83,16 @@ public final class MMStorage implements IOStorage {
 
   private final Path dataFilePath;
 
+  /**
+   * The mapping of the data file, which is shared by all readers.
+   */
+  private MappedFile dataFile;
+
+  /**
+   * The mapping of the revisions file, which is shared by all readers.
+   */
+  private MappedFile revisionsOffsetFile;
+
   /**
    * Constructor.
    *
@@ -94,42 +109,30 @@ public final class MMStorage implements IOStorage {
   }
 
   @Override
-  public Reader createReader() {
+  public synchronized Reader createReader() {
     try {
-      final var sempahoreAcquired = semaphore.tryAcquire(5, TimeUnit.SECONDS);
-
-      if (!sempahoreAcquired) {
-        throw new IllegalStateException("Couldn't acquire semaphore.");
+      // The storage itself holds a reference to the mappings until it's closed.
+      if (dataFile == null) {
+        dataFile = new MappedFile(createDirectoriesAndFile(), MappedFile.DEFAULT_CHUNK_SIZE);
       }
 
-      final Path dataFilePath = createDirectoriesAndFile();
-      final Path revisionsOffsetFilePath = getRevisionFilePath();
+      if (revisionsOffsetFile == null) {
+        final Path revisionsOffsetFilePath = getRevisionFilePath();
+        createRevisionsOffsetFileIfItDoesNotExist(revisionsOffsetFilePath);
+        revisionsOffsetFile = new MappedFile(revisionsOffsetFilePath, REVISIONS_CHUNK_SIZE);
+      }
 
-      createRevisionsOffsetFileIfItDoesNotExist(revisionsOffsetFilePath);
+      dataFile.retain();
+      revisionsOffsetFile.retain();
 
-      final var arena = Arena.ofShared();
-      final var dataFileSegmentFileSize = Files.size(dataFilePath);
-
-      final var revisionsOffsetSegmentFileSize = Files.size(revisionsOffsetFilePath);
-
-      try (final var dataFileChannel = FileChannel.open(dataFilePath);
-           final var revisionsOffsetFileChannel = FileChannel.open(revisionsOffsetFilePath)) {
-        final var dataFileSegment =
-            dataFileChannel.map(FileChannel.MapMode.READ_ONLY, 0, dataFileSegmentFileSize, arena);
-        final var revisionsOffsetFileSegment =
-            revisionsOffsetFileChannel.map(FileChannel.MapMode.READ_ONLY, 0, revisionsOffsetSegmentFileSize, arena);
-        return new MMFileReader(dataFileSegment,
-                                revisionsOffsetFileSegment,
-                                new ByteHandlerPipeline(byteHandlerPipeline),
-                                SerializationType.DATA,
-                                new PagePersister(),
-                                cache.synchronous(),
-                                arena);
-      }
-    } catch (final IOException | InterruptedException e) {
+      return new MMFileReader(dataFile,
+                              revisionsOffsetFile,
+                              new ByteHandlerPipeline(byteHandlerPipeline),
+                              SerializationType.DATA,
+                              new PagePersister(),
+                              cache.synchronous());
+    } catch (final IOException e) {
       throw new SirixIOException(e);
-    } finally {
-      semaphore.release();
     }
   }
 
@@ -198,7 +201,17 @@ public final class MMStorage implements IOStorage {
   }
 
   @Override
-  public void close() {
+  public synchronized void close() {
+    // The files are unmapped, once all readers have been closed.
+    if (dataFile != null) {
+      dataFile.release();
+      dataFile = null;
+    }
+
+    if (revisionsOffsetFile != null) {
+      revisionsOffsetFile.release();
+      revisionsOffsetFile = null;
+    }
   }
 
   /**
@@ -0,0 +1,232 @@
+package io.sirix.io.memorymapped;
+
+import io.sirix.exception.SirixIOException;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A read-only memory mapping of a file, which is shared by all readers of a resource.
+ *
+ * <p>The file is mapped in chunks of a fixed size. As commits only append to the file, the mapping
+ * is extended incrementally, whenever a reader accesses a region behind the mapped end: chunks,
+ * which have been completely written, are mapped once for the lifetime of the mapping, only the
+ * last, partially written chunk (the tail) is remapped. The full chunks belong to a shared arena,
+ * which is closed as soon as the last reference is released, whereas replaced tails are unmapped
+ * once they are no longer reachable.</p>
+ *
+ * <p>Slices of the mapping are handed out without copying, except for the rare case of a region,
+ * which spans two chunks.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class MappedFile {
+
+  /**
+   * The default size of a mapped chunk (64 MiB).
+   */
+  static final long DEFAULT_CHUNK_SIZE = 1L << 26;
+
+  /**
+   * The mapped chunks. Immutable, thus it's replaced as a whole, whenever the mapping is extended.
+   *
+   * @param chunks the full chunks
+   * @param tail   the last chunk, which isn't full, or {@code null}
+   * @param size   the mapped size
+   */
+  private record Chunks(MemorySegment[] chunks, @Nullable MemorySegment tail, long size) {
+  }
+
+  private final FileChannel fileChannel;
+
+  private final long chunkSize;
+
+  private final Arena arena;
+
+  private final AtomicInteger references;
+
+  private volatile Chunks mapping;
+
+  /**
+   * Constructor. The mapping is initially referenced once (by the creator).
+   *
+   * @param file      the file to map
+   * @param chunkSize the size of a mapped chunk
+   * @throws IOException if the file can't be opened
+   */
+  MappedFile(final Path file, final long chunkSize) throws IOException {
+    checkArgument(chunkSize > 0 && chunkSize <= Integer.MAX_VALUE, "The chunk size is out of range.");
+    this.fileChannel = FileChannel.open(file);
+    this.chunkSize = chunkSize;
+    this.arena = Arena.ofShared();
+    this.references = new AtomicInteger(1);
+    this.mapping = new Chunks(new MemorySegment[0], null, 0);
+  }
+
+  /**
+   * Add a reference to the mapping.
+   *
+   * @return {@code true}, if the reference has been added, {@code false}, if the mapping has already
+   * been closed
+   */
+  boolean retain() {
+    int currentReferences;
+
+    do {
+      currentReferences = references.get();
+
+      if (currentReferences == 0) {
+        return false;
+      }
+    } while (!references.compareAndSet(currentReferences, currentReferences + 1));
+
+    return true;
+  }
+
+  /**
+   * Release a reference to the mapping. The file is unmapped and closed, once the last reference
+   * has been released.
+   */
+  void release() {
+    final int currentReferences = references.decrementAndGet();
+
+    if (currentReferences < 0) {
+      throw new IllegalStateException("The mapping has already been closed.");
+    }
+
+    if (currentReferences == 0) {
+      synchronized (this) {
+        arena.close();
+        mapping = new Chunks(new MemorySegment[0], null, 0);
+
+        try {
+          fileChannel.close();
+        } catch (final IOException e) {
+          throw new SirixIOException(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Get a region of the file.
+   *
+   * @param offset the offset of the region in the file
+   * @param length the length of the region
+   * @return the region, a slice of the mapping, if it doesn't span two chunks
+   */
+  MemorySegment slice(final @NonNegative long offset, final @NonNegative long length) {
+    final Chunks chunks = ensureMapped(offset + length);
+    int chunk = (int) (offset / chunkSize);
+    long offsetInChunk = offset % chunkSize;
+
+    if (offsetInChunk + length <= chunkSize) {
+      return chunk(chunks, chunk).asSlice(offsetInChunk, length);
+    }
+
+    final var region = MemorySegment.ofArray(new byte[Math.toIntExact(length)]);
+    long copied = 0;
+
+    while (copied < length) {
+      final long bytesToCopy = Math.min(length - copied, chunkSize - offsetInChunk);
+      MemorySegment.copy(chunk(chunks, chunk), offsetInChunk, region, copied, bytesToCopy);
+      copied += bytesToCopy;
+      offsetInChunk = 0;
+      chunk++;
+    }
+
+    return region;
+  }
+
+  /**
+   * Get an {@code int} value.
+   *
+   * @param offset the offset in the file
+   * @return the value
+   */
+  int getInt(final @NonNegative long offset) {
+    return slice(offset, Integer.BYTES).get(ValueLayout.JAVA_INT_UNALIGNED, 0);
+  }
+
+  /**
+   * Get a {@code long} value.
+   *
+   * @param offset the offset in the file
+   * @return the value
+   */
+  long getLong(final @NonNegative long offset) {
+    return slice(offset, Long.BYTES).get(ValueLayout.JAVA_LONG_UNALIGNED, 0);
+  }
+
+  /**
+   * Get the mapped size, which is less than the file size, if the file has grown since the last
+   * access behind the mapped end.
+   *
+   * @return the mapped size
+   */
+  long mappedSize() {
+    return mapping.size();
+  }
+
+  private MemorySegment chunk(final Chunks chunks, final int chunk) {
+    return chunk < chunks.chunks().length ? chunks.chunks()[chunk] : chunks.tail();
+  }
+
+  private Chunks ensureMapped(final long end) {
+    final Chunks chunks = mapping;
+
+    if (end <= chunks.size()) {
+      return chunks;
+    }
+
+    return extend(end);
+  }
+
+  private synchronized Chunks extend(final long end) {
+    final Chunks chunks = mapping;
+
+    if (end <= chunks.size()) {
+      return chunks;
+    }
+
+    if (references.get() == 0) {
+      throw new IllegalStateException("The mapping has already been closed.");
+    }
+
+    try {
+      final long fileSize = fileChannel.size();
+
+      if (end > fileSize) {
+        throw new SirixIOException("Read beyond the end of the file: " + end + " > " + fileSize);
+      }
+
+      final int fullChunks = (int) (fileSize / chunkSize);
+      final MemorySegment[] newChunks = Arrays.copyOf(chunks.chunks(), fullChunks);
+
+      for (int chunk = chunks.chunks().length; chunk < fullChunks; chunk++) {
+        newChunks[chunk] = fileChannel.map(FileChannel.MapMode.READ_ONLY, chunk * chunkSize, chunkSize, arena);
+      }
+
+      final long tailSize = fileSize % chunkSize;
+      final MemorySegment tail = tailSize == 0
+          ? null
+          : fileChannel.map(FileChannel.MapMode.READ_ONLY, fullChunks * chunkSize, tailSize, Arena.ofAuto());
+
+      final var newMapping = new Chunks(newChunks, tail, fileSize);
+      mapping = newMapping;
+      return newMapping;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+}
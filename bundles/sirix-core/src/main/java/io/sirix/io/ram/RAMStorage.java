@@ -174,6 +174,12 @@ public final class RAMStorage implements IOStorage {
       return this;
     }
 
+    @Override
+    public Writer force() {
+      // Nothing to force.
+      return this;
+    }
+
     @Override
     public Instant readRevisionRootPageCommitTimestamp(int revision) {
       // FIXME
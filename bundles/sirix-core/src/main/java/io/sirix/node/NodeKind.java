@@ -35,6 +35,9 @@ import io.brackit.query.module.Namespaces;
 import io.sirix.access.ResourceConfiguration;
 import io.sirix.access.trx.node.HashType;
 import io.sirix.index.AtomicUtil;
+import io.sirix.index.art.ARTInnerNode;
+import io.sirix.index.art.ARTLeafNode;
+import io.sirix.index.column.NumberColumnNode;
 import io.sirix.index.path.summary.PathNode;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBNodeValue;
@@ -54,6 +57,7 @@ import io.sirix.page.KeyValueLeafPage;
 import io.sirix.service.xml.xpath.AtomicValue;
 import io.sirix.settings.Constants;
 import io.sirix.settings.Fixed;
+import it.unimi.dsi.fastutil.booleans.BooleanArrayList;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import net.openhft.chronicle.bytes.BytesIn;
@@ -524,7 +528,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final byte[] type = new byte[typeSize];
       source.read(type, 0, typeSize);
 
-      final Type atomicType = resolveType(new String(type, Constants.DEFAULT_ENCODING));
+      final Type atomicType = resolveAtomicType(new String(type, Constants.DEFAULT_ENCODING));
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, resourceConfiguration);
@@ -574,16 +578,6 @@ public enum NodeKind implements DeweyIdSerializer {
       throw new UnsupportedOperationException();
     }
 
-    private Type resolveType(final String s) {
-      final QNm name =
-          new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX, s.substring(Namespaces.XS_PREFIX.length() + 1));
-      for (final Type type : Type.builtInTypes) {
-        if (type.getName().getLocalName().equals(name.getLocalName())) {
-          return type;
-        }
-      }
-      throw new IllegalStateException("Unknown content type: " + name);
-    }
   },
 
   /**
@@ -727,6 +721,218 @@ public enum NodeKind implements DeweyIdSerializer {
     }
   },
 
+  /**
+   * Inner node of an adaptive radix tree index.
+   */
+  ART_INNER_NODE((byte) 56) {
+    @Override
+    public @NonNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
+        final byte[] deweyID, final ResourceConfiguration resourceConfiguration) {
+      final byte[] prefix = new byte[source.readInt()];
+      source.read(prefix);
+      final long leafKey = getVarLong(source);
+      final int numberOfChildren = source.readShort();
+      final byte[] partialKeys = new byte[numberOfChildren];
+      source.read(partialKeys);
+      final long[] childKeys = new long[numberOfChildren];
+      for (int i = 0; i < numberOfChildren; i++) {
+        childKeys[i] = recordID - getVarLong(source);
+      }
+      // Node delegate.
+      final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, resourceConfiguration);
+      return new ARTInnerNode(prefix, partialKeys, childKeys, leafKey, nodeDel);
+    }
+
+    @Override
+    public void serialize(final BytesOut<?> sink, final DataRecord record,
+        final ResourceConfiguration resourceConfiguration) {
+      final ARTInnerNode node = (ARTInnerNode) record;
+      final byte[] prefix = node.getPrefix();
+      sink.writeInt(prefix.length);
+      sink.write(prefix);
+      putVarLong(sink, node.getLeafKey());
+      final int numberOfChildren = node.getNumberOfChildren();
+      sink.writeShort((short) numberOfChildren);
+      for (int i = 0; i < numberOfChildren; i++) {
+        sink.writeByte(node.getPartialKey(i));
+      }
+      for (int i = 0; i < numberOfChildren; i++) {
+        putVarLong(sink, node.getNodeKey() - node.getChildKey(i));
+      }
+      serializeDelegate(node.getNodeDelegate(), sink);
+    }
+
+    @Override
+    public byte[] deserializeDeweyID(BytesIn<?> source, byte[] previousDeweyID, ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(BytesOut<?> sink, byte[] deweyID, byte[] nextDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /**
+   * Leaf of an adaptive radix tree index, which stores the key (a CAS value, a path class record or
+   * a name) together with the node references.
+   */
+  ART_LEAF_NODE((byte) 57) {
+    private static final byte CAS_KEY = 0;
+
+    private static final byte PATH_KEY = 1;
+
+    private static final byte NAME_KEY = 2;
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public @NonNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
+        final byte[] deweyID, final ResourceConfiguration resourceConfiguration) {
+      final byte keyKind = source.readByte();
+      final Comparable<?> key = switch (keyKind) {
+        case CAS_KEY -> {
+          final byte[] value = new byte[source.readInt()];
+          source.read(value);
+          final byte[] type = new byte[source.readInt()];
+          source.read(type);
+          final Type atomicType = resolveAtomicType(new String(type, Constants.DEFAULT_ENCODING));
+          final long pathNodeKey = getVarLong(source);
+          yield new CASValue(AtomicUtil.fromBytes(value, atomicType), atomicType, pathNodeKey);
+        }
+        case PATH_KEY -> getVarLong(source);
+        case NAME_KEY -> {
+          final byte[] nspBytes = new byte[source.readInt()];
+          source.read(nspBytes);
+          final byte[] prefixBytes = new byte[source.readInt()];
+          source.read(prefixBytes);
+          final byte[] localNameBytes = new byte[source.readInt()];
+          source.read(localNameBytes);
+          yield new QNm(new String(nspBytes, Constants.DEFAULT_ENCODING),
+                        new String(prefixBytes, Constants.DEFAULT_ENCODING),
+                        new String(localNameBytes, Constants.DEFAULT_ENCODING));
+        }
+        default -> throw new IllegalStateException("Unknown key kind: " + keyKind);
+      };
+      final var nodeKeys = deserializeNodeReferences(source);
+      // Node delegate.
+      final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, resourceConfiguration);
+      return new ARTLeafNode(key, new NodeReferences(nodeKeys), nodeDel);
+    }
+
+    @Override
+    public void serialize(final BytesOut<?> sink, final DataRecord record,
+        final ResourceConfiguration resourceConfiguration) {
+      final ARTLeafNode<?, NodeReferences> node = (ARTLeafNode<?, NodeReferences>) record;
+      switch (node.getKey()) {
+        case CASValue casValue -> {
+          sink.writeByte(CAS_KEY);
+          final byte[] value = casValue.getValue();
+          sink.writeInt(value.length);
+          sink.write(value);
+          final byte[] type = casValue.getType().toString().getBytes(Constants.DEFAULT_ENCODING);
+          sink.writeInt(type.length);
+          sink.write(type);
+          putVarLong(sink, casValue.getPathNodeKey());
+        }
+        case Long pathNodeKey -> {
+          sink.writeByte(PATH_KEY);
+          putVarLong(sink, pathNodeKey);
+        }
+        case QNm name -> {
+          sink.writeByte(NAME_KEY);
+          final byte[] nspBytes = name.getNamespaceURI().getBytes(Constants.DEFAULT_ENCODING);
+          sink.writeInt(nspBytes.length);
+          sink.write(nspBytes);
+          final byte[] prefixBytes = name.getPrefix().getBytes(Constants.DEFAULT_ENCODING);
+          sink.writeInt(prefixBytes.length);
+          sink.write(prefixBytes);
+          final byte[] localNameBytes = name.getLocalName().getBytes(Constants.DEFAULT_ENCODING);
+          sink.writeInt(localNameBytes.length);
+          sink.write(localNameBytes);
+        }
+        default -> throw new IllegalStateException("Unsupported key: " + node.getKey());
+      }
+      serializeNodeReferences(sink, node.getValue().getNodeKeys());
+      serializeDelegate(node.getNodeDelegate(), sink);
+    }
+
+    @Override
+    public byte[] deserializeDeweyID(BytesIn<?> source, byte[] previousDeweyID, ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(BytesOut<?> sink, byte[] deweyID, byte[] nextDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /**
+   * Record of a number column index, which stores the number values of a path class. The node keys
+   * and integral values are delta encoded.
+   */
+  NUMBER_COLUMN_NODE((byte) 58) {
+    @Override
+    public @NonNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
+        final byte[] deweyID, final ResourceConfiguration resourceConfiguration) {
+      final int size = (int) getVarLong(source);
+      final boolean isIntegral = source.readBoolean();
+      final var nodeKeys = new LongArrayList(size);
+      long nodeKey = 0;
+      for (int i = 0; i < size; i++) {
+        nodeKey += getVarLong(source);
+        nodeKeys.add(nodeKey);
+      }
+      final var values = new LongArrayList(size);
+      final var integral = new BooleanArrayList(size);
+      long value = 0;
+      for (int i = 0; i < size; i++) {
+        if (isIntegral) {
+          value += getVarLong(source);
+          values.add(value);
+          integral.add(true);
+        } else {
+          final boolean isIntegralValue = source.readBoolean();
+          values.add(isIntegralValue ? getVarLong(source) : source.readLong());
+          integral.add(isIntegralValue);
+        }
+      }
+      return new NumberColumnNode(recordID, nodeKeys, values, integral);
+    }
+
+    @Override
+    public void serialize(final BytesOut<?> sink, final DataRecord record,
+        final ResourceConfiguration resourceConfiguration) {
+      final NumberColumnNode node = (NumberColumnNode) record;
+      final int size = node.size();
+      final boolean isIntegral = node.isIntegral();
+      putVarLong(sink, size);
+      sink.writeBoolean(isIntegral);
+      long previousNodeKey = 0;
+      for (int i = 0; i < size; i++) {
+        final long nodeKey = node.getNumberNodeKey(i);
+        putVarLong(sink, nodeKey - previousNodeKey);
+        previousNodeKey = nodeKey;
+      }
+      long previousValue = 0;
+      for (int i = 0; i < size; i++) {
+        final long value = node.getValueBits(i);
+        if (isIntegral) {
+          putVarLong(sink, value - previousValue);
+          previousValue = value;
+        } else if (node.isIntegral(i)) {
+          sink.writeBoolean(true);
+          putVarLong(sink, value);
+        } else {
+          sink.writeBoolean(false);
+          sink.writeLong(value);
+        }
+      }
+    }
+  },
+
   /**
    * Node includes a deweyID &lt;=&gt; nodeKey mapping.
    */
@@ -1017,19 +1223,22 @@ public enum NodeKind implements DeweyIdSerializer {
     public @NonNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
         final byte[] deweyID, final ResourceConfiguration resourceConfiguration) {
       final byte valueType = source.readByte();
-      final Number number;
+      long longValue = 0;
+      double doubleValue = 0;
+      Number bigNumber = null;
 
       switch (valueType) {
-        case 0 -> number = source.readDouble();
-        case 1 -> number = source.readFloat();
-        case 2 -> number = source.readInt();
-        case 3 -> number = source.readLong();
-        case 4 -> number = deserializeBigInteger(source);
+        case 0 -> doubleValue = source.readDouble();
+        case 1 -> doubleValue = source.readFloat();
+        case 2 -> longValue = source.readInt();
+        case 3 -> longValue = source.readLong();
+        case 4 -> bigNumber = deserializeBigInteger(source);
         case 5 -> {
           final BigInteger bigInt = deserializeBigInteger(source);
           final int scale = source.readInt();
-          number = new BigDecimal(bigInt, scale);
+          bigNumber = new BigDecimal(bigInt, scale);
         }
+        case 6, 7 -> longValue = getVarLong(source);
         default -> throw new AssertionError("Type not known.");
       }
 
@@ -1046,46 +1255,20 @@ public enum NodeKind implements DeweyIdSerializer {
                                                                        0);
 
       // Returning an instance.
-      return new ObjectNumberNode(number, structDelegate);
+      return switch (valueType) {
+        case 0 -> new ObjectNumberNode(NumberType.DOUBLE, doubleValue, structDelegate);
+        case 1 -> new ObjectNumberNode(NumberType.FLOAT, doubleValue, structDelegate);
+        case 2, 6 -> new ObjectNumberNode(NumberType.INTEGER, longValue, structDelegate);
+        case 3, 7 -> new ObjectNumberNode(NumberType.LONG, longValue, structDelegate);
+        default -> new ObjectNumberNode(bigNumber, structDelegate);
+      };
     }
 
     @Override
     public void serialize(final BytesOut<?> sink, final DataRecord record,
         final ResourceConfiguration resourceConfiguration) {
       final ObjectNumberNode node = (ObjectNumberNode) record;
-      final Number number = node.getValue();
-
-      switch (number) {
-        case Double ignored -> {
-          sink.writeByte((byte) 0);
-          sink.writeDouble(number.doubleValue());
-        }
-        case Float ignored -> {
-          sink.writeByte((byte) 1);
-          sink.writeFloat(number.floatValue());
-        }
-        case Integer ignored -> {
-          sink.writeByte((byte) 2);
-          sink.writeInt(number.intValue());
-        }
-        case Long ignored -> {
-          sink.writeByte((byte) 3);
-          sink.writeLong(number.longValue());
-        }
-        case BigInteger bigInt -> {
-          sink.writeByte((byte) 4);
-          sink.writeBigInteger(bigInt);
-        }
-        case final BigDecimal value -> {
-          sink.writeByte((byte) 5);
-          final BigInteger bigInt = value.unscaledValue();
-          final int scale = value.scale();
-          sink.writeBigInteger(bigInt);
-          sink.writeInt(scale);
-        }
-        case null, default -> throw new AssertionError("Type not known.");
-      }
-
+      serializeNumber(sink, node);
       serializeDelegate(node.getNodeDelegate(), sink);
     }
 
@@ -1233,64 +1416,43 @@ public enum NodeKind implements DeweyIdSerializer {
     public @NonNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
         final byte[] deweyID, final ResourceConfiguration resourceConfiguration) {
       final byte valueType = source.readByte();
-      final Number number = switch (valueType) {
-        case 0 -> source.readDouble();
-        case 1 -> source.readFloat();
-        case 2 -> source.readInt();
-        case 3 -> source.readLong();
-        case 4 -> deserializeBigInteger(source);
+      long longValue = 0;
+      double doubleValue = 0;
+      Number bigNumber = null;
+
+      switch (valueType) {
+        case 0 -> doubleValue = source.readDouble();
+        case 1 -> doubleValue = source.readFloat();
+        case 2 -> longValue = source.readInt();
+        case 3 -> longValue = source.readLong();
+        case 4 -> bigNumber = deserializeBigInteger(source);
         case 5 -> {
           final BigInteger bigInt = deserializeBigInteger(source);
           final int scale = source.readInt();
-          yield new BigDecimal(bigInt, scale);
+          bigNumber = new BigDecimal(bigInt, scale);
         }
+        case 6, 7 -> longValue = getVarLong(source);
         default -> throw new AssertionError("Type not known.");
-      };
+      }
 
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, resourceConfiguration);
       final StructNodeDelegate structDel = deserializeStructNodeJsonValueNode(source, nodeDel);
 
       // Returning an instance.
-      return new NumberNode(number, structDel);
+      return switch (valueType) {
+        case 0 -> new NumberNode(NumberType.DOUBLE, doubleValue, structDel);
+        case 1 -> new NumberNode(NumberType.FLOAT, doubleValue, structDel);
+        case 2, 6 -> new NumberNode(NumberType.INTEGER, longValue, structDel);
+        case 3, 7 -> new NumberNode(NumberType.LONG, longValue, structDel);
+        default -> new NumberNode(bigNumber, structDel);
+      };
     }
 
     @Override
     public void serialize(final BytesOut<?> sink, final DataRecord record,
         final ResourceConfiguration resourceConfiguration) {
       final NumberNode node = (NumberNode) record;
-      final Number number = node.getValue();
-
-      switch (number) {
-        case Double ignored -> {
-          sink.writeByte((byte) 0);
-          sink.writeDouble(number.doubleValue());
-        }
-        case Float ignored1 -> {
-          sink.writeByte((byte) 1);
-          sink.writeFloat(number.floatValue());
-        }
-        case Integer ignored2 -> {
-          sink.writeByte((byte) 2);
-          sink.writeInt(number.intValue());
-        }
-        case Long ignored3 -> {
-          sink.writeByte((byte) 3);
-          sink.writeLong(number.longValue());
-        }
-        case BigInteger bigInteger -> {
-          sink.writeByte((byte) 4);
-          serializeBigInteger(sink, bigInteger);
-        }
-        case final BigDecimal value -> {
-          sink.writeByte((byte) 5);
-          final BigInteger bigInt = value.unscaledValue();
-          final int scale = value.scale();
-          serializeBigInteger(sink, bigInt);
-          sink.writeInt(scale);
-        }
-        case null, default -> throw new AssertionError("Type not known.");
-      }
-
+      serializeNumber(sink, node);
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructNodeJsonValueNode(sink, node);
     }
@@ -1492,6 +1654,17 @@ public enum NodeKind implements DeweyIdSerializer {
     }
   };
 
+  private static Type resolveAtomicType(final String s) {
+    final QNm name =
+        new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX, s.substring(Namespaces.XS_PREFIX.length() + 1));
+    for (final Type type : Type.builtInTypes) {
+      if (type.getName().getLocalName().equals(name.getLocalName())) {
+        return type;
+      }
+    }
+    throw new IllegalStateException("Unknown content type: " + name);
+  }
+
   private static void serializeNodeReferences(BytesOut<?> sink, Roaring64Bitmap nodeKeys) {
     try (var outputStream = new DataOutputStream(sink.outputStream())) {
       nodeKeys.serialize(outputStream);
@@ -1799,6 +1972,69 @@ public enum NodeKind implements DeweyIdSerializer {
     sink.writeLong(hashCode);
   }
 
+  /**
+   * Serialize the value of a number node. Integers and longs are stop bit encoded, if this is more
+   * compact than the fixed size encoding (which is the case for small absolute values).
+   *
+   * @param sink the sink to write to
+   * @param node the number node
+   */
+  private static void serializeNumber(final BytesOut<?> sink, final AbstractNumberNode node) {
+    switch (node.getNumberType()) {
+      case DOUBLE -> {
+        sink.writeByte((byte) 0);
+        sink.writeDouble(node.getDoubleValue());
+      }
+      case FLOAT -> {
+        sink.writeByte((byte) 1);
+        sink.writeFloat((float) node.getDoubleValue());
+      }
+      case INTEGER -> {
+        final long value = node.getLongValue();
+        if (stopBitSize(value) < Integer.BYTES) {
+          sink.writeByte((byte) 6);
+          putVarLong(sink, value);
+        } else {
+          sink.writeByte((byte) 2);
+          sink.writeInt((int) value);
+        }
+      }
+      case LONG -> {
+        final long value = node.getLongValue();
+        if (stopBitSize(value) < Long.BYTES) {
+          sink.writeByte((byte) 7);
+          putVarLong(sink, value);
+        } else {
+          sink.writeByte((byte) 3);
+          sink.writeLong(value);
+        }
+      }
+      case BIG_INTEGER -> {
+        sink.writeByte((byte) 4);
+        serializeBigInteger(sink, (BigInteger) node.getValue());
+      }
+      case BIG_DECIMAL -> {
+        sink.writeByte((byte) 5);
+        final BigDecimal value = (BigDecimal) node.getValue();
+        serializeBigInteger(sink, value.unscaledValue());
+        sink.writeInt(value.scale());
+      }
+    }
+  }
+
+  /**
+   * Get the number of bytes of a stop bit encoded value.
+   *
+   * @param value the value
+   * @return the number of bytes
+   */
+  private static int stopBitSize(final long value) {
+    // Negative values are stored as their complement, terminated by a zero byte.
+    final long magnitude = value < 0 ? ~value : value;
+    final int bits = Long.SIZE - Long.numberOfLeadingZeros(magnitude);
+    return Math.max(1, (bits + 6) / 7) + (value < 0 ? 1 : 0);
+  }
+
   private static void serializeBigInteger(final BytesOut<?> sink, final BigInteger bigInteger) {
     final byte[] bytes = bigInteger.toByteArray();
     sink.writeStopBit(bytes.length);
@@ -6,6 +6,7 @@ import io.sirix.node.NodeKind;
 import io.sirix.node.interfaces.StructNode;
 import net.openhft.chronicle.bytes.Bytes;
 import io.sirix.node.json.NumberNode;
+import io.sirix.node.json.NumberType;
 import io.sirix.node.json.ObjectNumberNode;
 
 import java.nio.ByteBuffer;
@@ -55,6 +56,22 @@ public final class ImmutableObjectNumberNode extends AbstractImmutableJsonStruct
     return node.getValue();
   }
 
+  public NumberType getNumberType() {
+    return node.getNumberType();
+  }
+
+  public long getLongValue() {
+    return node.getLongValue();
+  }
+
+  public double getDoubleValue() {
+    return node.getDoubleValue();
+  }
+
+  public String getValueAsString() {
+    return node.getValueAsString();
+  }
+
   @Override
   public NodeKind getKind() {
     return NodeKind.BOOLEAN_VALUE;
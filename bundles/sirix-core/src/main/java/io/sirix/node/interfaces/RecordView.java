@@ -0,0 +1,53 @@
+package io.sirix.node.interfaces;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * A reusable, read-only view of a serialized record. Instead of deserializing the record into a new
+ * node instance, the view decodes the fields directly from the serialized bytes, whenever it is
+ * pointed to another record. Thus, navigating with a view doesn't allocate any objects.
+ *
+ * <p>A view is only valid until it is pointed to the next record and all setters throw an
+ * {@link UnsupportedOperationException}. Fields, which a view can't provide (for instance the
+ * DeweyID or the value of a node), have to be retrieved from the deserialized record.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface RecordView extends StructNode {
+
+  /**
+   * Point the view to a serialized record.
+   *
+   * @param recordKey        the key of the record
+   * @param serializedRecord the serialized record
+   * @return {@code true}, if the view supports the kind of record, {@code false} otherwise (in which
+   *     case the record has to be deserialized)
+   */
+  boolean moveTo(long recordKey, MemorySegment serializedRecord);
+
+  /**
+   * Point the view to a serialized record.
+   *
+   * @param recordKey        the key of the record
+   * @param serializedRecord the serialized record
+   * @return {@code true}, if the view supports the kind of record, {@code false} otherwise (in which
+   *     case the record has to be deserialized)
+   */
+  boolean moveTo(long recordKey, byte[] serializedRecord);
+
+  /**
+   * Determines if the hash is stored in the record. Otherwise it's computed by the deserialized
+   * record and {@link #getHash()} must not be called.
+   *
+   * @return {@code true}, if the hash is stored in the record, {@code false} otherwise
+   */
+  boolean isHashStored();
+
+  /**
+   * Get the key of the path node of the record.
+   *
+   * @return the path node key, {@code 0} for the document node or {@code -1}, if the record has no
+   *     path node
+   */
+  long getPathNodeKey();
+}
@@ -35,21 +35,66 @@ import io.sirix.settings.Fixed;
 import net.openhft.chronicle.bytes.Bytes;
 import io.sirix.node.xml.AbstractStructForwardingNode;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Base class of JSON number nodes. Integers and longs are stored as primitive {@code long} values,
+ * floats and doubles as primitive {@code double} values, thus they can be read without boxing. Only
+ * big numbers are stored as {@link Number} instances.
+ */
 public abstract class AbstractNumberNode extends AbstractStructForwardingNode implements ImmutableJsonNode {
 
   private final StructNodeDelegate structNodeDelegate;
-  private Number number;
+
+  private NumberType numberType;
+
+  private long longValue;
+
+  private double doubleValue;
+
+  private @Nullable Number bigNumber;
 
   private long hashCode;
 
   public AbstractNumberNode(StructNodeDelegate structNodeDel, Number number) {
     this.structNodeDelegate = structNodeDel;
-    this.number = number;
+    setNumber(number);
+  }
+
+  /**
+   * Constructor for an integer or a long value.
+   *
+   * @param structNodeDel delegate for the structural properties
+   * @param numberType    the type of the value, either {@link NumberType#INTEGER} or
+   *                      {@link NumberType#LONG}
+   * @param value         the value
+   */
+  public AbstractNumberNode(StructNodeDelegate structNodeDel, NumberType numberType, long value) {
+    checkArgument(numberType.isIntegral(), "The number type must be integral.");
+    this.structNodeDelegate = structNodeDel;
+    this.numberType = numberType;
+    this.longValue = value;
+  }
+
+  /**
+   * Constructor for a float or a double value.
+   *
+   * @param structNodeDel delegate for the structural properties
+   * @param numberType    the type of the value, either {@link NumberType#FLOAT} or
+   *                      {@link NumberType#DOUBLE}
+   * @param value         the value
+   */
+  public AbstractNumberNode(StructNodeDelegate structNodeDel, NumberType numberType, double value) {
+    checkArgument(numberType.isFloatingPoint(), "The number type must be a floating point type.");
+    this.structNodeDelegate = structNodeDel;
+    this.numberType = numberType;
+    this.doubleValue = value;
   }
 
   @Override
@@ -72,14 +117,13 @@ public abstract class AbstractNumberNode extends AbstractStructForwardingNode im
       bytes.writeLong(structNodeDelegate.getLastChildKey());
     }
 
-    switch (number) {
-      case Float floatVal -> bytes.writeFloat(floatVal);
-      case Double doubleVal -> bytes.writeDouble(doubleVal);
-      case BigDecimal bigDecimalVal -> bytes.writeBigDecimal(bigDecimalVal);
-      case Integer intVal -> bytes.writeInt(intVal);
-      case Long longVal -> bytes.writeLong(longVal);
-      case BigInteger bigIntegerVal -> bytes.writeBigInteger(bigIntegerVal);
-      default -> throw new IllegalStateException("Unexpected value: " + number);
+    switch (numberType) {
+      case FLOAT -> bytes.writeFloat((float) doubleValue);
+      case DOUBLE -> bytes.writeDouble(doubleValue);
+      case BIG_DECIMAL -> bytes.writeBigDecimal((BigDecimal) bigNumber);
+      case INTEGER -> bytes.writeInt((int) longValue);
+      case LONG -> bytes.writeLong(longValue);
+      case BIG_INTEGER -> bytes.writeBigInteger((BigInteger) bigNumber);
     }
 
     final var buffer = bytes.underlyingObject().rewind();
@@ -103,11 +147,85 @@ public abstract class AbstractNumberNode extends AbstractStructForwardingNode im
 
   public void setValue(final Number number) {
     hashCode = 0L;
-    this.number = number;
+    setNumber(number);
   }
 
+  private void setNumber(final Number number) {
+    numberType = NumberType.of(number);
+    longValue = 0L;
+    doubleValue = 0.0;
+    bigNumber = null;
+
+    switch (numberType) {
+      case INTEGER, LONG -> longValue = number.longValue();
+      case FLOAT, DOUBLE -> doubleValue = number.doubleValue();
+      case BIG_INTEGER, BIG_DECIMAL -> bigNumber = number;
+    }
+  }
+
+  /**
+   * Get the value. Integers, longs, floats and doubles are boxed, use {@link #getLongValue()} or
+   * {@link #getDoubleValue()} to avoid this.
+   *
+   * @return the value
+   */
   public Number getValue() {
-    return number;
+    return switch (numberType) {
+      case INTEGER -> Integer.valueOf((int) longValue);
+      case LONG -> Long.valueOf(longValue);
+      case FLOAT -> Float.valueOf((float) doubleValue);
+      case DOUBLE -> Double.valueOf(doubleValue);
+      case BIG_INTEGER, BIG_DECIMAL -> bigNumber;
+    };
+  }
+
+  /**
+   * Get the type of the value.
+   *
+   * @return the type of the value
+   */
+  public NumberType getNumberType() {
+    return numberType;
+  }
+
+  /**
+   * Get the value as a {@code long} value, converted as by {@link Number#longValue()}.
+   *
+   * @return the value
+   */
+  public long getLongValue() {
+    return switch (numberType) {
+      case INTEGER, LONG -> longValue;
+      case FLOAT, DOUBLE -> (long) doubleValue;
+      case BIG_INTEGER, BIG_DECIMAL -> bigNumber.longValue();
+    };
+  }
+
+  /**
+   * Get the value as a {@code double} value, converted as by {@link Number#doubleValue()}.
+   *
+   * @return the value
+   */
+  public double getDoubleValue() {
+    return switch (numberType) {
+      case INTEGER, LONG -> (double) longValue;
+      case FLOAT, DOUBLE -> doubleValue;
+      case BIG_INTEGER, BIG_DECIMAL -> bigNumber.doubleValue();
+    };
+  }
+
+  /**
+   * Get the string representation of the value, which equals {@code String.valueOf(getValue())}.
+   *
+   * @return the string representation of the value
+   */
+  public String getValueAsString() {
+    return switch (numberType) {
+      case INTEGER, LONG -> Long.toString(longValue);
+      case FLOAT -> Float.toString((float) doubleValue);
+      case DOUBLE -> Double.toString(doubleValue);
+      case BIG_INTEGER, BIG_DECIMAL -> bigNumber.toString();
+    };
   }
 
   @Override
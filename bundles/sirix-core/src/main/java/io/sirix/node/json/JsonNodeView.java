@@ -0,0 +1,577 @@
+package io.sirix.node.json;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.access.trx.node.HashType;
+import io.sirix.node.NodeKind;
+import io.sirix.node.SirixDeweyID;
+import io.sirix.node.interfaces.Node;
+import io.sirix.node.interfaces.RecordView;
+import io.sirix.settings.Constants;
+import io.sirix.settings.Fixed;
+import net.openhft.chronicle.bytes.Bytes;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A reusable, read-only view of a serialized JSON node, which decodes the structural fields of the
+ * node (the node kind, the keys of the neighbours, the hash, the child and descendant counts...)
+ * directly from the slot of a record page instead of deserializing the node.
+ *
+ * <p>The fields are decoded in the same order as they are written by the serializers in
+ * {@link NodeKind}, which must be kept in sync. Values (apart from booleans) and DeweyIDs are not
+ * decoded, the node has to be deserialized to retrieve them. Numbers, which are no primitives, are
+ * not supported by the view at all, primitive numbers are decoded.</p>
+ *
+ * <strong>This class is not part of the public API and might change.</strong>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonNodeView implements RecordView {
+
+  private static final VarHandle INT_HANDLE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+  private static final VarHandle LONG_HANDLE =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+  private static final long NULL_NODE_KEY = Fixed.NULL_NODE_KEY.getStandardProperty();
+
+  private final boolean storeHash;
+
+  private final boolean storeChildCount;
+
+  /**
+   * The serialized record, if it's stored on-heap.
+   */
+  private byte[] bytes;
+
+  /**
+   * The serialized record, if it's stored off-heap.
+   */
+  private MemorySegment segment;
+
+  /**
+   * The read position in the serialized record.
+   */
+  private long position;
+
+  private NodeKind kind;
+
+  private long nodeKey;
+
+  private long parentKey;
+
+  private int previousRevision;
+
+  private int lastModifiedRevision;
+
+  private long hash;
+
+  private long pathNodeKey;
+
+  private int nameKey;
+
+  private boolean booleanValue;
+
+  private NumberType numberType;
+
+  private long longValue;
+
+  private double doubleValue;
+
+  private long rightSibling;
+
+  private long leftSibling;
+
+  private long firstChild;
+
+  private long lastChild;
+
+  private long childCount;
+
+  private long descendantCount;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceConfig the configuration of the resource, which determines the serialized fields
+   */
+  public JsonNodeView(final ResourceConfiguration resourceConfig) {
+    this.storeHash = resourceConfig.hashType != HashType.NONE;
+    this.storeChildCount = resourceConfig.storeChildCount();
+  }
+
+  @Override
+  public boolean moveTo(final long recordKey, final MemorySegment serializedRecord) {
+    bytes = null;
+    segment = serializedRecord;
+    return decode(recordKey);
+  }
+
+  @Override
+  public boolean moveTo(final long recordKey, final byte[] serializedRecord) {
+    bytes = serializedRecord;
+    segment = null;
+    return decode(recordKey);
+  }
+
+  private boolean decode(final long recordKey) {
+    position = 0;
+    nodeKey = recordKey;
+    hash = 0;
+    pathNodeKey = -1;
+    nameKey = -1;
+    booleanValue = false;
+    numberType = null;
+    longValue = 0;
+    doubleValue = 0;
+    rightSibling = NULL_NODE_KEY;
+    leftSibling = NULL_NODE_KEY;
+    firstChild = NULL_NODE_KEY;
+    lastChild = NULL_NODE_KEY;
+    childCount = 0;
+    descendantCount = 0;
+
+    final NodeKind nodeKind = NodeKind.getKind(readByte());
+    if (nodeKind == null) {
+      return false;
+    }
+    // $CASES-OMITTED$
+    switch (nodeKind) {
+      case OBJECT -> {
+        readHash();
+        readNodeDelegate();
+        readObjectOrArrayStructDelegate();
+      }
+      case ARRAY -> {
+        readHash();
+        pathNodeKey = readLong();
+        readNodeDelegate();
+        readObjectOrArrayStructDelegate();
+      }
+      case OBJECT_KEY -> {
+        readHash();
+        nameKey = readInt();
+        pathNodeKey = readStopBit();
+        readNodeDelegate();
+        rightSibling = nodeKey - readStopBit();
+        leftSibling = nodeKey - readStopBit();
+        firstChild = nodeKey - readStopBit();
+        lastChild = Fixed.INVALID_KEY_FOR_TYPE_CHECK.getStandardProperty();
+        childCount = storeChildCount ? 1 : 0;
+        descendantCount = storeHash ? readStopBit() + 1 : 0;
+      }
+      case BOOLEAN_VALUE -> {
+        booleanValue = readByte() != 0;
+        readNodeDelegate();
+        readValueNodeSiblings();
+      }
+      case NUMBER_VALUE -> {
+        if (!readPrimitiveNumber()) {
+          return false;
+        }
+        readNodeDelegate();
+        readValueNodeSiblings();
+      }
+      case NULL_VALUE -> {
+        readNodeDelegate();
+        readValueNodeSiblings();
+      }
+      case STRING_VALUE -> {
+        readNodeDelegate();
+        skipStringValue();
+        readValueNodeSiblings();
+      }
+      case JSON_DOCUMENT -> {
+        nodeKey = Fixed.DOCUMENT_NODE_KEY.getStandardProperty();
+        parentKey = NULL_NODE_KEY;
+        previousRevision = Constants.NULL_REVISION_NUMBER;
+        lastModifiedRevision = Constants.NULL_REVISION_NUMBER;
+        pathNodeKey = 0;
+        firstChild = readStopBit();
+        lastChild = firstChild;
+        childCount = firstChild == NULL_NODE_KEY ? 0 : 1;
+        descendantCount = readLong();
+      }
+      case OBJECT_STRING_VALUE -> {
+        readNodeDelegate();
+      }
+      case OBJECT_BOOLEAN_VALUE -> {
+        booleanValue = readByte() != 0;
+        readNodeDelegate();
+      }
+      case OBJECT_NUMBER_VALUE -> {
+        if (!readPrimitiveNumber()) {
+          return false;
+        }
+        readNodeDelegate();
+      }
+      case OBJECT_NULL_VALUE -> {
+        readNodeDelegate();
+      }
+      default -> {
+        // Deleted nodes and nodes of other kinds have to be deserialized.
+        return false;
+      }
+    }
+    kind = nodeKind;
+    return true;
+  }
+
+  private void readHash() {
+    if (storeHash) {
+      hash = readLong();
+    }
+  }
+
+  private void readNodeDelegate() {
+    parentKey = nodeKey - readStopBit();
+    previousRevision = readInt();
+    lastModifiedRevision = readInt();
+  }
+
+  private void readObjectOrArrayStructDelegate() {
+    rightSibling = nodeKey - readStopBit();
+    leftSibling = nodeKey - readStopBit();
+    firstChild = nodeKey - readStopBit();
+    lastChild = nodeKey - readStopBit();
+    childCount = storeChildCount ? nodeKey - readStopBit() : 0;
+    descendantCount = storeHash ? readStopBit() + childCount : 0;
+  }
+
+  private void readValueNodeSiblings() {
+    rightSibling = nodeKey - readStopBit();
+    leftSibling = nodeKey - readStopBit();
+  }
+
+  private void skipStringValue() {
+    // The compression flag.
+    position++;
+    final int length = readInt();
+    position += length;
+  }
+
+  private boolean readPrimitiveNumber() {
+    switch (readByte()) {
+      case 0 -> {
+        numberType = NumberType.DOUBLE;
+        doubleValue = Double.longBitsToDouble(readLong());
+      }
+      case 1 -> {
+        numberType = NumberType.FLOAT;
+        doubleValue = Float.intBitsToFloat(readInt());
+      }
+      case 2 -> {
+        numberType = NumberType.INTEGER;
+        longValue = readInt();
+      }
+      case 3 -> {
+        numberType = NumberType.LONG;
+        longValue = readLong();
+      }
+      case 6 -> {
+        numberType = NumberType.INTEGER;
+        longValue = readStopBit();
+      }
+      case 7 -> {
+        numberType = NumberType.LONG;
+        longValue = readStopBit();
+      }
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private byte readByte() {
+    final long index = position++;
+    return bytes != null ? bytes[(int) index] : segment.get(ValueLayout.JAVA_BYTE, index);
+  }
+
+  private int readInt() {
+    final long index = position;
+    position += Integer.BYTES;
+    return bytes != null ? (int) INT_HANDLE.get(bytes, (int) index) : segment.get(ValueLayout.JAVA_INT_UNALIGNED, index);
+  }
+
+  private long readLong() {
+    final long index = position;
+    position += Long.BYTES;
+    return bytes != null
+        ? (long) LONG_HANDLE.get(bytes, (int) index)
+        : segment.get(ValueLayout.JAVA_LONG_UNALIGNED, index);
+  }
+
+  /**
+   * Read a stop bit encoded long value the same way as {@code BytesIn#readStopBit()}.
+   *
+   * @return the decoded value
+   */
+  private long readStopBit() {
+    long value = readByte();
+    if (value >= 0) {
+      return value;
+    }
+    value &= 0x7FL;
+    long b;
+    int shift = 7;
+    while ((b = readByte()) < 0) {
+      value |= (b & 0x7FL) << shift;
+      shift += 7;
+    }
+    if (b != 0) {
+      return value | (b << shift);
+    }
+    // Negative values are stored as their complement, terminated by a zero byte.
+    return ~value;
+  }
+
+  /**
+   * Get the key of the name of an object key node.
+   *
+   * @return the name key or {@code -1}, if the node isn't an object key node
+   */
+  public int getNameKey() {
+    return nameKey;
+  }
+
+  /**
+   * Get the value of a boolean node.
+   *
+   * @return the boolean value, {@code false} if the node isn't a boolean node
+   */
+  public boolean getBooleanValue() {
+    return booleanValue;
+  }
+
+  /**
+   * Get the type of the value of a number node.
+   *
+   * @return the number type or {@code null}, if the node isn't a number node
+   */
+  public NumberType getNumberType() {
+    return numberType;
+  }
+
+  /**
+   * Get the value of a number node as a {@code long} value.
+   *
+   * @return the value, converted as by {@link Number#longValue()}
+   */
+  public long getLongValue() {
+    return numberType != null && numberType.isFloatingPoint() ? (long) doubleValue : longValue;
+  }
+
+  /**
+   * Get the value of a number node as a {@code double} value.
+   *
+   * @return the value, converted as by {@link Number#doubleValue()}
+   */
+  public double getDoubleValue() {
+    return numberType != null && numberType.isFloatingPoint() ? doubleValue : (double) longValue;
+  }
+
+  @Override
+  public boolean isHashStored() {
+    return storeHash && (kind == NodeKind.OBJECT || kind == NodeKind.ARRAY || kind == NodeKind.OBJECT_KEY);
+  }
+
+  @Override
+  public long getPathNodeKey() {
+    return pathNodeKey;
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return kind;
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public long getParentKey() {
+    return parentKey;
+  }
+
+  @Override
+  public boolean hasParent() {
+    return parentKey != NULL_NODE_KEY;
+  }
+
+  @Override
+  public int getPreviousRevisionNumber() {
+    return previousRevision;
+  }
+
+  @Override
+  public int getLastModifiedRevisionNumber() {
+    return lastModifiedRevision;
+  }
+
+  @Override
+  public long getHash() {
+    if (!isHashStored()) {
+      throw new UnsupportedOperationException("The hash of a " + kind + " node is computed by the deserialized node.");
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean hasFirstChild() {
+    return firstChild != NULL_NODE_KEY;
+  }
+
+  @Override
+  public boolean hasLastChild() {
+    return lastChild != Fixed.INVALID_KEY_FOR_TYPE_CHECK.getStandardProperty() && lastChild != NULL_NODE_KEY;
+  }
+
+  @Override
+  public boolean hasLeftSibling() {
+    return leftSibling != NULL_NODE_KEY;
+  }
+
+  @Override
+  public boolean hasRightSibling() {
+    return rightSibling != NULL_NODE_KEY;
+  }
+
+  @Override
+  public long getChildCount() {
+    return childCount;
+  }
+
+  @Override
+  public long getDescendantCount() {
+    return descendantCount;
+  }
+
+  @Override
+  public long getFirstChildKey() {
+    return firstChild;
+  }
+
+  @Override
+  public long getLastChildKey() {
+    return lastChild;
+  }
+
+  @Override
+  public long getLeftSiblingKey() {
+    return leftSibling;
+  }
+
+  @Override
+  public long getRightSiblingKey() {
+    return rightSibling;
+  }
+
+  @Override
+  public boolean isSameItem(final @Nullable Node other) {
+    return other != null && other.getNodeKey() == nodeKey;
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    throw new UnsupportedOperationException("DeweyIDs are stored separately, deserialize the node.");
+  }
+
+  @Override
+  public byte[] getDeweyIDAsBytes() {
+    throw new UnsupportedOperationException("DeweyIDs are stored separately, deserialize the node.");
+  }
+
+  @Override
+  public long computeHash(final Bytes<ByteBuffer> bytes) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setDeweyID(final SirixDeweyID id) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setTypeKey(final int typeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setHash(final long hash) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setParentKey(final long nodeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setPreviousRevision(final int revision) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setLastModifiedRevision(final int revision) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setRightSiblingKey(final long nodeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setLeftSiblingKey(final long nodeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setFirstChildKey(final long nodeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setLastChildKey(final long nodeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void decrementChildCount() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void incrementChildCount() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void decrementDescendantCount() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void incrementDescendantCount() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setDescendantCount(final long descendantCount) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String toString() {
+    return "JsonNodeView{kind=" + kind + ", nodeKey=" + nodeKey + ", parentKey=" + parentKey + '}';
+  }
+}
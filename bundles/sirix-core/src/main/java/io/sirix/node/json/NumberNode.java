@@ -53,6 +53,28 @@ public final class NumberNode extends AbstractNumberNode {
     super(structNodeDelegate, number);
   }
 
+  /**
+   * Constructor for an integer or a long value.
+   *
+   * @param numberType the type of the value, either {@link NumberType#INTEGER} or {@link NumberType#LONG}
+   * @param value the number value
+   * @param structNodeDelegate delegate for {@link StructNode} implementation
+   */
+  public NumberNode(final NumberType numberType, final long value, final StructNodeDelegate structNodeDelegate) {
+    super(structNodeDelegate, numberType, value);
+  }
+
+  /**
+   * Constructor for a float or a double value.
+   *
+   * @param numberType the type of the value, either {@link NumberType#FLOAT} or {@link NumberType#DOUBLE}
+   * @param value the number value
+   * @param structNodeDelegate delegate for {@link StructNode} implementation
+   */
+  public NumberNode(final NumberType numberType, final double value, final StructNodeDelegate structNodeDelegate) {
+    super(structNodeDelegate, numberType, value);
+  }
+
   @Override
   public NodeKind getKind() {
     return NodeKind.NUMBER_VALUE;
@@ -0,0 +1,80 @@
+package io.sirix.node.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * The type of the value of a JSON number node. Integers and longs are stored as primitive
+ * {@code long} values, floats and doubles as primitive {@code double} values, big numbers as
+ * {@link Number} instances.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum NumberType {
+  /**
+   * A {@code double} value.
+   */
+  DOUBLE,
+
+  /**
+   * A {@code float} value.
+   */
+  FLOAT,
+
+  /**
+   * An {@code int} value.
+   */
+  INTEGER,
+
+  /**
+   * A {@code long} value.
+   */
+  LONG,
+
+  /**
+   * A {@link BigInteger} value.
+   */
+  BIG_INTEGER,
+
+  /**
+   * A {@link BigDecimal} value.
+   */
+  BIG_DECIMAL;
+
+  /**
+   * Get the type of a number.
+   *
+   * @param number the number
+   * @return the type of the number
+   * @throws IllegalArgumentException if the type of the number isn't supported
+   */
+  public static NumberType of(final Number number) {
+    return switch (number) {
+      case Double ignored -> DOUBLE;
+      case Float ignored -> FLOAT;
+      case Integer ignored -> INTEGER;
+      case Long ignored -> LONG;
+      case BigInteger ignored -> BIG_INTEGER;
+      case BigDecimal ignored -> BIG_DECIMAL;
+      case null, default -> throw new IllegalArgumentException("Number type not supported: " + number);
+    };
+  }
+
+  /**
+   * Determines if the value is stored as a primitive {@code long} value.
+   *
+   * @return {@code true}, if it's an integer or a long value
+   */
+  public boolean isIntegral() {
+    return this == INTEGER || this == LONG;
+  }
+
+  /**
+   * Determines if the value is stored as a primitive {@code double} value.
+   *
+   * @return {@code true}, if it's a float or a double value
+   */
+  public boolean isFloatingPoint() {
+    return this == DOUBLE || this == FLOAT;
+  }
+}
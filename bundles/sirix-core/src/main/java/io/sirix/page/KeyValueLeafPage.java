@@ -38,6 +38,7 @@ import io.sirix.page.interfaces.KeyValuePage;
 import io.sirix.settings.Constants;
 import io.sirix.utils.ArrayIterator;
 
+import java.lang.foreign.MemorySegment;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,8 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * <p>
  * An UnorderedKeyValuePage stores a set of records, commonly nodes in an unordered data structure.
@@ -111,6 +114,16 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
    */
   private final ResourceConfiguration resourceConfig;
 
+  /**
+   * Slots and DeweyIDs stored off-heap (if the page has been restored from the off-heap page cache).
+   */
+  private final @Nullable OffHeapSlots offHeapSlots;
+
+  /**
+   * Determines if the off-heap slots and DeweyIDs have been copied into the on-heap arrays.
+   */
+  private boolean isMaterialized;
+
   private volatile BytesOut<?> bytes;
 
   private volatile byte[] hashCode;
@@ -118,7 +131,9 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
   private int hash;
 
   /**
-   * Copy constructor.
+   * Copy constructor. Off-heap slots and DeweyIDs of the page to clone are copied into the heap
+   * arrays of the copy, as the off-heap memory is only kept alive as long as the page to clone is
+   * reachable.
    *
    * @param pageToClone the page to clone
    */
@@ -135,6 +150,20 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
     this.resourceConfig = pageToClone.resourceConfig;
     this.revision = pageToClone.revision;
     this.areDeweyIDsStored = pageToClone.areDeweyIDsStored;
+    this.offHeapSlots = null;
+    this.isMaterialized = false;
+
+    final var offHeapSlotsToClone = pageToClone.offHeapSlots;
+    if (offHeapSlotsToClone != null && !pageToClone.isMaterialized) {
+      for (int i = 0; i < slots.length; i++) {
+        if (slots[i] == null) {
+          slots[i] = offHeapSlotsToClone.getSlotAsBytes(i);
+        }
+        if (deweyIds[i] == null) {
+          deweyIds[i] = offHeapSlotsToClone.getDeweyIdAsBytes(i);
+        }
+      }
+    }
   }
 
   /**
@@ -160,6 +189,7 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
     this.deweyIds = new byte[Constants.NDP_NODE_COUNT][];
     this.revision = revisionNumber;
     this.areDeweyIDsStored = resourceConfig.areDeweyIDsStored;
+    this.offHeapSlots = null;
   }
 
   /**
@@ -189,6 +219,34 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
     this.deweyIds = deweyIds;
     this.references = references;
     this.records = new DataRecord[Constants.NDP_NODE_COUNT];
+    this.offHeapSlots = null;
+  }
+
+  /**
+   * Constructor which restores a {@link KeyValueLeafPage} from its off-heap slots. The slots are not
+   * copied onto the heap, records are deserialized directly from off-heap memory.
+   *
+   * @param recordPageKey  This is the base key of all contained nodes.
+   * @param revision       The revision of the page.
+   * @param indexType      The index type.
+   * @param resourceConfig The resource configuration.
+   * @param references     References to overflow pages.
+   * @param offHeapSlots   The off-heap slots and DeweyIDs of the page.
+   */
+  public KeyValueLeafPage(final long recordPageKey, final int revision, final IndexType indexType,
+      final ResourceConfiguration resourceConfig, final Map<Long, PageReference> references,
+      final OffHeapSlots offHeapSlots) {
+    this.recordPageKey = recordPageKey;
+    this.revision = revision;
+    this.indexType = indexType;
+    this.resourceConfig = resourceConfig;
+    this.areDeweyIDsStored = resourceConfig.areDeweyIDsStored;
+    this.recordPersister = resourceConfig.recordPersister;
+    this.references = references;
+    this.records = new DataRecord[Constants.NDP_NODE_COUNT];
+    this.slots = new byte[Constants.NDP_NODE_COUNT][];
+    this.deweyIds = new byte[Constants.NDP_NODE_COUNT][];
+    this.offHeapSlots = requireNonNull(offHeapSlots);
   }
 
   @Override
@@ -204,7 +262,51 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public byte[] getSlot(int slotNumber) {
-    return slots[slotNumber];
+    final byte[] slot = slots[slotNumber];
+    if (slot == null && offHeapSlots != null && !isMaterialized) {
+      return offHeapSlots.getSlotAsBytes(slotNumber);
+    }
+    return slot;
+  }
+
+  /**
+   * Get a view of an off-heap slot, if the slot is only stored off-heap.
+   *
+   * @param slotNumber the slot number
+   * @return the off-heap slot or {@code null}, if the slot is empty or stored on-heap
+   */
+  public @Nullable MemorySegment getOffHeapSlot(int slotNumber) {
+    if (offHeapSlots == null || isMaterialized || slots[slotNumber] != null) {
+      return null;
+    }
+    return offHeapSlots.getSlot(slotNumber);
+  }
+
+  /**
+   * Get the off-heap slots and DeweyIDs.
+   *
+   * @return the off-heap slots or {@code null}, if the page isn't backed by off-heap memory
+   */
+  public @Nullable OffHeapSlots getOffHeapSlots() {
+    return offHeapSlots;
+  }
+
+  /**
+   * Copy all off-heap slots and DeweyIDs, which haven't been set on-heap, into the on-heap arrays.
+   */
+  private void materialize() {
+    if (offHeapSlots == null || isMaterialized) {
+      return;
+    }
+    for (int i = 0; i < slots.length; i++) {
+      if (slots[i] == null) {
+        slots[i] = offHeapSlots.getSlotAsBytes(i);
+      }
+      if (deweyIds[i] == null) {
+        deweyIds[i] = offHeapSlots.getDeweyIdAsBytes(i);
+      }
+    }
+    isMaterialized = true;
   }
 
   @Override
@@ -233,10 +335,12 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
   }
 
   public byte[][] getSlots() {
+    materialize();
     return slots;
   }
 
   public byte[][] getDeweyIds() {
+    materialize();
     return deweyIds;
   }
 
@@ -270,6 +374,7 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public byte[][] slots() {
+    materialize();
     return slots;
   }
 
@@ -280,7 +385,11 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public byte[] getDeweyId(int offset) {
-    return deweyIds[offset];
+    final byte[] deweyId = deweyIds[offset];
+    if (deweyId == null && offHeapSlots != null && !isMaterialized) {
+      return offHeapSlots.getDeweyIdAsBytes(offset);
+    }
+    return deweyId;
   }
 
   @Override
@@ -290,6 +399,7 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public byte[][] deweyIds() {
+    materialize();
     return deweyIds;
   }
 
@@ -410,6 +520,15 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public int size() {
+    if (offHeapSlots != null && !isMaterialized) {
+      int count = 0;
+      for (int i = 0; i < records.length; i++) {
+        if (records[i] != null || slots[i] != null || offHeapSlots.hasSlot(i)) {
+          ++count;
+        }
+      }
+      return count + references.size();
+    }
     return getNumberOfNonNullEntries(records, slots) + references.size();
   }
 
@@ -443,6 +562,7 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
     Arrays.fill(records, null);
     Arrays.fill(slots, null);
     Arrays.fill(deweyIds, null);
+    isMaterialized = offHeapSlots != null;
     references.clear();
     return this;
   }
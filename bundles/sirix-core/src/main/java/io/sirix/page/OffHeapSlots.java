@@ -0,0 +1,245 @@
+package io.sirix.page;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable, slot-encoded records and DeweyIDs of a {@link KeyValueLeafPage}, which are stored in
+ * off-heap memory, such that they don't have to be traced by the garbage collector.
+ * <p>
+ * The layout is a header with an {@code (offset, length)} pair per record slot followed by an
+ * {@code (offset, length)} pair per DeweyID slot. A length of {@code -1} denotes an empty slot.
+ * The header is followed by the data itself.
+ * </p>
+ * <p>
+ * The memory is allocated from an arena of its own and reference counted: it's released as soon as
+ * the last reference is released, that is once the cache has evicted it and no page restored from
+ * it is still in use.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class OffHeapSlots {
+
+  private static final ValueLayout.OfInt LAYOUT_INT = ValueLayout.JAVA_INT_UNALIGNED;
+
+  private static final long ENTRY_SIZE = 2 * LAYOUT_INT.byteSize();
+
+  /**
+   * The arena of the off-heap memory.
+   */
+  private final Arena arena;
+
+  /**
+   * The off-heap memory.
+   */
+  private final MemorySegment segment;
+
+  /**
+   * The number of references.
+   */
+  private final AtomicInteger references;
+
+  /**
+   * The number of slots.
+   */
+  private final int numberOfSlots;
+
+  /**
+   * The number of non-empty record slots.
+   */
+  private final int numberOfRecords;
+
+  /**
+   * Constructor. The slots are initially referenced once (by the creator).
+   *
+   * @param arena           the arena of the off-heap memory
+   * @param segment         the off-heap memory
+   * @param numberOfSlots   the number of slots
+   * @param numberOfRecords the number of non-empty record slots
+   */
+  private OffHeapSlots(final Arena arena, final MemorySegment segment, final int numberOfSlots,
+      final int numberOfRecords) {
+    this.arena = arena;
+    this.segment = segment;
+    this.references = new AtomicInteger(1);
+    this.numberOfSlots = numberOfSlots;
+    this.numberOfRecords = numberOfRecords;
+  }
+
+  /**
+   * Copy the slots and DeweyIDs into off-heap memory. The returned instance is referenced once.
+   *
+   * @param slots    the record slots
+   * @param deweyIds the DeweyIDs
+   * @return the off-heap slots
+   */
+  public static OffHeapSlots of(final byte[][] slots, final byte[][] deweyIds) {
+    assert slots.length == deweyIds.length;
+
+    final int numberOfSlots = slots.length;
+    final long headerSize = 2 * numberOfSlots * ENTRY_SIZE;
+
+    long dataSize = 0;
+    int numberOfRecords = 0;
+    for (int i = 0; i < numberOfSlots; i++) {
+      if (slots[i] != null) {
+        dataSize += slots[i].length;
+        numberOfRecords++;
+      }
+      if (deweyIds[i] != null) {
+        dataSize += deweyIds[i].length;
+      }
+    }
+
+    final Arena arena = Arena.ofShared();
+    final MemorySegment segment = arena.allocate(headerSize + dataSize);
+
+    long dataOffset = headerSize;
+    for (int i = 0; i < numberOfSlots; i++) {
+      dataOffset = write(segment, i * ENTRY_SIZE, dataOffset, slots[i]);
+      dataOffset = write(segment, (numberOfSlots + i) * ENTRY_SIZE, dataOffset, deweyIds[i]);
+    }
+
+    return new OffHeapSlots(arena, segment, numberOfSlots, numberOfRecords);
+  }
+
+  /**
+   * Add a reference.
+   *
+   * @return {@code true}, if the reference has been added, {@code false}, if the off-heap memory
+   * has already been released
+   */
+  public boolean retain() {
+    int currentReferences;
+
+    do {
+      currentReferences = references.get();
+
+      if (currentReferences == 0) {
+        return false;
+      }
+    } while (!references.compareAndSet(currentReferences, currentReferences + 1));
+
+    return true;
+  }
+
+  /**
+   * Release a reference. The off-heap memory is freed, once the last reference has been released.
+   */
+  public void release() {
+    final int currentReferences = references.decrementAndGet();
+
+    if (currentReferences < 0) {
+      throw new IllegalStateException("The off-heap slots have already been released.");
+    }
+
+    if (currentReferences == 0) {
+      arena.close();
+    }
+  }
+
+  /**
+   * Determines if the off-heap memory is still allocated.
+   *
+   * @return {@code true}, if at least one reference hasn't been released
+   */
+  public boolean isAlive() {
+    return references.get() > 0;
+  }
+
+  private static long write(final MemorySegment segment, final long entryOffset, final long dataOffset,
+      final byte[] data) {
+    if (data == null) {
+      segment.set(LAYOUT_INT, entryOffset, 0);
+      segment.set(LAYOUT_INT, entryOffset + LAYOUT_INT.byteSize(), -1);
+      return dataOffset;
+    }
+    segment.set(LAYOUT_INT, entryOffset, (int) dataOffset);
+    segment.set(LAYOUT_INT, entryOffset + LAYOUT_INT.byteSize(), data.length);
+    MemorySegment.copy(data, 0, segment, ValueLayout.JAVA_BYTE, dataOffset, data.length);
+    return dataOffset + data.length;
+  }
+
+  private @Nullable MemorySegment slice(final long entryOffset) {
+    final int length = segment.get(LAYOUT_INT, entryOffset + LAYOUT_INT.byteSize());
+    if (length == -1) {
+      return null;
+    }
+    return segment.asSlice(segment.get(LAYOUT_INT, entryOffset), length);
+  }
+
+  /**
+   * Get a view of a record slot without copying it onto the heap.
+   *
+   * @param offset the slot offset
+   * @return the slot or {@code null}, if the slot is empty
+   */
+  public @Nullable MemorySegment getSlot(final int offset) {
+    return slice(offset * ENTRY_SIZE);
+  }
+
+  /**
+   * Determines if a record slot is non-empty.
+   *
+   * @param offset the slot offset
+   * @return {@code true}, if the slot is non-empty, {@code false} otherwise
+   */
+  public boolean hasSlot(final int offset) {
+    return segment.get(LAYOUT_INT, offset * ENTRY_SIZE + LAYOUT_INT.byteSize()) != -1;
+  }
+
+  /**
+   * Get a view of a DeweyID slot without copying it onto the heap.
+   *
+   * @param offset the slot offset
+   * @return the DeweyID or {@code null}, if the slot is empty
+   */
+  public @Nullable MemorySegment getDeweyId(final int offset) {
+    return slice((numberOfSlots + offset) * ENTRY_SIZE);
+  }
+
+  /**
+   * Copy a record slot onto the heap.
+   *
+   * @param offset the slot offset
+   * @return the slot or {@code null}, if the slot is empty
+   */
+  public byte @Nullable [] getSlotAsBytes(final int offset) {
+    final MemorySegment slot = getSlot(offset);
+    return slot == null ? null : slot.toArray(ValueLayout.JAVA_BYTE);
+  }
+
+  /**
+   * Copy a DeweyID onto the heap.
+   *
+   * @param offset the slot offset
+   * @return the DeweyID or {@code null}, if the slot is empty
+   */
+  public byte @Nullable [] getDeweyIdAsBytes(final int offset) {
+    final MemorySegment deweyId = getDeweyId(offset);
+    return deweyId == null ? null : deweyId.toArray(ValueLayout.JAVA_BYTE);
+  }
+
+  /**
+   * Get the number of non-empty record slots.
+   *
+   * @return the number of non-empty record slots
+   */
+  public int getNumberOfRecords() {
+    return numberOfRecords;
+  }
+
+  /**
+   * Get the size of the off-heap memory.
+   *
+   * @return the size in bytes
+   */
+  public long byteSize() {
+    return segment.byteSize();
+  }
+}
@@ -33,6 +33,7 @@ import io.sirix.access.ResourceConfiguration;
 import io.sirix.access.User;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.index.IndexType;
+import io.sirix.io.BytesUtils;
 import io.sirix.io.Reader;
 import io.sirix.node.Utils;
 import io.sirix.node.interfaces.DeweyIdSerializer;
@@ -51,10 +52,6 @@ import net.openhft.chronicle.bytes.BytesIn;
 import net.openhft.chronicle.bytes.BytesOut;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.*;
@@ -251,21 +248,13 @@ public enum PageKind {
         sink.writeLong(entry.getValue().getKey());
       }
 
-      keyValueLeafPage.setHashCode(Reader.hashFunction.hashBytes(sink.bytesForRead().toByteArray()).asBytes());
+      final ByteBuffer uncompressedPage = sink instanceof Bytes<?> bytesSink
+          ? BytesUtils.asByteBuffer(bytesSink)
+          : ByteBuffer.wrap(sink.bytesForRead().toByteArray());
 
-      final var byteArray = sink.bytesForRead().toByteArray();
+      keyValueLeafPage.setHashCode(Reader.hashFunction.hashBytes(uncompressedPage.duplicate()).asBytes());
 
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length)) {
-        try (final DataOutputStream dataOutput = new DataOutputStream(resourceConfig.byteHandlePipeline.serialize(output))) {
-          dataOutput.write(byteArray);
-          dataOutput.flush();
-        }
-        serializedPage = output.toByteArray();
-      } catch (IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      final ByteBuffer serializedPage = resourceConfig.byteHandlePipeline.serialize(uncompressedPage);
 
       keyValueLeafPage.setBytes(Bytes.wrapForRead(serializedPage));
     }
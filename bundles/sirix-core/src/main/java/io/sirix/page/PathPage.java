@@ -118,6 +118,25 @@ public final class PathPage extends AbstractForwardingPage {
    */
   public void createPathIndexTree(final DatabaseType databaseType, final PageReadOnlyTrx pageReadTrx, final int index,
       final TransactionIntentLog log) {
+    createIndexTree(databaseType, pageReadTrx, IndexType.PATH, index, log);
+  }
+
+  /**
+   * Initialize number column index tree. Number column indexes are referenced by this page, too, and
+   * are distinguished from the path indexes by their index numbers.
+   *
+   * @param databaseType The type of database.
+   * @param pageReadTrx  {@link PageReadOnlyTrx} instance
+   * @param index        the index number
+   * @param log          the transaction intent log
+   */
+  public void createNumberColumnIndexTree(final DatabaseType databaseType, final PageReadOnlyTrx pageReadTrx,
+      final int index, final TransactionIntentLog log) {
+    createIndexTree(databaseType, pageReadTrx, IndexType.NUMBER_COLUMN, index, log);
+  }
+
+  private void createIndexTree(final DatabaseType databaseType, final PageReadOnlyTrx pageReadTrx,
+      final IndexType indexType, final int index, final TransactionIntentLog log) {
     PageReference reference = getOrCreateReference(index);
     if (reference == null) {
       delegate = new BitmapReferencesPage(Constants.INP_REFERENCE_COUNT, (ReferencesPage4) delegate());
@@ -125,7 +144,7 @@ public final class PathPage extends AbstractForwardingPage {
     }
     if (reference.getPage() == null && reference.getKey() == Constants.NULL_ID_LONG
         && reference.getLogKey() == Constants.NULL_ID_INT) {
-      PageUtils.createTree(databaseType, reference, IndexType.PATH, pageReadTrx, log);
+      PageUtils.createTree(databaseType, reference, indexType, pageReadTrx, log);
       if (maxNodeKeys.get(index) == 0L) {
         maxNodeKeys.put(index, 0L);
       } else {
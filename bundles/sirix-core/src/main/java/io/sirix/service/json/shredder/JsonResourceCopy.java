@@ -32,6 +32,8 @@ import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.api.json.JsonResourceSession;
 import io.sirix.axis.DescendantAxis;
 import io.sirix.axis.IncludeSelf;
+import io.sirix.diff.ChangeLog;
+import io.sirix.diff.DiffTuple;
 import io.sirix.node.NodeKind;
 import io.sirix.service.InsertPosition;
 import io.sirix.service.ShredderCommit;
@@ -190,42 +192,17 @@ public final class JsonResourceCopy implements Callable<Void> {
     if (copyAllRevisionsUpToMostRecent) {
       wtx.commit();
 
+      final var changeLog = ChangeLog.of(readResourceSession.getResourceConfig());
+
       for (var revision = rtx.getRevisionNumber() + 1;
            revision <= rtx.getResourceSession().getMostRecentRevisionNumber(); revision++) {
         try (final var rtxOnRevision = readResourceSession.beginNodeReadOnlyTrx(revision)) {
-          final var updateOperationsFile = readResourceSession.getResourceConfig()
-                                                              .getResource()
-                                                              .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
-                                                              .resolve(
-                                                                  "diffFromRev" + (revision - 1) + "toRev" + revision
-                                                                      + ".json");
-
-          final JsonElement jsonElement;
-
-          try {
-            jsonElement = JsonParser.parseString(Files.readString(updateOperationsFile));
-          } catch (IOException e) {
-            throw new UncheckedIOException(e);
-          }
+          final var changes = changeLog.getChanges(revision);
 
-          final var jsonObject = jsonElement.getAsJsonObject();
-          final var diffsArray = jsonObject.getAsJsonArray("diffs");
-
-          for (final var diffsElement : diffsArray) {
-            final var diffsObject = diffsElement.getAsJsonObject();
-            if (diffsObject.has(INSERT)) {
-              final JsonObject insertObject = diffsObject.getAsJsonObject(INSERT);
-              executeInsert(insertObject, rtxOnRevision);
-            } else if (diffsObject.has(REPLACE)) {
-              final JsonObject replaceObject = diffsObject.getAsJsonObject(REPLACE);
-              executeReplace(replaceObject, rtxOnRevision);
-            } else if (diffsObject.has(UPDATE)) {
-              final JsonObject updateObject = diffsObject.getAsJsonObject(UPDATE);
-              executeUpdate(updateObject, rtxOnRevision);
-            } else if (diffsObject.has(DELETE)) {
-              final long nodeKey = diffsObject.getAsJsonPrimitive(DELETE).getAsLong();
-              executeDelete(nodeKey);
-            }
+          if (changes == null) {
+            replayUpdateOperationsFile(revision, rtxOnRevision);
+          } else {
+            replayChanges(changes, rtxOnRevision);
           }
 
           wtx.commit();
@@ -238,6 +215,86 @@ public final class JsonResourceCopy implements Callable<Void> {
     return null;
   }
 
+  private void replayChanges(final ChangeLog.RevisionChanges changes, final JsonNodeReadOnlyTrx rtxOnRevision) {
+    for (final DiffTuple diffTuple : changes.diffs()) {
+      switch (diffTuple.getDiff()) {
+        case INSERTED -> {
+          rtxOnRevision.moveTo(diffTuple.getNewNodeKey());
+          final var insertPosition = rtxOnRevision.hasLeftSibling() ? "asRightSibling" : "asFirstChild";
+          wtx.moveTo(rtxOnRevision.hasLeftSibling()
+                         ? rtxOnRevision.getLeftSiblingKey()
+                         : rtxOnRevision.getParentKey());
+          insert(getType(rtxOnRevision), rtxOnRevision, insertPosition);
+        }
+        case REPLACEDNEW -> {
+          rtxOnRevision.moveTo(diffTuple.getNewNodeKey());
+          replace(diffTuple.getOldNodeKey(), diffTuple.getNewNodeKey(), getType(rtxOnRevision), rtxOnRevision);
+        }
+        case UPDATED -> {
+          rtxOnRevision.moveTo(diffTuple.getOldNodeKey());
+          if (rtxOnRevision.isObjectKey()) {
+            wtx.moveTo(diffTuple.getOldNodeKey());
+            wtx.setObjectKeyName(rtxOnRevision.getName().getLocalName());
+          } else {
+            update(diffTuple.getOldNodeKey(), getType(rtxOnRevision), rtxOnRevision);
+          }
+        }
+        case DELETED -> executeDelete(diffTuple.getOldNodeKey());
+        // $CASES-OMITTED$
+        default -> {
+          // Not an update operation.
+        }
+      }
+    }
+  }
+
+  private static String getType(final JsonNodeReadOnlyTrx rtxOnRevision) {
+    return switch (rtxOnRevision.getKind()) {
+      case OBJECT_BOOLEAN_VALUE, BOOLEAN_VALUE -> "boolean";
+      case OBJECT_STRING_VALUE, STRING_VALUE -> "string";
+      case OBJECT_NULL_VALUE, NULL_VALUE -> "null";
+      case OBJECT_NUMBER_VALUE, NUMBER_VALUE -> "number";
+      default -> "jsonFragment";
+    };
+  }
+
+  private void replayUpdateOperationsFile(final int revision, final JsonNodeReadOnlyTrx rtxOnRevision) {
+    final var updateOperationsFile = readResourceSession.getResourceConfig()
+                                                        .getResource()
+                                                        .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
+                                                        .resolve(
+                                                            "diffFromRev" + (revision - 1) + "toRev" + revision
+                                                                + ".json");
+
+    final JsonElement jsonElement;
+
+    try {
+      jsonElement = JsonParser.parseString(Files.readString(updateOperationsFile));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    final var jsonObject = jsonElement.getAsJsonObject();
+    final var diffsArray = jsonObject.getAsJsonArray("diffs");
+
+    for (final var diffsElement : diffsArray) {
+      final var diffsObject = diffsElement.getAsJsonObject();
+      if (diffsObject.has(INSERT)) {
+        final JsonObject insertObject = diffsObject.getAsJsonObject(INSERT);
+        executeInsert(insertObject, rtxOnRevision);
+      } else if (diffsObject.has(REPLACE)) {
+        final JsonObject replaceObject = diffsObject.getAsJsonObject(REPLACE);
+        executeReplace(replaceObject, rtxOnRevision);
+      } else if (diffsObject.has(UPDATE)) {
+        final JsonObject updateObject = diffsObject.getAsJsonObject(UPDATE);
+        executeUpdate(updateObject, rtxOnRevision);
+      } else if (diffsObject.has(DELETE)) {
+        final long nodeKey = diffsObject.getAsJsonPrimitive(DELETE).getAsLong();
+        executeDelete(nodeKey);
+      }
+    }
+  }
+
   private void executeDelete(final long nodeKey) {
     wtx.moveTo(nodeKey);
     wtx.remove();
@@ -247,6 +304,10 @@ public final class JsonResourceCopy implements Callable<Void> {
     final var key = updateObject.get("nodeKey").getAsLong();
     final var type = updateObject.get("type").getAsString();
 
+    update(key, type, rtxOnRevision);
+  }
+
+  private void update(long key, String type, JsonNodeReadOnlyTrx rtxOnRevision) {
     rtxOnRevision.moveTo(key);
     wtx.moveTo(key);
 
@@ -261,6 +322,11 @@ public final class JsonResourceCopy implements Callable<Void> {
     final var oldNodeKey = replaceObject.get("oldNodeKey").getAsLong();
     final var newNodeKey = replaceObject.get("newNodeKey").getAsLong();
     final var type = replaceObject.get("type").getAsString();
+
+    replace(oldNodeKey, newNodeKey, type, rtxOnRevision);
+  }
+
+  private void replace(long oldNodeKey, long newNodeKey, String type, JsonNodeReadOnlyTrx rtxOnRevision) {
     wtx.moveTo(oldNodeKey);
     rtxOnRevision.moveTo(newNodeKey);
 
@@ -663,6 +663,24 @@ public final class JsonShredder implements Callable<Long> {
     }
   }
 
+  /**
+   * Create a new {@link JsonReader} instance on a file, which tokenizes the members of the outermost
+   * array or object in parallel (see {@link ParallelJsonReader}).
+   *
+   * @param path        the path to the file
+   * @param parallelism the number of threads, which tokenize the file
+   * @return an {@link JsonReader} instance
+   */
+  public static JsonReader createParallelFileReader(final Path path, final int parallelism) {
+    requireNonNull(path);
+
+    try {
+      return new ParallelJsonReader(new BufferedReader(new FileReader(path.toFile())), parallelism);
+    } catch (final FileNotFoundException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Create a new {@link JsonReader} instance on a String.
    *
@@ -0,0 +1,136 @@
+package io.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A tokenized partition of a JSON document: the tokens in document order along with the names,
+ * strings, numbers (as strings) and booleans they carry.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class JsonTokenBatch {
+
+  /**
+   * The batch, which denotes the end of the document.
+   */
+  static final JsonTokenBatch END_OF_DOCUMENT = new JsonTokenBatch(1).add(JsonToken.END_DOCUMENT, null);
+
+  private JsonToken[] tokens;
+
+  private Object[] values;
+
+  private int size;
+
+  /**
+   * Constructor.
+   *
+   * @param initialCapacity the initial number of tokens
+   */
+  JsonTokenBatch(final int initialCapacity) {
+    tokens = new JsonToken[Math.max(1, initialCapacity)];
+    values = new Object[tokens.length];
+  }
+
+  /**
+   * Tokenize the values read by the given reader, until the reader reaches the end of the document.
+   *
+   * @param reader          the reader
+   * @param skipRootToken   {@code true}, if the tokens of the outermost array or object must be
+   *                        skipped, {@code false} otherwise
+   * @param initialCapacity the initial number of tokens
+   * @return the batch of tokens
+   * @throws IOException if the JSON is malformed or can't be read
+   */
+  static JsonTokenBatch tokenize(final JsonReader reader, final boolean skipRootToken, final int initialCapacity)
+      throws IOException {
+    final var batch = new JsonTokenBatch(initialCapacity);
+    int level = 0;
+    JsonToken token;
+    while ((token = reader.peek()) != JsonToken.END_DOCUMENT) {
+      switch (token) {
+        case BEGIN_ARRAY -> {
+          reader.beginArray();
+          if (level++ != 0 || !skipRootToken) {
+            batch.add(token, null);
+          }
+        }
+        case END_ARRAY -> {
+          reader.endArray();
+          if (--level != 0 || !skipRootToken) {
+            batch.add(token, null);
+          }
+        }
+        case BEGIN_OBJECT -> {
+          reader.beginObject();
+          if (level++ != 0 || !skipRootToken) {
+            batch.add(token, null);
+          }
+        }
+        case END_OBJECT -> {
+          reader.endObject();
+          if (--level != 0 || !skipRootToken) {
+            batch.add(token, null);
+          }
+        }
+        case NAME -> batch.add(token, reader.nextName());
+        case STRING, NUMBER -> batch.add(token, reader.nextString());
+        case BOOLEAN -> batch.add(token, reader.nextBoolean());
+        case NULL -> {
+          reader.nextNull();
+          batch.add(token, null);
+        }
+        default -> throw new AssertionError("Unexpected token: " + token);
+      }
+    }
+    return batch;
+  }
+
+  /**
+   * Append a token.
+   *
+   * @param token the token
+   * @param value the name, string, number or boolean of the token, {@code null} otherwise
+   * @return this batch
+   */
+  JsonTokenBatch add(final JsonToken token, final Object value) {
+    if (size == tokens.length) {
+      tokens = Arrays.copyOf(tokens, size << 1);
+      values = Arrays.copyOf(values, size << 1);
+    }
+    tokens[size] = token;
+    values[size] = value;
+    size++;
+    return this;
+  }
+
+  /**
+   * @return the number of tokens
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Get the token at the given index.
+   *
+   * @param index the index
+   * @return the token
+   */
+  JsonToken token(final int index) {
+    return tokens[index];
+  }
+
+  /**
+   * Get the value of the token at the given index.
+   *
+   * @param index the index
+   * @return the name, string, number or boolean of the token, {@code null} otherwise
+   */
+  Object value(final int index) {
+    return values[index];
+  }
+}
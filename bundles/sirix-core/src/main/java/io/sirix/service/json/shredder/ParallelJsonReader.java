@@ -0,0 +1,382 @@
+package io.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link JsonReader}, which tokenizes a JSON document on several threads. The members of the
+ * outermost array or object are split into partitions of about the same size, which are tokenized
+ * in parallel by worker threads, while the tokens are still consumed in document order. Thus, it
+ * can be passed to the {@code insertSubtree} methods of a {@link io.sirix.api.json.JsonNodeTrx}
+ * (and the {@link JsonShredder}) to import huge arrays, whereas the single writer inserts the nodes
+ * exactly as with a sequential reader, such that the resulting resources are identical.
+ *
+ * <p>The partitions are split by a lightweight scanner, which only keeps track of the nesting depth
+ * and of strings. Comments, which are allowed by lenient readers, are thus not supported. At most
+ * two partitions per worker thread are buffered ahead of the consumer.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ParallelJsonReader extends JsonReader {
+
+  /**
+   * The default number of characters of a partition.
+   */
+  public static final int DEFAULT_PARTITION_SIZE = 1 << 20;
+
+  private static final int BUFFER_SIZE = 8_192;
+
+  private final Reader in;
+
+  private final int partitionSize;
+
+  private final ExecutorService workers;
+
+  /**
+   * The tokenized partitions in document order.
+   */
+  private final BlockingQueue<Future<JsonTokenBatch>> batches;
+
+  private final Thread splitter;
+
+  private JsonTokenBatch batch;
+
+  private int index;
+
+  /**
+   * Constructor with the default partition size.
+   *
+   * @param in          the reader of the JSON document
+   * @param parallelism the number of worker threads
+   */
+  public ParallelJsonReader(final Reader in, final int parallelism) {
+    this(in, parallelism, DEFAULT_PARTITION_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param in            the reader of the JSON document
+   * @param parallelism   the number of worker threads
+   * @param partitionSize the minimum number of characters of a partition (apart from the last one)
+   */
+  public ParallelJsonReader(final Reader in, final int parallelism, final int partitionSize) {
+    super(Reader.nullReader());
+    checkArgument(parallelism > 0, "The parallelism must be positive.");
+    checkArgument(partitionSize > 0, "The partition size must be positive.");
+    this.in = requireNonNull(in);
+    this.partitionSize = partitionSize;
+    setLenient(true);
+    workers = Executors.newFixedThreadPool(parallelism,
+                                           Thread.ofPlatform().daemon().name("sirix-json-tokenizer-", 0).factory());
+    batches = new ArrayBlockingQueue<>(parallelism << 1);
+    splitter = Thread.ofPlatform().daemon().name("sirix-json-splitter").start(this::split);
+  }
+
+  private void split() {
+    try {
+      try {
+        splitPartitions();
+      } catch (final InterruptedException e) {
+        throw e;
+      } catch (final Throwable t) {
+        // Hand any failure over to the consumer, which otherwise waits for the next partition forever.
+        batches.put(CompletableFuture.failedFuture(t));
+      }
+      batches.put(CompletableFuture.completedFuture(JsonTokenBatch.END_OF_DOCUMENT));
+    } catch (final InterruptedException e) {
+      // Closed by the consumer.
+      Thread.currentThread().interrupt();
+    } finally {
+      workers.shutdown();
+    }
+  }
+
+  private void splitPartitions() throws IOException, InterruptedException {
+    final char[] buffer = new char[BUFFER_SIZE];
+    StringBuilder partition = null;
+    boolean isPartitionEmpty = true;
+    char root = 0;
+    boolean isScalarRoot = false;
+    int depth = 0;
+    boolean inString = false;
+    boolean escaped = false;
+    char quote = 0;
+
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      for (int i = 0; i < read; i++) {
+        final char c = buffer[i];
+
+        if (root == 0 && !isScalarRoot) {
+          if (Character.isWhitespace(c) || c == '\uFEFF') {
+            continue;
+          }
+          if (c == '[' || c == '{') {
+            root = c;
+            depth = 1;
+            batches.put(CompletableFuture.completedFuture(rootTokenBatch(c == '[' ? JsonToken.BEGIN_ARRAY
+                                                                                   : JsonToken.BEGIN_OBJECT)));
+            partition = newPartition(root);
+            continue;
+          }
+          // Scalars aren't partitioned at all.
+          isScalarRoot = true;
+          partition = new StringBuilder();
+        }
+
+        if (isScalarRoot) {
+          partition.append(c);
+          continue;
+        }
+
+        if (inString) {
+          partition.append(c);
+          if (escaped) {
+            escaped = false;
+          } else if (c == '\\') {
+            escaped = true;
+          } else if (c == quote) {
+            inString = false;
+          }
+          continue;
+        }
+
+        switch (c) {
+          case '"', '\'' -> {
+            inString = true;
+            quote = c;
+            isPartitionEmpty = false;
+            partition.append(c);
+          }
+          case '[', '{' -> {
+            depth++;
+            isPartitionEmpty = false;
+            partition.append(c);
+          }
+          case ']', '}' -> {
+            if (--depth == 0) {
+              if (!isPartitionEmpty) {
+                submit(partition, root, true);
+              }
+              batches.put(CompletableFuture.completedFuture(rootTokenBatch(c == ']' ? JsonToken.END_ARRAY
+                                                                                     : JsonToken.END_OBJECT)));
+              // Content after the outermost array or object is ignored.
+              return;
+            }
+            partition.append(c);
+          }
+          case ',' -> {
+            if (depth == 1 && partition.length() >= partitionSize) {
+              submit(partition, root, true);
+              partition = newPartition(root);
+              isPartitionEmpty = true;
+            } else {
+              partition.append(c);
+            }
+          }
+          default -> {
+            if (!Character.isWhitespace(c)) {
+              isPartitionEmpty = false;
+            }
+            partition.append(c);
+          }
+        }
+      }
+    }
+
+    if (isScalarRoot) {
+      submit(partition, root, false);
+      return;
+    }
+
+    throw new EOFException("End of input");
+  }
+
+  private StringBuilder newPartition(final char root) {
+    return new StringBuilder(partitionSize + BUFFER_SIZE).append(root);
+  }
+
+  private void submit(final StringBuilder partition, final char root, final boolean isMemberPartition)
+      throws InterruptedException {
+    if (isMemberPartition) {
+      partition.append(root == '[' ? ']' : '}');
+    }
+    final String json = partition.toString();
+    batches.put(workers.submit(() -> {
+      final var reader = new JsonReader(new StringReader(json));
+      reader.setLenient(true);
+      return JsonTokenBatch.tokenize(reader, isMemberPartition, json.length() >> 3);
+    }));
+  }
+
+  private static JsonTokenBatch rootTokenBatch(final JsonToken token) {
+    return new JsonTokenBatch(1).add(token, null);
+  }
+
+  private void fill() throws IOException {
+    while (batch == null || index == batch.size()) {
+      try {
+        batch = batches.take().get();
+        index = 0;
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the next partition.");
+      } catch (final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof IOException ioException) {
+          throw ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw new IOException(cause);
+      }
+    }
+  }
+
+  private Object consume(final JsonToken expected) throws IOException {
+    final JsonToken token = peek();
+    if (token != expected) {
+      throw new IllegalStateException("Expected " + expected + " but was " + token);
+    }
+    return batch.value(index++);
+  }
+
+  @Override
+  public JsonToken peek() throws IOException {
+    fill();
+    return batch.token(index);
+  }
+
+  @Override
+  public void beginArray() throws IOException {
+    consume(JsonToken.BEGIN_ARRAY);
+  }
+
+  @Override
+  public void endArray() throws IOException {
+    consume(JsonToken.END_ARRAY);
+  }
+
+  @Override
+  public void beginObject() throws IOException {
+    consume(JsonToken.BEGIN_OBJECT);
+  }
+
+  @Override
+  public void endObject() throws IOException {
+    consume(JsonToken.END_OBJECT);
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    final JsonToken token = peek();
+    return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+  }
+
+  @Override
+  public String nextName() throws IOException {
+    return (String) consume(JsonToken.NAME);
+  }
+
+  @Override
+  public String nextString() throws IOException {
+    final JsonToken token = peek();
+    if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+      throw new IllegalStateException("Expected a string but was " + token);
+    }
+    return (String) batch.value(index++);
+  }
+
+  @Override
+  public boolean nextBoolean() throws IOException {
+    return (Boolean) consume(JsonToken.BOOLEAN);
+  }
+
+  @Override
+  public void nextNull() throws IOException {
+    consume(JsonToken.NULL);
+  }
+
+  @Override
+  public double nextDouble() throws IOException {
+    return Double.parseDouble(nextString());
+  }
+
+  @Override
+  public long nextLong() throws IOException {
+    final String value = nextString();
+    try {
+      return Long.parseLong(value);
+    } catch (final NumberFormatException e) {
+      final double doubleValue = Double.parseDouble(value);
+      final long longValue = (long) doubleValue;
+      if (longValue != doubleValue) {
+        throw new NumberFormatException("Expected a long but was " + value);
+      }
+      return longValue;
+    }
+  }
+
+  @Override
+  public int nextInt() throws IOException {
+    final long value = nextLong();
+    if ((int) value != value) {
+      throw new NumberFormatException("Expected an int but was " + value);
+    }
+    return (int) value;
+  }
+
+  @Override
+  public void skipValue() throws IOException {
+    int depth = 0;
+    do {
+      final JsonToken token = peek();
+      if (token == JsonToken.END_DOCUMENT) {
+        return;
+      }
+      index++;
+      switch (token) {
+        case BEGIN_ARRAY, BEGIN_OBJECT -> depth++;
+        case END_ARRAY, END_OBJECT -> depth--;
+        default -> {
+        }
+      }
+    } while (depth > 0);
+  }
+
+  @Override
+  public String getPath() {
+    // Paths aren't tracked across partitions.
+    return "$";
+  }
+
+  @Override
+  public void close() throws IOException {
+    splitter.interrupt();
+    workers.shutdownNow();
+    in.close();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName();
+  }
+}
@@ -11,6 +11,9 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+
 /**
  * Test case for de-/serialization of {@link DatabaseConfiguration}s.
  * 
@@ -44,4 +47,25 @@ public class DatabaseConfigurationTest {
         DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile());
     assertEquals(conf.toString(), serializedConf.toString());
   }
+
+  /**
+   * The default memory budget depends on the heap of the JVM opening the database, thus only an
+   * explicitly set budget is persisted.
+   */
+  @Test
+  public void testDeSerializeMaxBufferMemory() throws IOException {
+    final DatabaseConfiguration conf = new DatabaseConfiguration(XmlTestHelper.PATHS.PATH1.getFile());
+    assertTrue(Databases.createXmlDatabase(conf));
+    assertTrue(Files.readString(conf.getConfigFile()).contains("\"maxBufferMemory\":0"));
+    assertEquals(DatabaseConfiguration.getDefaultMaxBufferMemory(),
+                 DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile()).getMaxBufferMemory());
+
+    XmlTestHelper.deleteEverything();
+
+    final DatabaseConfiguration confWithBudget =
+        new DatabaseConfiguration(XmlTestHelper.PATHS.PATH1.getFile()).setMaxBufferMemory(1L << 20);
+    assertTrue(Databases.createXmlDatabase(confWithBudget));
+    assertEquals(1L << 20,
+                 DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile()).getMaxBufferMemory());
+  }
 }
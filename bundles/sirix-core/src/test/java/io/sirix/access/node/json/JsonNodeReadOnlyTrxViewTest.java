@@ -0,0 +1,102 @@
+package io.sirix.access.node.json;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.axis.DescendantAxis;
+import io.sirix.axis.IncludeSelf;
+import io.sirix.node.NodeKind;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Navigates a read-only transaction, which decodes the nodes lazily from their serialized form, and
+ * compares it with the deserialized nodes of a write transaction.
+ */
+public class JsonNodeReadOnlyTrxViewTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    JsonTestHelper.createTestDocument();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testNavigationMatchesDeserializedNodes() {
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var rtx = session.beginNodeReadOnlyTrx();
+         final var wtx = session.beginNodeTrx()) {
+      int nodes = 0;
+      for (final long nodeKey : new DescendantAxis(rtx, IncludeSelf.YES)) {
+        assertTrue(wtx.moveTo(nodeKey));
+        assertSameNode(wtx, rtx);
+        nodes++;
+      }
+      assertTrue(rtx.moveToDocumentRoot());
+      assertEquals(rtx.getDescendantCount() + 1, nodes);
+    }
+  }
+
+  @Test
+  public void testMaterializeAfterNavigation() {
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var rtx = session.beginNodeReadOnlyTrx();
+         final var wtx = session.beginNodeTrx()) {
+      for (final long nodeKey : new DescendantAxis(rtx)) {
+        assertTrue(wtx.moveTo(nodeKey));
+        // Values, DeweyIDs and the immutable node require the deserialized node.
+        assertEquals(wtx.getValue(), rtx.getValue());
+        assertEquals(wtx.getNode().getNodeKey(), rtx.getNode().getNodeKey());
+        assertSameNode(wtx, rtx);
+      }
+    }
+  }
+
+  @Test
+  public void testFailedMoveKeepsCurrentNode() {
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var rtx = session.beginNodeReadOnlyTrx()) {
+      assertTrue(rtx.moveToFirstChild());
+      assertTrue(rtx.moveToFirstChild());
+      final long nodeKey = rtx.getNodeKey();
+      final NodeKind kind = rtx.getKind();
+
+      assertFalse(rtx.moveTo(rtx.getMaxNodeKey() + 1));
+      assertEquals(nodeKey, rtx.getNodeKey());
+      assertEquals(kind, rtx.getKind());
+      assertTrue(rtx.moveToParent());
+    }
+  }
+
+  private static void assertSameNode(final JsonNodeReadOnlyTrx expected, final JsonNodeReadOnlyTrx actual) {
+    assertEquals(expected.getNodeKey(), actual.getNodeKey());
+    assertEquals(expected.getKind(), actual.getKind());
+    assertEquals(expected.getParentKey(), actual.getParentKey());
+    assertEquals(expected.getFirstChildKey(), actual.getFirstChildKey());
+    assertEquals(expected.getLeftSiblingKey(), actual.getLeftSiblingKey());
+    assertEquals(expected.getRightSiblingKey(), actual.getRightSiblingKey());
+    assertEquals(expected.getChildCount(), actual.getChildCount());
+    assertEquals(expected.getDescendantCount(), actual.getDescendantCount());
+    assertEquals(expected.getHash(), actual.getHash());
+    assertEquals(expected.getPathNodeKey(), actual.getPathNodeKey());
+    assertEquals(expected.getPreviousRevisionNumber(), actual.getPreviousRevisionNumber());
+    assertEquals(expected.getNameKey(), actual.getNameKey());
+    assertEquals(expected.getName(), actual.getName());
+    assertEquals(expected.hasLastChild(), actual.hasLastChild());
+    if (expected.isBooleanValue()) {
+      assertEquals(expected.getBooleanValue(), actual.getBooleanValue());
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package io.sirix.access.node.json;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.access.Databases;
+import io.sirix.access.DurabilityMode;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JsonNodeTrxDurabilityTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testGroupCommit() {
+    createResource(DurabilityMode.GROUP_COMMIT);
+
+    try (final var database = Databases.openJsonDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[1,2,3]"));
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertNumberValueAsFirstChild(0);
+      wtx.commit();
+
+      assertEquals(2, manager.getMostRecentRevisionNumber());
+    }
+
+    assertRevisions(2);
+  }
+
+  @Test
+  public void testAsyncCommit() throws Exception {
+    createResource(DurabilityMode.ASYNC);
+
+    try (final var database = Databases.openJsonDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[1,2,3]"), JsonNodeTrx.Commit.NO);
+      final var firstCommit = wtx.commitAsync("first");
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertNumberValueAsFirstChild(0);
+      final var secondCommit = wtx.commitAsync("second");
+
+      assertEquals(2, manager.getMostRecentRevisionNumber());
+      assertEquals(Integer.valueOf(1), firstCommit.get(5, TimeUnit.SECONDS));
+      assertEquals(Integer.valueOf(2), secondCommit.get(5, TimeUnit.SECONDS));
+    }
+
+    assertRevisions(2);
+  }
+
+  @Test
+  public void testAsyncCommitIsDurableAfterClose() {
+    createResource(DurabilityMode.ASYNC);
+
+    try (final var database = Databases.openJsonDatabase(JsonTestHelper.PATHS.PATH1.getFile())) {
+      final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+      final var wtx = manager.beginNodeTrx();
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[1,2,3]"), JsonNodeTrx.Commit.NO);
+      final var commit = wtx.commitAsync("first");
+
+      // Closing the resource session forces all pending commits.
+      wtx.close();
+      manager.close();
+      assertTrue(commit.isDone());
+    }
+
+    assertRevisions(1);
+  }
+
+  private static void createResource(final DurabilityMode durabilityMode) {
+    JsonTestHelper.createDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+
+    try (final var database = Databases.openJsonDatabase(JsonTestHelper.PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE)
+                                                   .durabilityMode(durabilityMode, Duration.ofMillis(20))
+                                                   .build());
+    }
+  }
+
+  private static void assertRevisions(final int expectedRevisionNumber) {
+    try (final var database = Databases.openJsonDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      assertEquals(expectedRevisionNumber, manager.getMostRecentRevisionNumber());
+      assertNotEquals(DurabilityMode.SYNC, manager.getResourceConfig().durabilityMode);
+      assertTrue(rtx.moveToFirstChild());
+      assertTrue(rtx.isArray());
+    }
+  }
+}
@@ -1,9 +1,9 @@
 package io.sirix.access.node.json;
 
-import io.sirix.access.ResourceConfiguration;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.axis.DescendantAxis;
+import io.sirix.diff.JsonDiffSerializer;
 import io.brackit.query.atomic.QNm;
 import org.junit.After;
 import org.junit.Assert;
@@ -207,12 +207,8 @@ public class JsonNodeTrxUpdateTest {
       wtx.setBooleanValue(true);
       wtx.commit();
 
-      final var diffPath = manager.getResourceConfig()
-                                  .getResource()
-                                  .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
-                                  .resolve("diffFromRev1toRev2.json");
-
-      assertEquals(Files.readString(JSON.resolve("diffFromRev1toRev2.json")), Files.readString(diffPath));
+      assertEquals(Files.readString(JSON.resolve("diffFromRev1toRev2.json")),
+                   JsonDiffSerializer.serializeUpdateOperations(database.getName(), manager, 2));
     }
   }
 
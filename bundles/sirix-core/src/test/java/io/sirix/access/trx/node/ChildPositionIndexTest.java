@@ -0,0 +1,77 @@
+package io.sirix.access.trx.node;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Moves to the elements of a large JSON array by their position.
+ */
+public final class ChildPositionIndexTest {
+
+  private static final int ELEMENTS = 10 * ChildPositionIndex.MIN_POSITION + 7;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testMoveToChildAtPosition() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(
+            IntStream.range(0, ELEMENTS).mapToObj(Integer::toString).collect(Collectors.joining(",", "[", "]"))));
+
+        // Uncommitted changes are navigated without the index.
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        assertTrue(wtx.moveToChildAtPosition(ELEMENTS - 2));
+        assertEquals(ELEMENTS - 2, wtx.getNumberValue().intValue());
+        wtx.commit();
+      }
+
+      try (final var rtx = session.beginNodeReadOnlyTrx()) {
+        rtx.moveToFirstChild();
+        final long arrayNodeKey = rtx.getNodeKey();
+
+        // Positions covered by the recorded skip entries as well as positions behind them, which are
+        // either recorded on the way or reached from the last child.
+        for (final int position : new int[] { 0, 1, 63, 64, 65, ChildPositionIndex.MIN_POSITION, ELEMENTS / 2,
+            ChildPositionIndex.MIN_POSITION + ChildPositionIndex.SKIP_INTERVAL + 1, ELEMENTS / 2 + 1, ELEMENTS - 1,
+            ELEMENTS - 2 }) {
+          rtx.moveTo(arrayNodeKey);
+          assertTrue(rtx.moveToChildAtPosition(position));
+          assertEquals(position, rtx.getNumberValue().intValue());
+        }
+
+        rtx.moveTo(arrayNodeKey);
+        assertFalse(rtx.moveToChildAtPosition(ELEMENTS));
+        assertFalse(rtx.moveToChildAtPosition(-1));
+        assertEquals(arrayNodeKey, rtx.getNodeKey());
+      }
+
+      // Another transaction on the same revision uses the shared skip entries.
+      try (final var rtx = session.beginNodeReadOnlyTrx()) {
+        rtx.moveToFirstChild();
+        assertTrue(rtx.moveToChildAtPosition(ELEMENTS - 3));
+        assertEquals(ELEMENTS - 3, rtx.getNumberValue().intValue());
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package io.sirix.access.trx.node;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.api.NodeReadOnlyTrx;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Opens read-only transactions on a shared resource session from many threads concurrently.
+ */
+public final class ConcurrentReadOnlyTrxTest {
+
+  private static final int THREADS = 16;
+
+  private static final int TRANSACTIONS_PER_THREAD = 50;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    JsonTestHelper.createTestDocument();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testConcurrentlyOpenedReadOnlyTrxs() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      final long descendantCount;
+      try (final var rtx = session.beginNodeReadOnlyTrx()) {
+        descendantCount = rtx.getDescendantCount();
+      }
+
+      final var executor = Executors.newFixedThreadPool(THREADS);
+      try {
+        final List<CompletableFuture<List<Long>>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+          futures.add(CompletableFuture.supplyAsync(() -> {
+            final List<Long> ids = new ArrayList<>();
+            for (int j = 0; j < TRANSACTIONS_PER_THREAD; j++) {
+              try (final var rtx = session.beginNodeReadOnlyTrx()) {
+                assertEquals(descendantCount, rtx.getDescendantCount());
+                ids.add(rtx.getId());
+              }
+            }
+            return ids;
+          }, executor));
+        }
+
+        final Set<Long> ids = new HashSet<>();
+        futures.forEach(future -> ids.addAll(future.join()));
+        assertEquals(THREADS * TRANSACTIONS_PER_THREAD, ids.size());
+      } finally {
+        executor.shutdown();
+      }
+    }
+  }
+
+  @Test
+  public void testReadOnlyTrxsOpenedWhileClosingAreClosed() throws InterruptedException {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+
+    final var executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final var started = new CountDownLatch(THREADS);
+      final List<CompletableFuture<List<NodeReadOnlyTrx>>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(CompletableFuture.supplyAsync(() -> {
+          final List<NodeReadOnlyTrx> trxs = new ArrayList<>();
+          started.countDown();
+          try {
+            while (true) {
+              trxs.add(session.beginNodeReadOnlyTrx());
+            }
+          } catch (final IllegalStateException e) {
+            // Session has been closed.
+            return trxs;
+          }
+        }, executor));
+      }
+
+      started.await();
+      session.close();
+
+      // Every transaction, which has been handed out, must have been closed by the session.
+      futures.forEach(future -> future.join().forEach(rtx -> assertTrue(rtx.isClosed())));
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
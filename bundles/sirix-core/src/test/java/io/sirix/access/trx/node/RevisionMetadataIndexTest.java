@@ -0,0 +1,82 @@
+package io.sirix.access.trx.node;
+
+import io.sirix.access.User;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link RevisionMetadataIndex}.
+ */
+public final class RevisionMetadataIndexTest {
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testAppendAndGetRevisionInfo() {
+    final var user = new User("Johannes Lichtenberger", UUID.randomUUID());
+
+    try (final var index = new RevisionMetadataIndex(folder.getRoot().toPath())) {
+      index.append(1, 1_000, user, null);
+      index.append(2, 2_000, user, "Insert elements");
+
+      final var firstRevision = index.getRevisionInfo(1);
+      assertEquals(1, firstRevision.getRevision());
+      assertEquals(Instant.ofEpochMilli(1_000), firstRevision.getRevisionTimestamp());
+      assertEquals(user, firstRevision.getUser());
+      assertEquals(Optional.empty(), firstRevision.getCommitMessage());
+
+      final var secondRevision = index.getRevisionInfo(2);
+      assertEquals(Instant.ofEpochMilli(2_000), index.getRevisionTimestamp(2));
+      assertEquals(Optional.of("Insert elements"), secondRevision.getCommitMessage());
+
+      assertNull(index.getRevisionInfo(0));
+      assertNull(index.getRevisionTimestamp(3));
+    }
+  }
+
+  @Test
+  public void testEntriesAppendedByAnotherInstanceAreRead() {
+    final var user = new User("Marc Kramis", UUID.randomUUID());
+
+    try (final var reader = new RevisionMetadataIndex(folder.getRoot().toPath())) {
+      final var writer = new RevisionMetadataIndex(folder.getRoot().toPath());
+      writer.append(1, 1_000, user, "first");
+      assertEquals(Optional.of("first"), reader.getRevisionInfo(1).getCommitMessage());
+
+      writer.append(2, 2_000, user, "second");
+      // A revision, which has been committed again after its first commit has been truncated.
+      writer.append(2, 3_000, user, "second again");
+      assertEquals(Optional.of("second again"), reader.getRevisionInfo(2).getCommitMessage());
+      assertEquals(Instant.ofEpochMilli(3_000), reader.getRevisionTimestamp(2));
+      assertEquals(Optional.of("first"), reader.getRevisionInfo(1).getCommitMessage());
+    }
+  }
+
+  @Test
+  public void testEntriesAfterPartiallyWrittenEntryAreRead() throws IOException {
+    final var user = new User("Johannes Lichtenberger", UUID.randomUUID());
+
+    try (final var index = new RevisionMetadataIndex(folder.getRoot().toPath())) {
+      index.append(1, 1_000, user, "first");
+      Files.write(folder.getRoot().toPath().resolve(RevisionMetadataIndex.INDEX_FILENAME), new byte[] { 0, 0, 0, 2 },
+                  StandardOpenOption.APPEND);
+      index.append(2, 2_000, user, "second");
+
+      assertEquals(Optional.of("first"), index.getRevisionInfo(1).getCommitMessage());
+      assertEquals(Optional.of("second"), index.getRevisionInfo(2).getCommitMessage());
+      assertEquals(Instant.ofEpochMilli(2_000), index.getRevisionTimestamp(2));
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package io.sirix.access.trx.node.json;
+
+import io.brackit.query.util.path.Path;
+import io.brackit.query.util.path.PathException;
+import io.brackit.query.util.path.PathParser;
+import io.sirix.JsonTestHelper;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.api.json.NumberColumn;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Projects the number values of path classes into columns in several revisions.
+ */
+public final class NumberColumnTest {
+
+  private static final String JSON = """
+      [{"price":1,"nested":{"price":100}},{"price":2,"tags":[5,6,"x"]},{"price":"n/a"},{"price":4}]
+      """;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testNumberColumn() throws PathException {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(JSON));
+        wtx.commit();
+      }
+
+      final long pricePCR = getPCR(session, "/[]/price");
+      final long tagsPCR = getPCR(session, "/[]/tags");
+      final long nestedPricePCR = getPCR(session, "/[]/nested/price");
+
+      try (final var rtx = session.beginNodeReadOnlyTrx(1)) {
+        rtx.moveToFirstChild();
+        final long arrayNodeKey = rtx.getNodeKey();
+
+        final NumberColumn prices = rtx.getNumberColumn(pricePCR);
+        assertEquals(arrayNodeKey, rtx.getNodeKey());
+        assertTrue(prices.isIntegral());
+        assertEquals(3, prices.size());
+        assertEquals(7, prices.longSum());
+        assertEquals(1, prices.longMin());
+        assertEquals(4, prices.longMax());
+        assertSame(prices, rtx.getNumberColumn(pricePCR));
+
+        final long[] selectedNodeKeys = prices.selectNodeKeys(1.5, 10);
+        assertArrayEquals(new long[] { prices.getNodeKey(1), prices.getNodeKey(2) }, selectedNodeKeys);
+        rtx.moveTo(selectedNodeKeys[0]);
+        assertEquals(2, rtx.getLongValue());
+
+        final NumberColumn tags = rtx.getNumberColumn(tagsPCR);
+        assertEquals(2, tags.size());
+        assertEquals(11, tags.longSum());
+
+        final NumberColumn nestedPrices = rtx.getNumberColumn(nestedPricePCR);
+        assertEquals(1, nestedPrices.size());
+        assertEquals(100, nestedPrices.getLong(0));
+      }
+
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.moveToFirstChild();
+        wtx.moveToFirstChild();
+        assertTrue(wtx.moveToField("price"));
+        wtx.moveToFirstChild();
+        wtx.setNumberValue(1.5);
+
+        // Uncommitted changes are collected without the cache.
+        final NumberColumn prices = wtx.getNumberColumn(pricePCR);
+        assertFalse(prices.isIntegral());
+        assertEquals(7.5, prices.doubleSum(), 0);
+
+        wtx.commit();
+      }
+
+      try (final var rtx = session.beginNodeReadOnlyTrx(2)) {
+        final NumberColumn prices = rtx.getNumberColumn(pricePCR);
+        assertFalse(prices.isIntegral());
+        assertEquals(3, prices.size());
+        assertEquals(7.5, prices.doubleSum(), 0);
+        assertEquals(1.5, prices.doubleMin(), 0);
+        assertEquals(1, prices.selectNodeKeys(1, 2).length);
+      }
+
+      try (final var rtx = session.beginNodeReadOnlyTrx(1)) {
+        assertEquals(7, rtx.getNumberColumn(pricePCR).longSum());
+      }
+    }
+  }
+
+  private static long getPCR(final JsonResourceSession session, final String path) throws PathException {
+    try (final var pathSummary = session.openPathSummary(1)) {
+      final var pcrs = pathSummary.getPCRsForPath(Path.parse(path, PathParser.Type.JSON));
+      assertEquals(1, pcrs.size());
+      return pcrs.iterator().nextLong();
+    }
+  }
+}
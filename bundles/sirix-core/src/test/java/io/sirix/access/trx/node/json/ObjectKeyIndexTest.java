@@ -0,0 +1,93 @@
+package io.sirix.access.trx.node.json;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Looks up the fields of a wide JSON object in several revisions.
+ */
+public final class ObjectKeyIndexTest {
+
+  private static final int FIELDS = 4 * ObjectKeyIndex.MIN_CHILD_COUNT;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testMoveToField() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(IntStream.range(0, FIELDS)
+                                                                               .mapToObj(i -> "\"id" + i + "\":" + i)
+                                                                               .collect(Collectors.joining(",",
+                                                                                                           "{",
+                                                                                                           "}"))));
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+
+        // Uncommitted changes are looked up without the index.
+        assertTrue(wtx.moveToField("id" + (FIELDS - 1)));
+        wtx.moveToFirstChild();
+        assertEquals(FIELDS - 1, wtx.getNumberValue().intValue());
+
+        // Rename and remove fields in a second revision.
+        wtx.commit();
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        assertTrue(wtx.moveToField("id1"));
+        wtx.setObjectKeyName("renamed");
+        wtx.moveToParent();
+        assertTrue(wtx.moveToField("id2"));
+        wtx.remove();
+        wtx.commit();
+      }
+
+      try (final var rtx = session.beginNodeReadOnlyTrx(1)) {
+        rtx.moveToFirstChild();
+        final long objectNodeKey = rtx.getNodeKey();
+
+        // Fields already scanned by a previous lookup and fields behind them.
+        for (final int field : new int[] { FIELDS / 2, 0, 1, 2, FIELDS - 1, FIELDS / 2 + 1 }) {
+          rtx.moveTo(objectNodeKey);
+          assertTrue(rtx.moveToField("id" + field));
+          assertEquals("id" + field, rtx.getName().getLocalName());
+          rtx.moveToFirstChild();
+          assertEquals(field, rtx.getNumberValue().intValue());
+        }
+
+        rtx.moveTo(objectNodeKey);
+        assertFalse(rtx.moveToField("renamed"));
+        assertEquals(objectNodeKey, rtx.getNodeKey());
+      }
+
+      try (final var rtx = session.beginNodeReadOnlyTrx(2)) {
+        rtx.moveToFirstChild();
+        final long objectNodeKey = rtx.getNodeKey();
+
+        assertTrue(rtx.moveToField("renamed"));
+        rtx.moveTo(objectNodeKey);
+        assertFalse(rtx.moveToField("id1"));
+        assertFalse(rtx.moveToField("id2"));
+        assertTrue(rtx.moveToField("id3"));
+      }
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package io.sirix.access.trx.page;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.access.Databases;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.access.trx.node.json.objectvalue.StringValue;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.axis.DescendantAxis;
+import io.sirix.axis.IncludeSelf;
+import io.sirix.service.json.serialize.JsonSerializer;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class NodePageReadOnlyTrxReadAheadTest {
+
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  private static final String RESOURCE_WITH_READ_AHEAD = "resourceWithReadAhead";
+
+  private static final String RESOURCE_WITHOUT_READ_AHEAD = "resourceWithoutReadAhead";
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testScanWithReadAheadMatchesScanWithoutReadAhead() {
+    final Path databasePath = JsonTestHelper.PATHS.PATH1.getFile();
+    JsonTestHelper.createDatabase(databasePath);
+
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      database.createResource(ResourceConfiguration.newBuilder(RESOURCE_WITH_READ_AHEAD).readAheadWindow(4).build());
+      database.createResource(ResourceConfiguration.newBuilder(RESOURCE_WITHOUT_READ_AHEAD).build());
+      createRevisions(database, RESOURCE_WITH_READ_AHEAD);
+      createRevisions(database, RESOURCE_WITHOUT_READ_AHEAD);
+    }
+
+    // Reopen the database, such that all pages are read from durable storage.
+    try (final var database = Databases.openJsonDatabase(databasePath);
+         final var sessionWithReadAhead = database.beginResourceSession(RESOURCE_WITH_READ_AHEAD);
+         final var sessionWithoutReadAhead = database.beginResourceSession(RESOURCE_WITHOUT_READ_AHEAD)) {
+      assertEquals(4, sessionWithReadAhead.getResourceConfig().readAheadWindow);
+      assertEquals(0, sessionWithoutReadAhead.getResourceConfig().readAheadWindow);
+
+      for (int revision = 1; revision <= 2; revision++) {
+        assertEquals(countDescendants(sessionWithoutReadAhead, revision),
+                     countDescendants(sessionWithReadAhead, revision));
+        assertEquals(serialize(sessionWithoutReadAhead, revision), serialize(sessionWithReadAhead, revision));
+      }
+    }
+  }
+
+  @Test
+  public void testCloseWaitsForReadAheadTasks() {
+    final Path databasePath = JsonTestHelper.PATHS.PATH1.getFile();
+    JsonTestHelper.createDatabase(databasePath);
+
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      database.createResource(ResourceConfiguration.newBuilder(RESOURCE_WITH_READ_AHEAD).readAheadWindow(64).build());
+      createRevisions(database, RESOURCE_WITH_READ_AHEAD);
+    }
+
+    try (final var database = Databases.openJsonDatabase(databasePath);
+         final var session = database.beginResourceSession(RESOURCE_WITH_READ_AHEAD)) {
+      final List<CompletableFuture<Void>> readAheadTasks;
+      try (final var rtx = session.beginNodeReadOnlyTrx()) {
+        final var pageTrx = (NodePageReadOnlyTrx) rtx.getPageTrx();
+        final var axis = new DescendantAxis(rtx, IncludeSelf.YES);
+        while (axis.hasNext() && pageTrx.getReadAheadTasks().isEmpty()) {
+          axis.nextLong();
+        }
+        readAheadTasks = pageTrx.getReadAheadTasks();
+        assertFalse(readAheadTasks.isEmpty());
+      }
+
+      // Closing the transaction must not return before the read-ahead tasks are finished.
+      assertTrue(readAheadTasks.stream().allMatch(CompletableFuture::isDone));
+    }
+  }
+
+  private static void createRevisions(final Database<JsonResourceSession> database, final String resource) {
+    try (final var session = database.beginResourceSession(resource);
+         final var wtx = session.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createFileReader(JSON.resolve("abc-location-stations.json")));
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertObjectRecordAsFirstChild("foo", new StringValue("bar"));
+      wtx.commit();
+    }
+  }
+
+  private static long countDescendants(final JsonResourceSession session, final int revision) {
+    try (final var rtx = session.beginNodeReadOnlyTrx(revision)) {
+      long count = 0;
+      final var axis = new DescendantAxis(rtx, IncludeSelf.YES);
+      while (axis.hasNext()) {
+        axis.nextLong();
+        count++;
+      }
+      return count;
+    }
+  }
+
+  private static String serialize(final JsonResourceSession session, final int revision) {
+    final var writer = new StringWriter();
+    new JsonSerializer.Builder(session, writer, revision).build().call();
+    return writer.toString();
+  }
+}
@@ -0,0 +1,68 @@
+package io.sirix.access.trx.page;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.axis.DescendantAxis;
+import io.sirix.axis.IncludeSelf;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class RevisionSnapshotTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    JsonTestHelper.createTestDocument();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testReadOnlyTrxsOnTheSameRevisionShareTheSnapshot() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        wtx.remove();
+        wtx.commit();
+      }
+
+      try (final var first = (NodePageReadOnlyTrx) session.beginPageReadOnlyTrx(1);
+           final var second = (NodePageReadOnlyTrx) session.beginPageReadOnlyTrx(1);
+           final var other = (NodePageReadOnlyTrx) session.beginPageReadOnlyTrx(2)) {
+        assertNotNull(first.getRevisionSnapshot());
+        assertSame(first.getRevisionSnapshot(), second.getRevisionSnapshot());
+        assertSame(first.getActualRevisionRootPage(), second.getActualRevisionRootPage());
+        assertNotSame(first.getRevisionSnapshot(), other.getRevisionSnapshot());
+        assertEquals(2, other.getRevisionSnapshot().getRevision());
+      }
+
+      // The second reader uses the leaf references resolved by the first one.
+      final long descendantCount = countDescendants(session, 1);
+      assertTrue(descendantCount > 0);
+      assertEquals(descendantCount, countDescendants(session, 1));
+      assertEquals(0, countDescendants(session, 2));
+    }
+  }
+
+  private static long countDescendants(final JsonResourceSession session, final int revision) {
+    try (final var rtx = session.beginNodeReadOnlyTrx(revision)) {
+      long count = 0;
+      for (final var axis = new DescendantAxis(rtx, IncludeSelf.NO); axis.hasNext(); axis.nextLong()) {
+        count++;
+      }
+      return count;
+    }
+  }
+}
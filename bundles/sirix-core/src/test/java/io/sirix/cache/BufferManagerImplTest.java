@@ -0,0 +1,64 @@
+package io.sirix.cache;
+
+import io.sirix.page.IndirectPage;
+import io.sirix.page.PageReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class BufferManagerImplTest {
+
+  private static final long MEMORY_BUDGET = 1L << 20;
+
+  @Test
+  public void testCachesAreBoundedByMemoryBudget() {
+    final var bufferManager = new BufferManagerImpl(MEMORY_BUDGET);
+    final var pageCache = bufferManager.getPageCache();
+
+    for (int i = 1; i < 100_000; i++) {
+      pageCache.put(new PageReference().setKey(i), new IndirectPage());
+    }
+
+    final var statistics = bufferManager.getStatistics().get("pageCache");
+    assertTrue(statistics.weightedSize() <= statistics.maximumWeight());
+    assertTrue(statistics.evictionCount() > 0);
+    assertTrue(totalMaximumWeight(bufferManager) <= MEMORY_BUDGET);
+  }
+
+  @Test
+  public void testStatistics() {
+    final var bufferManager = new BufferManagerImpl(MEMORY_BUDGET);
+    final var pageCache = bufferManager.getPageCache();
+    final var reference = new PageReference().setKey(1);
+
+    pageCache.get(reference);
+    pageCache.put(reference, new IndirectPage());
+    pageCache.get(reference);
+
+    final var statistics = bufferManager.getStatistics().get("pageCache");
+    assertEquals(1, statistics.hitCount());
+    assertEquals(1, statistics.missCount());
+    assertEquals(0.5, statistics.hitRate());
+  }
+
+  @Test
+  public void testMemoryBudgetIsSharedAmongstBufferManagers() {
+    final var memoryBudget = new MemoryBudget(MEMORY_BUDGET);
+    final var firstBufferManager = new BufferManagerImpl(MEMORY_BUDGET);
+    final var secondBufferManager = new BufferManagerImpl(MEMORY_BUDGET);
+
+    memoryBudget.register(firstBufferManager);
+    assertEquals(MEMORY_BUDGET, totalMaximumWeight(firstBufferManager), 16);
+
+    memoryBudget.register(secondBufferManager);
+    assertTrue(totalMaximumWeight(firstBufferManager) + totalMaximumWeight(secondBufferManager) <= MEMORY_BUDGET);
+
+    memoryBudget.deregister(secondBufferManager);
+    assertEquals(MEMORY_BUDGET, totalMaximumWeight(firstBufferManager), 16);
+  }
+
+  private static long totalMaximumWeight(final BufferManager bufferManager) {
+    return bufferManager.getStatistics().values().stream().mapToLong(CacheStatistics::maximumWeight).sum();
+  }
+}
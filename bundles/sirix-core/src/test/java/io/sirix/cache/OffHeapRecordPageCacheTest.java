@@ -0,0 +1,98 @@
+package io.sirix.cache;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.index.IndexType;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.OffHeapSlots;
+import io.sirix.page.PageReference;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.ValueLayout;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class OffHeapRecordPageCacheTest {
+
+  private static final ResourceConfiguration RESOURCE_CONFIG = ResourceConfiguration.newBuilder("resource").build();
+
+  private static final byte[] SLOT = { 1, 2, 3 };
+
+  private static final byte[] DEWEY_ID = { 4, 5 };
+
+  @Test
+  public void testEvictedPageIsReloadedFromOffHeapMemory() {
+    final var offHeapCache = new OffHeapRecordPageCache(1L << 20);
+    // Every page is evicted from the on-heap cache right away.
+    final var recordPageCache = new RecordPageCache(0, offHeapCache);
+    final var reference = new PageReference().setKey(1);
+    final var overflowReference = new PageReference().setKey(42);
+
+    final var page = createPage();
+    page.setPageReference(7, overflowReference);
+    recordPageCache.put(reference, page);
+
+    assertTrue(offHeapCache.getStatistics().weightedSize() > 0);
+
+    // Clearing the evicted page must not affect the cached copy.
+    page.clearPage();
+
+    final KeyValueLeafPage restoredPage = recordPageCache.get(reference);
+
+    assertNotNull(restoredPage);
+    assertNotNull(restoredPage.getOffHeapSlots());
+    assertArrayEquals(SLOT, restoredPage.getOffHeapSlot(0).toArray(ValueLayout.JAVA_BYTE));
+    assertArrayEquals(SLOT, restoredPage.getSlot(0));
+    assertArrayEquals(DEWEY_ID, restoredPage.getDeweyId(0));
+    assertNull(restoredPage.getSlot(1));
+    assertEquals(overflowReference, restoredPage.getPageReference(7));
+  }
+
+  @Test
+  public void testRestoredPageOutlivesEviction() {
+    final var offHeapCache = new OffHeapRecordPageCache(1L << 20);
+    final var reference = new PageReference().setKey(1);
+
+    offHeapCache.put(reference, createPage());
+    final KeyValueLeafPage restoredPage = offHeapCache.get(reference);
+    final OffHeapSlots offHeapSlots = restoredPage.getOffHeapSlots();
+
+    offHeapCache.remove(reference);
+
+    assertNull(offHeapCache.get(reference));
+    assertTrue(offHeapSlots.isAlive());
+    assertArrayEquals(SLOT, restoredPage.getSlot(0));
+  }
+
+  @Test
+  public void testCopyOfRestoredPageOutlivesOffHeapMemory() {
+    final var offHeapCache = new OffHeapRecordPageCache(1L << 20);
+    final var reference = new PageReference().setKey(1);
+
+    offHeapCache.put(reference, createPage());
+    final KeyValueLeafPage restoredPage = offHeapCache.get(reference);
+    final OffHeapSlots offHeapSlots = restoredPage.getOffHeapSlots();
+    final KeyValueLeafPage copiedPage = restoredPage.copy();
+
+    // Release the references of the cache entry and the restored page.
+    offHeapCache.remove(reference);
+    offHeapSlots.release();
+
+    assertFalse(offHeapSlots.isAlive());
+    assertNull(copiedPage.getOffHeapSlots());
+    assertArrayEquals(SLOT, copiedPage.getSlot(0));
+    assertArrayEquals(DEWEY_ID, copiedPage.getDeweyId(0));
+    assertNull(copiedPage.getSlot(1));
+  }
+
+  private static KeyValueLeafPage createPage() {
+    final var page = new KeyValueLeafPage(0, IndexType.DOCUMENT, RESOURCE_CONFIG, 1);
+    page.setSlot(SLOT, 0);
+    page.setDeweyId(DEWEY_ID, 0);
+    return page;
+  }
+}
@@ -0,0 +1,112 @@
+package io.sirix.diff;
+
+import io.sirix.diff.DiffFactory.DiffType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the binary {@link ChangeLog}.
+ */
+public final class ChangeLogTest {
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testAppendAndGetChanges() throws IOException {
+    final var changeLog = new ChangeLog(folder.getRoot().toPath());
+
+    final var firstChanges = List.of(new DiffTuple(DiffType.INSERTED, 5, 0, new DiffDepth(2, 0)),
+                                     new DiffTuple(DiffType.DELETED, 0, 3, null));
+    final var secondChanges = List.of(new DiffTuple(DiffType.UPDATED, 7, 7, new DiffDepth(3, 3)));
+    changeLog.append(1, 2, firstChanges);
+    changeLog.append(2, 3, secondChanges);
+
+    assertNull(changeLog.getChanges(1));
+    assertChanges(new ChangeLog.RevisionChanges(1, 2, firstChanges), changeLog.getChanges(2));
+    assertChanges(new ChangeLog.RevisionChanges(2, 3, secondChanges), changeLog.getChanges(3));
+  }
+
+  @Test
+  public void testStreamChanges() {
+    final var changeLog = new ChangeLog(folder.getRoot().toPath());
+
+    for (int revision = 1; revision <= 5; revision++) {
+      changeLog.append(revision - 1, revision, List.of(new DiffTuple(DiffType.INSERTED, revision, 0, null)));
+    }
+
+    try (final var changes = changeLog.streamChanges(1, 4)) {
+      assertEquals(List.of(2, 3, 4),
+                   changes.map(ChangeLog.RevisionChanges::revisionNumber).collect(Collectors.toList()));
+    }
+    try (final var changes = changeLog.streamChanges(5, 5)) {
+      assertEquals(0, changes.count());
+    }
+  }
+
+  @Test
+  public void testPartiallyWrittenIndexEntryIsIgnored() throws IOException {
+    final var changeLog = new ChangeLog(folder.getRoot().toPath());
+    changeLog.append(0, 1, List.of(new DiffTuple(DiffType.INSERTED, 1, 0, null)));
+
+    Files.write(folder.getRoot().toPath().resolve(ChangeLog.INDEX_FILE), new byte[] { 0, 0, 0, 2 },
+                StandardOpenOption.APPEND);
+
+    assertEquals(1, changeLog.getChanges(1).diffs().size());
+    assertNull(changeLog.getChanges(2));
+
+    // Entries appended after the torn entry must be aligned.
+    changeLog.append(1, 2, List.of(new DiffTuple(DiffType.DELETED, 0, 2, null)));
+    changeLog.append(2, 3, List.of(new DiffTuple(DiffType.UPDATED, 3, 3, null)));
+
+    assertEquals(DiffType.INSERTED, changeLog.getChanges(1).diffs().get(0).getDiff());
+    assertEquals(DiffType.DELETED, changeLog.getChanges(2).diffs().get(0).getDiff());
+    assertEquals(DiffType.UPDATED, changeLog.getChanges(3).diffs().get(0).getDiff());
+  }
+
+  @Test
+  public void testLastEntryOfRevisionWins() {
+    final var changeLog = new ChangeLog(folder.getRoot().toPath());
+    changeLog.append(0, 1, List.of(new DiffTuple(DiffType.INSERTED, 1, 0, null)));
+    // The changes of a failed commit, which are followed by the changes of the successful commit.
+    changeLog.append(1, 2, List.of(new DiffTuple(DiffType.DELETED, 0, 1, null)));
+    changeLog.append(1, 2, List.of(new DiffTuple(DiffType.UPDATED, 1, 1, null)));
+
+    assertEquals(DiffType.UPDATED, changeLog.getChanges(2).diffs().get(0).getDiff());
+
+    try (final var changes = changeLog.streamChanges(0, 2)) {
+      assertEquals(List.of(DiffType.INSERTED, DiffType.UPDATED),
+                   changes.map(revisionChanges -> revisionChanges.diffs().get(0).getDiff())
+                          .collect(Collectors.toList()));
+    }
+  }
+
+  private static void assertChanges(final ChangeLog.RevisionChanges expected, final ChangeLog.RevisionChanges actual) {
+    assertEquals(expected.oldRevisionNumber(), actual.oldRevisionNumber());
+    assertEquals(expected.revisionNumber(), actual.revisionNumber());
+    assertEquals(expected.diffs().size(), actual.diffs().size());
+    for (int i = 0; i < expected.diffs().size(); i++) {
+      final DiffTuple expectedDiff = expected.diffs().get(i);
+      final DiffTuple actualDiff = actual.diffs().get(i);
+      assertEquals(expectedDiff.getDiff(), actualDiff.getDiff());
+      assertEquals(expectedDiff.getNewNodeKey(), actualDiff.getNewNodeKey());
+      assertEquals(expectedDiff.getOldNodeKey(), actualDiff.getOldNodeKey());
+      if (expectedDiff.getDepth() == null) {
+        assertNull(actualDiff.getDepth());
+      } else {
+        assertEquals(expectedDiff.getDepth().getNewDepth(), actualDiff.getDepth().getNewDepth());
+        assertEquals(expectedDiff.getDepth().getOldDepth(), actualDiff.getDepth().getOldDepth());
+      }
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package io.sirix.diff;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.access.trx.node.json.objectvalue.StringValue;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.diff.DiffFactory.DiffOptimized;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the diffs of subtrees computed in parallel with the sequentially computed diffs.
+ */
+public final class JsonDiffTest {
+
+  private static final int ELEMENTS = 100;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testParallelDiffOfArrayElements() {
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      createRevisions(session);
+
+      final List<String> sequentialDiffs = diff(session, Integer.MAX_VALUE, false);
+      assertTrue(sequentialDiffs.size() > ELEMENTS);
+      assertEquals(sequentialDiffs, diff(session, 2, false));
+      assertEquals(sequentialDiffs, diff(session, DiffFactory.Builder.DEFAULT_PARALLEL_THRESHOLD, false));
+    }
+  }
+
+  @Test
+  public void testParallelDiffOfArrayElementsSkippingSubtrees() {
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      createRevisions(session);
+
+      assertEquals(diff(session, Integer.MAX_VALUE, true), diff(session, 2, true));
+    }
+  }
+
+  private static void createRevisions(final JsonResourceSession session) {
+    final var json = new StringBuilder("[");
+    for (int i = 0; i < ELEMENTS; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"a\":").append(i).append(",\"b\":[").append(i).append(",\"x\"]}");
+    }
+    json.append(']');
+
+    try (final var wtx = session.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json.toString()));
+
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      final List<Long> elementKeys = new ArrayList<>();
+      for (boolean moved = wtx.moveToFirstChild(); moved; moved = wtx.moveToRightSibling()) {
+        elementKeys.add(wtx.getNodeKey());
+      }
+
+      for (int i = 0; i < ELEMENTS; i++) {
+        final long elementKey = elementKeys.get(i);
+        if (i % 7 == 0) {
+          wtx.moveTo(elementKey);
+          wtx.moveToFirstChild();
+          wtx.moveToFirstChild();
+          wtx.setNumberValue(-i);
+        }
+        if (i % 11 == 0) {
+          wtx.moveTo(elementKey);
+          wtx.insertObjectRecordAsFirstChild("c", new StringValue("new"));
+        }
+        if (i % 13 == 0) {
+          wtx.moveTo(elementKey);
+          wtx.moveToLastChild();
+          wtx.remove();
+        }
+      }
+      wtx.commit();
+    }
+  }
+
+  private static List<String> diff(final JsonResourceSession session, final int parallelThreshold,
+      final boolean skipSubtrees) {
+    final List<String> diffs = new ArrayList<>();
+    final DiffObserver observer = new DiffObserver() {
+      @Override
+      public void diffListener(final DiffFactory.DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          final DiffDepth depth) {
+        diffs.add(diffType + ":" + newNodeKey + ":" + oldNodeKey + ":" + depth.getNewDepth() + ":"
+                      + depth.getOldDepth());
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+    DiffFactory.invokeJsonDiff(new DiffFactory.Builder<>(session, 2, 1, DiffOptimized.HASHED, Set.of(observer))
+                                   .skipSubtrees(skipSubtrees)
+                                   .parallelThreshold(parallelThreshold));
+    return diffs;
+  }
+}
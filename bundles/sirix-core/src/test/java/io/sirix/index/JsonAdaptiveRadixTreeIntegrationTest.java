@@ -0,0 +1,292 @@
+package io.sirix.index;
+
+import io.brackit.query.atomic.Dbl;
+import io.brackit.query.atomic.Numeric;
+import io.brackit.query.atomic.Str;
+import io.brackit.query.jdm.Type;
+import io.brackit.query.util.path.PathParser;
+import io.sirix.JsonTestHelper;
+import io.sirix.index.art.ARTTreeReader;
+import io.sirix.index.art.IndexBinaryComparables;
+import io.sirix.index.path.json.JsonPCRCollector;
+import io.sirix.index.redblacktree.keyvalue.CASValue;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.service.InsertPosition;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+import static io.brackit.query.util.path.Path.parse;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class JsonAdaptiveRadixTreeIntegrationTest {
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCASIndexWhileListeningAndCASIndexOnDemand() {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      var indexController = manager.getWtxIndexController(trx.getRevisionNumber());
+
+      final var pathToFeatureType = parse("/features/[]/type", PathParser.Type.JSON);
+
+      final var idxDefOfFeatureType = IndexDefs.createCASIdxDef(false,
+                                                                Type.STR,
+                                                                Collections.singleton(pathToFeatureType),
+                                                                0,
+                                                                IndexDef.DbType.JSON,
+                                                                IndexBackendType.ADAPTIVE_RADIX_TREE);
+
+      indexController.createIndexes(Set.of(idxDefOfFeatureType), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var featureTypes = indexController.openCASIndex(trx.getPageTrx(),
+                                                            idxDefOfFeatureType,
+                                                            indexController.createCASFilter(Set.of("/features/[]/type"),
+                                                                                            new Str("Feature"),
+                                                                                            SearchMode.EQUAL,
+                                                                                            new JsonPCRCollector(trx)));
+
+      assertTrue(featureTypes.hasNext());
+      assertEquals(53, featureTypes.next().getNodeKeys().getLongCardinality());
+      assertFalse(featureTypes.hasNext());
+
+      final var pathToName = parse("/features/[]/properties/name", PathParser.Type.JSON);
+      final var idxDefOfPathToName = IndexDefs.createCASIdxDef(false,
+                                                               Type.STR,
+                                                               Collections.singleton(pathToName),
+                                                               1,
+                                                               IndexDef.DbType.JSON,
+                                                               IndexBackendType.ADAPTIVE_RADIX_TREE);
+
+      indexController.createIndexes(Set.of(idxDefOfPathToName), trx);
+
+      final var index = indexController.openCASIndex(trx.getPageTrx(),
+                                                     idxDefOfPathToName,
+                                                     indexController.createCASFilter(Set.of(
+                                                                                         "/features/[]/properties/name"),
+                                                                                     new Str("ABC Radio Adelaide"),
+                                                                                     SearchMode.EQUAL,
+                                                                                     new JsonPCRCollector(trx)));
+
+      assertTrue(index.hasNext());
+
+      index.forEachRemaining(nodeReferences -> {
+        assertEquals(1, nodeReferences.getNodeKeys().getLongCardinality());
+        final long nodeKey = nodeReferences.getNodeKeys().getLongIterator().next();
+        trx.moveTo(nodeKey);
+        assertEquals("ABC Radio Adelaide", trx.getValue());
+      });
+
+      final var indexWithAllEntries = indexController.openCASIndex(trx.getPageTrx(),
+                                                                   idxDefOfPathToName,
+                                                                   indexController.createCASFilter(Set.of(),
+                                                                                                   null,
+                                                                                                   SearchMode.EQUAL,
+                                                                                                   new JsonPCRCollector(
+                                                                                                       trx)));
+
+      assertEquals(53,
+                   StreamSupport.stream(Spliterators.spliteratorUnknownSize(indexWithAllEntries, Spliterator.ORDERED),
+                                        false).count());
+
+      final var pathToCoordinates = parse("/features/[]/geometry/coordinates/[]", PathParser.Type.JSON);
+      final var idxDefOfPathToCoordinates = IndexDefs.createCASIdxDef(false,
+                                                                      Type.DEC,
+                                                                      Collections.singleton(pathToCoordinates),
+                                                                      2,
+                                                                      IndexDef.DbType.JSON,
+                                                                      IndexBackendType.ADAPTIVE_RADIX_TREE);
+
+      indexController.createIndexes(Set.of(idxDefOfPathToCoordinates), trx);
+
+      final var casIndexForCoordinates = indexController.openCASIndex(trx.getPageTrx(),
+                                                                      idxDefOfPathToCoordinates,
+                                                                      indexController.createCASFilterRange(Set.of(
+                                                                                                               "/features/[]/geometry/coordinates/[]"),
+                                                                                                           new Dbl(0),
+                                                                                                           new Dbl(160),
+                                                                                                           true,
+                                                                                                           true,
+                                                                                                           new JsonPCRCollector(
+                                                                                                               trx)));
+
+      assertEquals(53,
+                   StreamSupport.stream(Spliterators.spliteratorUnknownSize(casIndexForCoordinates,
+                                                                            Spliterator.ORDERED), false).count());
+    }
+  }
+
+  @Test
+  public void testCASIndexLowerStopsAtTheUpperBound() {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      var indexController = manager.getWtxIndexController(trx.getRevisionNumber());
+
+      final var pathToCoordinates = parse("/features/[]/geometry/coordinates/[]", PathParser.Type.JSON);
+      final var redBlackTreeIdxDef =
+          IndexDefs.createCASIdxDef(false, Type.DEC, Collections.singleton(pathToCoordinates), 0, IndexDef.DbType.JSON);
+      final var artIdxDef = IndexDefs.createCASIdxDef(false,
+                                                      Type.DEC,
+                                                      Collections.singleton(pathToCoordinates),
+                                                      1,
+                                                      IndexDef.DbType.JSON,
+                                                      IndexBackendType.ADAPTIVE_RADIX_TREE);
+
+      indexController.createIndexes(Set.of(redBlackTreeIdxDef, artIdxDef), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      for (final var mode : List.of(SearchMode.LOWER, SearchMode.LOWER_OR_EQUAL)) {
+        final var filter = indexController.createCASFilter(Set.of("/features/[]/geometry/coordinates/[]"),
+                                                           new Dbl(100),
+                                                           mode,
+                                                           new JsonPCRCollector(trx));
+        final var expectedNodeKeys = nodeKeys(indexController.openCASIndex(trx.getPageTrx(), redBlackTreeIdxDef, filter));
+
+        assertFalse(expectedNodeKeys.isEmpty());
+        assertEquals(expectedNodeKeys, nodeKeys(indexController.openCASIndex(trx.getPageTrx(), artIdxDef, filter)));
+      }
+
+      final ARTTreeReader<CASValue, NodeReferences> reader = ARTTreeReader.getInstance(trx.getPageTrx(),
+                                                                                       IndexType.CAS,
+                                                                                       artIdxDef.getID(),
+                                                                                       IndexBinaryComparables.forCASValue());
+      final long pathNodeKey = reader.iterator().next().getKey().getPathNodeKey();
+      final byte[] prefix = IndexBinaryComparables.pathNodeKeyToBytes(pathNodeKey);
+      final byte[] upperBound =
+          IndexBinaryComparables.concat(prefix, IndexBinaryComparables.atomicToPrefixBytes(new Dbl(100), Type.DEC));
+
+      // The iteration stops at the first key above the upper bound, without filtering the keys.
+      final var leaves = reader.iterator(prefix, prefix, upperBound);
+      int numberOfLeaves = 0;
+      while (leaves.hasNext()) {
+        assertTrue(((Numeric) leaves.next().getKey().getAtomicValue()).doubleValue() <= 100);
+        numberOfLeaves++;
+      }
+      assertTrue(numberOfLeaves > 0);
+    }
+  }
+
+  private static Set<Long> nodeKeys(final Iterator<NodeReferences> index) {
+    final var nodeKeys = new HashSet<Long>();
+    index.forEachRemaining(nodeReferences -> nodeReferences.getNodeKeys().forEach((long nodeKey) -> nodeKeys.add(nodeKey)));
+    return nodeKeys;
+  }
+
+  @Test
+  public void testPathIndexWhileListeningAndPathIndexOnDemand() {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      var indexController = manager.getWtxIndexController(trx.getRevisionNumber());
+
+      final var pathToFeatureType = parse("/features/[]/type", PathParser.Type.JSON);
+
+      final var idxDefOfFeatureType = IndexDefs.createPathIdxDef(Collections.singleton(pathToFeatureType),
+                                                                 0,
+                                                                 IndexDef.DbType.JSON,
+                                                                 IndexBackendType.ADAPTIVE_RADIX_TREE);
+
+      indexController.createIndexes(Set.of(idxDefOfFeatureType), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var pathToName = parse("/features/[]/properties/name", PathParser.Type.JSON);
+      final var idxDefOfPathToName = IndexDefs.createPathIdxDef(Collections.singleton(pathToName),
+                                                                1,
+                                                                IndexDef.DbType.JSON,
+                                                                IndexBackendType.ADAPTIVE_RADIX_TREE);
+
+      indexController.createIndexes(Set.of(idxDefOfPathToName), trx);
+
+      for (final var indexDef : Set.of(idxDefOfFeatureType, idxDefOfPathToName)) {
+        final var index = indexController.openPathIndex(trx.getPageTrx(), indexDef, null);
+
+        assertTrue(index.hasNext());
+        assertEquals(53, index.next().getNodeKeys().getLongCardinality());
+        assertFalse(index.hasNext());
+      }
+    }
+  }
+
+  @Test
+  public void testNameIndexWhileListening() {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = session.beginNodeTrx()) {
+      var indexController = session.getWtxIndexController(trx.getRevisionNumber());
+
+      final var allObjectKeyNames =
+          IndexDefs.createNameIdxDef(0, IndexDef.DbType.JSON, IndexBackendType.ADAPTIVE_RADIX_TREE);
+
+      indexController.createIndexes(Set.of(allObjectKeyNames), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var allStreetAddressesAndTwitterAccounts = indexController.openNameIndex(trx.getPageTrx(),
+                                                                                     allObjectKeyNames,
+                                                                                     indexController.createNameFilter(
+                                                                                         Set.of("streetaddress",
+                                                                                                "twitteraccount")));
+
+      assertTrue(allStreetAddressesAndTwitterAccounts.hasNext());
+      assertEquals(53, allStreetAddressesAndTwitterAccounts.next().getNodeKeys().getLongCardinality());
+      assertTrue(allStreetAddressesAndTwitterAccounts.hasNext());
+      assertEquals(53, allStreetAddressesAndTwitterAccounts.next().getNodeKeys().getLongCardinality());
+      assertFalse(allStreetAddressesAndTwitterAccounts.hasNext());
+
+      final var allStreetAddresses = indexController.openNameIndex(trx.getPageTrx(),
+                                                                   allObjectKeyNames,
+                                                                   indexController.createNameFilter(Set.of(
+                                                                       "streetaddress")));
+
+      assertTrue(allStreetAddresses.hasNext());
+      assertEquals(53, allStreetAddresses.next().getNodeKeys().getLongCardinality());
+      assertFalse(allStreetAddresses.hasNext());
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package io.sirix.index.column;
+
+import io.brackit.query.util.path.Path;
+import io.brackit.query.util.path.PathException;
+import io.brackit.query.util.path.PathParser;
+import io.sirix.JsonTestHelper;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.api.json.NumberColumn;
+import io.sirix.index.IndexDef;
+import io.sirix.index.IndexDefs;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Maintains a number column index in several revisions.
+ */
+public final class NumberColumnIndexTest {
+
+  private static final String JSON = """
+      [{"price":1,"tags":[5,6]},{"price":2},{"price":3},{"price":4}]
+      """;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testNumberColumnIndex() throws PathException {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      final IndexDef indexDef =
+          IndexDefs.createNumberColumnIdxDef(Set.of(Path.parse("/[]/price", PathParser.Type.JSON)),
+                                             0,
+                                             IndexDef.DbType.JSON);
+
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(JSON));
+
+        // Build the index and listen to the upcoming changes.
+        session.getWtxIndexController(wtx.getRevisionNumber()).createIndexes(Set.of(indexDef), wtx);
+        wtx.commit();
+
+        // Update a value to a non-integral value, remove and append a value.
+        moveToPrice(wtx, 1);
+        wtx.setNumberValue(2.5);
+        moveToObject(wtx, 3);
+        wtx.remove();
+        moveToObject(wtx, 2);
+        wtx.insertSubtreeAsRightSibling(JsonShredder.createStringReader("{\"price\":10}"));
+        wtx.commit();
+
+        // The column is integral again.
+        moveToPrice(wtx, 1);
+        wtx.setNumberValue(7);
+        wtx.commit();
+      }
+
+      final long pricePCR = getPCR(session, "/[]/price");
+      final long tagsPCR = getPCR(session, "/[]/tags");
+
+      final double[][] expectedPrices = { { 1, 2, 3, 4 }, { 1, 2.5, 3, 10 }, { 1, 7, 3, 10 } };
+
+      for (int revision = 1; revision <= 3; revision++) {
+        try (final var rtx = session.beginNodeReadOnlyTrx(revision)) {
+          final NumberColumn prices = NumberColumnIndexReader.getColumn(rtx.getPageTrx(), indexDef.getID(), pricePCR);
+
+          assertEquals(revision != 2, prices.isIntegral());
+          assertEquals(4, prices.size());
+          for (int i = 0; i < prices.size(); i++) {
+            assertEquals(expectedPrices[revision - 1][i], prices.getDouble(i), 0);
+          }
+          assertColumnEquals(NumberColumn.collect(rtx, pricePCR, null), prices);
+          assertColumnEquals(prices, rtx.getNumberColumn(pricePCR));
+
+          // Only the path classes of the index definition are indexed.
+          assertEquals(0, NumberColumnIndexReader.getColumn(rtx.getPageTrx(), indexDef.getID(), tagsPCR).size());
+          assertEquals(11, rtx.getNumberColumn(tagsPCR).longSum());
+        }
+      }
+    }
+  }
+
+  private static void assertColumnEquals(final NumberColumn expected, final NumberColumn actual) {
+    assertEquals(expected.size(), actual.size());
+    assertEquals(expected.isIntegral(), actual.isIntegral());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.getNodeKey(i), actual.getNodeKey(i));
+      assertEquals(expected.getDouble(i), actual.getDouble(i), 0);
+    }
+  }
+
+  private static void moveToObject(final JsonNodeTrx wtx, final int position) {
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    assertTrue(wtx.moveToChildAtPosition(position));
+  }
+
+  private static void moveToPrice(final JsonNodeTrx wtx, final int position) {
+    moveToObject(wtx, position);
+    assertTrue(wtx.moveToField("price"));
+    wtx.moveToFirstChild();
+    assertFalse(wtx.isObjectKey());
+  }
+
+  private static long getPCR(final JsonResourceSession session, final String path) throws PathException {
+    try (final var pathSummary = session.openPathSummary()) {
+      final var pcrs = pathSummary.getPCRsForPath(Path.parse(path, PathParser.Type.JSON));
+      assertEquals(1, pcrs.size());
+      return pcrs.iterator().nextLong();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package io.sirix.io;
+
+import io.sirix.exception.SirixIOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the behavior of {@link GroupCommitter}.
+ *
+ * @author Johannes Lichtenberger
+ */
+class GroupCommitterTest {
+
+  private GroupCommitter groupCommitter;
+
+  @BeforeEach
+  public void setup() {
+    groupCommitter = new GroupCommitter();
+  }
+
+  /**
+   * Tests that all writers of a window are forced once and share one future.
+   */
+  @Test
+  public void writersOfOneWindowAreForcedTogether() throws Exception {
+    final var firstWriter = mock(Writer.class);
+    final var secondWriter = mock(Writer.class);
+
+    final var firstFuture = groupCommitter.requestForce(firstWriter, Duration.ofMillis(50));
+    final var secondFuture = groupCommitter.requestForce(firstWriter, Duration.ofMillis(50));
+    final var thirdFuture = groupCommitter.requestForce(secondWriter, Duration.ofMillis(50));
+
+    assertSame(firstFuture, secondFuture);
+    assertSame(firstFuture, thirdFuture);
+
+    firstFuture.get(5, TimeUnit.SECONDS);
+
+    verify(firstWriter, times(1)).force();
+    verify(secondWriter, times(1)).force();
+  }
+
+  /**
+   * Tests that a new window is opened after a group has been forced.
+   */
+  @Test
+  public void newWindowAfterForce() throws Exception {
+    final var writer = mock(Writer.class);
+
+    final var firstFuture = groupCommitter.requestForce(writer, Duration.ZERO);
+    firstFuture.get(5, TimeUnit.SECONDS);
+    final var secondFuture = groupCommitter.requestForce(writer, Duration.ZERO);
+    secondFuture.get(5, TimeUnit.SECONDS);
+
+    assertNotSame(firstFuture, secondFuture);
+    verify(writer, times(2)).force();
+  }
+
+  /**
+   * Tests that the window of a group ends after the shortest group commit window of its requests.
+   */
+  @Test
+  public void shortestWindowEndsGroup() throws Exception {
+    final var writer = mock(Writer.class);
+
+    final var future = groupCommitter.requestForce(writer, Duration.ofHours(1));
+    groupCommitter.requestForce(writer, Duration.ofMillis(10));
+
+    future.get(5, TimeUnit.SECONDS);
+    verify(writer, times(1)).force();
+  }
+
+  /**
+   * Tests that {@link GroupCommitter#forceAll()} forces the pending group immediately.
+   */
+  @Test
+  public void forceAllForcesPendingGroup() {
+    final var writer = mock(Writer.class);
+
+    final var future = groupCommitter.requestForce(writer, Duration.ofHours(1));
+    assertFalse(future.isDone());
+
+    groupCommitter.forceAll();
+
+    assertTrue(future.isDone());
+    assertFalse(future.isCompletedExceptionally());
+    verify(writer, times(1)).force();
+  }
+
+  /**
+   * Tests that a failing writer completes the future of its group exceptionally, but all other
+   * writers are still forced.
+   */
+  @Test
+  public void failingForceCompletesExceptionally() {
+    final var failingWriter = mock(Writer.class);
+    final var writer = mock(Writer.class);
+    when(failingWriter.force()).thenThrow(new SirixIOException("force failed"));
+
+    final var future = groupCommitter.requestForce(failingWriter, Duration.ofHours(1));
+    groupCommitter.requestForce(writer, Duration.ofHours(1));
+    groupCommitter.forceAll();
+
+    final var exception = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(SirixIOException.class, exception.getCause());
+    verify(writer, times(1)).force();
+  }
+}
@@ -0,0 +1,96 @@
+package io.sirix.io;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the {@link IndexedRecordLog}.
+ */
+public final class IndexedRecordLogTest {
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testAppendAndReadRecords() throws IOException {
+    final var log = createLog();
+    append(log, 1, "first");
+    append(log, 2, "second record");
+
+    final ByteBuffer entries = log.readEntries();
+    assertEquals(2 * log.getEntrySize(), entries.limit());
+    assertEquals(2, entries.getInt(log.getEntrySize()));
+
+    try (final var records = log.openRecords()) {
+      assertEquals("first", readRecord(log, records, entries, 0));
+      assertEquals("second record", readRecord(log, records, entries, log.getEntrySize()));
+    }
+  }
+
+  @Test
+  public void testAppendedEntriesAreReadIncrementally() {
+    final var log = createLog();
+    append(log, 1, "first");
+
+    final ByteBuffer entries = log.readEntries();
+    assertSame(entries, log.readEntries(entries));
+
+    append(log, 2, "second");
+
+    final ByteBuffer newEntries = log.readEntries(entries);
+    assertEquals(2 * log.getEntrySize(), newEntries.limit());
+    assertEquals(1, newEntries.getInt(0));
+    assertEquals(2, newEntries.getInt(log.getEntrySize()));
+  }
+
+  @Test
+  public void testPartiallyWrittenEntryIsTruncatedBeforeAppending() throws IOException {
+    final var log = createLog();
+    append(log, 1, "first");
+
+    Files.write(indexFile(), new byte[] { 0, 0, 0, 2, 0 }, StandardOpenOption.APPEND);
+    assertEquals(log.getEntrySize(), log.readEntries().limit());
+
+    append(log, 2, "second");
+    append(log, 3, "third");
+
+    final ByteBuffer entries = log.readEntries();
+    assertEquals(3 * log.getEntrySize(), Files.size(indexFile()));
+    try (final var records = log.openRecords()) {
+      assertEquals(2, entries.getInt(log.getEntrySize()));
+      assertEquals("second", readRecord(log, records, entries, log.getEntrySize()));
+      assertEquals(3, entries.getInt(2 * log.getEntrySize()));
+      assertEquals("third", readRecord(log, records, entries, 2 * log.getEntrySize()));
+    }
+  }
+
+  private IndexedRecordLog createLog() {
+    return new IndexedRecordLog(folder.getRoot().toPath().resolve("records"), indexFile(), Integer.BYTES);
+  }
+
+  private Path indexFile() {
+    return folder.getRoot().toPath().resolve("index");
+  }
+
+  private static void append(final IndexedRecordLog log, final int header, final String record) {
+    log.append(ByteBuffer.allocate(Integer.BYTES).putInt(header).flip(),
+               ByteBuffer.wrap(record.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static String readRecord(final IndexedRecordLog log, final FileChannel records,
+      final ByteBuffer entries, final int position) throws IOException {
+    return StandardCharsets.UTF_8.decode(log.readRecord(records, entries, position)).toString();
+  }
+}
@@ -1,16 +1,27 @@
 package io.sirix.io.bytepipe;
 
 import com.google.common.io.ByteStreams;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.sirix.exception.SirixIOException;
 import io.sirix.XmlTestHelper;
+import io.sirix.page.PageKind;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
 
+import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertTrue;
 
@@ -70,6 +81,210 @@ public final class ByteHandlerTest {
     }
   }
 
+  /**
+   * Test method for {@link ByteHandler#serialize(ByteBuffer)} and
+   * {@link ByteHandler#deserialize(ByteBuffer)}, which must be compatible with the stream based
+   * methods in both directions.
+   */
+  @Test(dataProvider = "instantiateBufferByteHandler")
+  public void testSerializeAndDeserializeBuffers(ByteHandler handler) throws IOException {
+    // Compressible and incompressible data, spanning multiple compression blocks.
+    final byte[] random = XmlTestHelper.generateRandomBytes(100_000);
+    final byte[] compressible = new byte[150_000];
+    for (int i = 0; i < compressible.length; i++) {
+      compressible[i] = (byte) (i % 64);
+    }
+
+    for (final byte[] bytes : new byte[][] { random, compressible }) {
+      for (final boolean direct : new boolean[] { false, true }) {
+        final ByteBuffer source =
+            direct ? ByteBuffer.allocateDirect(bytes.length + 7) : ByteBuffer.allocate(bytes.length + 7);
+        source.position(7);
+        source.put(bytes).flip().position(7);
+
+        final ByteBuffer encoded = handler.serialize(source);
+        assertEquals(7, source.position());
+        assertFalse(toByteArray(encoded.duplicate()).length == 0);
+
+        // Buffer to buffer.
+        assertTrue(Arrays.equals(bytes, toByteArray(handler.deserialize(encoded.duplicate()))));
+
+        // Buffer to stream.
+        final byte[] encodedBytes = toByteArray(encoded.duplicate());
+        try (final InputStream input = handler.deserialize(new ByteArrayInputStream(encodedBytes))) {
+          assertTrue(Arrays.equals(bytes, input.readAllBytes()));
+        }
+
+        // Stream to buffer.
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (final OutputStream handledOutput = handler.serialize(output)) {
+          handledOutput.write(bytes);
+        }
+        final byte[] streamEncoded = output.toByteArray();
+        final ByteBuffer encodedBuffer = direct
+            ? ByteBuffer.allocateDirect(streamEncoded.length).put(streamEncoded).flip()
+            : ByteBuffer.wrap(streamEncoded);
+        assertTrue(Arrays.equals(bytes, toByteArray(handler.deserialize(encodedBuffer))));
+      }
+    }
+  }
+
+  /**
+   * Test the training of Zstandard dictionaries and that page fragments stay readable with older
+   * dictionary versions.
+   */
+  @Test
+  public void testZstdDictionaries() throws IOException {
+    final Path resourcePath = Files.createTempDirectory("sirix-zstd");
+    try {
+      final ZstdCompressor compressor = new ZstdCompressor(resourcePath, 3, 1);
+      final Random random = new Random(42);
+      final List<byte[]> leafPages = new ArrayList<>();
+      // Enough samples (about 8 MB) to trigger the training of the first dictionary.
+      for (int i = 0; i < 5_000; i++) {
+        leafPages.add(leafPage(random));
+      }
+
+      // Compressed without a dictionary.
+      final byte[] leafPage = leafPages.get(0);
+      final ByteBuffer withoutDictionary = compressor.serialize(ByteBuffer.wrap(leafPage));
+      assertEquals(0, withoutDictionary.getInt(0));
+
+      // Sampled leaf pages automatically train the first dictionary.
+      for (final byte[] page : leafPages) {
+        compressor.serialize(ByteBuffer.wrap(page));
+      }
+      final ByteBuffer withFirstDictionary = compressor.serialize(ByteBuffer.wrap(leafPage));
+      assertEquals(1, withFirstDictionary.getInt(0));
+      assertTrue(withFirstDictionary.remaining() < withoutDictionary.remaining());
+
+      assertEquals(2, compressor.trainDictionary(leafPages));
+      final ByteBuffer withSecondDictionary = compressor.getInstance().serialize(ByteBuffer.wrap(leafPage));
+      assertEquals(2, withSecondDictionary.getInt(0));
+
+      // A separately constructed instance shares the dictionaries.
+      final ZstdCompressor separate = new ZstdCompressor(resourcePath, 19, 1);
+      assertEquals(2, separate.serialize(ByteBuffer.wrap(leafPage)).getInt(0));
+
+      // Once removed from the registry, a new instance loads the dictionaries from the resource.
+      ZstdCompressor.removeDictionaries(resourcePath);
+      final ZstdCompressor reopened = new ZstdCompressor(resourcePath, 3, 1);
+      for (final ByteBuffer compressed : List.of(withoutDictionary, withFirstDictionary, withSecondDictionary)) {
+        assertTrue(Arrays.equals(leafPage, toByteArray(reopened.deserialize(compressed.duplicate()))));
+      }
+      assertEquals(2, reopened.serialize(ByteBuffer.wrap(leafPage)).getInt(0));
+    } finally {
+      ZstdCompressor.removeDictionaries(resourcePath);
+      delete(resourcePath);
+    }
+  }
+
+  /**
+   * Test that a dictionary, which has already been written (for instance by another process), is
+   * used instead of failing.
+   */
+  @Test
+  public void testZstdDictionaryWrittenConcurrently() throws IOException {
+    final Path resourcePath = Files.createTempDirectory("sirix-zstd");
+    try {
+      final Random random = new Random(42);
+      final List<byte[]> leafPages = new ArrayList<>();
+      for (int i = 0; i < 2_000; i++) {
+        leafPages.add(leafPage(random));
+      }
+      final byte[] leafPage = leafPages.get(0);
+
+      final ZstdCompressor compressor = new ZstdCompressor(resourcePath, 3, 1);
+      assertEquals(0, compressor.serialize(ByteBuffer.wrap(leafPage)).getInt(0));
+
+      // Simulate another process, which writes the first dictionary.
+      ZstdCompressor.removeDictionaries(resourcePath);
+      final ZstdCompressor otherCompressor = new ZstdCompressor(resourcePath, 3, 1);
+      assertEquals(1, otherCompressor.trainDictionary(leafPages.subList(0, 1_000)));
+      final ByteBuffer compressed = otherCompressor.serialize(ByteBuffer.wrap(leafPage));
+
+      assertEquals(1, compressor.trainDictionary(leafPages.subList(1_000, 2_000)));
+      assertTrue(Arrays.equals(leafPage, toByteArray(compressor.deserialize(compressed.duplicate()))));
+      assertEquals(compressed.remaining(), compressor.serialize(ByteBuffer.wrap(leafPage)).remaining());
+    } finally {
+      ZstdCompressor.removeDictionaries(resourcePath);
+      delete(resourcePath);
+    }
+  }
+
+  /**
+   * Test that the resource path isn't persisted, but resolved when the configuration is read.
+   */
+  @Test
+  public void testZstdCompressorConfiguration() throws IOException {
+    final Path resourcePath = Paths.get("some", "resource");
+    final var compressor = new ZstdCompressor(resourcePath, 5, 2);
+
+    final var json = new StringWriter();
+    try (final var writer = new JsonWriter(json)) {
+      writer.beginArray();
+      ByteHandlerKind.ZSTD_COMPRESSOR.serialize(compressor, writer);
+      writer.endArray();
+    }
+    assertFalse(json.toString().contains("some"));
+
+    final Path movedResourcePath = Paths.get("moved", "resource");
+    try (final var reader = new JsonReader(new StringReader(json.toString()))) {
+      reader.beginArray();
+      reader.beginObject();
+      assertEquals(ZstdCompressor.class.getName(), reader.nextName());
+      final var deserialized = (ZstdCompressor) ByteHandlerKind.ZSTD_COMPRESSOR.deserialize(reader, movedResourcePath);
+      assertEquals(movedResourcePath, deserialized.getResourcePath());
+      assertEquals(5, deserialized.getLeafPageLevel());
+      assertEquals(2, deserialized.getIndirectPageLevel());
+    } finally {
+      ZstdCompressor.removeDictionaries(resourcePath);
+      ZstdCompressor.removeDictionaries(movedResourcePath);
+    }
+  }
+
+  private static void delete(final Path directory) throws IOException {
+    try (final var files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  /**
+   * Generate a serialized leaf page with repetitive JSON like content.
+   */
+  private static byte[] leafPage(final Random random) {
+    final var builder = new StringBuilder();
+    for (int i = 0; i < 20; i++) {
+      builder.append("{\"name\":\"user").append(random.nextInt(10_000))
+             .append("\",\"email\":\"").append(Long.toHexString(random.nextLong()))
+             .append("@example.org\",\"active\":").append(random.nextBoolean()).append('}');
+    }
+    final byte[] content = builder.toString().getBytes(StandardCharsets.UTF_8);
+    final byte[] page = new byte[content.length + 1];
+    page[0] = PageKind.KEYVALUELEAFPAGE.getID();
+    System.arraycopy(content, 0, page, 1, content.length);
+    return page;
+  }
+
+  private static byte[] toByteArray(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  @DataProvider(name = "instantiateBufferByteHandler")
+  public Object[][] instantiateBufferByteHandler() {
+    final Path encryptionKeyPath = Paths.get("src", "test", "resources", "resourceName");
+
+    return new Object[][] { { new LZ4Compressor() }, { new SnappyCompressor() }, { new DeflateCompressor() },
+        { new Encryptor(encryptionKeyPath) }, { new ByteHandlerPipeline() },
+        { new ByteHandlerPipeline(new LZ4Compressor(), new Encryptor(encryptionKeyPath)) },
+        { new ByteHandlerPipeline(new Encryptor(encryptionKeyPath), new SnappyCompressor()) },
+        { new ByteHandlerPipeline(new DeflateCompressor(), new LZ4Compressor()) }, { new ZstdCompressor() },
+        { new ZstdCompressor(19, 1) },
+        { new ByteHandlerPipeline(new Encryptor(encryptionKeyPath), new ZstdCompressor()) } };
+  }
+
   /**
    * Providing different implementations of the {@link ByteHandler} as Dataprovider to the test
    * class.
@@ -0,0 +1,87 @@
+package io.sirix.io.memorymapped;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link MappedFile}.
+ */
+public final class MappedFileTest {
+
+  private static final long CHUNK_SIZE = 16;
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testSliceInChunkAndAcrossChunks() throws IOException {
+    final Path file = createFile(40);
+    final var mappedFile = new MappedFile(file, CHUNK_SIZE);
+
+    try {
+      assertArrayEquals(bytes(4, 8), mappedFile.slice(4, 8).toArray(ValueLayout.JAVA_BYTE));
+      assertArrayEquals(bytes(12, 20), mappedFile.slice(12, 20).toArray(ValueLayout.JAVA_BYTE));
+      assertArrayEquals(bytes(32, 8), mappedFile.slice(32, 8).toArray(ValueLayout.JAVA_BYTE));
+      assertEquals(40, mappedFile.mappedSize());
+    } finally {
+      mappedFile.release();
+    }
+  }
+
+  @Test
+  public void testMappingIsExtendedWhenTheFileGrows() throws IOException {
+    final Path file = createFile(20);
+    final var mappedFile = new MappedFile(file, CHUNK_SIZE);
+
+    try {
+      assertArrayEquals(bytes(0, 20), mappedFile.slice(0, 20).toArray(ValueLayout.JAVA_BYTE));
+
+      Files.write(file, bytes(20, 30), StandardOpenOption.APPEND);
+
+      assertEquals(20, mappedFile.mappedSize());
+      assertArrayEquals(bytes(14, 36), mappedFile.slice(14, 36).toArray(ValueLayout.JAVA_BYTE));
+      assertEquals(50, mappedFile.mappedSize());
+    } finally {
+      mappedFile.release();
+    }
+  }
+
+  @Test
+  public void testMappingIsClosedWithTheLastReference() throws IOException {
+    final var mappedFile = new MappedFile(createFile(8), CHUNK_SIZE);
+
+    assertTrue(mappedFile.retain());
+    mappedFile.release();
+    assertEquals(bytes(0, 8)[4], mappedFile.slice(4, 1).get(ValueLayout.JAVA_BYTE, 0));
+    mappedFile.release();
+    assertFalse(mappedFile.retain());
+  }
+
+  private Path createFile(final int size) throws IOException {
+    final Path file = folder.newFile().toPath();
+    Files.write(file, bytes(0, size));
+    return file;
+  }
+
+  private static byte[] bytes(final int from, final int length) {
+    final var bytes = new byte[length];
+
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) (from + i);
+    }
+
+    return bytes;
+  }
+}
@@ -39,6 +39,8 @@ import io.sirix.settings.Constants;
 import io.sirix.settings.Fixed;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
 
 import static org.junit.Assert.*;
@@ -87,6 +89,43 @@ public class NumberNodeTest {
     check(node2);
   }
 
+  @Test
+  public void testPrimitiveValues() {
+    checkSerialization(7, NumberType.INTEGER);
+    checkSerialization(-3, NumberType.INTEGER);
+    checkSerialization(Integer.MAX_VALUE, NumberType.INTEGER);
+    checkSerialization(42L, NumberType.LONG);
+    checkSerialization(Long.MIN_VALUE, NumberType.LONG);
+    checkSerialization(2.5F, NumberType.FLOAT);
+    checkSerialization(-0.125D, NumberType.DOUBLE);
+    checkSerialization(new BigInteger("123456789012345678901234567890"), NumberType.BIG_INTEGER);
+    checkSerialization(new BigDecimal("1234.5678"), NumberType.BIG_DECIMAL);
+  }
+
+  private void checkSerialization(final Number value, final NumberType numberType) {
+    final NodeDelegate del = new NodeDelegate(13,
+                                              14,
+                                              LongHashFunction.xx3(), Constants.NULL_REVISION_NUMBER,
+                                              0,
+                                              SirixDeweyID.newRootID());
+    final StructNodeDelegate strucDel =
+        new StructNodeDelegate(del, Fixed.NULL_NODE_KEY.getStandardProperty(), 16L, 15L, 0L, 0L);
+    final NumberNode node = new NumberNode(value, strucDel);
+    final long hash = node.computeHash(Bytes.elasticHeapByteBuffer());
+
+    final Bytes<ByteBuffer> data = Bytes.elasticHeapByteBuffer();
+    node.getKind().serialize(data, node, pageTrx.getResourceSession().getResourceConfig());
+    final NumberNode node2 = (NumberNode) NodeKind.NUMBER_VALUE.deserialize(data, node.getNodeKey(), null, pageTrx.getResourceSession().getResourceConfig());
+
+    assertEquals(numberType, node2.getNumberType());
+    assertEquals(value, node2.getValue());
+    assertEquals(value.longValue(), node2.getLongValue());
+    assertEquals(value.doubleValue(), node2.getDoubleValue(), 0);
+    assertEquals(String.valueOf(value), node2.getValueAsString());
+    assertEquals(hash, node2.computeHash(Bytes.elasticHeapByteBuffer()));
+    assertEquals(16L, node2.getRightSiblingKey());
+  }
+
   private void check(final NumberNode node) {
     // Now compare.
     assertEquals(13L, node.getNodeKey());
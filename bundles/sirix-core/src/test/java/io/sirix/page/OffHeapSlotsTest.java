@@ -0,0 +1,49 @@
+package io.sirix.page;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.ValueLayout;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class OffHeapSlotsTest {
+
+  @Test
+  public void testSlotsAndDeweyIdsAreRestored() {
+    final byte[][] slots = new byte[4][];
+    final byte[][] deweyIds = new byte[4][];
+    slots[0] = new byte[] { 1, 2, 3 };
+    slots[2] = new byte[] { 4 };
+    deweyIds[2] = new byte[] { 5, 6 };
+
+    final OffHeapSlots offHeapSlots = OffHeapSlots.of(slots, deweyIds);
+
+    assertEquals(2, offHeapSlots.getNumberOfRecords());
+    assertTrue(offHeapSlots.hasSlot(0));
+    assertFalse(offHeapSlots.hasSlot(1));
+    assertArrayEquals(slots[0], offHeapSlots.getSlotAsBytes(0));
+    assertNull(offHeapSlots.getSlotAsBytes(1));
+    assertArrayEquals(slots[2], offHeapSlots.getSlot(2).toArray(ValueLayout.JAVA_BYTE));
+    assertNull(offHeapSlots.getDeweyIdAsBytes(0));
+    assertArrayEquals(deweyIds[2], offHeapSlots.getDeweyIdAsBytes(2));
+  }
+
+  @Test
+  public void testMemoryIsFreedWithTheLastReference() {
+    final OffHeapSlots offHeapSlots = OffHeapSlots.of(new byte[][] { { 1 } }, new byte[1][]);
+
+    assertTrue(offHeapSlots.retain());
+    offHeapSlots.release();
+    assertArrayEquals(new byte[] { 1 }, offHeapSlots.getSlotAsBytes(0));
+
+    offHeapSlots.release();
+    assertFalse(offHeapSlots.isAlive());
+    assertFalse(offHeapSlots.retain());
+    assertThrows(IllegalStateException.class, () -> offHeapSlots.getSlotAsBytes(0));
+  }
+}
@@ -0,0 +1,170 @@
+package io.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.sirix.JsonTestHelper;
+import io.sirix.access.DatabaseConfiguration;
+import io.sirix.access.Databases;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.access.trx.node.HashType;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.service.json.serialize.JsonSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParallelJsonReaderTest {
+
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  @BeforeEach
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testTokensOfArray() throws IOException {
+    assertSameTokens("[1, \"a,]\\\"b\", {\"c\": [true, null]}, [], {}, 2.5e3, \"}\"]");
+  }
+
+  @Test
+  public void testTokensOfObject() throws IOException {
+    assertSameTokens("{\"a\": 1, \"b,\": {\"c\": [1, 2, 3]}, \"d\": \"\\\\\", \"e\": false}");
+  }
+
+  @Test
+  public void testTokensOfFile() throws IOException {
+    assertSameTokens(Files.readString(JSON.resolve("twitter.json")));
+  }
+
+  @Test
+  public void testTokensOfScalar() throws IOException {
+    assertSameTokens("\"scalar\"");
+  }
+
+  @Test
+  public void testTruncatedDocument() throws IOException {
+    try (final var reader = new ParallelJsonReader(new StringReader("[1, 2, {\"a\": 3"), 2, 1)) {
+      assertThrows(IOException.class, () -> {
+        while (reader.peek() != JsonToken.END_DOCUMENT) {
+          reader.skipValue();
+        }
+      });
+    }
+  }
+
+  @Test
+  public void testFailingSplitter() throws IOException {
+    final var failure = new IllegalStateException("failure");
+    final var in = new FilterReader(new StringReader("[1, 2, 3, 4")) {
+      private boolean isRead;
+
+      @Override
+      public int read(final char[] buffer, final int offset, final int length) throws IOException {
+        if (isRead) {
+          throw failure;
+        }
+        isRead = true;
+        return super.read(buffer, offset, length);
+      }
+    };
+
+    try (final var reader = new ParallelJsonReader(in, 2, 1)) {
+      final var exception = assertThrows(IllegalStateException.class, () -> {
+        while (reader.peek() != JsonToken.END_DOCUMENT) {
+          reader.skipValue();
+        }
+      });
+      assertSame(failure, exception);
+    }
+  }
+
+  @Test
+  public void testShreddedResourcesAreIdentical() throws IOException {
+    final Path jsonPath = JSON.resolve("twitter.json");
+    final Path databasePath = JsonTestHelper.PATHS.PATH1.getFile();
+    Databases.createJsonDatabase(new DatabaseConfiguration(databasePath));
+
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      shred(database, "sequential", JsonShredder.createFileReader(jsonPath));
+      shred(database,
+            "parallel",
+            new ParallelJsonReader(Files.newBufferedReader(jsonPath), 3, 64));
+
+      try (final var sequentialSession = database.beginResourceSession("sequential");
+           final var parallelSession = database.beginResourceSession("parallel");
+           final var sequentialRtx = sequentialSession.beginNodeReadOnlyTrx();
+           final var parallelRtx = parallelSession.beginNodeReadOnlyTrx()) {
+        assertEquals(serialize(sequentialSession), serialize(parallelSession));
+        sequentialRtx.moveToFirstChild();
+        parallelRtx.moveToFirstChild();
+        assertEquals(sequentialRtx.getHash(), parallelRtx.getHash());
+        assertEquals(sequentialRtx.getDescendantCount(), parallelRtx.getDescendantCount());
+        assertEquals(sequentialRtx.getMaxNodeKey(), parallelRtx.getMaxNodeKey());
+      }
+    }
+  }
+
+  private static void shred(final Database<JsonResourceSession> database, final String resource,
+      final JsonReader reader) throws IOException {
+    database.createResource(ResourceConfiguration.newBuilder(resource).hashKind(HashType.ROLLING).build());
+    try (reader;
+         final var session = database.beginResourceSession(resource);
+         final var wtx = session.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(reader);
+    }
+  }
+
+  private static String serialize(final JsonResourceSession session) {
+    final var writer = new StringWriter();
+    new JsonSerializer.Builder(session, writer).build().call();
+    return writer.toString();
+  }
+
+  private static void assertSameTokens(final String json) throws IOException {
+    // Tiny partitions, such that nearly each member is tokenized separately.
+    try (final var reader = new ParallelJsonReader(new StringReader(json), 3, 1)) {
+      assertEquals(tokens(JsonShredder.createStringReader(json)), tokens(reader));
+    }
+  }
+
+  private static List<String> tokens(final JsonReader reader) throws IOException {
+    final var tokens = new ArrayList<String>();
+    JsonToken token;
+    while ((token = reader.peek()) != JsonToken.END_DOCUMENT) {
+      switch (token) {
+        case BEGIN_ARRAY -> reader.beginArray();
+        case END_ARRAY -> reader.endArray();
+        case BEGIN_OBJECT -> reader.beginObject();
+        case END_OBJECT -> reader.endObject();
+        case NAME -> tokens.add(reader.nextName());
+        case STRING, NUMBER -> tokens.add(reader.nextString());
+        case BOOLEAN -> tokens.add(String.valueOf(reader.nextBoolean()));
+        case NULL -> reader.nextNull();
+        default -> throw new AssertionError();
+      }
+      tokens.add(token.name());
+    }
+    return tokens;
+  }
+}
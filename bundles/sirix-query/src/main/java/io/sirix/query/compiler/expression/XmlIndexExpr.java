@@ -0,0 +1,161 @@
+package io.sirix.query.compiler.expression;
+
+import io.brackit.query.QueryContext;
+import io.brackit.query.QueryException;
+import io.brackit.query.Tuple;
+import io.brackit.query.atomic.Atomic;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.jdm.Expr;
+import io.brackit.query.jdm.Item;
+import io.brackit.query.jdm.Sequence;
+import io.brackit.query.sequence.ItemSequence;
+import io.brackit.query.util.ExprUtil;
+import io.brackit.query.util.path.Path;
+import io.sirix.access.trx.node.xml.XmlIndexController;
+import io.sirix.api.xml.XmlNodeReadOnlyTrx;
+import io.sirix.index.IndexDef;
+import io.sirix.index.IndexType;
+import io.sirix.index.SearchMode;
+import io.sirix.index.cas.CASFilter;
+import io.sirix.index.name.NameFilter;
+import io.sirix.index.path.PathFilter;
+import io.sirix.index.path.xml.XmlPCRCollector;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.node.NodeKind;
+import io.sirix.query.SirixQueryContext;
+import io.sirix.query.function.xml.XMLFun;
+import io.sirix.query.node.XmlDBCollection;
+import io.sirix.query.node.XmlDBNode;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Evaluates an XPath expression over a stored XML resource by scanning a path, name or CAS index
+ * instead of traversing the document. Created by the XML index matching walkers.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class XmlIndexExpr implements Expr {
+
+  private final String databaseName;
+
+  private final String resourceName;
+
+  private final int revision;
+
+  private final IndexType indexType;
+
+  private final Map<IndexDef, List<Path<QNm>>> indexDefsToPaths;
+
+  private final Map<String, Object> properties;
+
+  @SuppressWarnings("unchecked")
+  public XmlIndexExpr(final Map<String, Object> properties) {
+    this.properties = requireNonNull(properties);
+    databaseName = (String) properties.get("databaseName");
+    resourceName = (String) properties.get("resourceName");
+    revision = (Integer) properties.get("revision");
+    indexType = (IndexType) properties.get("indexType");
+    indexDefsToPaths = (Map<IndexDef, List<Path<QNm>>>) properties.get("indexDefs");
+  }
+
+  @Override
+  public Sequence evaluate(QueryContext ctx, Tuple tuple) throws QueryException {
+    final XmlDBCollection collection = ((SirixQueryContext) ctx).getNodeStore().lookup(databaseName);
+    final XmlDBNode document =
+        revision == -1 ? collection.getDocument(resourceName) : collection.getDocument(resourceName, revision);
+    final XmlNodeReadOnlyTrx rtx = document.getTrx();
+    final var indexController =
+        (XmlIndexController) rtx.getResourceSession().getRtxIndexController(rtx.getRevisionNumber());
+
+    final LongSet nodeKeys = new LongLinkedOpenHashSet();
+
+    for (final Map.Entry<IndexDef, List<Path<QNm>>> entry : indexDefsToPaths.entrySet()) {
+      final Set<Path<QNm>> paths = new HashSet<>(entry.getValue());
+
+      final Iterator<NodeReferences> nodeReferences = switch (indexType) {
+        case PATH -> indexController.openPathIndex(rtx.getPageTrx(),
+                                                   entry.getKey(),
+                                                   new PathFilter(paths, new XmlPCRCollector(rtx)));
+        case NAME -> indexController.openNameIndex(rtx.getPageTrx(),
+                                                   entry.getKey(),
+                                                   new NameFilter(Set.of((QNm) properties.get("name")), Set.of()));
+        case CAS -> indexController.openCASIndex(rtx.getPageTrx(),
+                                                 entry.getKey(),
+                                                 new CASFilter(paths,
+                                                               (Atomic) properties.get("atomic"),
+                                                               getSearchMode((String) properties.get("comparator")),
+                                                               new XmlPCRCollector(rtx)));
+        default -> throw new QueryException(XMLFun.ERR_INVALID_INDEX_TYPE, "Index type not known: " + indexType);
+      };
+
+      nodeReferences.forEachRemaining(references -> references.getNodeKeys().forEach(nodeKeys::add));
+    }
+
+    final var nodes = new ArrayList<XmlDBNode>(nodeKeys.size());
+    final var resultNodeKeys = new LongLinkedOpenHashSet(nodeKeys.size());
+    final int predicateLevel = properties.get("predicateLevel") == null ? 0 : (Integer) properties.get("predicateLevel");
+
+    nodeKeys.forEach(nodeKey -> {
+      rtx.moveTo(nodeKey);
+
+      // The name index also contains the attributes and processing instructions with the name.
+      if (indexType == IndexType.NAME && rtx.getKind() != NodeKind.ELEMENT) {
+        return;
+      }
+
+      // The CAS index contains the text or attribute nodes, the query selects their (ancestor) element.
+      for (int level = 0; level < predicateLevel; level++) {
+        rtx.moveToParent();
+      }
+
+      if (resultNodeKeys.add(rtx.getNodeKey())) {
+        nodes.add(new XmlDBNode(rtx, collection));
+      }
+    });
+
+    if (nodes.isEmpty()) {
+      return null;
+    }
+
+    // The index is ordered by its keys, the path expression has to return the nodes in document order.
+    nodes.sort(XmlDBNode::cmp);
+
+    return new ItemSequence(nodes.toArray(new Item[0]));
+  }
+
+  private static SearchMode getSearchMode(final String comparisonType) {
+    return switch (comparisonType) {
+      case "ValueCompGT", "GeneralCompGT" -> SearchMode.GREATER;
+      case "ValueCompLT", "GeneralCompLT" -> SearchMode.LOWER;
+      case "ValueCompEQ", "GeneralCompEQ" -> SearchMode.EQUAL;
+      case "ValueCompGE", "GeneralCompGE" -> SearchMode.GREATER_OR_EQUAL;
+      case "ValueCompLE", "GeneralCompLE" -> SearchMode.LOWER_OR_EQUAL;
+      case null, default -> throw new IllegalStateException("Unexpected value: " + comparisonType);
+    };
+  }
+
+  @Override
+  public Item evaluateToItem(QueryContext ctx, Tuple tuple) throws QueryException {
+    return ExprUtil.asItem(evaluate(ctx, tuple));
+  }
+
+  @Override
+  public boolean isUpdating() {
+    return false;
+  }
+
+  @Override
+  public boolean isVacuous() {
+    return false;
+  }
+}
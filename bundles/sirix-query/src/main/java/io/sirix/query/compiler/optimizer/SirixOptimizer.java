@@ -12,6 +12,9 @@ import io.brackit.query.compiler.optimizer.TopDownOptimizer;
 import io.brackit.query.module.StaticContext;
 import io.sirix.query.compiler.optimizer.walker.json.JsonCASStep;
 import io.sirix.query.compiler.optimizer.walker.json.JsonObjectKeyNameStep;
+import io.sirix.query.compiler.optimizer.walker.xml.XmlCASStep;
+import io.sirix.query.compiler.optimizer.walker.xml.XmlNameStep;
+import io.sirix.query.compiler.optimizer.walker.xml.XmlPathStep;
 import io.sirix.query.json.JsonDBStore;
 import io.sirix.query.node.XmlDBStore;
 
@@ -39,6 +42,12 @@ public final class SirixOptimizer extends TopDownOptimizer {
       ast = new JsonPathStep(jsonItemStore).walk(ast);
       ast = new JsonObjectKeyNameStep(jsonItemStore).walk(ast);
 
+      if (xmlNodeStore != null) {
+        ast = new XmlCASStep(xmlNodeStore).walk(ast);
+        ast = new XmlPathStep(xmlNodeStore).walk(ast);
+        ast = new XmlNameStep(xmlNodeStore).walk(ast);
+      }
+
       return ast;
     }
   }
@@ -19,7 +19,9 @@ import io.sirix.api.json.JsonResourceSession;
 import io.sirix.index.IndexDef;
 import io.sirix.index.path.summary.PathSummaryReader;
 import io.sirix.node.NodeKind;
+import io.sirix.utils.LogWrapper;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.function.Function;
@@ -27,6 +29,8 @@ import java.util.stream.Collector;
 
 abstract class AbstractJsonPathWalker extends ScopeWalker {
 
+  private static final LogWrapper LOG_WRAPPER = new LogWrapper(LoggerFactory.getLogger(AbstractJsonPathWalker.class));
+
   private static final int MIN_NODE_NUMBER = Cfg.asInt("org.sirix.xquery.optimize.min.node.number", 0);
 
   private final JsonDBStore jsonDBStore;
@@ -121,6 +125,17 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
                                                       foundIndexDefsToPredicateLevels);
 
       if (!notFound) {
+        if (IndexCostModel.isCostBased() && !isIndexScanCheaper(astNode,
+                                                                rtx,
+                                                                revisionData,
+                                                                resMgr,
+                                                                pathSummary,
+                                                                pathNodeKeys,
+                                                                foundIndexDefsToPaths,
+                                                                foundIndexDefsToPredicateLevels)) {
+          return null;
+        }
+
         return replaceFoundAST(astNode,
                                revisionData,
                                foundIndexDefsToPaths,
@@ -133,6 +148,65 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
     return null;
   }
 
+  private boolean isIndexScanCheaper(AST astNode, JsonNodeReadOnlyTrx rtx, RevisionData revisionData,
+      JsonResourceSession resMgr, PathSummaryReader pathSummary, List<Integer> pathNodeKeys,
+      Map<IndexDef, List<Path<QNm>>> foundIndexDefsToPaths, Map<IndexDef, Integer> foundIndexDefsToPredicateLevels) {
+    final int indexes = foundIndexDefsToPaths.size();
+    final int predicateLevel = foundIndexDefsToPredicateLevels.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    final long pathCardinality = IndexCostModel.pathCardinality(pathSummary, pathNodeKeys);
+    final double navigationCost =
+        IndexCostModel.navigationCost(pathSummary, pathNodeKeys, containsDescendantStep(astNode));
+    final var indexController = revisionData.revision() == -1
+        ? resMgr.getRtxIndexController(resMgr.getMostRecentRevisionNumber())
+        : resMgr.getRtxIndexController(revisionData.revision());
+    final long estimatedResults = estimateResults(rtx,
+                                                  indexController,
+                                                  foundIndexDefsToPaths,
+                                                  pathCardinality,
+                                                  IndexCostModel.maxResults(indexes, navigationCost, predicateLevel));
+    final var estimate = IndexCostModel.choose(indexes, estimatedResults, predicateLevel, navigationCost);
+
+    LOG_WRAPPER.debug("Plan for paths {} in {}/{}: {} (estimated results: {}, index scan cost: {}, navigation cost: {})",
+                      foundIndexDefsToPaths.values(),
+                      revisionData.databaseName(),
+                      revisionData.resourceName(),
+                      estimate.plan(),
+                      estimate.estimatedResults(),
+                      estimate.indexScanCost(),
+                      estimate.navigationCost());
+
+    return estimate.plan() == IndexCostModel.Plan.INDEX_SCAN;
+  }
+
+  private static boolean containsDescendantStep(AST astNode) {
+    if (astNode.getType() == XQ.DerefDescendantExpr) {
+      return true;
+    }
+
+    for (int i = 0, length = astNode.getChildCount(); i < length; i++) {
+      if (containsDescendantStep(astNode.getChild(i))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Estimate the number of results of the index scan.
+   *
+   * @param rtx                   the read-only transaction
+   * @param indexController       the index controller
+   * @param foundIndexDefsToPaths the index definitions and the paths to scan
+   * @param pathCardinality       the number of nodes of the matching paths
+   * @param limit                 the number of results, above which navigation is cheaper
+   * @return the estimated number of results, only exact up to {@code limit + 1}
+   */
+  long estimateResults(JsonNodeReadOnlyTrx rtx, IndexController<JsonNodeReadOnlyTrx, JsonNodeTrx> indexController,
+      Map<IndexDef, List<Path<QNm>>> foundIndexDefsToPaths, long pathCardinality, long limit) {
+    return pathCardinality;
+  }
+
   @NonNull
   private static AST replaceAstNodeWithEmptySequenceAstNode(AST astNode) {
     // no path node keys found: replace with empty sequence node
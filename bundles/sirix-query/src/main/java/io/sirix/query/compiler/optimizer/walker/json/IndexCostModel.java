@@ -0,0 +1,213 @@
+package io.sirix.query.compiler.optimizer.walker.json;
+
+import io.brackit.query.util.Cfg;
+import io.sirix.index.path.summary.PathSummaryReader;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+
+/**
+ * Estimates, whether answering a path expression with an index scan is cheaper than navigating
+ * the document.
+ *
+ * <p>The statistics are derived from the path summary, which counts the nodes of each path class
+ * (its references), thus no further statistics have to be maintained on updates:</p>
+ * <ul>
+ * <li>Navigation visits all children of the instances of each path class on the way from the
+ * document root to the matching path classes (all nodes, if the query contains a descendant
+ * step).</li>
+ * <li>An index scan descends into the index once and afterwards accesses each result node
+ * randomly by its node key and moves to the ancestor selected by the predicate.</li>
+ * </ul>
+ *
+ * <p>The number of results of a path or name index scan is the cardinality of the indexed path
+ * classes. The number of results of a CAS index scan is counted by probing the index, which is
+ * stopped as soon as the index scan would be more expensive than navigation.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class IndexCostModel {
+
+  /**
+   * Determines if the plan is chosen based on the estimated costs, otherwise a matching index is
+   * always used.
+   */
+  private static volatile boolean costBased = Cfg.asBool("org.sirix.xquery.optimize.index.costbased", true);
+
+  /**
+   * The cost of visiting a node during navigation (the nodes are mostly stored on the same pages).
+   */
+  private static final double NAVIGATION_NODE_COST = 1.0;
+
+  /**
+   * The cost of descending into an index.
+   */
+  private static final double INDEX_OPEN_COST = 16.0;
+
+  /**
+   * The cost of reading an index entry and moving to the node by its key (random page access).
+   */
+  private static final double INDEX_ENTRY_COST = 3.0;
+
+  /**
+   * The cost of moving from an indexed node to its parent.
+   */
+  private static final double PARENT_MOVE_COST = 1.0;
+
+  /**
+   * The chosen plan.
+   */
+  enum Plan {
+    INDEX_SCAN,
+
+    NAVIGATION
+  }
+
+  /**
+   * The estimation of both plans.
+   *
+   * @param plan             the cheaper plan
+   * @param estimatedResults the (minimum) number of results of the index scan
+   * @param indexScanCost    the cost of the index scan
+   * @param navigationCost   the cost of navigating the document
+   */
+  record Estimate(Plan plan, long estimatedResults, double indexScanCost, double navigationCost) {
+  }
+
+  private IndexCostModel() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Determines if the plan is chosen based on the estimated costs.
+   *
+   * @return {@code true}, if the plan is chosen based on the estimated costs, {@code false}, if a
+   * matching index is always used
+   */
+  public static boolean isCostBased() {
+    return costBased;
+  }
+
+  /**
+   * Set if the plan is chosen based on the estimated costs (affects queries compiled afterwards).
+   *
+   * @param costBased {@code true}, if the plan should be chosen based on the estimated costs,
+   *                  {@code false}, if a matching index should always be used
+   */
+  public static void setCostBased(final boolean costBased) {
+    IndexCostModel.costBased = costBased;
+  }
+
+  /**
+   * Get the number of nodes of the given path classes.
+   *
+   * @param pathSummary  the path summary
+   * @param pathNodeKeys the path node keys (PCRs)
+   * @return the number of nodes
+   */
+  static long pathCardinality(final PathSummaryReader pathSummary, final Collection<Integer> pathNodeKeys) {
+    long cardinality = 0;
+
+    for (final int pathNodeKey : pathNodeKeys) {
+      cardinality += pathSummary.getPathNodeForPathNodeKey(pathNodeKey).getReferences();
+    }
+
+    return cardinality;
+  }
+
+  /**
+   * Estimate the cost of navigating to the nodes of the given path classes.
+   *
+   * @param pathSummary   the path summary
+   * @param pathNodeKeys  the path node keys (PCRs) of the query result
+   * @param descendantAxis {@code true}, if the query contains a descendant step
+   * @return the estimated cost
+   */
+  static double navigationCost(final PathSummaryReader pathSummary, final Collection<Integer> pathNodeKeys,
+      final boolean descendantAxis) {
+    long visitedNodes = 0;
+
+    if (descendantAxis) {
+      pathSummary.moveToDocumentRoot();
+      final var pathNodes = new ArrayDeque<Long>();
+      pathNodes.push(pathSummary.getNodeKey());
+
+      while (!pathNodes.isEmpty()) {
+        pathSummary.moveTo(pathNodes.pop());
+
+        if (pathSummary.moveToFirstChild()) {
+          do {
+            visitedNodes += pathSummary.getReferences();
+            pathNodes.push(pathSummary.getNodeKey());
+          } while (pathSummary.moveToRightSibling());
+        }
+      }
+    } else {
+      final LongSet ancestors = new LongLinkedOpenHashSet();
+
+      for (final int pathNodeKey : pathNodeKeys) {
+        pathSummary.moveTo(pathNodeKey);
+
+        while (pathSummary.moveToParent() && ancestors.add(pathSummary.getNodeKey())) {
+          // Collect the ancestors, whose children are visited.
+        }
+      }
+
+      for (final long ancestor : ancestors) {
+        pathSummary.moveTo(ancestor);
+
+        if (pathSummary.moveToFirstChild()) {
+          do {
+            visitedNodes += pathSummary.getReferences();
+          } while (pathSummary.moveToRightSibling());
+        }
+      }
+    }
+
+    return visitedNodes * NAVIGATION_NODE_COST;
+  }
+
+  /**
+   * Estimate the cost of an index scan.
+   *
+   * @param indexes        the number of scanned indexes
+   * @param results        the number of results
+   * @param predicateLevel the number of moves to the parent for each result
+   * @return the estimated cost
+   */
+  static double indexScanCost(final int indexes, final long results, final int predicateLevel) {
+    return indexes * INDEX_OPEN_COST + results * (INDEX_ENTRY_COST + predicateLevel * PARENT_MOVE_COST);
+  }
+
+  /**
+   * Get the maximum number of results, for which the index scan is cheaper than navigation. Used
+   * to stop probing an index.
+   *
+   * @param indexes        the number of scanned indexes
+   * @param navigationCost the cost of navigating the document
+   * @param predicateLevel the number of moves to the parent for each result
+   * @return the maximum number of results
+   */
+  static long maxResults(final int indexes, final double navigationCost, final int predicateLevel) {
+    final double budget = navigationCost - indexes * INDEX_OPEN_COST;
+    return budget <= 0 ? 0 : (long) (budget / (INDEX_ENTRY_COST + predicateLevel * PARENT_MOVE_COST));
+  }
+
+  /**
+   * Choose the cheaper plan.
+   *
+   * @param indexes          the number of scanned indexes
+   * @param estimatedResults the number of results
+   * @param predicateLevel   the number of moves to the parent for each result
+   * @param navigationCost   the cost of navigating the document
+   * @return the estimate including the cheaper plan
+   */
+  static Estimate choose(final int indexes, final long estimatedResults, final int predicateLevel,
+      final double navigationCost) {
+    final double indexScanCost = indexScanCost(indexes, estimatedResults, predicateLevel);
+    final Plan plan = indexScanCost <= navigationCost ? Plan.INDEX_SCAN : Plan.NAVIGATION;
+    return new Estimate(plan, estimatedResults, indexScanCost, navigationCost);
+  }
+}
@@ -14,6 +14,11 @@ import io.sirix.access.trx.node.IndexController;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.index.IndexDef;
+import io.sirix.index.SearchMode;
+import io.sirix.index.cas.CASFilter;
+import io.sirix.index.cas.CASFilterRange;
+import io.sirix.index.path.json.JsonPCRCollector;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 import java.util.*;
 
@@ -110,6 +115,69 @@ public final class JsonCASStep extends AbstractJsonPathWalker {
     return indexController.getIndexes().findCASIndex(pathToFoundNode, type);
   }
 
+  @Override
+  long estimateResults(JsonNodeReadOnlyTrx rtx, IndexController<JsonNodeReadOnlyTrx, JsonNodeTrx> indexController,
+      Map<IndexDef, List<Path<QNm>>> foundIndexDefsToPaths, long pathCardinality, long limit) {
+    final var searchMode = getSearchMode(comparatorData.getComparator());
+    final var upperBoundSearchMode = getSearchMode(comparatorData.getUpperBoundComparator());
+
+    if (searchMode == null) {
+      return pathCardinality;
+    }
+
+    // Probe the index up to the number of results, for which the index scan is still cheaper.
+    long results = 0;
+
+    for (final var indexDefToPaths : foundIndexDefsToPaths.entrySet()) {
+      final var paths = new HashSet<>(indexDefToPaths.getValue());
+      final Iterator<NodeReferences> nodeReferences;
+
+      if (comparatorData.getUpperBoundAtomic() != null && upperBoundSearchMode != null) {
+        nodeReferences = indexController.openCASIndex(rtx.getPageTrx(),
+                                                      indexDefToPaths.getKey(),
+                                                      new CASFilterRange(paths,
+                                                                         comparatorData.getAtomic(),
+                                                                         comparatorData.getUpperBoundAtomic(),
+                                                                         searchMode == SearchMode.GREATER_OR_EQUAL,
+                                                                         upperBoundSearchMode
+                                                                             == SearchMode.LOWER_OR_EQUAL,
+                                                                         new JsonPCRCollector(rtx)));
+      } else {
+        nodeReferences = indexController.openCASIndex(rtx.getPageTrx(),
+                                                      indexDefToPaths.getKey(),
+                                                      new CASFilter(paths,
+                                                                    comparatorData.getAtomic(),
+                                                                    searchMode,
+                                                                    new JsonPCRCollector(rtx)));
+      }
+
+      while (nodeReferences.hasNext()) {
+        results += nodeReferences.next().getNodeKeys().getLongCardinality();
+
+        if (results > limit) {
+          return results;
+        }
+      }
+    }
+
+    return results;
+  }
+
+  private static SearchMode getSearchMode(String comparator) {
+    if (comparator == null) {
+      return null;
+    }
+
+    return switch (comparator) {
+      case "ValueCompGT", "GeneralCompGT" -> SearchMode.GREATER;
+      case "ValueCompLT", "GeneralCompLT" -> SearchMode.LOWER;
+      case "ValueCompEQ", "GeneralCompEQ" -> SearchMode.EQUAL;
+      case "ValueCompGE", "GeneralCompGE" -> SearchMode.GREATER_OR_EQUAL;
+      case "ValueCompLE", "GeneralCompLE" -> SearchMode.LOWER_OR_EQUAL;
+      default -> null;
+    };
+  }
+
   @Override
   public Optional<AST> getPredicatePathStep(AST node, Deque<QueryPathSegment> predicatePathSegmentsToArrayIndexes) {
     for (int i = 0, length = node.getChildCount(); i < length; i++) {
@@ -0,0 +1,257 @@
+package io.sirix.query.compiler.optimizer.walker.xml;
+
+import io.brackit.query.atomic.Numeric;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.compiler.AST;
+import io.brackit.query.compiler.XQ;
+import io.brackit.query.compiler.optimizer.walker.topdown.ScopeWalker;
+import io.brackit.query.util.Cfg;
+import io.brackit.query.util.path.Path;
+import io.brackit.query.util.path.PathException;
+import io.brackit.query.util.path.PathParser;
+import io.sirix.access.trx.node.IndexController;
+import io.sirix.api.xml.XmlNodeReadOnlyTrx;
+import io.sirix.api.xml.XmlNodeTrx;
+import io.sirix.index.IndexDef;
+import io.sirix.query.compiler.XQExt;
+import io.sirix.query.compiler.optimizer.walker.json.RevisionData;
+import io.sirix.query.function.xml.XMLFun;
+import io.sirix.query.node.XmlDBCollection;
+import io.sirix.query.node.XmlDBStore;
+import io.sirix.utils.LogWrapper;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Base class of the walkers, which rewrite XPath expressions on a stored XML document
+ * ({@code xml:doc($database, $resource[, $revision])/...}) into scans of a matching index.
+ *
+ * <p>The steps of the path expression are translated into a path, which is matched against the
+ * path summary of the resource. If an index covers all path class references (PCRs) of the
+ * matching paths, the path expression is replaced by an {@link XQExt#XmlIndexExpr}.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+abstract class AbstractXmlPathWalker extends ScopeWalker {
+
+  private static final LogWrapper LOG_WRAPPER = new LogWrapper(LoggerFactory.getLogger(AbstractXmlPathWalker.class));
+
+  private static final int MIN_NODE_NUMBER = Cfg.asInt("org.sirix.xquery.optimize.min.node.number", 0);
+
+  private static final QNm DOC = new QNm(XMLFun.XML_NSURI, XMLFun.XML_PREFIX, "doc");
+
+  private final XmlDBStore xmlDBStore;
+
+  AbstractXmlPathWalker(final XmlDBStore xmlDBStore) {
+    this.xmlDBStore = xmlDBStore;
+  }
+
+  /**
+   * Find the index for a path of the path summary.
+   *
+   * @param path            the path of a path summary node, which matches the query path
+   * @param indexController the index controller of the revision
+   * @return the index definition, if an index covers the path
+   */
+  abstract Optional<IndexDef> findIndex(Path<QNm> path,
+      IndexController<XmlNodeReadOnlyTrx, XmlNodeTrx> indexController);
+
+  /**
+   * Translate the steps {@code [1, endIndex)} of a path expression into a path.
+   *
+   * @param pathExpr                the path expression
+   * @param endIndex                the index of the first step, which isn't translated
+   * @param skipPredicateOfLastStep {@code true}, if the last step may have a predicate, which is
+   *                                evaluated by the walker itself
+   * @return the path as a string or {@code null}, if a step can't be answered by an index
+   */
+  @Nullable
+  String toPath(final AST pathExpr, final int endIndex, final boolean skipPredicateOfLastStep) {
+    final var path = new StringBuilder();
+    boolean descendant = false;
+
+    for (int i = 1; i < endIndex; i++) {
+      final AST step = pathExpr.getChild(i);
+
+      if (step.getType() != XQ.StepExpr
+          || step.getChildCount() != (skipPredicateOfLastStep && i == endIndex - 1 ? 3 : 2)) {
+        return null;
+      }
+
+      final int axis = step.getChild(0).getChild(0).getType();
+      final AST nodeTest = step.getChild(1);
+
+      if (axis == XQ.DESCENDANT_OR_SELF && nodeTest.getType() == XQ.KindTestAnyKind && !descendant) {
+        // The abbreviated syntax "//".
+        descendant = true;
+        continue;
+      }
+
+      final String name = getName(nodeTest);
+
+      if (name == null) {
+        return null;
+      }
+
+      switch (axis) {
+        case XQ.CHILD -> path.append(descendant ? "//" : "/").append(name);
+        case XQ.DESCENDANT -> path.append("//").append(name);
+        case XQ.ATTRIBUTE -> {
+          if (i != endIndex - 1) {
+            return null;
+          }
+          path.append(descendant ? "//@" : "/@").append(name);
+        }
+        default -> {
+          return null;
+        }
+      }
+
+      descendant = false;
+    }
+
+    return descendant || path.isEmpty() ? null : path.toString();
+  }
+
+  /**
+   * Get the local name of a name test without a namespace.
+   *
+   * @param nodeTest the node test
+   * @return the name or {@code null}, if it's not a (simple) name test
+   */
+  @Nullable
+  static String getName(final AST nodeTest) {
+    if (nodeTest.getType() != XQ.NameTest || nodeTest.getChildCount() != 1
+        || !(nodeTest.getChild(0).getValue() instanceof QNm name)) {
+      return null;
+    }
+
+    final String namespaceURI = name.getNamespaceURI();
+
+    if (namespaceURI != null && !namespaceURI.isEmpty()) {
+      return null;
+    }
+
+    return name.getLocalName();
+  }
+
+  /**
+   * Get the database, the resource and the revision, if the input of the path expression is a call of
+   * {@code xml:doc} with literal arguments.
+   *
+   * @param pathExpr the path expression
+   * @return the revision data or {@code null}
+   */
+  @Nullable
+  static RevisionData getRevisionData(final AST pathExpr) {
+    final AST input = pathExpr.getChild(0);
+
+    if (input.getType() != XQ.FunctionCall || !DOC.equals(input.getValue()) || input.getChildCount() < 2
+        || input.getChild(0).getType() != XQ.Str || input.getChild(1).getType() != XQ.Str) {
+      return null;
+    }
+
+    final int revision;
+
+    if (input.getChildCount() > 2) {
+      if (!(input.getChild(2).getValue() instanceof Numeric numeric)) {
+        return null;
+      }
+      revision = numeric.intValue();
+    } else {
+      revision = -1;
+    }
+
+    return new RevisionData(input.getChild(0).getStringValue(), input.getChild(1).getStringValue(), revision);
+  }
+
+  /**
+   * Find the indexes, which cover all paths of the path summary matching the query path.
+   *
+   * @param revisionData the document
+   * @param queryPath    the query path
+   * @return the found index definitions mapped to the paths of the path summary (empty if no path
+   * matches), or {@code null}, if the document is too small or at least one path isn't indexed
+   */
+  @Nullable
+  Map<IndexDef, List<Path<QNm>>> findIndexDefs(final RevisionData revisionData, final String queryPath) {
+    final XmlDBCollection collection = xmlDBStore.lookup(revisionData.databaseName());
+
+    if (collection == null) {
+      return null;
+    }
+
+    try (final var manager = collection.getDatabase().beginResourceSession(revisionData.resourceName());
+         final var rtx = revisionData.revision() == -1
+             ? manager.beginNodeReadOnlyTrx()
+             : manager.beginNodeReadOnlyTrx(revisionData.revision());
+         final var pathSummary = manager.openPathSummary(rtx.getRevisionNumber())) {
+      if (rtx.getDescendantCount() < MIN_NODE_NUMBER) {
+        return null;
+      }
+
+      final var indexController = manager.getRtxIndexController(rtx.getRevisionNumber());
+      final var foundIndexDefs = new HashMap<IndexDef, List<Path<QNm>>>();
+
+      for (final long pathNodeKey : pathSummary.getPCRsForPath(Path.parse(queryPath, PathParser.Type.XML))) {
+        pathSummary.moveTo(pathNodeKey);
+        final Path<QNm> path = pathSummary.getPath();
+        final Optional<IndexDef> indexDef = findIndex(path, indexController);
+
+        if (indexDef.isEmpty()) {
+          return null;
+        }
+
+        foundIndexDefs.computeIfAbsent(indexDef.get(), unused -> new ArrayList<>()).add(path);
+      }
+
+      return foundIndexDefs;
+    } catch (final PathException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Replace an AST node either with an index expression or with the empty sequence, if no path of
+   * the path summary matches the query path.
+   *
+   * @param astNode        the AST node to replace
+   * @param revisionData   the document
+   * @param foundIndexDefs the found index definitions
+   * @param properties     additional properties of the index expression
+   * @return the new AST node
+   */
+  static AST replace(final AST astNode, final RevisionData revisionData,
+      final Map<IndexDef, List<Path<QNm>>> foundIndexDefs, final Map<String, Object> properties) {
+    final AST replacement;
+
+    if (foundIndexDefs.isEmpty()) {
+      replacement = new AST(XQ.EmptySequenceType);
+    } else {
+      final var indexType = foundIndexDefs.keySet().iterator().next().getType();
+      replacement = new AST(XQExt.XmlIndexExpr, XQExt.toName(XQExt.XmlIndexExpr));
+      replacement.setProperty("indexType", indexType);
+      replacement.setProperty("indexDefs", foundIndexDefs);
+      replacement.setProperty("databaseName", revisionData.databaseName());
+      replacement.setProperty("resourceName", revisionData.resourceName());
+      replacement.setProperty("revision", revisionData.revision());
+      properties.forEach(replacement::setProperty);
+
+      LOG_WRAPPER.debug("Rewrote path expression on {}/{} into a scan of the {} indexes {}",
+                        revisionData.databaseName(),
+                        revisionData.resourceName(),
+                        indexType,
+                        foundIndexDefs.keySet());
+    }
+
+    astNode.getParent().replaceChild(astNode.getChildIndex(), replacement);
+
+    return replacement;
+  }
+}
@@ -0,0 +1,149 @@
+package io.sirix.query.compiler.optimizer.walker.xml;
+
+import io.brackit.query.atomic.Atomic;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.compiler.AST;
+import io.brackit.query.compiler.XQ;
+import io.brackit.query.util.path.Path;
+import io.sirix.access.trx.node.IndexController;
+import io.sirix.api.xml.XmlNodeReadOnlyTrx;
+import io.sirix.api.xml.XmlNodeTrx;
+import io.sirix.index.IndexDef;
+import io.sirix.query.node.XmlDBStore;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Rewrites path expressions, whose last step has a single comparison with a literal as its
+ * predicate, into a scan of a CAS index, for instance
+ * {@code xml:doc('db','res')//book[@year = 2004]}, {@code xml:doc('db','res')//book[title = 'Dune']}
+ * or {@code xml:doc('db','res')//book/title[. = 'Dune']}.
+ *
+ * <p>The CAS index contains the text nodes (keyed by the path of their parent element) and the
+ * attributes, thus the compared value is the value of the text node and not the string value of a
+ * (mixed content) element.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class XmlCASStep extends AbstractXmlPathWalker {
+
+  private static final Set<String> COMPARATORS =
+      Set.of("ValueCompGT", "GeneralCompGT", "ValueCompLT", "GeneralCompLT", "ValueCompEQ", "GeneralCompEQ",
+             "ValueCompGE", "GeneralCompGE", "ValueCompLE", "GeneralCompLE");
+
+  private Atomic atomic;
+
+  public XmlCASStep(final XmlDBStore xmlDBStore) {
+    super(xmlDBStore);
+  }
+
+  @Override
+  protected AST visit(AST astNode) {
+    if (astNode.getType() != XQ.PathExpr) {
+      return astNode;
+    }
+
+    final var revisionData = getRevisionData(astNode);
+
+    if (revisionData == null) {
+      return astNode;
+    }
+
+    final AST lastStep = astNode.getChild(astNode.getChildCount() - 1);
+
+    if (lastStep.getType() != XQ.StepExpr || lastStep.getChildCount() != 3
+        || lastStep.getChild(2).getType() != XQ.Predicate) {
+      return astNode;
+    }
+
+    final AST comparison = lastStep.getChild(2).getChild(0);
+
+    if (comparison.getType() != XQ.ComparisonExpr || comparison.getChildCount() != 3
+        || !COMPARATORS.contains(comparison.getChild(0).getStringValue())
+        || !(comparison.getChild(2).getValue() instanceof Atomic comparedAtomic)) {
+      return astNode;
+    }
+
+    final String stepPath = toPath(astNode, astNode.getChildCount(), true);
+
+    if (stepPath == null || stepPath.contains("@")) {
+      return astNode;
+    }
+
+    final var operand = getOperandStep(comparison.getChild(1));
+    final String queryPath;
+    final int predicateLevel;
+
+    if (operand == null) {
+      return astNode;
+    } else if (operand.getType() == XQ.ContextItemExpr
+        || operand.getChild(0).getChild(0).getType() == XQ.CHILD && operand.getChild(1).getType() == XQ.KindTestText) {
+      queryPath = stepPath;
+      predicateLevel = 1;
+    } else if (getName(operand.getChild(1)) == null) {
+      return astNode;
+    } else if (operand.getChild(0).getChild(0).getType() == XQ.ATTRIBUTE) {
+      queryPath = stepPath + "/@" + getName(operand.getChild(1));
+      predicateLevel = 1;
+    } else if (operand.getChild(0).getChild(0).getType() == XQ.CHILD) {
+      queryPath = stepPath + "/" + getName(operand.getChild(1));
+      predicateLevel = 2;
+    } else {
+      return astNode;
+    }
+
+    atomic = comparedAtomic;
+
+    final var foundIndexDefs = findIndexDefs(revisionData, queryPath);
+
+    if (foundIndexDefs == null) {
+      return astNode;
+    }
+
+    return replace(astNode,
+                   revisionData,
+                   foundIndexDefs,
+                   Map.of("atomic",
+                          comparedAtomic,
+                          "comparator",
+                          comparison.getChild(0).getStringValue(),
+                          "predicateLevel",
+                          predicateLevel));
+  }
+
+  /**
+   * Get the compared operand of the predicate, either the context item or a single step without a
+   * predicate.
+   *
+   * @param operand the left operand of the comparison
+   * @return the context item expression, the step or {@code null}
+   */
+  @Nullable
+  private static AST getOperandStep(final AST operand) {
+    if (operand.getType() == XQ.ContextItemExpr) {
+      return operand;
+    }
+
+    final AST step;
+
+    if (operand.getType() == XQ.PathExpr && operand.getChildCount() == 1) {
+      step = operand.getChild(0);
+    } else {
+      step = operand;
+    }
+
+    if (step.getType() != XQ.StepExpr || step.getChildCount() != 2) {
+      return null;
+    }
+
+    return step;
+  }
+
+  @Override
+  Optional<IndexDef> findIndex(Path<QNm> path, IndexController<XmlNodeReadOnlyTrx, XmlNodeTrx> indexController) {
+    return indexController.getIndexes().findCASIndex(path, atomic.type());
+  }
+}
@@ -0,0 +1,65 @@
+package io.sirix.query.compiler.optimizer.walker.xml;
+
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.compiler.AST;
+import io.brackit.query.compiler.XQ;
+import io.brackit.query.util.path.Path;
+import io.sirix.access.trx.node.IndexController;
+import io.sirix.api.xml.XmlNodeReadOnlyTrx;
+import io.sirix.api.xml.XmlNodeTrx;
+import io.sirix.index.IndexDef;
+import io.sirix.query.node.XmlDBStore;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rewrites a single descendant step from the document, for instance {@code xml:doc('db','res')//title},
+ * into a scan of a name index. The name index contains all nodes with the name regardless of their
+ * path, thus other path expressions can't be answered by it.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class XmlNameStep extends AbstractXmlPathWalker {
+
+  private QNm name;
+
+  public XmlNameStep(final XmlDBStore xmlDBStore) {
+    super(xmlDBStore);
+  }
+
+  @Override
+  protected AST visit(AST astNode) {
+    if (astNode.getType() != XQ.PathExpr) {
+      return astNode;
+    }
+
+    final var revisionData = getRevisionData(astNode);
+
+    if (revisionData == null) {
+      return astNode;
+    }
+
+    final String queryPath = toPath(astNode, astNode.getChildCount(), false);
+
+    if (queryPath == null || !queryPath.startsWith("//") || queryPath.indexOf('/', 2) != -1
+        || queryPath.indexOf('@') != -1) {
+      return astNode;
+    }
+
+    name = new QNm(queryPath.substring(2));
+
+    final var foundIndexDefs = findIndexDefs(revisionData, queryPath);
+
+    if (foundIndexDefs == null) {
+      return astNode;
+    }
+
+    return replace(astNode, revisionData, foundIndexDefs, Map.of("name", name));
+  }
+
+  @Override
+  Optional<IndexDef> findIndex(Path<QNm> path, IndexController<XmlNodeReadOnlyTrx, XmlNodeTrx> indexController) {
+    return indexController.getIndexes().findNameIndex(name);
+  }
+}
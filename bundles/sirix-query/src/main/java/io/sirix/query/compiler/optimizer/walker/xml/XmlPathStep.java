@@ -0,0 +1,59 @@
+package io.sirix.query.compiler.optimizer.walker.xml;
+
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.compiler.AST;
+import io.brackit.query.compiler.XQ;
+import io.brackit.query.util.path.Path;
+import io.sirix.access.trx.node.IndexController;
+import io.sirix.api.xml.XmlNodeReadOnlyTrx;
+import io.sirix.api.xml.XmlNodeTrx;
+import io.sirix.index.IndexDef;
+import io.sirix.query.node.XmlDBStore;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rewrites path expressions without predicates, for instance {@code xml:doc('db','res')//book/title},
+ * into a scan of a path index.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class XmlPathStep extends AbstractXmlPathWalker {
+
+  public XmlPathStep(final XmlDBStore xmlDBStore) {
+    super(xmlDBStore);
+  }
+
+  @Override
+  protected AST visit(AST astNode) {
+    if (astNode.getType() != XQ.PathExpr) {
+      return astNode;
+    }
+
+    final var revisionData = getRevisionData(astNode);
+
+    if (revisionData == null) {
+      return astNode;
+    }
+
+    final String queryPath = toPath(astNode, astNode.getChildCount(), false);
+
+    if (queryPath == null) {
+      return astNode;
+    }
+
+    final var foundIndexDefs = findIndexDefs(revisionData, queryPath);
+
+    if (foundIndexDefs == null) {
+      return astNode;
+    }
+
+    return replace(astNode, revisionData, foundIndexDefs, Map.of());
+  }
+
+  @Override
+  Optional<IndexDef> findIndex(Path<QNm> path, IndexController<XmlNodeReadOnlyTrx, XmlNodeTrx> indexController) {
+    return indexController.getIndexes().findPathIndex(path);
+  }
+}
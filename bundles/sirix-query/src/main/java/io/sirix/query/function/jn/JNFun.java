@@ -1,9 +1,12 @@
 package io.sirix.query.function.jn;
 
 import io.brackit.query.jdm.type.*;
+import io.sirix.query.function.jn.column.AggregateColumn;
+import io.sirix.query.function.jn.column.ScanColumn;
 import io.sirix.query.function.jn.diff.Diff;
 import io.sirix.query.function.jn.index.create.CreateCASIndex;
 import io.sirix.query.function.jn.index.create.CreateNameIndex;
+import io.sirix.query.function.jn.index.create.CreateNumberColumnIndex;
 import io.sirix.query.function.jn.index.create.CreatePathIndex;
 import io.sirix.query.function.jn.index.find.FindCASIndex;
 import io.sirix.query.function.jn.index.find.FindNameIndex;
@@ -23,6 +26,7 @@ import io.brackit.query.module.Functions;
 import static io.brackit.query.compiler.XQ.ItemType;
 import static io.sirix.query.function.jn.index.create.CreateCASIndex.CREATE_CAS_INDEX;
 import static io.sirix.query.function.jn.index.create.CreateNameIndex.CREATE_NAME_INDEX;
+import static io.sirix.query.function.jn.index.create.CreateNumberColumnIndex.CREATE_NUMBER_COLUMN_INDEX;
 import static io.sirix.query.function.jn.index.create.CreatePathIndex.CREATE_PATH_INDEX;
 import static io.sirix.query.function.jn.index.find.FindCASIndex.FIND_CAS_INDEX;
 import static io.sirix.query.function.jn.index.find.FindNameIndex.FIND_NAME_INDEX;
@@ -188,6 +192,15 @@ public final class JNFun {
     Functions.predefine(new CreatePathIndex(CREATE_PATH_INDEX,
                                             new Signature(SequenceType.JSON_ITEM, SequenceType.JSON_ITEM)));
 
+    // create-number-column-index
+    Functions.predefine(new CreateNumberColumnIndex(CREATE_NUMBER_COLUMN_INDEX,
+                                                    new Signature(SequenceType.JSON_ITEM,
+                                                                  SequenceType.JSON_ITEM,
+                                                                  new SequenceType(AtomicType.STR,
+                                                                                   Cardinality.ZeroOrMany))));
+    Functions.predefine(new CreateNumberColumnIndex(CREATE_NUMBER_COLUMN_INDEX,
+                                                    new Signature(SequenceType.JSON_ITEM, SequenceType.JSON_ITEM)));
+
     // create-cas-index
     Functions.predefine(new CreateCASIndex(CREATE_CAS_INDEX,
                                            new Signature(SequenceType.JSON_ITEM,
@@ -207,6 +220,34 @@ public final class JNFun {
     Functions.predefine(new ScanCASIndexRange());
     Functions.predefine(new ScanNameIndex());
 
+    // number columns
+    Functions.predefine(new AggregateColumn(AggregateColumn.COLUMN_COUNT,
+                                            new Signature(SequenceType.INTEGER,
+                                                          SequenceType.JSON_ITEM,
+                                                          SequenceType.STRING),
+                                            AggregateColumn.Aggregation.COUNT));
+    Functions.predefine(new AggregateColumn(AggregateColumn.COLUMN_SUM,
+                                            new Signature(new SequenceType(AtomicType.ANA, Cardinality.One),
+                                                          SequenceType.JSON_ITEM,
+                                                          SequenceType.STRING),
+                                            AggregateColumn.Aggregation.SUM));
+    Functions.predefine(new AggregateColumn(AggregateColumn.COLUMN_MIN,
+                                            new Signature(new SequenceType(AtomicType.ANA, Cardinality.ZeroOrOne),
+                                                          SequenceType.JSON_ITEM,
+                                                          SequenceType.STRING),
+                                            AggregateColumn.Aggregation.MIN));
+    Functions.predefine(new AggregateColumn(AggregateColumn.COLUMN_MAX,
+                                            new Signature(new SequenceType(AtomicType.ANA, Cardinality.ZeroOrOne),
+                                                          SequenceType.JSON_ITEM,
+                                                          SequenceType.STRING),
+                                            AggregateColumn.Aggregation.MAX));
+    Functions.predefine(new AggregateColumn(AggregateColumn.COLUMN_AVG,
+                                            new Signature(new SequenceType(AtomicType.DBL, Cardinality.ZeroOrOne),
+                                                          SequenceType.JSON_ITEM,
+                                                          SequenceType.STRING),
+                                            AggregateColumn.Aggregation.AVG));
+    Functions.predefine(new ScanColumn());
+
     // diff
     Functions.predefine(new Diff(Diff.DIFF,
                                  new Signature(SequenceType.STRING,
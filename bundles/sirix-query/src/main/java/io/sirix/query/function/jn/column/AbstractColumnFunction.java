@@ -0,0 +1,65 @@
+package io.sirix.query.function.jn.column;
+
+import io.brackit.query.QueryException;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.function.AbstractFunction;
+import io.brackit.query.jdm.Signature;
+import io.brackit.query.util.path.Path;
+import io.brackit.query.util.path.PathException;
+import io.brackit.query.util.path.PathParser;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.NumberColumn;
+import io.sirix.index.path.summary.PathSummaryReader;
+import io.sirix.query.function.jn.JNFun;
+import io.sirix.query.json.JsonDBItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Base class of the functions, which operate on the number columns of the path classes matching a
+ * path.
+ *
+ * @author Johannes Lichtenberger
+ */
+public abstract class AbstractColumnFunction extends AbstractFunction {
+  public AbstractColumnFunction(QNm name, Signature signature, boolean isBuiltIn) {
+    super(name, signature, isBuiltIn);
+  }
+
+  /**
+   * Get the number columns of the path classes matching a path in the revision of a document.
+   *
+   * @param doc  the document
+   * @param path the path
+   * @return the number columns, ordered by the path node keys
+   * @throws QueryException if the resource doesn't have a path summary or if the path is invalid
+   */
+  protected List<NumberColumn> getNumberColumns(final JsonDBItem doc, final String path) {
+    final JsonNodeReadOnlyTrx rtx = doc.getTrx();
+
+    if (!rtx.getResourceSession().getResourceConfig().withPathSummary) {
+      throw new QueryException(JNFun.ERR_INVALID_ARGUMENT, "The resource %s doesn't have a path summary.",
+                               rtx.getResourceSession().getResourceConfig().getResource().getFileName().toString());
+    }
+
+    final long[] pathNodeKeys;
+
+    try (final PathSummaryReader pathSummary = rtx.getResourceSession().openPathSummary(rtx.getRevisionNumber())) {
+      pathNodeKeys = pathSummary.getPCRsForPath(Path.parse(path, PathParser.Type.JSON)).toLongArray();
+    } catch (final PathException e) {
+      throw new QueryException(e, JNFun.ERR_INVALID_ARGUMENT, "Invalid path: %s", path);
+    }
+
+    Arrays.sort(pathNodeKeys);
+
+    final var columns = new ArrayList<NumberColumn>(pathNodeKeys.length);
+
+    for (final long pathNodeKey : pathNodeKeys) {
+      columns.add(rtx.getNumberColumn(pathNodeKey));
+    }
+
+    return columns;
+  }
+}
@@ -0,0 +1,159 @@
+package io.sirix.query.function.jn.column;
+
+import io.brackit.query.QueryContext;
+import io.brackit.query.atomic.Dbl;
+import io.brackit.query.atomic.Int32;
+import io.brackit.query.atomic.Int64;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.function.json.JSONFun;
+import io.brackit.query.jdm.Sequence;
+import io.brackit.query.jdm.Signature;
+import io.brackit.query.module.StaticContext;
+import io.sirix.api.json.NumberColumn;
+import io.sirix.query.function.FunUtil;
+import io.sirix.query.json.JsonDBItem;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Function for aggregating the number values of the path classes matching a path. The values are
+ * aggregated over the number columns of the path classes instead of navigating the document.
+ *
+ * Supported signatures are:
+ * </p>
+ * <ul>
+ * <li><code>jn:column-count($doc as json-item(), $path as xs:string) as xs:integer</code></li>
+ * <li><code>jn:column-sum($doc as json-item(), $path as xs:string) as xs:numeric</code></li>
+ * <li><code>jn:column-min($doc as json-item(), $path as xs:string) as xs:numeric?</code></li>
+ * <li><code>jn:column-max($doc as json-item(), $path as xs:string) as xs:numeric?</code></li>
+ * <li><code>jn:column-avg($doc as json-item(), $path as xs:string) as xs:double?</code></li>
+ * </ul>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class AggregateColumn extends AbstractColumnFunction {
+
+  /** Count function name. */
+  public final static QNm COLUMN_COUNT = new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "column-count");
+
+  /** Sum function name. */
+  public final static QNm COLUMN_SUM = new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "column-sum");
+
+  /** Minimum function name. */
+  public final static QNm COLUMN_MIN = new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "column-min");
+
+  /** Maximum function name. */
+  public final static QNm COLUMN_MAX = new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "column-max");
+
+  /** Average function name. */
+  public final static QNm COLUMN_AVG = new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "column-avg");
+
+  /**
+   * The aggregation.
+   */
+  public enum Aggregation {
+    COUNT,
+
+    SUM,
+
+    MIN,
+
+    MAX,
+
+    AVG
+  }
+
+  private final Aggregation aggregation;
+
+  /**
+   * Constructor.
+   *
+   * @param name        the name of the function
+   * @param signature   the signature of the function
+   * @param aggregation the aggregation
+   */
+  public AggregateColumn(QNm name, Signature signature, Aggregation aggregation) {
+    super(name, signature, true);
+    this.aggregation = aggregation;
+  }
+
+  @Override
+  public Sequence execute(StaticContext sctx, QueryContext ctx, Sequence[] args) {
+    final JsonDBItem doc = (JsonDBItem) args[0];
+    final String path = FunUtil.getString(args, 1, "$path", null, null, true);
+    final List<NumberColumn> columns = getNumberColumns(doc, path);
+
+    long count = 0;
+    boolean integral = true;
+
+    for (final NumberColumn column : columns) {
+      count += column.size();
+      integral &= column.isIntegral();
+    }
+
+    return switch (aggregation) {
+      case COUNT -> new Int64(count);
+      case SUM -> count == 0 ? new Int32(0) : integral ? new Int64(longSum(columns)) : new Dbl(doubleSum(columns));
+      case MIN -> count == 0 ? null : integral ? new Int64(longMin(columns)) : new Dbl(doubleMin(columns));
+      case MAX -> count == 0 ? null : integral ? new Int64(longMax(columns)) : new Dbl(doubleMax(columns));
+      case AVG -> count == 0 ? null : new Dbl(doubleSum(columns) / count);
+    };
+  }
+
+  private static long longSum(final List<NumberColumn> columns) {
+    long sum = 0;
+    for (final NumberColumn column : columns) {
+      sum = Math.addExact(sum, column.longSum());
+    }
+    return sum;
+  }
+
+  private static double doubleSum(final List<NumberColumn> columns) {
+    double sum = 0;
+    for (final NumberColumn column : columns) {
+      sum += column.doubleSum();
+    }
+    return sum;
+  }
+
+  private static long longMin(final List<NumberColumn> columns) {
+    long min = Long.MAX_VALUE;
+    for (final NumberColumn column : columns) {
+      if (column.size() > 0) {
+        min = Math.min(min, column.longMin());
+      }
+    }
+    return min;
+  }
+
+  private static long longMax(final List<NumberColumn> columns) {
+    long max = Long.MIN_VALUE;
+    for (final NumberColumn column : columns) {
+      if (column.size() > 0) {
+        max = Math.max(max, column.longMax());
+      }
+    }
+    return max;
+  }
+
+  private static double doubleMin(final List<NumberColumn> columns) {
+    double min = Double.POSITIVE_INFINITY;
+    for (final NumberColumn column : columns) {
+      if (column.size() > 0) {
+        min = Math.min(min, column.doubleMin());
+      }
+    }
+    return min;
+  }
+
+  private static double doubleMax(final List<NumberColumn> columns) {
+    double max = Double.NEGATIVE_INFINITY;
+    for (final NumberColumn column : columns) {
+      if (column.size() > 0) {
+        max = Math.max(max, column.doubleMax());
+      }
+    }
+    return max;
+  }
+}
@@ -0,0 +1,93 @@
+package io.sirix.query.function.jn.column;
+
+import io.brackit.query.QueryContext;
+import io.brackit.query.QueryException;
+import io.brackit.query.atomic.Numeric;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.function.json.JSONFun;
+import io.brackit.query.jdm.Item;
+import io.brackit.query.jdm.Sequence;
+import io.brackit.query.jdm.Signature;
+import io.brackit.query.jdm.type.AnyJsonItemType;
+import io.brackit.query.jdm.type.AtomicType;
+import io.brackit.query.jdm.type.Cardinality;
+import io.brackit.query.jdm.type.SequenceType;
+import io.brackit.query.module.StaticContext;
+import io.brackit.query.sequence.ItemSequence;
+import io.brackit.query.util.annotation.FunctionAnnotation;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.NumberColumn;
+import io.sirix.query.function.FunUtil;
+import io.sirix.query.function.jn.JNFun;
+import io.sirix.query.json.JsonDBItem;
+import io.sirix.query.json.JsonItemFactory;
+
+import java.util.ArrayList;
+
+/**
+ * <p>
+ * Function for scanning the number columns of the path classes matching a path for values in a
+ * range. Returns the number items in node key order per path class.
+ *
+ * Supported signatures are:
+ * </p>
+ * <ul>
+ * <li><code>jn:scan-column($doc as json-item(), $path as xs:string, $min as xs:anyAtomicType?,
+ * $max as xs:anyAtomicType?) as json-item()*</code></li>
+ * </ul>
+ *
+ * @author Johannes Lichtenberger
+ */
+@FunctionAnnotation(description = "Scans the number columns of a path for values in an inclusive range.",
+    parameters = {"$doc", "$path", "$min", "$max"})
+public final class ScanColumn extends AbstractColumnFunction {
+
+  /** Default function name. */
+  public final static QNm DEFAULT_NAME = new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "scan-column");
+
+  /**
+   * Constructor.
+   */
+  public ScanColumn() {
+    super(DEFAULT_NAME,
+        new Signature(new SequenceType(AnyJsonItemType.ANY_JSON_ITEM, Cardinality.ZeroOrMany), SequenceType.JSON_ITEM,
+            SequenceType.STRING, new SequenceType(AtomicType.ANA, Cardinality.ZeroOrOne),
+            new SequenceType(AtomicType.ANA, Cardinality.ZeroOrOne)),
+        true);
+  }
+
+  @Override
+  public Sequence execute(StaticContext sctx, QueryContext ctx, Sequence[] args) {
+    final JsonDBItem doc = (JsonDBItem) args[0];
+    final String path = FunUtil.getString(args, 1, "$path", null, null, true);
+    final double min = getBound(args, 2, "$min", Double.NEGATIVE_INFINITY);
+    final double max = getBound(args, 3, "$max", Double.POSITIVE_INFINITY);
+
+    final JsonNodeReadOnlyTrx rtx = doc.getTrx();
+    final var jsonItemFactory = new JsonItemFactory();
+    final var items = new ArrayList<Item>();
+
+    for (final NumberColumn column : getNumberColumns(doc, path)) {
+      for (final long nodeKey : column.selectNodeKeys(min, max)) {
+        rtx.moveTo(nodeKey);
+        items.add(jsonItemFactory.getSequence(rtx, doc.getCollection()));
+      }
+    }
+
+    return items.isEmpty() ? null : new ItemSequence(items.toArray(new Item[0]));
+  }
+
+  private static double getBound(final Sequence[] args, final int pos, final String parameterName,
+      final double defaultValue) {
+    if (pos >= args.length || args[pos] == null) {
+      return defaultValue;
+    }
+
+    if (!(args[pos] instanceof Numeric numeric)) {
+      throw new QueryException(JNFun.ERR_INVALID_ARGUMENT, "Invalid parameter %s. Expected a number.",
+                               parameterName);
+    }
+
+    return numeric.doubleValue();
+  }
+}
@@ -0,0 +1,105 @@
+package io.sirix.query.function.jn.index.create;
+
+import com.google.common.collect.ImmutableSet;
+import io.brackit.query.QueryContext;
+import io.brackit.query.QueryException;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.atomic.Str;
+import io.brackit.query.function.AbstractFunction;
+import io.brackit.query.function.json.JSONFun;
+import io.brackit.query.jdm.Item;
+import io.brackit.query.jdm.Iter;
+import io.brackit.query.jdm.Sequence;
+import io.brackit.query.jdm.Signature;
+import io.brackit.query.module.StaticContext;
+import io.brackit.query.util.path.Path;
+import io.brackit.query.util.path.PathParser;
+import io.sirix.access.trx.node.json.JsonIndexController;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.exception.SirixIOException;
+import io.sirix.index.IndexDef;
+import io.sirix.index.IndexDefs;
+import io.sirix.query.json.JsonDBItem;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Function for creating number column indexes on stored documents, optionally restricted to a set
+ * of paths. A number column index stores the number values of each indexed path class, which are
+ * read by the column functions (for instance <code>jn:column-sum</code>) instead of navigating the
+ * document. If successful, this function returns statistics about the newly created index as an
+ * Json fragment. Supported signatures are:<br>
+ * <ul>
+ * <li><code>jn:create-number-column-index($doc as json-item(), $paths as xs:string*) as json-item()</code></li>
+ * <li><code>jn:create-number-column-index($doc as json-item()) as json-item()</code></li>
+ * </ul>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class CreateNumberColumnIndex extends AbstractFunction {
+
+  /** Number column index function name. */
+  public final static QNm CREATE_NUMBER_COLUMN_INDEX =
+      new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "create-number-column-index");
+
+  /**
+   * Constructor.
+   *
+   * @param name      the name of the function
+   * @param signature the signature of the function
+   */
+  public CreateNumberColumnIndex(QNm name, Signature signature) {
+    super(name, signature, true);
+  }
+
+  @Override
+  public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
+    if (args.length != 1 && args.length != 2) {
+      throw new QueryException(new QNm("No valid arguments specified!"));
+    }
+
+    final JsonDBItem doc = (JsonDBItem) args[0];
+    final JsonNodeReadOnlyTrx rtx = doc.getTrx();
+    final JsonResourceSession manager = rtx.getResourceSession();
+
+    if (!manager.getResourceConfig().withPathSummary) {
+      throw new QueryException(new QNm("Number column indexes require a path summary."));
+    }
+
+    final JsonNodeTrx wtx = manager.getNodeTrx().orElseGet(manager::beginNodeTrx);
+
+    if (rtx.getRevisionNumber() < manager.getMostRecentRevisionNumber()) {
+      wtx.revertTo(rtx.getRevisionNumber());
+    }
+
+    final JsonIndexController controller = wtx.getResourceSession().getWtxIndexController(wtx.getRevisionNumber() - 1);
+
+    if (controller == null) {
+      throw new QueryException(new QNm("Document not found."));
+    }
+
+    final Set<Path<QNm>> paths = new HashSet<>();
+    if (args.length > 1 && args[1] != null) {
+      final Iter it = args[1].iterate();
+      Item next = it.next();
+      while (next != null) {
+        paths.add(Path.parse(((Str) next).stringValue(), PathParser.Type.JSON));
+        next = it.next();
+      }
+    }
+
+    // Number column and path indexes share the index numbers.
+    final IndexDef idxDef = IndexDefs.createNumberColumnIdxDef(paths,
+                                                               controller.getIndexes().getNrOfPathPageIndexDefs(),
+                                                               IndexDef.DbType.JSON);
+    try {
+      controller.createIndexes(ImmutableSet.of(idxDef), wtx);
+    } catch (final SirixIOException e) {
+      throw new QueryException(new QNm("I/O exception: " + e.getMessage()), e);
+    }
+    return idxDef.materialize();
+  }
+}
@@ -21,7 +21,6 @@ import io.sirix.api.json.JsonResourceSession;
 import io.sirix.exception.SirixIOException;
 import io.sirix.index.IndexDef;
 import io.sirix.index.IndexDefs;
-import io.sirix.index.IndexType;
 
 import java.util.HashSet;
 import java.util.Optional;
@@ -89,7 +88,7 @@ public final class CreatePathIndex extends AbstractFunction {
     }
 
     final IndexDef idxDef =
-        IndexDefs.createPathIdxDef(paths, controller.getIndexes().getNrOfIndexDefsWithType(IndexType.PATH), IndexDef.DbType.JSON);
+        IndexDefs.createPathIdxDef(paths, controller.getIndexes().getNrOfPathPageIndexDefs(), IndexDef.DbType.JSON);
     try {
       controller.createIndexes(ImmutableSet.of(idxDef), wtx);
     } catch (final SirixIOException e) {
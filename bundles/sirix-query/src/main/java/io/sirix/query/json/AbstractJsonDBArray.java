@@ -146,10 +146,8 @@ public abstract class AbstractJsonDBArray<T extends AbstractJsonDBArray<T>> exte
   private void moveToIndex(int index, JsonNodeTrx trx) {
     // must have children
 
-    trx.moveToFirstChild();
-
-    for (int i = 1; i <= index; i++) {
-      trx.moveToRightSibling();
+    if (!trx.moveToChildAtPosition(index)) {
+      trx.moveToLastChild();
     }
   }
 
@@ -383,15 +381,7 @@ public abstract class AbstractJsonDBArray<T extends AbstractJsonDBArray<T>> exte
   private Sequence getSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
     moveRtx();
 
-    final var axis = new ChildAxis(rtx);
-
-    for (int i = 0; i < index && axis.hasNext(); i++) {
-      axis.nextLong();
-    }
-
-    if (axis.hasNext()) {
-      axis.nextLong();
-
+    if (rtx.moveToChildAtPosition(index)) {
       return jsonItemFactory.getSequence(rtx, collection);
     }
 
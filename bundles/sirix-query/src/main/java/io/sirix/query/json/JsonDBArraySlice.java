@@ -9,7 +9,6 @@ import io.brackit.query.jdm.Sequence;
 import io.brackit.query.jdm.Stream;
 import io.brackit.query.jdm.json.Array;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
-import io.sirix.axis.ChildAxis;
 import io.sirix.axis.IncludeSelf;
 import io.sirix.axis.temporal.AllTimeAxis;
 import io.sirix.axis.temporal.FutureAxis;
@@ -118,9 +117,19 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
 
   private List<Sequence> getValues() {
     final var values = new ArrayList<Sequence>();
-
-    for (int i = 0, length = len(); i < length; i++) {
-      values.add(at(fromIndex + i));
+    final int length = len();
+
+    // Jump to the first element of the slice once and collect the following siblings.
+    if (rtx.moveToChildAtPosition(fromIndex)) {
+      for (int i = 0; i < length; i++) {
+        final long nodeKey = rtx.getNodeKey();
+        values.add(jsonUtil.getSequence(rtx, collection));
+        rtx.moveTo(nodeKey);
+
+        if (i + 1 < length && !rtx.moveToRightSibling()) {
+          break;
+        }
+      }
     }
 
     return values;
@@ -129,14 +138,7 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
   private Sequence getSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
     moveRtx();
 
-    final var axis = new ChildAxis(rtx);
-
-    for (int i = 0; i < index && axis.hasNext(); i++)
-      axis.nextLong();
-
-    if (axis.hasNext()) {
-      axis.nextLong();
-
+    if (rtx.moveToChildAtPosition(index)) {
       return jsonUtil.getSequence(rtx, collection);
     }
 
@@ -9,8 +9,6 @@ import io.sirix.api.json.JsonResourceSession;
 import io.sirix.axis.AbstractTemporalAxis;
 import io.sirix.axis.ChildAxis;
 import io.sirix.axis.IncludeSelf;
-import io.sirix.axis.filter.FilterAxis;
-import io.sirix.axis.filter.json.JsonNameFilter;
 import io.sirix.axis.temporal.*;
 import io.sirix.index.path.summary.PathSummaryReader;
 import io.sirix.query.StructuredDBItem;
@@ -349,18 +347,7 @@ public final class JsonDBObject extends AbstractItem
       return false;
     }
 
-    trx.moveToFirstChild();
-
-    boolean isFound = false;
-
-    do {
-      if (trx.getName().equals(field)) {
-        isFound = true;
-        break;
-      }
-    } while (trx.moveToRightSibling());
-
-    return isFound;
+    return trx.moveToField(field.getLocalName());
   }
 
   @Override
@@ -469,10 +456,8 @@ public final class JsonDBObject extends AbstractItem
       }
 
       moveRtx();
-      final var axis = new FilterAxis<>(new ChildAxis(rtx), new JsonNameFilter(rtx, field));
 
-      if (axis.hasNext()) {
-        axis.nextLong();
+      if (rtx.moveToField(field.getLocalName())) {
         rtx.moveToFirstChild();
 
         return jsonItemFactory.getSequence(rtx, collection);
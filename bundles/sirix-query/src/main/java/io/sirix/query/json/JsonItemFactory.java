@@ -5,6 +5,7 @@ import io.brackit.query.jdm.json.JsonItem;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 public final class JsonItemFactory {
   public JsonItemFactory() {}
@@ -28,20 +29,17 @@ public final class JsonItemFactory {
         return new AtomicNullJsonDBItem(rtx, collection);
       case OBJECT_NUMBER_VALUE:
       case NUMBER_VALUE:
-        final Number number = rtx.getNumberValue();
+        final Numeric numeric = switch (rtx.getNumberType()) {
+          case INTEGER -> new Int32((int) rtx.getLongValue());
+          case LONG -> new Int64(rtx.getLongValue());
+          case FLOAT -> new Flt((float) rtx.getDoubleValue());
+          case DOUBLE -> new Dbl(rtx.getDoubleValue());
+          case BIG_INTEGER -> new Int(new BigDecimal((BigInteger) rtx.getNumberValue()));
+          case BIG_DECIMAL -> new Dec((BigDecimal) rtx.getNumberValue());
+        };
 
-        if (number instanceof Integer) {
-          return new NumericJsonDBItem(rtx, collection, new Int32(number.intValue()));
-        } else if (number instanceof Long) {
-          return new NumericJsonDBItem(rtx, collection, new Int64(number.intValue()));
-        } else if (number instanceof Float) {
-          return new NumericJsonDBItem(rtx, collection, new Flt(number.floatValue()));
-        } else if (number instanceof Double) {
-          return new NumericJsonDBItem(rtx, collection, new Dbl(number.doubleValue()));
-        } else if (number instanceof BigDecimal) {
-          return new NumericJsonDBItem(rtx, collection, new Dec((BigDecimal) number));
-        }
-        // $CASES-OMITTED$
+        return new NumericJsonDBItem(rtx, collection, numeric);
+      // $CASES-OMITTED$
       default:
         throw new AssertionError();
     }
@@ -1,5 +1,8 @@
 package io.sirix.query;
 
+import io.sirix.query.compiler.optimizer.walker.json.IndexCostModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -11,6 +14,27 @@ public final class JsonIntegrationTest extends AbstractJsonTest {
 
   private static final Path JSON_RESOURCE_PATH = Path.of("src", "test", "resources", "json");
 
+  private boolean costBased;
+
+  /**
+   * The documents are too small for an index scan to be cheaper than navigation, thus the indexes
+   * are always used to test the rewritten queries.
+   */
+  @BeforeEach
+  @Override
+  protected void setUp() {
+    super.setUp();
+    costBased = IndexCostModel.isCostBased();
+    IndexCostModel.setCostBased(false);
+  }
+
+  @AfterEach
+  @Override
+  protected void tearDown() {
+    IndexCostModel.setCostBased(costBased);
+    super.tearDown();
+  }
+
   @Test
   public void testCreateAndRetrieveValueFromCASIndex() throws IOException {
     final String storeQuery = """
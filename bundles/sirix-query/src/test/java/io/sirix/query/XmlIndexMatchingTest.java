@@ -0,0 +1,160 @@
+package io.sirix.query;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.brackit.query.Query;
+import io.sirix.XmlTestHelper;
+import io.sirix.index.IndexType;
+import io.sirix.query.compiler.optimizer.walker.xml.XmlCASStep;
+import io.sirix.query.node.BasicXmlDBStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+
+/**
+ * Tests, that path expressions on stored XML documents are answered by a path, name or CAS index
+ * and return the same nodes in the same order as the navigational evaluation.
+ */
+public final class XmlIndexMatchingTest {
+
+  private static final String STORE_QUERY = """
+      xml:store('path1','mydoc.xml',
+        <bib>
+          <book year="1994"><title>TCP/IP Illustrated</title><author>Stevens</author></book>
+          <book year="2000"><title>Data on the Web</title><author>Abiteboul</author><author>Suciu</author></book>
+          <journal><title>Data on the Web</title><editor>Gerbarg</editor></journal>
+          <book year="1999"><title>Economics of Technology</title><author>Gerbarg</author></book>
+          <book year="2003"><title>Economics and Data</title><author>Gerbarg</author><author>Gerbarg</author></book>
+        </bib>)
+      """;
+
+  /**
+   * The logger of the walkers, which log the rewritten path expressions.
+   */
+  private final Logger logger = (Logger) LoggerFactory.getLogger(XmlCASStep.class.getPackageName());
+
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  private Level level;
+
+  @BeforeEach
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    level = logger.getLevel();
+    logger.setLevel(Level.DEBUG);
+    appender.start();
+    logger.addAppender(appender);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    logger.detachAppender(appender);
+    appender.stop();
+    logger.setLevel(level);
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testPathIndex() throws IOException {
+    test("xml:create-path-index($doc, '//book/title')", "xml:doc('path1','mydoc.xml')//book/title", IndexType.PATH);
+  }
+
+  @Test
+  public void testPathIndexWithAttribute() throws IOException {
+    test("xml:create-path-index($doc, '/bib/book/@year')",
+         "data(xml:doc('path1','mydoc.xml')/bib/book/@year)",
+         IndexType.PATH);
+  }
+
+  @Test
+  public void testNameIndex() throws IOException {
+    test("xml:create-name-index($doc, xs:QName('title'))", "xml:doc('path1','mydoc.xml')//title", IndexType.NAME);
+  }
+
+  @Test
+  public void testCASIndexOnTextOfContextItem() throws IOException {
+    test("xml:create-cas-index($doc, 'xs:string', '//title')",
+         "xml:doc('path1','mydoc.xml')//title[. = 'Data on the Web']",
+         IndexType.CAS);
+  }
+
+  @Test
+  public void testCASIndexOnChildElement() throws IOException {
+    test("xml:create-cas-index($doc, 'xs:string', '//book/author')",
+         "xml:doc('path1','mydoc.xml')//book[author = 'Gerbarg']",
+         IndexType.CAS);
+  }
+
+  @Test
+  public void testCASIndexOnChildElementReturnsEachParentOnce() throws IOException {
+    // Both authors of the last book match, but the book must be returned only once.
+    final String query = "xml:doc('path1','mydoc.xml')//book[author = 'Gerbarg']";
+
+    test("xml:create-cas-index($doc, 'xs:string', '//book/author')", query, IndexType.CAS);
+    Assertions.assertEquals("2", serialize("count(" + query + ")"));
+  }
+
+  @Test
+  public void testCASIndexOnAttribute() throws IOException {
+    test("xml:create-cas-index($doc, 'xs:string', '//book/@year')",
+         "xml:doc('path1','mydoc.xml')/bib/book[@year > '1995']",
+         IndexType.CAS);
+  }
+
+  private void test(final String indexFunction, final String query, final IndexType indexType) throws IOException {
+    query(STORE_QUERY);
+
+    final String expected = serialize(query);
+
+    Assertions.assertTrue(rewrittenIndexTypes().isEmpty());
+
+    query("let $doc := xml:doc('path1','mydoc.xml') let $stats := " + indexFunction + " return sdb:commit($doc)");
+
+    Assertions.assertFalse(expected.isBlank());
+    Assertions.assertEquals(expected, serialize(query));
+    Assertions.assertEquals(List.of(indexType), rewrittenIndexTypes());
+  }
+
+  /**
+   * Get the types of the indexes, which replaced path expressions in the compiled queries.
+   */
+  private List<Object> rewrittenIndexTypes() {
+    return appender.list.stream()
+                        .filter(event -> event.getMessage().startsWith("Rewrote path expression"))
+                        .map(event -> event.getArgumentArray()[2])
+                        .toList();
+  }
+
+  private static void query(final String query) {
+    try (final BasicXmlDBStore store = BasicXmlDBStore.newBuilder()
+                                                      .location(XmlTestHelper.PATHS.PATH1.getFile().getParent())
+                                                      .build();
+         final SirixQueryContext ctx = SirixQueryContext.createWithNodeStore(store);
+         final SirixCompileChain chain = SirixCompileChain.createWithNodeStore(store)) {
+      new Query(chain, query).evaluate(ctx);
+    }
+  }
+
+  private static String serialize(final String query) throws IOException {
+    try (final BasicXmlDBStore store = BasicXmlDBStore.newBuilder()
+                                                      .location(XmlTestHelper.PATHS.PATH1.getFile().getParent())
+                                                      .build();
+         final SirixQueryContext ctx = SirixQueryContext.createWithNodeStore(store);
+         final SirixCompileChain chain = SirixCompileChain.createWithNodeStore(store);
+         final var out = new ByteArrayOutputStream();
+         final var printWriter = new PrintWriter(out)) {
+      new Query(chain, query).serialize(ctx, printWriter);
+      printWriter.flush();
+      return out.toString();
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package io.sirix.query.compiler.optimizer.walker.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class IndexCostModelTest {
+
+  @Test
+  public void testSelectiveIndexScanIsChosen() {
+    final var estimate = IndexCostModel.choose(1, 10, 1, 100_000);
+
+    assertEquals(IndexCostModel.Plan.INDEX_SCAN, estimate.plan());
+    assertTrue(estimate.indexScanCost() < estimate.navigationCost());
+  }
+
+  @Test
+  public void testUnselectiveIndexScanFallsBackToNavigation() {
+    final var estimate = IndexCostModel.choose(1, 90_000, 2, 100_000);
+
+    assertEquals(IndexCostModel.Plan.NAVIGATION, estimate.plan());
+  }
+
+  @Test
+  public void testMaxResultsIsTheBreakEvenPoint() {
+    final long maxResults = IndexCostModel.maxResults(2, 10_000, 1);
+
+    assertEquals(IndexCostModel.Plan.INDEX_SCAN, IndexCostModel.choose(2, maxResults, 1, 10_000).plan());
+    assertEquals(IndexCostModel.Plan.NAVIGATION, IndexCostModel.choose(2, maxResults + 1, 1, 10_000).plan());
+  }
+
+  @Test
+  public void testNoResultsIfOpeningTheIndexIsAlreadyTooExpensive() {
+    assertEquals(0, IndexCostModel.maxResults(1, 10, 0));
+  }
+}
@@ -0,0 +1,106 @@
+package io.sirix.query.compiler.optimizer.walker.json;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.sirix.query.AbstractJsonTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public final class JsonCASStepTest extends AbstractJsonTest {
+
+  private static final int NUMBER_OF_OBJECTS = 1_000;
+
+  private static final String INDEX_QUERY = """
+      let $doc := jn:doc('json-path1','mydoc.jn')
+      let $stats := jn:create-cas-index($doc, 'xs:integer', '/[]/key/v')
+      return {"revision": sdb:commit($doc)}
+      """;
+
+  private final Logger logger = (Logger) LoggerFactory.getLogger(AbstractJsonPathWalker.class);
+
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  private Level level;
+
+  private boolean costBased;
+
+  @BeforeEach
+  @Override
+  protected void setUp() {
+    super.setUp();
+    costBased = IndexCostModel.isCostBased();
+    IndexCostModel.setCostBased(true);
+    level = logger.getLevel();
+    logger.setLevel(Level.DEBUG);
+    appender.start();
+    logger.addAppender(appender);
+  }
+
+  @AfterEach
+  @Override
+  protected void tearDown() {
+    logger.detachAppender(appender);
+    appender.stop();
+    logger.setLevel(level);
+    IndexCostModel.setCostBased(costBased);
+    super.tearDown();
+  }
+
+  @Test
+  public void testSelectivePredicateIsAnsweredByIndexScan() throws IOException {
+    test(storeQuery(),
+         INDEX_QUERY,
+         "jn:doc('json-path1','mydoc.jn')[].key[?$$.v gt 995]",
+         expectedObjects(996));
+
+    assertPlan(IndexCostModel.Plan.INDEX_SCAN);
+  }
+
+  @Test
+  public void testUnselectivePredicateIsAnsweredByNavigation() throws IOException {
+    test(storeQuery(),
+         INDEX_QUERY,
+         "jn:doc('json-path1','mydoc.jn')[].key[?$$.v gt -1]",
+         expectedObjects(0));
+
+    assertPlan(IndexCostModel.Plan.NAVIGATION);
+  }
+
+  private static String storeQuery() {
+    final String objects = IntStream.range(0, NUMBER_OF_OBJECTS)
+                                    .mapToObj(i -> "{\"key\":{\"v\":" + i + "}}")
+                                    .collect(Collectors.joining(",", "[", "]"));
+    return "jn:store('json-path1','mydoc.jn','" + objects + "')";
+  }
+
+  private static String expectedObjects(final int from) {
+    return IntStream.range(from, NUMBER_OF_OBJECTS)
+                    .mapToObj(i -> "{\"v\":" + i + "}")
+                    .collect(Collectors.joining(" "));
+  }
+
+  /**
+   * Assert the plan chosen by the walkers, as logged whenever a matching index has been found.
+   */
+  private void assertPlan(final IndexCostModel.Plan expectedPlan) {
+    final List<Object> plans = appender.list.stream()
+                                            .filter(event -> event.getMessage().startsWith("Plan for paths"))
+                                            .map(event -> event.getArgumentArray()[3])
+                                            .toList();
+
+    assertFalse(plans.isEmpty());
+    plans.forEach(plan -> assertEquals(expectedPlan, plan));
+  }
+}
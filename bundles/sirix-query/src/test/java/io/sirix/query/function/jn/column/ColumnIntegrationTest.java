@@ -0,0 +1,37 @@
+package io.sirix.query.function.jn.column;
+
+import io.sirix.query.AbstractJsonTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+public final class ColumnIntegrationTest extends AbstractJsonTest {
+
+  private static final String STORE_QUERY = """
+        jn:store('json-path1','mydoc.jn','[{"price":1,"qty":3},{"price":2.5,"qty":5,"nested":{"qty":10}},{"price":"n/a"},{"price":4}]')
+      """;
+
+  @Test
+  public void testAggregateColumn() throws IOException {
+    query(STORE_QUERY);
+
+    final String query = """
+          let $doc := jn:doc('json-path1','mydoc.jn')
+          return [jn:column-count($doc, '/[]/price'), jn:column-sum($doc, '/[]/price'),
+                  jn:column-min($doc, '/[]/qty'), jn:column-max($doc, '//qty'),
+                  jn:column-sum($doc, '//qty'), jn:column-count($doc, '/[]/foo')]
+        """;
+    test(query, "[3,7.5,3,10,18,0]");
+  }
+
+  @Test
+  public void testScanColumn() throws IOException {
+    query(STORE_QUERY);
+
+    final String query = """
+          let $doc := jn:doc('json-path1','mydoc.jn')
+          return [jn:scan-column($doc, '/[]/price', 2, ()), jn:scan-column($doc, '/[]/price', (), 1)]
+        """;
+    test(query, "[2.5,4,1]");
+  }
+}
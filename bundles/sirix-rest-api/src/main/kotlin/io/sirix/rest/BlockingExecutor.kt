@@ -0,0 +1,222 @@
+package io.sirix.rest
+
+import io.vertx.core.AsyncResult
+import io.vertx.core.Context
+import io.vertx.core.Future
+import io.vertx.core.Promise
+import io.vertx.core.json.JsonObject
+import org.slf4j.LoggerFactory
+import java.util.Locale
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Executes the blocking Sirix work of the HTTP handlers off the event loop.
+ *
+ * In the default [Mode.WORKER_POOL] mode the work is executed on the (bounded) Vert.x worker pool,
+ * ordered per context as before, whereas in the [Mode.VIRTUAL_THREADS] mode every task is executed on its own virtual thread. Thus,
+ * a task, which is blocked (for instance by a slow client draining a streamed response), doesn't
+ * tie up a platform thread and thousands of concurrent requests don't queue up behind the worker
+ * pool.
+ *
+ * Optionally, the number of concurrently executed tasks per database is limited. Tasks exceeding
+ * the limit are queued (without blocking a thread) and started as soon as a running task of the
+ * database finished. The number of running and queued tasks is exposed through [metrics].
+ */
+object BlockingExecutor {
+    private val logger = LoggerFactory.getLogger(BlockingExecutor::class.java)
+
+    /**
+     * Name of the limiter of the tasks, which aren't bound to a single database.
+     */
+    private const val GLOBAL = ""
+
+    /**
+     * The execution mode of the blocking tasks.
+     */
+    enum class Mode {
+        WORKER_POOL,
+        VIRTUAL_THREADS;
+
+        companion object {
+            fun getModeByName(name: String) = valueOf(name.uppercase(Locale.getDefault()).replace('-', '_'))
+        }
+    }
+
+    @Volatile
+    var mode = Mode.WORKER_POOL
+        private set
+
+    /**
+     * Maximum number of concurrently executed tasks per database, `0` for no limit.
+     */
+    @Volatile
+    var maxConcurrentTasksPerDatabase = 0
+        private set
+
+    private val virtualThreadExecutor: ExecutorService by lazy {
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sirix-rest-", 0).factory())
+    }
+
+    private val limiters = ConcurrentHashMap<String, Limiter>()
+
+    private val completedTasks = AtomicLong()
+
+    private val failedTasks = AtomicLong()
+
+    /**
+     * Configures the executor from the verticle configuration.
+     *
+     * @param config the configuration with the optional keys `execution.mode` (`worker-pool` or
+     * `virtual-threads`) and `execution.maxConcurrentRequestsPerDatabase`
+     */
+    fun configure(config: JsonObject) {
+        mode = Mode.getModeByName(config.getString("execution.mode", Mode.WORKER_POOL.name))
+        maxConcurrentTasksPerDatabase = config.getInteger("execution.maxConcurrentRequestsPerDatabase", 0)
+
+        require(maxConcurrentTasksPerDatabase >= 0) {
+            "The maximum number of concurrent requests per database must not be negative."
+        }
+
+        logger.info("Executing blocking requests in mode $mode (maximum concurrent requests per database: ${if (maxConcurrentTasksPerDatabase == 0) "unlimited" else maxConcurrentTasksPerDatabase}).")
+    }
+
+    /**
+     * Executes the blocking [handler] with the configured execution mode. The handler has to complete
+     * (or fail) the given promise in every branch, as the slot of the database is only released once
+     * the promise is completed. If it throws an exception, the returned future is failed. The returned
+     * future is completed on the given context.
+     *
+     * @param context the context of the caller
+     * @param databaseName the name of the database the handler operates on, or `null` if it's not
+     * bound to a single database (the handler then isn't limited)
+     * @param handler the blocking code
+     * @return the future of the result of the handler
+     */
+    fun <T> executeBlocking(context: Context, databaseName: String?, handler: (Promise<T>) -> Unit): Future<T> {
+        val limiter = limiters.computeIfAbsent(databaseName ?: GLOBAL) { Limiter() }
+        val result = Promise.promise<T>()
+
+        limiter.submit(maxLimit(databaseName)) {
+            val start = when (mode) {
+                Mode.WORKER_POOL -> context.executeBlocking<T>({ promise -> handler(promise) }, true)
+                Mode.VIRTUAL_THREADS -> executeOnVirtualThread(handler)
+            }
+
+            start.onComplete { asyncResult: AsyncResult<T> ->
+                limiter.release()
+
+                if (asyncResult.succeeded()) completedTasks.incrementAndGet() else failedTasks.incrementAndGet()
+
+                context.runOnContext { result.handle(asyncResult) }
+            }
+        }
+
+        return result.future()
+    }
+
+    private fun maxLimit(databaseName: String?) = if (databaseName == null) 0 else maxConcurrentTasksPerDatabase
+
+    private fun <T> executeOnVirtualThread(handler: (Promise<T>) -> Unit): Future<T> {
+        val promise = Promise.promise<T>()
+
+        virtualThreadExecutor.execute {
+            try {
+                handler(promise)
+            } catch (e: Throwable) {
+                promise.tryFail(e)
+            }
+        }
+
+        return promise.future()
+    }
+
+    /**
+     * Get the metrics of the executor.
+     *
+     * @return the execution mode, the number of completed and failed tasks as well as the number of
+     * running and queued tasks per database
+     */
+    fun metrics(): JsonObject {
+        val databases = JsonObject()
+
+        limiters.forEach { (databaseName, limiter) ->
+            if (databaseName != GLOBAL) {
+                databases.put(databaseName, limiter.metrics())
+            }
+        }
+
+        return JsonObject()
+            .put("mode", mode.name)
+            .put("maxConcurrentRequestsPerDatabase", maxConcurrentTasksPerDatabase)
+            .put("completed", completedTasks.get())
+            .put("failed", failedTasks.get())
+            .put("global", limiters[GLOBAL]?.metrics() ?: Limiter().metrics())
+            .put("databases", databases)
+    }
+
+    /**
+     * Limits the number of concurrently running tasks. Tasks exceeding the limit are queued without
+     * blocking a thread.
+     */
+    internal class Limiter {
+        private val running = AtomicInteger()
+
+        private val queue = ConcurrentLinkedQueue<() -> Unit>()
+
+        private val queued = AtomicInteger()
+
+        @Volatile
+        private var limit = 0
+
+        fun submit(limit: Int, task: () -> Unit) {
+            this.limit = limit
+
+            if (limit == 0) {
+                running.incrementAndGet()
+                task()
+                return
+            }
+
+            queued.incrementAndGet()
+            queue.add(task)
+            drain()
+        }
+
+        fun release() {
+            running.decrementAndGet()
+            drain()
+        }
+
+        private fun drain() {
+            while (true) {
+                val currentlyRunning = running.get()
+
+                if (queue.isEmpty() || (limit != 0 && currentlyRunning >= limit)) {
+                    return
+                }
+
+                if (!running.compareAndSet(currentlyRunning, currentlyRunning + 1)) {
+                    continue
+                }
+
+                val task = queue.poll()
+
+                if (task == null) {
+                    running.decrementAndGet()
+                    // Another thread might have added a task after the emptiness check.
+                    if (queue.isEmpty()) return else continue
+                }
+
+                queued.decrementAndGet()
+                task()
+            }
+        }
+
+        fun metrics(): JsonObject = JsonObject().put("running", running.get()).put("queued", queued.get())
+    }
+}
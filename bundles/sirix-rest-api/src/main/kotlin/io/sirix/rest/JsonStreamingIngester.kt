@@ -0,0 +1,136 @@
+package io.sirix.rest
+
+import com.google.gson.stream.JsonReader
+import io.sirix.api.json.JsonNodeTrx
+import io.sirix.api.json.JsonResourceSession
+import io.sirix.service.InsertPosition
+import io.sirix.service.json.shredder.JsonShredder
+import java.io.BufferedInputStream
+import java.io.FilterInputStream
+import java.io.InputStream
+import java.io.InputStreamReader
+import java.nio.charset.StandardCharsets
+import java.time.Instant
+
+/**
+ * Imports a (potentially huge) JSON document from an input stream into a resource.
+ *
+ * In contrast to the [KotlinJsonStreamingShredder], which is driven by the events of the Vert.x
+ * JSON parser on the event loop, the document is pulled from the stream by the [JsonShredder] on
+ * the calling (blocking) thread, thus the parser is only ever ahead of the shredder by its own
+ * buffer. Every time another [autoCommitBytes] bytes have been read from the stream, the changes
+ * so far are committed, such that the transaction intent log and thus the memory consumption is
+ * bounded regardless of the size of the document.
+ *
+ * @param session the resource session
+ * @param autoCommitBytes the number of bytes read between intermediate commits or `0` to commit
+ * only once after the whole document has been imported
+ */
+class JsonStreamingIngester(
+    private val session: JsonResourceSession,
+    private val autoCommitBytes: Long = DEFAULT_AUTO_COMMIT_BYTES
+) {
+    companion object {
+        /**
+         * The default number of bytes read between intermediate commits (64 MiB).
+         */
+        const val DEFAULT_AUTO_COMMIT_BYTES = 67_108_864L
+
+        private const val READ_BUFFER_SIZE = 65_536
+    }
+
+    init {
+        require(autoCommitBytes >= 0) { "The number of bytes between intermediate commits must not be negative." }
+    }
+
+    /**
+     * The result of an import.
+     *
+     * @param revision the revision of the last commit
+     * @param bytes the number of imported bytes
+     * @param commits the number of commits (including the intermediate commits)
+     * @param maxNodeKey the maximum node key of the resource
+     */
+    data class Result(val revision: Int, val bytes: Long, val commits: Int, val maxNodeKey: Long)
+
+    /**
+     * Imports the JSON document as the first child of the document root of the resource.
+     *
+     * @param input the stream of the JSON document (UTF-8 encoded)
+     * @param commitMessage the commit message of the last commit
+     * @param commitTimestamp the commit timestamp of the last commit
+     * @return the result of the import
+     */
+    fun ingest(input: InputStream, commitMessage: String? = null, commitTimestamp: Instant? = null): Result {
+        val wtx = session.beginNodeTrx()
+
+        return wtx.use {
+            val countingInput = AutoCommittingInputStream(BufferedInputStream(input, READ_BUFFER_SIZE), wtx)
+            val reader = JsonReader(InputStreamReader(countingInput, StandardCharsets.UTF_8))
+            reader.isLenient = true
+
+            reader.use {
+                JsonShredder.Builder(wtx, reader, InsertPosition.AS_FIRST_CHILD).build().call()
+            }
+
+            wtx.commit(commitMessage, commitTimestamp)
+
+            Result(
+                session.mostRecentRevisionNumber,
+                countingInput.bytesRead,
+                countingInput.commits + 1,
+                wtx.maxNodeKey
+            )
+        }
+    }
+
+    /**
+     * Counts the bytes read and commits the transaction each time another [autoCommitBytes] bytes
+     * are requested by the reader. The reader requests bytes in between the insertion of two nodes,
+     * thus the transaction is in a consistent state.
+     */
+    private inner class AutoCommittingInputStream(input: InputStream, private val wtx: JsonNodeTrx) :
+        FilterInputStream(input) {
+        var bytesRead = 0L
+            private set
+
+        var commits = 0
+            private set
+
+        private var nextCommit = autoCommitBytes
+
+        override fun read(): Int {
+            commitIfRequired()
+            val byte = super.read()
+            if (byte != -1) {
+                bytesRead++
+            }
+            return byte
+        }
+
+        override fun read(b: ByteArray, off: Int, len: Int): Int {
+            commitIfRequired()
+            val length = super.read(b, off, len)
+            if (length > 0) {
+                bytesRead += length
+            }
+            return length
+        }
+
+        private fun commitIfRequired() {
+            if (autoCommitBytes == 0L || bytesRead < nextCommit) {
+                return
+            }
+
+            // Nothing has been inserted before the first token has been read.
+            if (wtx.maxNodeKey > 0) {
+                val nodeKey = wtx.nodeKey
+                wtx.commit("autoCommit")
+                wtx.moveTo(nodeKey)
+                commits++
+            }
+
+            nextCommit = bytesRead + autoCommitBytes
+        }
+    }
+}
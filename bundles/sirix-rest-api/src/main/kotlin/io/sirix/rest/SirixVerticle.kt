@@ -33,6 +33,7 @@ import org.apache.http.HttpStatus
 import io.sirix.rest.crud.*
 import io.sirix.rest.crud.json.JsonCreate
 import io.sirix.rest.crud.json.JsonHead
+import io.sirix.rest.crud.json.JsonIngest
 import io.sirix.rest.crud.json.JsonUpdate
 import io.sirix.rest.crud.xml.XmlCreate
 import io.sirix.rest.crud.xml.XmlHead
@@ -51,6 +52,8 @@ class SirixVerticle : CoroutineVerticle() {
     private val location = Paths.get(userHome, "sirix-data")
 
     override suspend fun start() {
+        BlockingExecutor.configure(config)
+
         val router = createRouter()
 
         // Start an HTTP/2 server
@@ -221,6 +224,15 @@ class SirixVerticle : CoroutineVerticle() {
             DeleteHandler(location, authz).handle(it)
         }
 
+        get("/execution-metrics").coroutineHandler {
+            Auth(keycloak, authz, AuthRole.VIEW).handle(it)
+            it.next()
+        }.handler {
+            it.response().setStatusCode(200)
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .end(BlockingExecutor.metrics().encode())
+        }
+
         // "/:database"
         post("/:database")
             .consumes("multipart/form-data")
@@ -326,6 +338,16 @@ class SirixVerticle : CoroutineVerticle() {
         }.coroutineHandler {
             JsonCreate(location, false).handle(it)
         }
+        put("/:database/:resource/ingest").consumes("application/json").handler {
+            // Don't lose any chunk of the body during authentication.
+            it.request().pause()
+            it.next()
+        }.coroutineHandler {
+            Auth(keycloak, authz, AuthRole.CREATE).handle(it)
+            it.next()
+        }.coroutineHandler {
+            JsonIngest(location).handle(it)
+        }
 
         delete("/:database/:resource").coroutineHandler {
             Auth(keycloak, authz, AuthRole.DELETE).handle(it)
@@ -18,6 +18,7 @@ import io.sirix.access.trx.node.HashType
 import io.sirix.access.Databases
 import io.sirix.api.Database
 import io.sirix.api.ResourceSession
+import io.sirix.rest.BlockingExecutor
 import java.nio.file.Files
 import java.nio.file.Path
 
@@ -54,7 +55,7 @@ abstract class AbstractCreateHandler<T : ResourceSession<*, *>>(
     }
 
     suspend fun prepareDatabasePath(dbFile: Path, context: Context): DatabaseConfiguration? {
-        return context.executeBlocking { promise: Promise<DatabaseConfiguration> ->
+        return BlockingExecutor.executeBlocking(context, dbFile.fileName.toString()) { promise: Promise<DatabaseConfiguration> ->
             val dbExists = Files.exists(dbFile)
 
             if (!dbExists) {
@@ -132,7 +133,7 @@ abstract class AbstractCreateHandler<T : ResourceSession<*, *>>(
         context: Context
     ): DatabaseConfiguration? {
         val dbConfig = prepareDatabasePath(dbFile, context)
-        return context.executeBlocking { promise: Promise<DatabaseConfiguration> ->
+        return BlockingExecutor.executeBlocking(context, dbFile.fileName.toString()) { promise: Promise<DatabaseConfiguration> ->
             if (dbConfig != null && !Databases.existsDatabase(dbFile)) {
                 createDatabase(dbConfig)
             }
@@ -17,6 +17,7 @@ import io.sirix.access.User
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.Database
 import io.sirix.api.ResourceSession
+import io.sirix.rest.BlockingExecutor
 import io.vertx.ext.web.Route
 import java.nio.file.Files
 import java.nio.file.Path
@@ -40,7 +41,7 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
         // Initialize queryResource context and store.
         val dbStore = createStore(ctx)
 
-        ctx.vertx().executeBlocking { promise: Promise<Unit> ->
+        BlockingExecutor.executeBlocking(ctx.vertx().orCreateContext, null) { promise: Promise<Unit> ->
             val databases = Files.list(location)
 
             databases.use {
@@ -119,7 +120,7 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
         ctx: Context,
         routingCtx: RoutingContext
     ) {
-        ctx.executeBlocking { promise: Promise<Unit> ->
+        BlockingExecutor.executeBlocking(ctx, database.name) { promise: Promise<Unit> ->
             val manager = database.beginResourceSession(resPathName)
             manager.use {
                 val wtx = manager.beginNodeTrx()
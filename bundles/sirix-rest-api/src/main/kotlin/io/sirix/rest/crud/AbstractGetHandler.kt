@@ -8,9 +8,9 @@ import io.sirix.query.json.BasicJsonDBStore
 import io.sirix.query.node.BasicXmlDBStore
 import io.sirix.rest.crud.json.JsonSessionDBStore
 import io.sirix.rest.crud.xml.XmlSessionDBStore
+import io.sirix.rest.BlockingExecutor
 import io.vertx.core.Context
 import io.vertx.core.Promise
-import io.vertx.core.http.HttpHeaders
 import io.vertx.core.json.JsonObject
 import io.vertx.ext.auth.User
 import io.vertx.ext.auth.authorization.AuthorizationProvider
@@ -19,7 +19,7 @@ import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
 import io.vertx.kotlin.coroutines.dispatcher
 import kotlinx.coroutines.withContext
-import java.io.ByteArrayOutputStream
+import java.io.OutputStream
 import java.nio.file.Path
 
 abstract class AbstractGetHandler<T : ResourceSession<*, *>,
@@ -54,15 +54,13 @@ abstract class AbstractGetHandler<T : ResourceSession<*, *>,
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        var body: String?
-
         val database = openDatabase(location.resolve(databaseName))
 
         database.use {
             val manager = database.beginResourceSession(resource)
 
             manager.use {
-                body = if (!query.isNullOrEmpty()) {
+                if (!query.isNullOrEmpty()) {
                     queryResource(
                         databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
                         vertxContext, user, jsonBody
@@ -79,25 +77,21 @@ abstract class AbstractGetHandler<T : ResourceSession<*, *>,
             }
         }
 
-        if (body != null) {
-            ctx.response().end(body)
-        } else {
-            ctx.response().end()
-        }
+        ctx.response().end()
     }
 
     private suspend fun queryResource(
         databaseName: String?, database: Database<T>, revision: String?,
         revisionTimestamp: String?, manager: T, ctx: RoutingContext,
         nodeId: String?, query: String, vertxContext: Context, user: User, jsonBody: JsonObject?
-    ): String? {
+    ) {
         val dbCollection = getDBCollection(databaseName, database)
         dbCollection.use {
             val revisionNumber = Revisions.getRevisionNumber(revision, revisionTimestamp, manager)
             val startResultSeqIndex = ctx.queryParam("startResultSeqIndex").getOrElse(0) { null }
             val endResultSeqIndex = ctx.queryParam("endResultSeqIndex").getOrElse(0) { null }
 
-            return xquery(
+            xquery(
                 manager,
                 dbCollection,
                 nodeId,
@@ -119,8 +113,8 @@ abstract class AbstractGetHandler<T : ResourceSession<*, *>,
         nodeId: String?,
         revisionNumber: IntArray?, query: String, routingContext: RoutingContext, vertxContext: Context,
         user: User, startResultSeqIndex: Long?, endResultSeqIndex: Long?, jsonBody: JsonObject?
-    ): String? {
-        return vertxContext.executeBlocking { promise: Promise<String> ->
+    ) {
+        streamBlocking(routingContext, vertxContext) { out ->
             // Initialize queryResource context and store.
             val jsonDBStore = JsonSessionDBStore(
                 routingContext,
@@ -149,7 +143,6 @@ abstract class AbstractGetHandler<T : ResourceSession<*, *>,
                 commitMessage,
                 commitTimestamp
             )
-            var body: String?
             queryCtx.use {
                 if (manager != null && dbCollection != null && revisionNumber != null) {
                     @Suppress("UNCHECKED_CAST") val rtx = manager.beginNodeReadOnlyTrx(revisionNumber[0]) as R
@@ -163,11 +156,11 @@ abstract class AbstractGetHandler<T : ResourceSession<*, *>,
 
                         handleQueryExtra(rtx, dbCollection, queryCtx, jsonDBStore)
 
-                        body = executeQueryAndSerialize(
+                        executeQueryAndSerialize(
                             routingContext,
                             xmlDBStore,
                             jsonDBStore,
-                            createOutputStream(),
+                            out,
                             startResultSeqIndex,
                             query,
                             queryCtx,
@@ -175,11 +168,11 @@ abstract class AbstractGetHandler<T : ResourceSession<*, *>,
                         )
                     }
                 } else {
-                    body = executeQueryAndSerialize(
+                    executeQueryAndSerialize(
                         routingContext,
                         xmlDBStore,
                         jsonDBStore,
-                        createOutputStream(),
+                        out,
                         startResultSeqIndex,
                         query,
                         queryCtx,
@@ -187,8 +180,7 @@ abstract class AbstractGetHandler<T : ResourceSession<*, *>,
                     )
                 }
             }
-            promise.complete(body)
-        }.await()
+        }
     }
 
     private suspend fun serializeResource(
@@ -197,13 +189,34 @@ abstract class AbstractGetHandler<T : ResourceSession<*, *>,
         nodeId: Long?,
         ctx: RoutingContext,
         vertxContext: Context
-    ): String {
-        return vertxContext.executeBlocking { promise: Promise<String> ->
-            val serializedString = getSerializedString(manager, revisions, nodeId, ctx)
-            promise.complete(serializedString)
+    ) {
+        streamBlocking(ctx, vertxContext) { out ->
+            serialize(manager, revisions, nodeId, ctx, out)
+        }
+    }
+
+    /**
+     * Serializes on a worker (or virtual) thread into the chunked response, such that neither the whole
+     * result is buffered, nor the event loop is blocked. The response isn't ended. A client, which doesn't
+     * read the response, blocks the task at most for the write timeout of the [ChunkedResponseOutputStream].
+     */
+    private suspend fun streamBlocking(
+        ctx: RoutingContext,
+        vertxContext: Context,
+        serialize: (OutputStream) -> Unit
+    ) {
+        BlockingExecutor.executeBlocking(vertxContext, ctx.pathParam("database")) { promise: Promise<Unit> ->
+            try {
+                ChunkedResponseOutputStream(ctx.response()).use(serialize)
+                promise.complete()
+            } catch (e: Exception) {
+                if (ctx.response().headWritten()) {
+                    // The status code has already been sent, thus the client has to notice the truncated body.
+                    ctx.response().reset()
+                }
+                promise.fail(e)
+            }
         }.await()
-        ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
     }
 
     abstract suspend fun openDatabase(dbFile: Path): Database<T>
@@ -217,31 +230,28 @@ abstract class AbstractGetHandler<T : ResourceSession<*, *>,
         jsonSessionDBStore: JsonSessionDBStore
     )
 
-    protected abstract fun createOutputStream(): OutputWrapper
-
     protected abstract fun executeQueryAndSerialize(
         routingContext: RoutingContext,
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        out: OutputWrapper,
+        out: OutputStream,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext,
         endResultSeqIndex: Long?
-    ): String
+    )
 
-    protected abstract fun getSerializedString(
+    /**
+     * Serializes the resource into the given stream. The response headers must be set before the first byte is written.
+     */
+    protected abstract fun serialize(
         manager: T,
         revisions: IntArray,
         nodeId: Long?,
-        ctx: RoutingContext
-    ): String
-
-}
+        ctx: RoutingContext,
+        out: OutputStream
+    )
 
-sealed class OutputWrapper {
-    class StringBuilderWrapper(val sb: StringBuilder) : OutputWrapper()
-    class ByteArrayOutputStreamWrapper(val baos: ByteArrayOutputStream) : OutputWrapper()
 }
 
 
@@ -7,6 +7,8 @@ import io.sirix.api.NodeCursor
 import io.sirix.api.NodeReadOnlyTrx
 import io.sirix.api.ResourceSession
 import io.sirix.api.json.JsonResourceSession
+import io.sirix.rest.BlockingExecutor
+import io.vertx.core.Promise
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
@@ -25,8 +27,9 @@ abstract class AbstractHeadHandler< T : ResourceSession<*, *>> (
             throw IllegalStateException("Database name and resource name must be given.")
         }
 
-        ctx.vertx().executeBlocking<Unit> {
+        BlockingExecutor.executeBlocking(ctx.vertx().orCreateContext, databaseName) { promise: Promise<Unit> ->
             head(databaseName, ctx, resource)
+            promise.complete()
         }.await()
 
         return ctx.currentRoute()
@@ -0,0 +1,128 @@
+package io.sirix.rest.crud
+
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpServerResponse
+import java.io.IOException
+import java.io.InterruptedIOException
+import java.io.OutputStream
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * An output stream, which writes the bytes in chunks of a bounded size to a chunked HTTP response.
+ *
+ * It must be used from a worker or virtual thread (for instance inside of
+ * `BlockingExecutor.executeBlocking`), as it blocks
+ * the serializer whenever the write queue of the response is full, until the client drained it.
+ * Thus, the memory consumption is bounded regardless of the size of the serialized result, and the
+ * first chunk is sent as soon as it is complete. The response headers must be set before the first
+ * chunk is written. Closing the stream writes the remaining bytes, but doesn't end the response.
+ *
+ * If a client doesn't drain the write queue within the write timeout, writing fails with a
+ * [WriteTimeoutException], such that a slow client doesn't block the thread forever. The caller has
+ * to fail the response.
+ */
+class ChunkedResponseOutputStream(
+    private val response: HttpServerResponse,
+    chunkSize: Int = DEFAULT_CHUNK_SIZE,
+    private val writeTimeoutMillis: Long = DEFAULT_WRITE_TIMEOUT_MILLIS
+) : OutputStream() {
+    companion object {
+        /**
+         * The default number of bytes of a chunk.
+         */
+        const val DEFAULT_CHUNK_SIZE = 16_384
+
+        /**
+         * The default number of milliseconds to wait for a client to drain the write queue.
+         */
+        const val DEFAULT_WRITE_TIMEOUT_MILLIS = 60_000L
+
+        private const val DRAIN_TIMEOUT_MILLIS = 100L
+    }
+
+    /**
+     * Thrown if a client doesn't drain the write queue within the write timeout.
+     */
+    class WriteTimeoutException(message: String) : InterruptedIOException(message)
+
+    private val buffer = ByteArray(chunkSize)
+
+    private var position = 0
+
+    private var closed = false
+
+    init {
+        require(chunkSize > 0) { "The chunk size must be positive." }
+        require(writeTimeoutMillis > 0) { "The write timeout must be positive." }
+    }
+
+    override fun write(b: Int) {
+        if (position == buffer.size) {
+            writeChunk()
+        }
+        buffer[position++] = b.toByte()
+    }
+
+    override fun write(b: ByteArray, off: Int, len: Int) {
+        var offset = off
+        var remaining = len
+        while (remaining > 0) {
+            if (position == buffer.size) {
+                writeChunk()
+            }
+            val length = minOf(remaining, buffer.size - position)
+            System.arraycopy(b, offset, buffer, position, length)
+            position += length
+            offset += length
+            remaining -= length
+        }
+    }
+
+    override fun flush() {
+        if (position > 0) {
+            writeChunk()
+        }
+    }
+
+    override fun close() {
+        if (!closed) {
+            closed = true
+            flush()
+        }
+    }
+
+    private fun writeChunk() {
+        if (response.closed()) {
+            throw IOException("The connection has been closed by the client.")
+        }
+        awaitDrain()
+        if (!response.isChunked) {
+            response.isChunked = true
+        }
+        response.write(Buffer.buffer(buffer.copyOf(position)))
+        position = 0
+    }
+
+    private fun awaitDrain() {
+        val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis)
+        while (response.writeQueueFull()) {
+            val remainingNanos = deadline - System.nanoTime()
+            if (remainingNanos <= 0) {
+                throw WriteTimeoutException("The client didn't read the response within $writeTimeoutMillis ms.")
+            }
+            val drained = CountDownLatch(1)
+            response.drainHandler { drained.countDown() }
+            try {
+                // The drain handler might have been invoked before it has been set, thus check periodically.
+                drained.await(minOf(TimeUnit.MILLISECONDS.toNanos(DRAIN_TIMEOUT_MILLIS), remainingNanos), TimeUnit.NANOSECONDS)
+            } catch (e: InterruptedException) {
+                Thread.currentThread().interrupt()
+                throw InterruptedIOException("Interrupted while waiting for the client.")
+            }
+            if (response.closed()) {
+                throw IOException("The connection has been closed by the client.")
+            }
+        }
+    }
+}
@@ -9,15 +9,15 @@ import io.vertx.kotlin.coroutines.await
 import io.sirix.access.DatabaseType
 import io.sirix.access.Databases.*
 import io.sirix.access.DatabasesInternals
-import io.sirix.access.ResourceConfiguration
 import io.sirix.api.Database
 import io.sirix.api.json.JsonNodeReadOnlyTrx
 import io.sirix.api.json.JsonResourceSession
+import io.sirix.diff.JsonDiffSerializer
 import io.sirix.service.json.BasicJsonDiff
 import io.sirix.utils.LogWrapper
+import io.sirix.rest.BlockingExecutor
 import org.slf4j.LoggerFactory
 import java.nio.charset.StandardCharsets
-import java.nio.file.Files
 import java.nio.file.Path
 
 /**
@@ -40,7 +40,7 @@ class DiffHandler(private val location: Path) {
         
         val database = openDatabase(databaseName)
 
-        val diff = context.executeBlocking<String> { resultPromise ->
+        val diff = BlockingExecutor.executeBlocking<String>(context, databaseName) { resultPromise ->
             var diffString: String? = null
             database.use {
                 val resourceManager = database.beginResourceSession(resourceName)
@@ -62,12 +62,17 @@ class DiffHandler(private val location: Path) {
 
                         if (resourceManager.resourceConfig.areDeweyIDsStored && secondRevision.toInt() - 1 == firstRevision.toInt()) {
                             if (startNodeKeyAsLong == 0L && maxDepthAsLong == 0L) {
-                                val diffPath = resourceManager.getResourceConfig()
-                                    .resource
-                                    .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.path)
-                                    .resolve("diffFromRev${firstRevision.toInt()}toRev${secondRevision.toInt()}.json")
-
-                                diffString = Files.readString(diffPath)
+                                diffString = JsonDiffSerializer.serializeUpdateOperations(
+                                    databaseName,
+                                    resourceManager,
+                                    secondRevision.toInt()
+                                ) ?: BasicJsonDiff(databaseName).generateDiff(
+                                    resourceManager,
+                                    firstRevision.toInt(),
+                                    secondRevision.toInt(),
+                                    startNodeKeyAsLong,
+                                    maxDepthAsLong
+                                )
                             } else {
                                 val rtx = resourceManager.beginNodeReadOnlyTrx(secondRevision.toInt())
 
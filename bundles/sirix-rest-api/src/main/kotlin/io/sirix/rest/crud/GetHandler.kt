@@ -15,6 +15,7 @@ import io.sirix.api.json.JsonResourceSession
 import io.sirix.rest.crud.json.JsonGet
 import io.sirix.rest.crud.xml.XmlGet
 import io.sirix.service.json.serialize.StringValue
+import io.sirix.rest.BlockingExecutor
 import java.nio.charset.StandardCharsets
 import java.nio.file.Files
 import java.nio.file.Path
@@ -59,12 +60,10 @@ class GetHandler(
                     endResultSeqIndex = jsonBody?.getLong("endResultSeqIndex")
                 }
 
-                val body: String?
-
                 with(acceptHeader) {
                     when {
                         contains("application/json") -> {
-                            body = JsonGet(location, keycloak, authz).xquery(
+                            JsonGet(location, keycloak, authz).xquery(
                                 null,
                                 null,
                                 null,
@@ -80,7 +79,7 @@ class GetHandler(
                         }
 
                         contains("application/xml") -> {
-                            body = XmlGet(location, keycloak, authz).xquery(
+                            XmlGet(location, keycloak, authz).xquery(
                                 null,
                                 null,
                                 null,
@@ -96,7 +95,7 @@ class GetHandler(
                         }
 
                         else -> {
-                            body = JsonGet(location, keycloak, authz).xquery(
+                            JsonGet(location, keycloak, authz).xquery(
                                 null,
                                 null,
                                 null,
@@ -113,11 +112,7 @@ class GetHandler(
                     }
                 }
 
-                if (body != null) {
-                    ctx.response().end(body)
-                } else {
-                    ctx.response().end()
-                }
+                ctx.response().end()
             }
         } else if (databaseName != null && resourceName == null) {
             val buffer = StringBuilder()
@@ -150,7 +145,7 @@ class GetHandler(
     }
 
     private suspend fun listDatabases(ctx: RoutingContext, context: Context) {
-        context.executeBlocking { _: Promise<Unit> ->
+        BlockingExecutor.executeBlocking(context, null) { promise: Promise<Unit> ->
             val databases = Files.list(location)
 
             val buffer = StringBuilder()
@@ -192,6 +187,8 @@ class GetHandler(
             ctx.response().setStatusCode(200)
                 .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
                 .end(content)
+
+            promise.complete()
         }.await()
     }
 
@@ -1,5 +1,6 @@
 package io.sirix.rest.crud
 
+import io.vertx.core.Promise
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
@@ -8,6 +9,7 @@ import io.sirix.access.DatabaseType
 import io.sirix.access.Databases.*
 import io.sirix.api.Database
 import io.sirix.axis.DescendantAxis
+import io.sirix.rest.BlockingExecutor
 import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
@@ -23,7 +25,7 @@ class PathSummaryHandler(private val location: Path) {
                 DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
             }
 
-        context.executeBlocking<String> {
+        BlockingExecutor.executeBlocking(context, databaseName) { promise: Promise<Unit> ->
             val buffer = StringBuilder()
             database.use {
                 val manager = database.beginResourceSession(resourceName)
@@ -73,6 +75,8 @@ class PathSummaryHandler(private val location: Path) {
                 .putHeader(HttpHeaders.CONTENT_LENGTH, content.toByteArray(StandardCharsets.UTF_8).size.toString())
             res.write(content)
             res.end()
+
+            promise.complete()
         }.await()
 
         return ctx.currentRoute()
@@ -0,0 +1,172 @@
+package io.sirix.rest.crud
+
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.streams.ReadStream
+import java.io.IOException
+import java.io.InputStream
+import java.io.InterruptedIOException
+import java.util.ArrayDeque
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * An input stream, which reads the buffers emitted by a read stream (for instance the body of an
+ * HTTP request).
+ *
+ * The counterpart of [ChunkedResponseOutputStream]: it must be created on the event loop (as it
+ * sets the handlers of the read stream), but read from a worker or virtual thread, as it blocks the
+ * reader until the next buffer arrived. The read stream is paused as soon as more than
+ * [highWatermark] bytes are buffered and resumed once the reader consumed half of them, such that
+ * the memory consumption is bounded regardless of the size of the body and a fast client is slowed
+ * down to the speed of the reader.
+ */
+class ReadStreamInputStream(
+    private val stream: ReadStream<Buffer>,
+    private val runOnEventLoop: (() -> Unit) -> Unit,
+    private val highWatermark: Int = DEFAULT_HIGH_WATERMARK
+) : InputStream() {
+    companion object {
+        /**
+         * The default maximum number of buffered bytes, until the read stream is paused.
+         */
+        const val DEFAULT_HIGH_WATERMARK = 1_048_576
+    }
+
+    private val lock = ReentrantLock()
+
+    private val available = lock.newCondition()
+
+    private val buffers = ArrayDeque<Buffer>()
+
+    private var current: Buffer? = null
+
+    private var position = 0
+
+    private var bufferedBytes = 0L
+
+    private var paused = false
+
+    private var ended = false
+
+    private var failure: Throwable? = null
+
+    private var closed = false
+
+    /**
+     * The number of bytes read so far.
+     */
+    @Volatile
+    var bytesRead = 0L
+        private set
+
+    init {
+        require(highWatermark > 0) { "The high watermark must be positive." }
+
+        stream.handler { buffer ->
+            lock.withLock {
+                buffers.add(buffer)
+                bufferedBytes += buffer.length()
+                if (!paused && bufferedBytes >= highWatermark) {
+                    paused = true
+                    stream.pause()
+                }
+                available.signal()
+            }
+        }
+        stream.endHandler {
+            lock.withLock {
+                ended = true
+                available.signal()
+            }
+        }
+        stream.exceptionHandler { e ->
+            lock.withLock {
+                failure = e
+                available.signal()
+            }
+        }
+    }
+
+    override fun read(): Int {
+        val buffer = ByteArray(1)
+        return if (read(buffer, 0, 1) == -1) -1 else buffer[0].toInt() and 0xFF
+    }
+
+    override fun read(b: ByteArray, off: Int, len: Int): Int {
+        if (len == 0) {
+            return 0
+        }
+
+        val buffer = nextBuffer() ?: return -1
+        val length = minOf(len, buffer.length() - position)
+        buffer.getBytes(position, position + length, b, off)
+        position += length
+        bytesRead += length
+
+        if (position == buffer.length()) {
+            current = null
+            consumed(buffer.length())
+        }
+
+        return length
+    }
+
+    override fun close() {
+        lock.withLock {
+            if (closed) {
+                return
+            }
+            closed = true
+            buffers.clear()
+            bufferedBytes = 0
+        }
+        runOnEventLoop {
+            stream.handler(null)
+            stream.endHandler(null)
+            stream.exceptionHandler(null)
+            stream.resume()
+        }
+    }
+
+    private fun nextBuffer(): Buffer? {
+        current?.let { return it }
+
+        lock.withLock {
+            while (buffers.isEmpty()) {
+                if (closed) {
+                    throw IOException("The stream has been closed.")
+                }
+                failure?.let { throw IOException("Couldn't read the stream.", it) }
+                if (ended) {
+                    return null
+                }
+                try {
+                    available.await()
+                } catch (e: InterruptedException) {
+                    Thread.currentThread().interrupt()
+                    throw InterruptedIOException("Interrupted while waiting for the client.")
+                }
+            }
+
+            position = 0
+            current = buffers.poll()
+            return current
+        }
+    }
+
+    private fun consumed(length: Int) {
+        val resume = lock.withLock {
+            bufferedBytes -= length
+            if (paused && bufferedBytes <= highWatermark / 2) {
+                paused = false
+                true
+            } else {
+                false
+            }
+        }
+
+        if (resume) {
+            runOnEventLoop { stream.resume() }
+        }
+    }
+}
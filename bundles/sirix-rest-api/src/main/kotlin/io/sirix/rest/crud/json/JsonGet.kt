@@ -15,11 +15,12 @@ import io.sirix.service.json.serialize.JsonSerializer
 import io.sirix.query.JsonDBSerializer
 import io.sirix.query.SirixCompileChain
 import io.sirix.rest.crud.AbstractGetHandler
-import io.sirix.rest.crud.OutputWrapper
 import io.sirix.query.SirixQueryContext
 import io.sirix.query.json.*
 import io.vertx.core.http.HttpHeaders
-import java.io.StringWriter
+import java.io.OutputStream
+import java.io.OutputStreamWriter
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
 class JsonGet(location: Path, private val keycloak: OAuth2Auth, private val authz: AuthorizationProvider) :
@@ -29,16 +30,18 @@ class JsonGet(location: Path, private val keycloak: OAuth2Auth, private val auth
         routingContext: RoutingContext,
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        out: OutputWrapper,
+        out: OutputStream,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext,
         endResultSeqIndex: Long?
-    ): String {
-        val stringBuilder = (out as OutputWrapper.StringBuilderWrapper).sb
+    ) {
+        routingContext.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+        val writer = OutputStreamWriter(out, StandardCharsets.UTF_8)
         SirixCompileChain.createWithNodeAndJsonStore(xmlDBStore, jsonDBStore).use { sirixCompileChain ->
             if (startResultSeqIndex == null) {
-                val serializer = JsonDBSerializer(stringBuilder, false)
+                val serializer = JsonDBSerializer(writer, false)
                 PermissionCheckingQuery(
                     sirixCompileChain,
                     query,
@@ -56,35 +59,34 @@ class JsonGet(location: Path, private val keycloak: OAuth2Auth, private val auth
                     keycloak,
                     authz,
                     routingContext.get("user"),
-                    JsonDBSerializer(stringBuilder, true)
+                    JsonDBSerializer(writer, true)
                 ) { serializer, startItem -> serializer.serialize(startItem) }
             }
         }
-        routingContext.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-        return stringBuilder.toString()
+        writer.flush()
     }
 
-    override fun getSerializedString(
+    override fun serialize(
         manager: JsonResourceSession,
         revisions: IntArray,
         nodeId: Long?,
-        ctx: RoutingContext
-    ): String {
+        ctx: RoutingContext,
+        out: OutputStream
+    ) {
         val nextTopLevelNodes = ctx.queryParam("nextTopLevelNodes").getOrNull(0)?.toInt()
         val lastTopLevelNodeKey = ctx.queryParam("lastTopLevelNodeKey").getOrNull(0)?.toLong()
 
         val numberOfNodes = ctx.queryParam("numberOfNodes").getOrNull(0)?.toLong()
         val maxChildren = ctx.queryParam("maxChildren").getOrNull(0)?.toLong()
 
-        val out = StringWriter()
+        val writer = OutputStreamWriter(out, StandardCharsets.UTF_8)
 
         val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
         val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
         val prettyPrint: String? = ctx.queryParam("prettyPrint").getOrNull(0)
 
         if (nextTopLevelNodes == null) {
-            val serializerBuilder = JsonSerializer.newBuilder(manager, out).revisions(revisions)
+            val serializerBuilder = JsonSerializer.newBuilder(manager, writer).revisions(revisions)
 
             nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
 
@@ -114,10 +116,10 @@ class JsonGet(location: Path, private val keycloak: OAuth2Auth, private val auth
 
             val serializer = serializerBuilder.build()
 
-            return JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId)
+            JsonSerializeHelper().serializeChunked(serializer, ctx, manager, revisions, nodeId)
         } else {
             val serializerBuilder =
-                JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, out).revisions(revisions)
+                JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, writer).revisions(revisions)
 
             nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
 
@@ -151,8 +153,10 @@ class JsonGet(location: Path, private val keycloak: OAuth2Auth, private val auth
 
             val serializer = serializerBuilder.build()
 
-            return JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId)
+            JsonSerializeHelper().serializeChunked(serializer, ctx, manager, revisions, nodeId)
         }
+
+        writer.flush()
     }
 
     override suspend fun openDatabase(dbFile: Path): Database<JsonResourceSession> {
@@ -215,6 +219,4 @@ class JsonGet(location: Path, private val keycloak: OAuth2Auth, private val auth
             }
         }
     }
-
-    override fun createOutputStream(): OutputWrapper = OutputWrapper.StringBuilderWrapper(StringBuilder())
 }
@@ -0,0 +1,103 @@
+package io.sirix.rest.crud.json
+
+import io.sirix.access.DatabaseConfiguration
+import io.sirix.access.Databases
+import io.sirix.access.ResourceConfiguration
+import io.sirix.access.trx.node.HashType
+import io.sirix.rest.BlockingExecutor
+import io.sirix.rest.JsonStreamingIngester
+import io.sirix.rest.crud.Handler
+import io.sirix.rest.crud.ReadStreamInputStream
+import io.sirix.rest.crud.Revisions
+import io.sirix.rest.crud.SirixDBUser
+import io.vertx.core.Promise
+import io.vertx.core.http.HttpHeaders
+import io.vertx.core.json.JsonObject
+import io.vertx.ext.web.Route
+import io.vertx.ext.web.RoutingContext
+import io.vertx.kotlin.coroutines.await
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * Imports the JSON request body into a (new) resource while it's received.
+ *
+ * The body is neither buffered nor parsed on the event loop. It's pulled by the
+ * [JsonStreamingIngester] on a blocking thread, and the request is paused whenever the ingester
+ * falls behind. The changes are committed every `autoCommitBytes` bytes (query parameter), thus
+ * the memory consumption is constant regardless of the size of the upload.
+ */
+class JsonIngest(private val location: Path) : Handler {
+    override suspend fun handle(ctx: RoutingContext): Route {
+        val databaseName = ctx.pathParam("database")
+        val resourceName = ctx.pathParam("resource")
+
+        if (databaseName == null || resourceName == null) {
+            throw IllegalArgumentException("Database name and resource name must be in the URL path.")
+        }
+
+        val autoCommitBytes = ctx.queryParam("autoCommitBytes").getOrNull(0)?.toLong()
+            ?: JsonStreamingIngester.DEFAULT_AUTO_COMMIT_BYTES
+        val hashType = ctx.queryParam("hashType").getOrNull(0) ?: "NONE"
+        val commitMessage = ctx.queryParam("commitMessage").getOrNull(0)
+        val commitTimestampAsString = ctx.queryParam("commitTimestamp").getOrNull(0)
+        val commitTimestamp = if (commitTimestampAsString == null) {
+            null
+        } else {
+            Revisions.parseRevisionTimestamp(commitTimestampAsString).toInstant()
+        }
+
+        val vertxContext = ctx.vertx().orCreateContext
+        val request = ctx.request()
+        request.pause()
+        val body = ReadStreamInputStream(request, { action -> vertxContext.runOnContext { action() } })
+        request.resume()
+
+        val result = BlockingExecutor.executeBlocking(
+            vertxContext,
+            databaseName
+        ) { promise: Promise<JsonStreamingIngester.Result> ->
+            body.use {
+                val dbFile = location.resolve(databaseName)
+
+                if (!Databases.existsDatabase(dbFile)) {
+                    Files.createDirectories(dbFile.parent)
+                    Databases.createJsonDatabase(DatabaseConfiguration(dbFile))
+                }
+
+                val database = Databases.openJsonDatabase(dbFile, SirixDBUser.create(ctx))
+
+                database.use {
+                    val resConfig = ResourceConfiguration.Builder(resourceName).useDeweyIDs(true)
+                        .hashKind(HashType.valueOf(hashType.uppercase()))
+                        .customCommitTimestamps(commitTimestamp != null)
+                        .build()
+
+                    if (!database.createResource(resConfig)) {
+                        database.removeResource(resourceName)
+                        database.createResource(resConfig)
+                    }
+
+                    database.beginResourceSession(resourceName).use { manager ->
+                        promise.complete(
+                            JsonStreamingIngester(manager, autoCommitBytes).ingest(body, commitMessage, commitTimestamp)
+                        )
+                    }
+                }
+            }
+        }.await()
+
+        ctx.response().setStatusCode(201)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+            .end(
+                JsonObject()
+                    .put("revision", result.revision)
+                    .put("bytes", result.bytes)
+                    .put("commits", result.commits)
+                    .put("maxNodeKey", result.maxNodeKey)
+                    .encode()
+            )
+
+        return ctx.currentRoute()
+    }
+}
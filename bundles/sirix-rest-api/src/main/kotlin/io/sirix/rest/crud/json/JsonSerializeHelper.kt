@@ -20,13 +20,38 @@ class JsonSerializeHelper {
 
         val body = out.toString()
 
+        writeResponseHeaders(ctx, manager, revisions, nodeId)
+
+        return body
+    }
+
+    /**
+     * Writes the response headers and afterwards streams the serialized resource, such that the
+     * headers are sent along with the first chunk.
+     */
+    fun serializeChunked(
+        serializer: Callable<*>,
+        ctx: RoutingContext,
+        manager: JsonResourceSession,
+        revisions: IntArray,
+        nodeId: Long?,
+    ) {
+        writeResponseHeaders(ctx, manager, revisions, nodeId)
+
+        serializer.call()
+    }
+
+    private fun writeResponseHeaders(
+        ctx: RoutingContext,
+        manager: JsonResourceSession,
+        revisions: IntArray,
+        nodeId: Long?
+    ) {
         if (manager.resourceConfig.hashType == HashType.NONE) {
             writeResponseWithoutHashValue(ctx)
         } else {
             writeResponseWithHashValue(manager, revisions[0], ctx, nodeId)
         }
-
-        return body
     }
 
     private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
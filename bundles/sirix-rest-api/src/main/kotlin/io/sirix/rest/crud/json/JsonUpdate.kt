@@ -14,6 +14,7 @@ import io.sirix.rest.crud.json.JsonInsertionMode.Companion.getInsertionModeByNam
 import io.sirix.service.json.JsonNumber
 import io.sirix.service.json.serialize.JsonSerializer
 import io.sirix.service.json.shredder.JsonShredder
+import io.sirix.rest.BlockingExecutor
 import java.io.IOException
 import java.io.StringWriter
 import java.nio.file.Path
@@ -300,7 +301,7 @@ class JsonUpdate(location: Path) :
     ) {
         val vertxContext = ctx.vertx().orCreateContext
 
-        vertxContext.executeBlocking { promise: Promise<Nothing> ->
+        BlockingExecutor.executeBlocking(vertxContext, databaseName) { promise: Promise<Nothing> ->
             val sirixDBUser = SirixDBUser.create(ctx)
             val dbFile = location.resolve(databaseName)
 
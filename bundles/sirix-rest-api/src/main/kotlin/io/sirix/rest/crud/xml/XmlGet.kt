@@ -15,12 +15,12 @@ import io.sirix.query.SirixCompileChain
 import io.sirix.query.SirixQueryContext
 import io.sirix.query.XmlDBSerializer
 import io.sirix.rest.crud.AbstractGetHandler
-import io.sirix.rest.crud.OutputWrapper
 import io.sirix.query.node.XmlDBCollection
 import io.sirix.query.node.XmlDBNode
 import io.vertx.core.http.HttpHeaders
-import java.io.ByteArrayOutputStream
+import java.io.OutputStream
 import java.io.PrintStream
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
 class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, private val authz: AuthorizationProvider) :
@@ -110,14 +110,15 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
         routingContext: RoutingContext,
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        out: OutputWrapper,
+        out: OutputStream,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext,
         endResultSeqIndex: Long?
-    ): String {
-        val byteArrayOutputStream = (out as OutputWrapper.ByteArrayOutputStreamWrapper).baos
-        PrintStream(byteArrayOutputStream).use { printStream ->
+    ) {
+        routingContext.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+        PrintStream(out, false, StandardCharsets.UTF_8).use { printStream ->
             SirixCompileChain.createWithNodeAndJsonStore(xmlDBStore, jsonDBStore).use { sirixCompileChain ->
                 if (startResultSeqIndex == null) {
                     PermissionCheckingQuery(
@@ -140,20 +141,16 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
                 }
             }
         }
-        routingContext.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-        return byteArrayOutputStream.toString()
     }
 
-    override fun getSerializedString(
-        manager: XmlResourceSession, revisions: IntArray, nodeId: Long?, ctx: RoutingContext
-    ): String {
-        val out = ByteArrayOutputStream()
+    override fun serialize(
+        manager: XmlResourceSession, revisions: IntArray, nodeId: Long?, ctx: RoutingContext, out: OutputStream
+    ) {
         val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out).revisions(revisions)
         nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
         if (ctx.queryParam("maxLevel").isNotEmpty()) serializerBuilder.maxLevel(ctx.queryParam("maxLevel")[0].toLong())
         val serializer = serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
-        return XmlSerializeHelper().serializeXml(serializer, out, ctx, manager, nodeId)
+        XmlSerializeHelper().serializeXmlChunked(serializer, ctx, manager, nodeId)
     }
 
     override fun handleQueryExtra(
@@ -175,7 +172,4 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
     ): XmlDBCollection {
         return XmlDBCollection(databaseName, database)
     }
-
-    override fun createOutputStream(): OutputWrapper =
-        OutputWrapper.ByteArrayOutputStreamWrapper(ByteArrayOutputStream())
 }
\ No newline at end of file
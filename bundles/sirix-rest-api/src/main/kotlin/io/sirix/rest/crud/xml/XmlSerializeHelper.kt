@@ -19,13 +19,32 @@ class XmlSerializeHelper {
         serializer.call()
         val body = String(out.toByteArray(), StandardCharsets.UTF_8)
 
+        writeResponseHeaders(ctx, manager, nodeId)
+
+        return body
+    }
+
+    /**
+     * Writes the response headers and afterwards streams the serialized resource, such that the
+     * headers are sent along with the first chunk.
+     */
+    fun serializeXmlChunked(
+        serializer: XmlSerializer,
+        ctx: RoutingContext,
+        manager: XmlResourceSession,
+        nodeId: Long?
+    ) {
+        writeResponseHeaders(ctx, manager, nodeId)
+
+        serializer.call()
+    }
+
+    private fun writeResponseHeaders(ctx: RoutingContext, manager: XmlResourceSession, nodeId: Long?) {
         if (manager.resourceConfig.hashType == HashType.NONE) {
             writeResponseWithoutHashValue(ctx)
         } else {
             writeResponseWithHashValue(manager, ctx, nodeId)
         }
-
-        return body
     }
 
     private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
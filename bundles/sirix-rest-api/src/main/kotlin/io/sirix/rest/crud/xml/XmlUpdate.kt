@@ -13,6 +13,7 @@ import io.sirix.rest.crud.Revisions
 import io.sirix.rest.crud.SirixDBUser
 import io.sirix.service.xml.serialize.XmlSerializer
 import io.sirix.service.xml.shredder.XmlShredder
+import io.sirix.rest.BlockingExecutor
 import java.io.ByteArrayOutputStream
 import java.nio.file.Path
 import java.time.Instant
@@ -71,7 +72,7 @@ class XmlUpdate(location: Path) : AbstractUpdateHandler(location) {
     ) {
         val vertxContext = ctx.vertx().orCreateContext
 
-        vertxContext.executeBlocking { promise: Promise<Nothing> ->
+        BlockingExecutor.executeBlocking(vertxContext, databaseName) { promise: Promise<Nothing> ->
             val sirixDBUser = SirixDBUser.create(ctx)
             val dbFile = location.resolve(databaseName)
 
@@ -0,0 +1,149 @@
+package io.sirix.rest
+
+import io.vertx.core.Future
+import io.vertx.core.Promise
+import io.vertx.core.Vertx
+import io.vertx.core.json.JsonObject
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+/**
+ * Test the blocking executor and its per-database limiter.
+ */
+class BlockingExecutorTest {
+
+    private lateinit var vertx: Vertx
+
+    @BeforeEach
+    fun setup() {
+        vertx = Vertx.vertx()
+    }
+
+    @AfterEach
+    fun tearDown() {
+        BlockingExecutor.configure(JsonObject())
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS)
+    }
+
+    @Test
+    fun testLimiterQueuesTasksAndStartsThemOnRelease() {
+        val limiter = BlockingExecutor.Limiter()
+        val started = mutableListOf<Int>()
+
+        limiter.submit(2) { started.add(1) }
+        limiter.submit(2) { started.add(2) }
+        limiter.submit(2) { started.add(3) }
+
+        assertEquals(listOf(1, 2), started)
+        assertEquals(2, limiter.metrics().getInteger("running"))
+        assertEquals(1, limiter.metrics().getInteger("queued"))
+
+        limiter.release()
+
+        assertEquals(listOf(1, 2, 3), started)
+        assertEquals(2, limiter.metrics().getInteger("running"))
+        assertEquals(0, limiter.metrics().getInteger("queued"))
+
+        limiter.release()
+        limiter.release()
+
+        assertEquals(0, limiter.metrics().getInteger("running"))
+    }
+
+    @Test
+    fun testUnlimitedLimiterStartsTasksImmediately() {
+        val limiter = BlockingExecutor.Limiter()
+        var started = 0
+
+        repeat(10) { limiter.submit(0) { started++ } }
+
+        assertEquals(10, started)
+        assertEquals(10, limiter.metrics().getInteger("running"))
+        assertEquals(0, limiter.metrics().getInteger("queued"))
+    }
+
+    @Test
+    fun testWorkerPoolMode() {
+        testExecutionMode("worker-pool")
+    }
+
+    @Test
+    fun testVirtualThreadsMode() {
+        testExecutionMode("virtual-threads")
+    }
+
+    @Test
+    fun testTasksOfDatabaseAreLimited() {
+        for (mode in listOf("worker-pool", "virtual-threads")) {
+            BlockingExecutor.configure(
+                JsonObject().put("execution.mode", mode).put("execution.maxConcurrentRequestsPerDatabase", 1)
+            )
+
+            val context = vertx.orCreateContext
+            val firstStarted = CountDownLatch(1)
+            val releaseFirst = CountDownLatch(1)
+            val secondStarted = CountDownLatch(1)
+
+            val first = BlockingExecutor.executeBlocking(context, "limited-$mode") { promise: Promise<Unit> ->
+                firstStarted.countDown()
+                releaseFirst.await()
+                promise.complete()
+            }
+            val second = BlockingExecutor.executeBlocking(context, "limited-$mode") { promise: Promise<Unit> ->
+                secondStarted.countDown()
+                promise.complete()
+            }
+
+            assertTrue(firstStarted.await(10, TimeUnit.SECONDS))
+            assertFalse(secondStarted.await(200, TimeUnit.MILLISECONDS))
+            assertEquals(1, databaseMetrics("limited-$mode").getInteger("queued"))
+
+            releaseFirst.countDown()
+
+            await(first)
+            await(second)
+            assertEquals(0, databaseMetrics("limited-$mode").getInteger("running"))
+            assertEquals(0, databaseMetrics("limited-$mode").getInteger("queued"))
+        }
+    }
+
+    private fun testExecutionMode(mode: String) {
+        BlockingExecutor.configure(JsonObject().put("execution.mode", mode))
+
+        val context = vertx.orCreateContext
+        val completed = BlockingExecutor.metrics().getLong("completed")
+        val failed = BlockingExecutor.metrics().getLong("failed")
+
+        val result = BlockingExecutor.executeBlocking(context, "database") { promise: Promise<String> ->
+            promise.complete("result")
+        }
+
+        assertEquals("result", await(result))
+
+        val failure = BlockingExecutor.executeBlocking(context, "database") { _: Promise<String> ->
+            throw IllegalStateException("failure")
+        }
+
+        val exception = assertThrows(ExecutionException::class.java) { await(failure) }
+        assertTrue(exception.cause is IllegalStateException)
+
+        val metrics = BlockingExecutor.metrics()
+        assertEquals(mode.uppercase().replace('-', '_'), metrics.getString("mode"))
+        assertEquals(completed + 1, metrics.getLong("completed"))
+        assertEquals(failed + 1, metrics.getLong("failed"))
+        assertEquals(0, databaseMetrics("database").getInteger("running"))
+    }
+
+    private fun databaseMetrics(databaseName: String): JsonObject =
+        BlockingExecutor.metrics().getJsonObject("databases").getJsonObject(databaseName)
+
+    private fun <T> await(future: Future<T>): T = future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS)
+}
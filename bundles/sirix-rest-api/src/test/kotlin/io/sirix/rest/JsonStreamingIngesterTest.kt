@@ -0,0 +1,82 @@
+package io.sirix.rest
+
+import io.sirix.access.DatabaseConfiguration
+import io.sirix.access.Databases
+import io.sirix.access.ResourceConfiguration
+import io.sirix.service.json.serialize.JsonSerializer
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.skyscreamer.jsonassert.JSONAssert
+import java.io.StringWriter
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+
+private val databaseDirectory: Path = Paths.get(System.getProperty("java.io.tmpdir"), "sirix", "json-path2")
+
+private val json = Paths.get("src", "test", "resources", "json")
+
+/**
+ * Test the JSON streaming ingester.
+ */
+class JsonStreamingIngesterTest {
+
+    @BeforeEach
+    fun setup() {
+        Databases.removeDatabase(databaseDirectory)
+    }
+
+    @AfterEach
+    fun tearDown() {
+        Databases.removeDatabase(databaseDirectory)
+    }
+
+    @Test
+    fun testIngestWithoutIntermediateCommits() {
+        val json = """
+            {"foo":["bar",null,2.33],"bar":{"hello":"world","helloo":true},"baz":"hello","tada":[{"foo":"bar"},{"baz":false},"boo",{},[]]}
+        """.trimIndent()
+
+        val result = ingest(json, 0)
+
+        assertEquals(1, result.revision)
+        assertEquals(1, result.commits)
+        assertEquals(json.toByteArray().size.toLong(), result.bytes)
+    }
+
+    @Test
+    fun testIngestCopperfieldBookWithIntermediateCommits() {
+        val book = json.resolve("copperfield-book.json")
+
+        val result = ingest(Files.readString(book), 65_536)
+
+        assertTrue(result.commits > 1)
+        assertEquals(result.commits, result.revision)
+        assertEquals(Files.size(book), result.bytes)
+    }
+
+    private fun ingest(json: String, autoCommitBytes: Long): JsonStreamingIngester.Result {
+        Databases.createJsonDatabase(DatabaseConfiguration(databaseDirectory))
+        val database = Databases.openJsonDatabase(databaseDirectory)
+        database.use {
+            database.createResource(ResourceConfiguration.Builder("ingested").build())
+            val manager = database.beginResourceSession("ingested")
+
+            manager.use {
+                val result = JsonStreamingIngester(manager, autoCommitBytes).ingest(json.byteInputStream())
+
+                val writer = StringWriter()
+                writer.use {
+                    val serializer = JsonSerializer.Builder(manager, writer).build()
+                    serializer.call()
+                }
+                JSONAssert.assertEquals(json, writer.toString(), true)
+
+                return result
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.sirix.rest.crud
+
+import io.vertx.core.Future
+import io.vertx.core.Vertx
+import io.vertx.core.http.HttpServerResponse
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertArrayEquals
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.io.IOException
+import java.net.InetSocketAddress
+import java.net.Socket
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Test the chunked response output stream with a real HTTP server.
+ */
+class ChunkedResponseOutputStreamTest {
+
+    companion object {
+        private const val CHUNK_SIZE = 1_024
+
+        private const val REQUEST = "GET / HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"
+    }
+
+    private lateinit var vertx: Vertx
+
+    @BeforeEach
+    fun setup() {
+        vertx = Vertx.vertx()
+    }
+
+    @AfterEach
+    fun tearDown() {
+        await(vertx.close())
+    }
+
+    @Test
+    fun testBytesAreWrittenInChunks() {
+        val content = ByteArray(100_000) { (it % 251).toByte() }
+        val chunked = AtomicBoolean()
+
+        val port = startServer { response ->
+            response.putHeader("content-type", "application/octet-stream")
+            ChunkedResponseOutputStream(response, CHUNK_SIZE).use { out ->
+                out.write(content, 0, 10)
+                content.drop(10).take(10).forEach { out.write(it.toInt()) }
+                out.write(content, 20, content.size - 20)
+            }
+            chunked.set(response.isChunked)
+            response.end()
+        }
+
+        val httpResponse = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create("http://localhost:$port/")).build(),
+            HttpResponse.BodyHandlers.ofByteArray()
+        )
+
+        assertEquals(200, httpResponse.statusCode())
+        assertTrue(chunked.get())
+        assertArrayEquals(content, httpResponse.body())
+    }
+
+    @Test
+    fun testSlowClientBlocksTheWriter() {
+        val size = 32 * 1_024 * 1_024
+        val written = CountDownLatch(1)
+
+        val port = startServer { response ->
+            response.setWriteQueueMaxSize(CHUNK_SIZE)
+            ChunkedResponseOutputStream(response, CHUNK_SIZE).use { out ->
+                val chunk = ByteArray(CHUNK_SIZE)
+                repeat(size / CHUNK_SIZE) { out.write(chunk) }
+            }
+            response.end()
+            written.countDown()
+        }
+
+        Socket().use { socket ->
+            socket.receiveBufferSize = CHUNK_SIZE
+            socket.connect(InetSocketAddress("localhost", port))
+            socket.getOutputStream().write(REQUEST.toByteArray())
+            socket.getOutputStream().flush()
+
+            // The client doesn't read yet, thus the writer must wait for the write queue to be drained.
+            assertFalse(written.await(500, TimeUnit.MILLISECONDS))
+
+            val input = socket.getInputStream()
+            val buffer = ByteArray(65_536)
+            var read = 0L
+            while (true) {
+                val length = input.read(buffer)
+                if (length == -1) {
+                    break
+                }
+                read += length
+            }
+
+            assertTrue(written.await(10, TimeUnit.SECONDS))
+            // The body plus the status line, the headers and the chunk sizes.
+            assertTrue(read > size)
+        }
+    }
+
+    @Test
+    fun testWriteTimesOutIfClientDoesNotRead() {
+        val failure = CompletableFuture<IOException>()
+
+        val port = startServer { response ->
+            response.setWriteQueueMaxSize(CHUNK_SIZE)
+            try {
+                ChunkedResponseOutputStream(response, CHUNK_SIZE, 500).use { out ->
+                    val chunk = ByteArray(CHUNK_SIZE)
+                    // Write until the buffers of the client and the server are full.
+                    while (true) {
+                        out.write(chunk)
+                    }
+                }
+            } catch (e: IOException) {
+                failure.complete(e)
+                response.reset()
+            }
+        }
+
+        Socket().use { socket ->
+            socket.receiveBufferSize = CHUNK_SIZE
+            socket.connect(InetSocketAddress("localhost", port))
+            socket.getOutputStream().write(REQUEST.toByteArray())
+            socket.getOutputStream().flush()
+
+            val exception = failure.get(30, TimeUnit.SECONDS)
+            assertTrue(exception is ChunkedResponseOutputStream.WriteTimeoutException)
+        }
+    }
+
+    /**
+     * Start a server, which writes the response on a worker thread.
+     */
+    private fun startServer(write: (HttpServerResponse) -> Unit): Int {
+        val server = vertx.createHttpServer().requestHandler { request ->
+            val response = request.response()
+            vertx.executeBlocking<Unit> { promise ->
+                write(response)
+                promise.complete()
+            }
+        }
+        return await(server.listen(0)).actualPort()
+    }
+
+    private fun <T> await(future: Future<T>): T = future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS)
+}